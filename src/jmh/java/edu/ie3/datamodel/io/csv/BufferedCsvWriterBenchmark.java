@@ -0,0 +1,100 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the throughput of {@link BufferedCsvWriter} writing result like lines to a file with
+ * different {@link FlushPolicy flush policies} and buffer sizes. One operation writes {@link
+ * #LINES} lines to a new file and closes it.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BufferedCsvWriterBenchmark {
+
+  private static final int LINES = 10000;
+  private static final String[] HEAD_LINE = {"uuid", "inputModel", "p", "q", "time"};
+
+  @Param({"everyLine", "everyLines", "everyCharacters", "interval", "onClose"})
+  public String flushPolicy;
+
+  @Param({"8192", "65536"})
+  public int bufferSize;
+
+  private Path directory;
+  private FlushPolicy policy;
+  private CsvFileDefinition fileDefinition;
+  private Map<String, String> line;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("psdm_writer_benchmark");
+    policy = policy(flushPolicy);
+    fileDefinition = new CsvFileDefinition("pv_res", HEAD_LINE, ",");
+    line = new LinkedHashMap<>();
+    line.put("uuid", "22bea5fc-2cb2-4c61-beb9-b476e0107f52");
+    line.put("inputModel", "a1eb7fc1-3bee-4b65-a387-ef3046644bf0");
+    line.put("p", "0.01");
+    line.put("q", "0.0005");
+    line.put("time", "2020-01-30 17:26:44");
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(BufferedCsvWriterBenchmark::delete);
+    }
+  }
+
+  @Benchmark
+  public void writeLines() throws Exception {
+    try (BufferedCsvWriter writer =
+        new BufferedCsvWriter(
+            directory.toString(), fileDefinition, true, false, policy, bufferSize)) {
+      for (int i = 0; i < LINES; i++) writer.write(line);
+    }
+  }
+
+  private static FlushPolicy policy(String name) {
+    switch (name) {
+      case "everyLine":
+        return FlushPolicy.everyLine();
+      case "everyLines":
+        return FlushPolicy.everyLines(1000);
+      case "everyCharacters":
+        return FlushPolicy.everyCharacters(65536);
+      case "interval":
+        return FlushPolicy.interval(Duration.ofMillis(100));
+      case "onClose":
+        return FlushPolicy.onClose();
+      default:
+        throw new IllegalArgumentException("Unknown flush policy '" + name + "'");
+    }
+  }
+
+  private static void delete(Path path) {
+    try {
+      Files.delete(path);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot delete '" + path + "'", e);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import edu.ie3.util.StringUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the former regular expression based row splitting with {@link CsvRowTokenizer} on all
+ * rows of the csv files in the test grid folder (set via system property {@code
+ * benchmark.testGridFiles}, see gradle/scripts/jmh.gradle). Additionally, a synthetic row with a
+ * long GeoJSON line string is used to show the effect of row length.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CsvRowTokenizerBenchmark {
+
+  private static final String CSV_SEP = ",";
+
+  @Param({"testGridFiles", "longLineString"})
+  public String input;
+
+  private List<String> rows;
+
+  @Setup
+  public void setup() {
+    rows = "longLineString".equals(input) ? longLineStringRows() : testGridRows();
+  }
+
+  @Benchmark
+  public void regexSplit(Blackhole bh) {
+    for (String row : rows) bh.consume(regexTokenize(row, CSV_SEP));
+  }
+
+  @Benchmark
+  public void tokenizer(Blackhole bh) {
+    for (String row : rows) bh.consume(CsvRowTokenizer.tokenize(row, CSV_SEP));
+  }
+
+  /* Former implementation of CsvDataSource#parseCsvRow */
+  private static String[] regexTokenize(String csvRow, String csvSep) {
+    return Arrays.stream(csvRow.split(csvSep + "(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1))
+        .map(
+            maybeStartEndQuotedString ->
+                StringUtils.unquoteStartEnd(maybeStartEndQuotedString.trim())
+                    .replaceAll("\"{2}", "\"")
+                    .trim())
+        .toArray(String[]::new);
+  }
+
+  private static List<String> testGridRows() {
+    Path folder = Paths.get(System.getProperty("benchmark.testGridFiles", "testGridFiles"));
+    try (Stream<Path> files = Files.walk(folder)) {
+      return files
+          .filter(file -> file.toString().endsWith(".csv"))
+          .flatMap(CsvRowTokenizerBenchmark::readAllLines)
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read test grid files from '" + folder + "'", e);
+    }
+  }
+
+  private static Stream<String> readAllLines(Path file) {
+    try {
+      return Files.readAllLines(file, StandardCharsets.UTF_8).stream();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read file '" + file + "'", e);
+    }
+  }
+
+  private static List<String> longLineStringRows() {
+    String coordinates =
+        Stream.iterate(0, i -> i + 1)
+            .limit(500)
+            .map(i -> "[7." + (400000 + i) + ",51." + (490000 + i) + "]")
+            .collect(Collectors.joining(","));
+    String row =
+        "91ec3bcf-1777-4d38-af67-0bf7c9fa73c7,"
+            + "\"{\"\"type\"\":\"\"LineString\"\",\"\"coordinates\"\":["
+            + coordinates
+            + "],\"\"crs\"\":{\"\"type\"\":\"\"name\"\","
+            + "\"\"properties\"\":{\"\"name\"\":\"\"EPSG:4326\"\"}}}\","
+            + "test_line_AtoB,2.0,4ca90220-74c2-4369-9afa-a18bf068840d,"
+            + "47d29df0-ba2d-4d23-8e75-c82229c5c758,\"olm:{(0.00,1.00)}\",,,,"
+            + "3bed3eb3-9790-4874-89b5-a5434d408088";
+    return Stream.generate(() -> row).limit(100).collect(Collectors.toList());
+  }
+}
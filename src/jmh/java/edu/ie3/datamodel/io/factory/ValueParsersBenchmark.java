@@ -0,0 +1,97 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.factory;
+
+import edu.ie3.datamodel.models.StandardUnits;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * Compares the JDK parsers with {@link ValueParsers} and the former creation of quantities with
+ * {@link QuantityCache} on typical field values of participant and result files: canonical uuids
+ * and decimal numbers with up to eight fraction digits, of which a part repeats (e.g. rated
+ * powers).
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValueParsersBenchmark {
+
+  private static final int NUMBER_OF_VALUES = 1000;
+  private static final int DISTINCT_REPEATED_VALUES = 50;
+
+  private List<String> uuids;
+  private List<String> doubles;
+  private QuantityCache quantityCache;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    uuids =
+        Stream.generate(() -> new UUID(random.nextLong(), random.nextLong()).toString())
+            .limit(NUMBER_OF_VALUES)
+            .collect(Collectors.toList());
+    doubles =
+        Stream.iterate(0, i -> i + 1)
+            .limit(NUMBER_OF_VALUES)
+            .map(i -> i % 2 == 0 ? repeatedValue(i) : randomValue(random))
+            .collect(Collectors.toList());
+    quantityCache = new QuantityCache(4096);
+  }
+
+  private static String randomValue(Random random) {
+    return String.format(Locale.ROOT, "%.8f", random.nextDouble() * 100);
+  }
+
+  private static String repeatedValue(int i) {
+    return String.format(Locale.ROOT, "%.1f", (double) (i % DISTINCT_REPEATED_VALUES));
+  }
+
+  @Benchmark
+  public void jdkUuid(Blackhole bh) {
+    for (String uuid : uuids) bh.consume(UUID.fromString(uuid));
+  }
+
+  @Benchmark
+  public void fastUuid(Blackhole bh) {
+    for (String uuid : uuids) bh.consume(ValueParsers.parseUuid(uuid));
+  }
+
+  @Benchmark
+  public void jdkDouble(Blackhole bh) {
+    for (String value : doubles) bh.consume(Double.parseDouble(value));
+  }
+
+  @Benchmark
+  public void fastDouble(Blackhole bh) {
+    for (String value : doubles) bh.consume(ValueParsers.parseDouble(value));
+  }
+
+  @Benchmark
+  public void newQuantity(Blackhole bh) {
+    for (String value : doubles)
+      bh.consume(
+          Quantities.getQuantity(Double.parseDouble(value), StandardUnits.ACTIVE_POWER_IN));
+  }
+
+  @Benchmark
+  public void cachedQuantity(Blackhole bh) {
+    for (String value : doubles)
+      bh.consume(
+          quantityCache.get(value, StandardUnits.ACTIVE_POWER_IN, ValueParsers::parseDouble));
+  }
+}
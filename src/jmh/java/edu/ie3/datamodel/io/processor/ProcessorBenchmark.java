@@ -0,0 +1,56 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.processor;
+
+import edu.ie3.datamodel.io.processor.result.ResultEntityProcessor;
+import edu.ie3.datamodel.models.StandardUnits;
+import edu.ie3.datamodel.models.result.system.PvResult;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * Measures the throughput of processing result entities to their String representations with the
+ * compiled field serializers of a {@link ResultEntityProcessor}, either to a row in header order or
+ * to a map from field name to value.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProcessorBenchmark {
+
+  private ResultEntityProcessor processor;
+  private PvResult result;
+
+  @Setup
+  public void setup() {
+    processor = new ResultEntityProcessor(PvResult.class);
+    result =
+        new PvResult(
+            UUID.fromString("22bea5fc-2cb2-4c61-beb9-b476e0107f52"),
+            ZonedDateTime.parse("2020-01-30T17:26:44Z[UTC]"),
+            UUID.fromString("a1eb7fc1-3bee-4b65-a387-ef3046644bf0"),
+            Quantities.getQuantity(0.01, StandardUnits.ACTIVE_POWER_RESULT),
+            Quantities.getQuantity(0.0005, StandardUnits.REACTIVE_POWER_RESULT));
+  }
+
+  @Benchmark
+  public Optional<String[]> handleEntityRow() {
+    return processor.handleEntityRow(result);
+  }
+
+  @Benchmark
+  public Optional<LinkedHashMap<String, String>> handleEntity() {
+    return processor.handleEntity(result);
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.binary;
+
+import edu.ie3.datamodel.models.StandardUnits;
+import edu.ie3.datamodel.models.value.*;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import tech.units.indriya.ComparableQuantity;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * The value columns of the binary time series format for one value class. Every field of the value
+ * is stored as one column of doubles in the field's standard unit, where a missing value is stored
+ * as {@link Double#NaN}. The column names equal the header elements of the {@link
+ * edu.ie3.datamodel.io.processor.timeseries.TimeSeriesProcessor}.
+ *
+ * @param <V> Type of the value
+ * @version 0.1
+ * @since 17.10.20
+ */
+final class BinaryTimeSeriesColumns<V extends Value> {
+
+  private static final Map<String, BinaryTimeSeriesColumns<?>> COLUMNS_OF_VALUE_CLASS;
+
+  static {
+    Map<String, BinaryTimeSeriesColumns<?>> columns = new HashMap<>();
+    register(
+        columns,
+        new BinaryTimeSeriesColumns<>(
+            EnergyPriceValue.class,
+            Collections.singletonList(
+                new Column<>("price", StandardUnits.ENERGY_PRICE, EnergyPriceValue::getPrice)),
+            values -> new EnergyPriceValue(quantity(values[0], StandardUnits.ENERGY_PRICE))));
+    register(
+        columns,
+        new BinaryTimeSeriesColumns<>(
+            PValue.class,
+            Collections.singletonList(
+                new Column<>("p", StandardUnits.ACTIVE_POWER_IN, PValue::getP)),
+            values -> new PValue(quantity(values[0], StandardUnits.ACTIVE_POWER_IN))));
+    register(
+        columns,
+        new BinaryTimeSeriesColumns<>(
+            SValue.class,
+            Arrays.asList(
+                new Column<>("p", StandardUnits.ACTIVE_POWER_IN, SValue::getP),
+                new Column<>("q", StandardUnits.REACTIVE_POWER_IN, SValue::getQ)),
+            values ->
+                new SValue(
+                    quantity(values[0], StandardUnits.ACTIVE_POWER_IN),
+                    quantity(values[1], StandardUnits.REACTIVE_POWER_IN))));
+    register(
+        columns,
+        new BinaryTimeSeriesColumns<>(
+            HeatDemandValue.class,
+            Collections.singletonList(
+                new Column<>(
+                    "heatDemand",
+                    StandardUnits.HEAT_DEMAND_PROFILE,
+                    HeatDemandValue::getHeatDemand)),
+            values ->
+                new HeatDemandValue(quantity(values[0], StandardUnits.HEAT_DEMAND_PROFILE))));
+    register(
+        columns,
+        new BinaryTimeSeriesColumns<>(
+            HeatAndPValue.class,
+            Arrays.asList(
+                new Column<>("p", StandardUnits.ACTIVE_POWER_IN, HeatAndPValue::getP),
+                new Column<>(
+                    "heatDemand", StandardUnits.HEAT_DEMAND_PROFILE, HeatAndPValue::getHeatDemand)),
+            values ->
+                new HeatAndPValue(
+                    quantity(values[0], StandardUnits.ACTIVE_POWER_IN),
+                    quantity(values[1], StandardUnits.HEAT_DEMAND_PROFILE))));
+    register(
+        columns,
+        new BinaryTimeSeriesColumns<>(
+            HeatAndSValue.class,
+            Arrays.asList(
+                new Column<>("p", StandardUnits.ACTIVE_POWER_IN, HeatAndSValue::getP),
+                new Column<>("q", StandardUnits.REACTIVE_POWER_IN, HeatAndSValue::getQ),
+                new Column<>(
+                    "heatDemand", StandardUnits.HEAT_DEMAND_PROFILE, HeatAndSValue::getHeatDemand)),
+            values ->
+                new HeatAndSValue(
+                    quantity(values[0], StandardUnits.ACTIVE_POWER_IN),
+                    quantity(values[1], StandardUnits.REACTIVE_POWER_IN),
+                    quantity(values[2], StandardUnits.HEAT_DEMAND_PROFILE))));
+    COLUMNS_OF_VALUE_CLASS = Collections.unmodifiableMap(columns);
+  }
+
+  private final Class<V> valueClass;
+  private final List<Column<V>> columns;
+  private final Function<double[], V> valueBuilder;
+
+  private BinaryTimeSeriesColumns(
+      Class<V> valueClass, List<Column<V>> columns, Function<double[], V> valueBuilder) {
+    this.valueClass = valueClass;
+    this.columns = Collections.unmodifiableList(columns);
+    this.valueBuilder = valueBuilder;
+  }
+
+  private static void register(
+      Map<String, BinaryTimeSeriesColumns<?>> columns, BinaryTimeSeriesColumns<?> valueColumns) {
+    columns.put(valueColumns.valueClass.getSimpleName(), valueColumns);
+  }
+
+  /** @return the classes of all values, that are supported by the binary format */
+  static Set<Class<? extends Value>> supportedValueClasses() {
+    return COLUMNS_OF_VALUE_CLASS.values().stream()
+        .map(BinaryTimeSeriesColumns::getValueClass)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * @param valueClassName the simple name of the value class
+   * @return the columns of the value class or an empty optional, if it is not supported
+   */
+  static Optional<BinaryTimeSeriesColumns<?>> of(String valueClassName) {
+    return Optional.ofNullable(COLUMNS_OF_VALUE_CLASS.get(valueClassName));
+  }
+
+  /**
+   * @param valueClass the value class
+   * @param <V> Type of the value
+   * @return the columns of the value class or an empty optional, if it is not supported
+   */
+  @SuppressWarnings("unchecked")
+  static <V extends Value> Optional<BinaryTimeSeriesColumns<V>> of(Class<V> valueClass) {
+    BinaryTimeSeriesColumns<?> valueColumns =
+        COLUMNS_OF_VALUE_CLASS.get(valueClass.getSimpleName());
+    if (valueColumns == null || !valueColumns.valueClass.equals(valueClass))
+      return Optional.empty();
+    return Optional.of((BinaryTimeSeriesColumns<V>) valueColumns);
+  }
+
+  private static <Q extends Quantity<Q>> ComparableQuantity<Q> quantity(
+      double value, Unit<Q> unit) {
+    return Double.isNaN(value) ? null : Quantities.getQuantity(value, unit);
+  }
+
+  Class<V> getValueClass() {
+    return valueClass;
+  }
+
+  List<Column<V>> getColumns() {
+    return columns;
+  }
+
+  /**
+   * @param value the value
+   * @param column the index of the column
+   * @return the value of the column in its standard unit or {@link Double#NaN}, if it is missing
+   */
+  double get(V value, int column) {
+    return columns.get(column).valueGetter.applyAsDouble(value);
+  }
+
+  /**
+   * @param values the values of all columns in their standard units
+   * @return the value built from the columns' values
+   */
+  V build(double[] values) {
+    return valueBuilder.apply(values);
+  }
+
+  /** One value column with its field name and standard unit */
+  static final class Column<V> {
+    private final String fieldName;
+    private final Unit<?> unit;
+    // gets the field's value converted to the column's unit or NaN, if it is missing
+    private final ToDoubleFunction<V> valueGetter;
+
+    private <Q extends Quantity<Q>> Column(
+        String fieldName, Unit<Q> unit, Function<V, Optional<ComparableQuantity<Q>>> getter) {
+      this.fieldName = fieldName;
+      this.unit = unit;
+      this.valueGetter =
+          value ->
+              getter
+                  .apply(value)
+                  .map(quantity -> quantity.to(unit).getValue().doubleValue())
+                  .orElse(Double.NaN);
+    }
+
+    String getFieldName() {
+      return fieldName;
+    }
+
+    Unit<?> getUnit() {
+      return unit;
+    }
+  }
+}
@@ -0,0 +1,276 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.binary;
+
+import edu.ie3.datamodel.exceptions.FileException;
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
+import edu.ie3.datamodel.models.value.Value;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reads {@link IndividualTimeSeries}, that have been written by the {@link BinaryTimeSeriesWriter}.
+ * The columns of every file are checked against the fields and units of its value class, so that
+ * files written with other units are rejected instead of being misinterpreted.
+ *
+ * <p>The number of entries stated in the data is not trusted: the arrays are grown block by block
+ * while reading, so that corrupted or truncated data ends in an {@link IOException} instead of
+ * allocating memory for entries, that do not exist.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class BinaryTimeSeriesReader {
+
+  private static final int BUFFER_SIZE = 65536;
+  // number of entries, that are read at once and by which the arrays are grown at least
+  private static final int BLOCK_SIZE = 4096;
+  // maximum number of entries, whose uuids fit into one byte array
+  private static final int MAX_SIZE = Integer.MAX_VALUE / (2 * Long.BYTES);
+  // a zig-zag encoded long takes at most ten bytes of seven bits
+  private static final int MAX_VAR_LONG_SHIFT = 63;
+
+  private BinaryTimeSeriesReader() {
+    throw new IllegalStateException("Utility classes cannot be instantiated");
+  }
+
+  /**
+   * Reads the time series from the given file
+   *
+   * @param file the file to read
+   * @return the time series
+   * @throws FileException if the file is no valid binary time series
+   * @throws IOException if the file cannot be read
+   */
+  public static IndividualTimeSeries<? extends Value> read(Path file)
+      throws FileException, IOException {
+    try (InputStream in = Files.newInputStream(file)) {
+      return read(in);
+    }
+  }
+
+  /**
+   * Reads the time series from the given file and checks its value class
+   *
+   * @param file the file to read
+   * @param valueClass the expected class of the values
+   * @param <V> Type of the values
+   * @return the time series
+   * @throws FileException if the file is no valid binary time series of the given value class
+   * @throws IOException if the file cannot be read
+   */
+  @SuppressWarnings("unchecked")
+  public static <V extends Value> IndividualTimeSeries<V> read(Path file, Class<V> valueClass)
+      throws FileException, IOException {
+    IndividualTimeSeries<? extends Value> timeSeries = read(file);
+    Class<?> actualClass = timeSeries.getEntries().first().getValue().getClass();
+    if (!valueClass.equals(actualClass))
+      throw new FileException(
+          "The time series in file '"
+              + file
+              + "' holds values of class '"
+              + actualClass.getSimpleName()
+              + "' instead of '"
+              + valueClass.getSimpleName()
+              + "'.");
+    return (IndividualTimeSeries<V>) timeSeries;
+  }
+
+  /**
+   * Reads the time series from the given stream, which is not closed afterwards
+   *
+   * @param in the stream to read
+   * @return the time series
+   * @throws FileException if the stream holds no valid binary time series
+   * @throws IOException if the stream cannot be read
+   */
+  public static IndividualTimeSeries<? extends Value> read(InputStream in)
+      throws FileException, IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+    if (data.readInt() != BinaryTimeSeriesWriter.MAGIC_NUMBER)
+      throw new FileException("The data is no binary time series.");
+    short version = data.readShort();
+    if (version != BinaryTimeSeriesWriter.FORMAT_VERSION)
+      throw new FileException("Unsupported version " + version + " of the binary time series.");
+
+    UUID uuid = new UUID(data.readLong(), data.readLong());
+    String valueClassName = data.readUTF();
+    BinaryTimeSeriesColumns<?> valueColumns =
+        BinaryTimeSeriesColumns.of(valueClassName)
+            .orElseThrow(
+                () ->
+                    new FileException(
+                        "Unsupported value class '"
+                            + valueClassName
+                            + "' of time series '"
+                            + uuid
+                            + "'."));
+    return read(data, uuid, valueColumns);
+  }
+
+  private static <V extends Value> IndividualTimeSeries<V> read(
+      DataInputStream data, UUID uuid, BinaryTimeSeriesColumns<V> valueColumns)
+      throws FileException, IOException {
+    ZoneId zone = readZone(data, uuid);
+    checkColumns(data, uuid, valueColumns);
+
+    int size = data.readInt();
+    if (size < 1) throw new FileException("Time series '" + uuid + "' has no entries.");
+    if (size > MAX_SIZE)
+      throw new IOException(
+          "Time series '"
+              + uuid
+              + "' states "
+              + size
+              + " entries, but at most "
+              + MAX_SIZE
+              + " are supported. The data is probably corrupted.");
+    long[] epochMillis = readTimestamps(data, size);
+    UUID[] entryUuids = readEntryUuids(data, size);
+    double[][] columns = new double[valueColumns.getColumns().size()][];
+    for (int c = 0; c < columns.length; c++) columns[c] = readDoubles(data, size);
+
+    Set<TimeBasedValue<V>> entries = new HashSet<>((int) (size / 0.75f) + 1);
+    double[] values = new double[columns.length];
+    for (int i = 0; i < size; i++) {
+      for (int c = 0; c < columns.length; c++) values[c] = columns[c][i];
+      entries.add(
+          new TimeBasedValue<>(
+              entryUuids[i],
+              ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[i]), zone),
+              valueColumns.build(values)));
+    }
+    return new IndividualTimeSeries<>(uuid, entries);
+  }
+
+  private static ZoneId readZone(DataInputStream data, UUID uuid)
+      throws FileException, IOException {
+    String zoneId = data.readUTF();
+    try {
+      return ZoneId.of(zoneId);
+    } catch (DateTimeException e) {
+      throw new FileException(
+          "Unknown zone '" + zoneId + "' of the timestamps of time series '" + uuid + "'.", e);
+    }
+  }
+
+  /* Makes sure, that the columns are interpreted with the fields and units they are written with */
+  private static <V extends Value> void checkColumns(
+      DataInputStream data, UUID uuid, BinaryTimeSeriesColumns<V> valueColumns)
+      throws FileException, IOException {
+    List<BinaryTimeSeriesColumns.Column<V>> expectedColumns = valueColumns.getColumns();
+    int numberOfColumns = data.readShort();
+    if (numberOfColumns != expectedColumns.size())
+      throw new FileException(
+          "Time series '"
+              + uuid
+              + "' has "
+              + numberOfColumns
+              + " columns, but "
+              + expectedColumns.size()
+              + " are expected for values of class '"
+              + valueColumns.getValueClass().getSimpleName()
+              + "'.");
+    for (BinaryTimeSeriesColumns.Column<V> expected : expectedColumns) {
+      String fieldName = data.readUTF();
+      String unit = data.readUTF();
+      if (!expected.getFieldName().equals(fieldName)
+          || !expected.getUnit().toString().equals(unit))
+        throw new FileException(
+            "Column '"
+                + fieldName
+                + "' in '"
+                + unit
+                + "' of time series '"
+                + uuid
+                + "' does not match the expected column '"
+                + expected.getFieldName()
+                + "' in '"
+                + expected.getUnit()
+                + "'.");
+    }
+  }
+
+  private static long[] readTimestamps(DataInputStream data, int size) throws IOException {
+    long[] epochMillis = new long[initialCapacity(size)];
+    epochMillis[0] = data.readLong();
+    for (int i = 1; i < size; i++) {
+      if (i == epochMillis.length) epochMillis = Arrays.copyOf(epochMillis, grow(i, size));
+      epochMillis[i] = epochMillis[i - 1] + readVarLong(data);
+    }
+    return epochMillis;
+  }
+
+  private static long readVarLong(DataInputStream data) throws IOException {
+    long zigzag = 0;
+    int shift = 0;
+    byte b;
+    do {
+      if (shift > MAX_VAR_LONG_SHIFT)
+        throw new IOException(
+            "A timestamp difference is encoded with more than ten bytes. The data is probably"
+                + " corrupted.");
+      b = data.readByte();
+      zigzag |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return (zigzag >>> 1) ^ -(zigzag & 1);
+  }
+
+  private static UUID[] readEntryUuids(DataInputStream data, int size) throws IOException {
+    UUID[] uuids = new UUID[initialCapacity(size)];
+    byte[] bytes = new byte[uuids.length * 2 * Long.BYTES];
+    for (int blockStart = 0; blockStart < size; blockStart += BLOCK_SIZE) {
+      int blockSize = Math.min(BLOCK_SIZE, size - blockStart);
+      if (blockStart + blockSize > uuids.length)
+        uuids = Arrays.copyOf(uuids, grow(uuids.length, size));
+      data.readFully(bytes, 0, blockSize * 2 * Long.BYTES);
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      for (int i = blockStart; i < blockStart + blockSize; i++)
+        uuids[i] = new UUID(buffer.getLong(), buffer.getLong());
+    }
+    return uuids;
+  }
+
+  private static double[] readDoubles(DataInputStream data, int size) throws IOException {
+    double[] doubles = new double[initialCapacity(size)];
+    byte[] bytes = new byte[Math.min(BLOCK_SIZE, size) * Double.BYTES];
+    for (int blockStart = 0; blockStart < size; blockStart += BLOCK_SIZE) {
+      int blockSize = Math.min(BLOCK_SIZE, size - blockStart);
+      if (blockStart + blockSize > doubles.length)
+        doubles = Arrays.copyOf(doubles, grow(doubles.length, size));
+      data.readFully(bytes, 0, blockSize * Double.BYTES);
+      ByteBuffer.wrap(bytes, 0, blockSize * Double.BYTES)
+          .asDoubleBuffer()
+          .get(doubles, blockStart, blockSize);
+    }
+    return doubles;
+  }
+
+  private static int initialCapacity(int size) {
+    return Math.min(BLOCK_SIZE, size);
+  }
+
+  /* Doubles the capacity, but neither beyond the stated size nor by less than one block */
+  private static int grow(int capacity, int size) {
+    return (int) Math.min(size, Math.max((long) capacity * 2, (long) capacity + BLOCK_SIZE));
+  }
+}
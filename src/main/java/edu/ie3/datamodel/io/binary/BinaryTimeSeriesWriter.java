@@ -0,0 +1,201 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.binary;
+
+import edu.ie3.datamodel.exceptions.FileException;
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
+import edu.ie3.datamodel.models.value.Value;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Writes {@link IndividualTimeSeries} in a compact binary columnar format, that can be read by the
+ * {@link BinaryTimeSeriesReader}. All numbers are written in big-endian byte order:
+ *
+ * <pre>
+ * int      magic number 0x50534454 ("PSDT")
+ * short    format version
+ * 2 longs  uuid of the time series
+ * UTF      simple name of the value class
+ * UTF      zone id of the timestamps
+ * short    number of value columns n
+ * n times  UTF field name and UTF unit of the column
+ * int      number of entries r
+ * long     epoch millisecond of the first entry (if r &gt; 0)
+ * r-1      differences of consecutive epoch milliseconds as zigzag encoded variable length longs
+ * r times  uuid of the entry as 2 longs
+ * n times  r doubles of the column in the column's unit, NaN if the value is missing
+ * </pre>
+ *
+ * <p>Timestamps are written with millisecond precision in the zone of the first entry, i.e. the
+ * instants are kept, but entries of other zones are read in the zone of the first entry.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class BinaryTimeSeriesWriter {
+
+  /** File ending of binary time series files */
+  public static final String FILE_ENDING = ".bin";
+
+  static final int MAGIC_NUMBER = 0x50534454;
+  static final short FORMAT_VERSION = 1;
+
+  private static final int BUFFER_SIZE = 65536;
+
+  private BinaryTimeSeriesWriter() {
+    throw new IllegalStateException("Utility classes cannot be instantiated");
+  }
+
+  /**
+   * Checks, if time series with the given value class can be written
+   *
+   * @param valueClass the class of the time series' values
+   * @return true, if the value class is supported
+   */
+  public static boolean isSupported(Class<? extends Value> valueClass) {
+    return BinaryTimeSeriesColumns.of(valueClass).isPresent();
+  }
+
+  /**
+   * Writes the time series to the given file, that is created or overwritten
+   *
+   * @param timeSeries the time series to write
+   * @param file the file to write to
+   * @param <V> Type of the values
+   * @throws FileException if the values of the time series are not supported
+   * @throws IOException if the file cannot be written
+   */
+  public static <V extends Value> void write(IndividualTimeSeries<V> timeSeries, Path file)
+      throws FileException, IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) Files.createDirectories(parent);
+    try (OutputStream out = Files.newOutputStream(file)) {
+      write(timeSeries, out);
+    }
+  }
+
+  /**
+   * Writes the time series to the given stream, which is not closed afterwards
+   *
+   * @param timeSeries the time series to write
+   * @param out the stream to write to
+   * @param <V> Type of the values
+   * @throws FileException if the values of the time series are not supported
+   * @throws IOException if the stream cannot be written
+   */
+  @SuppressWarnings("unchecked")
+  public static <V extends Value> void write(IndividualTimeSeries<V> timeSeries, OutputStream out)
+      throws FileException, IOException {
+    TimeBasedValue<V>[] entries = timeSeries.getEntries().toArray(new TimeBasedValue[0]);
+    if (entries.length == 0)
+      throw new FileException(
+          "Cannot write time series '"
+              + timeSeries.getUuid()
+              + "', as the value class of an empty time series is unknown.");
+    Class<V> valueClass = (Class<V>) entries[0].getValue().getClass();
+    BinaryTimeSeriesColumns<V> valueColumns =
+        BinaryTimeSeriesColumns.of(valueClass)
+            .orElseThrow(
+                () ->
+                    new FileException(
+                        "Cannot write time series '"
+                            + timeSeries.getUuid()
+                            + "' with values of class '"
+                            + valueClass.getSimpleName()
+                            + "' in the binary format."));
+    for (TimeBasedValue<V> entry : entries) {
+      if (!valueClass.equals(entry.getValue().getClass()))
+        throw new FileException(
+            "Cannot write time series '"
+                + timeSeries.getUuid()
+                + "', as it mixes values of class '"
+                + valueClass.getSimpleName()
+                + "' and '"
+                + entry.getValue().getClass().getSimpleName()
+                + "'.");
+    }
+
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+    writeHeader(data, timeSeries, valueColumns, entries[0].getTime().getZone());
+    data.writeInt(entries.length);
+    writeTimestamps(data, entries);
+    writeEntryUuids(data, entries);
+    writeValues(data, entries, valueColumns);
+    data.flush();
+  }
+
+  private static <V extends Value> void writeHeader(
+      DataOutputStream data,
+      IndividualTimeSeries<V> timeSeries,
+      BinaryTimeSeriesColumns<V> valueColumns,
+      ZoneId zone)
+      throws IOException {
+    data.writeInt(MAGIC_NUMBER);
+    data.writeShort(FORMAT_VERSION);
+    data.writeLong(timeSeries.getUuid().getMostSignificantBits());
+    data.writeLong(timeSeries.getUuid().getLeastSignificantBits());
+    data.writeUTF(valueColumns.getValueClass().getSimpleName());
+    data.writeUTF(zone.getId());
+    List<BinaryTimeSeriesColumns.Column<V>> columns = valueColumns.getColumns();
+    data.writeShort(columns.size());
+    for (BinaryTimeSeriesColumns.Column<V> column : columns) {
+      data.writeUTF(column.getFieldName());
+      data.writeUTF(column.getUnit().toString());
+    }
+  }
+
+  /* The entries are sorted by time, hence the differences are small and mostly positive */
+  private static void writeTimestamps(DataOutputStream data, TimeBasedValue<?>[] entries)
+      throws IOException {
+    long previous = entries[0].getTime().toInstant().toEpochMilli();
+    data.writeLong(previous);
+    for (int i = 1; i < entries.length; i++) {
+      long current = entries[i].getTime().toInstant().toEpochMilli();
+      writeVarLong(data, current - previous);
+      previous = current;
+    }
+  }
+
+  private static void writeVarLong(DataOutputStream data, long value) throws IOException {
+    long zigzag = (value << 1) ^ (value >> 63);
+    while ((zigzag & ~0x7FL) != 0) {
+      data.writeByte((int) ((zigzag & 0x7F) | 0x80));
+      zigzag >>>= 7;
+    }
+    data.writeByte((int) zigzag);
+  }
+
+  private static void writeEntryUuids(DataOutputStream data, TimeBasedValue<?>[] entries)
+      throws IOException {
+    ByteBuffer uuids = ByteBuffer.allocate(entries.length * 2 * Long.BYTES);
+    for (TimeBasedValue<?> entry : entries) {
+      uuids.putLong(entry.getUuid().getMostSignificantBits());
+      uuids.putLong(entry.getUuid().getLeastSignificantBits());
+    }
+    data.write(uuids.array());
+  }
+
+  private static <V extends Value> void writeValues(
+      DataOutputStream data, TimeBasedValue<V>[] entries, BinaryTimeSeriesColumns<V> valueColumns)
+      throws IOException {
+    ByteBuffer column = ByteBuffer.allocate(entries.length * Double.BYTES);
+    for (int c = 0; c < valueColumns.getColumns().size(); c++) {
+      column.clear();
+      for (TimeBasedValue<V> entry : entries)
+        column.putDouble(valueColumns.get(entry.getValue(), c));
+      data.write(column.array());
+    }
+  }
+}
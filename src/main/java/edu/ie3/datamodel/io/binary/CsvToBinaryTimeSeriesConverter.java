@@ -0,0 +1,268 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.binary;
+
+import edu.ie3.datamodel.exceptions.FileException;
+import edu.ie3.datamodel.io.csv.BufferedCsvReader;
+import edu.ie3.datamodel.io.csv.CsvFileReader;
+import edu.ie3.datamodel.io.csv.CsvRowTokenizer;
+import edu.ie3.datamodel.io.csv.FileNamingStrategy;
+import edu.ie3.datamodel.io.csv.FileNamingStrategy.IndividualTimeSeriesMetaInformation;
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
+import edu.ie3.datamodel.models.value.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Converts individual time series from csv files, as written by the {@link
+ * edu.ie3.datamodel.io.sink.CsvFileSink}, to the binary format of the {@link
+ * BinaryTimeSeriesWriter}. The value class of a file is derived from its column scheme according to
+ * the {@link FileNamingStrategy}. The binary file gets the csv file's name with the ending {@link
+ * BinaryTimeSeriesWriter#FILE_ENDING}.
+ *
+ * <p>The conversion of a whole folder can also be started from the command line with the csv
+ * folder, the binary folder and optionally the csv separator (default ",") as arguments.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CsvToBinaryTimeSeriesConverter {
+  private static final Logger log = LogManager.getLogger(CsvToBinaryTimeSeriesConverter.class);
+
+  private static final String CSV_ENDING = ".csv";
+  private static final String GZIP_ENDING = ".gz";
+
+  private CsvToBinaryTimeSeriesConverter() {
+    throw new IllegalStateException("Utility classes cannot be instantiated");
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2 || args.length > 3) {
+      log.error(
+          "Usage: {} <csv folder> <binary folder> [csv separator]",
+          CsvToBinaryTimeSeriesConverter.class.getName());
+      return;
+    }
+    int converted =
+        convertAll(
+            Paths.get(args[0]),
+            Paths.get(args[1]),
+            args.length == 3 ? args[2] : ",",
+            new FileNamingStrategy());
+    log.info("Converted {} individual time series from '{}' to '{}'.", converted, args[0], args[1]);
+  }
+
+  /**
+   * Converts all individual time series files within the csv folder (including sub folders) with a
+   * supported value class. The folder structure is kept in the binary folder. Files, that cannot
+   * be converted, are logged and skipped.
+   *
+   * @param csvFolder the folder to search for csv files of individual time series
+   * @param binaryFolder the folder to write the binary files to
+   * @param csvSep the csv separator
+   * @param fileNamingStrategy the naming strategy of the csv files
+   * @return the number of converted time series
+   * @throws IOException if the csv folder cannot be searched
+   */
+  public static int convertAll(
+      Path csvFolder, Path binaryFolder, String csvSep, FileNamingStrategy fileNamingStrategy)
+      throws IOException {
+    List<Path> csvFiles;
+    try (Stream<Path> files = Files.walk(csvFolder)) {
+      csvFiles =
+          files
+              .filter(Files::isRegularFile)
+              .filter(file -> isIndividualTimeSeries(file, fileNamingStrategy))
+              .collect(Collectors.toList());
+    }
+
+    int converted = 0;
+    for (Path csvFile : csvFiles) {
+      Path binaryFile =
+          binaryFolder
+              .resolve(csvFolder.relativize(csvFile))
+              .resolveSibling(binaryFileName(csvFile));
+      try {
+        convert(csvFile, binaryFile, csvSep, fileNamingStrategy);
+        converted++;
+      } catch (FileException | IOException e) {
+        log.error("Cannot convert time series file '{}'.", csvFile, e);
+      }
+    }
+    return converted;
+  }
+
+  private static boolean isIndividualTimeSeries(Path file, FileNamingStrategy fileNamingStrategy) {
+    String fileName = file.getFileName().toString();
+    if (!fileName.endsWith(CSV_ENDING) && !fileName.endsWith(CSV_ENDING + GZIP_ENDING))
+      return false;
+    try {
+      return fileNamingStrategy.extractTimeSeriesMetaInformation(file)
+          instanceof IndividualTimeSeriesMetaInformation;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static String binaryFileName(Path csvFile) {
+    String fileName = csvFile.getFileName().toString();
+    if (fileName.endsWith(GZIP_ENDING))
+      fileName = fileName.substring(0, fileName.length() - GZIP_ENDING.length());
+    if (fileName.endsWith(CSV_ENDING))
+      fileName = fileName.substring(0, fileName.length() - CSV_ENDING.length());
+    return fileName + BinaryTimeSeriesWriter.FILE_ENDING;
+  }
+
+  /**
+   * Converts the individual time series of the given csv file, which may be gzip compressed
+   *
+   * @param csvFile the csv file of the time series
+   * @param binaryFile the binary file to write
+   * @param csvSep the csv separator
+   * @param fileNamingStrategy the naming strategy of the csv file
+   * @throws FileException if the file name or the content of the csv file are invalid or the value
+   *     class is not supported
+   * @throws IOException if a file cannot be read or written
+   */
+  public static void convert(
+      Path csvFile, Path binaryFile, String csvSep, FileNamingStrategy fileNamingStrategy)
+      throws FileException, IOException {
+    IndividualTimeSeriesMetaInformation metaInformation;
+    try {
+      FileNamingStrategy.FileNameMetaInformation fileNameMetaInformation =
+          fileNamingStrategy.extractTimeSeriesMetaInformation(csvFile);
+      if (!(fileNameMetaInformation instanceof IndividualTimeSeriesMetaInformation))
+        throw new FileException("'" + csvFile + "' is no individual time series.");
+      metaInformation = (IndividualTimeSeriesMetaInformation) fileNameMetaInformation;
+    } catch (IllegalArgumentException e) {
+      throw new FileException("'" + csvFile + "' is no individual time series.", e);
+    }
+
+    Class<? extends Value> valueClass = valueClass(metaInformation.getColumnScheme());
+    try (CsvFileReader reader = openCsvFile(csvFile)) {
+      BinaryTimeSeriesWriter.write(
+          readTimeSeries(reader, metaInformation.getUuid(), valueClass, csvSep), binaryFile);
+    }
+  }
+
+  private static Class<? extends Value> valueClass(
+      IndividualTimeSeriesMetaInformation.ColumnScheme columnScheme) throws FileException {
+    switch (columnScheme) {
+      case ENERGY_PRICE:
+        return EnergyPriceValue.class;
+      case ACTIVE_POWER:
+        return PValue.class;
+      case APPARENT_POWER:
+        return SValue.class;
+      case HEAT_DEMAND:
+        return HeatDemandValue.class;
+      case ACTIVE_POWER_AND_HEAT_DEMAND:
+        return HeatAndPValue.class;
+      case APPARENT_POWER_AND_HEAT_DEMAND:
+        return HeatAndSValue.class;
+      default:
+        throw new FileException(
+            "Time series with column scheme '" + columnScheme + "' cannot be converted.");
+    }
+  }
+
+  private static CsvFileReader openCsvFile(Path csvFile) throws IOException {
+    InputStream in = Files.newInputStream(csvFile);
+    if (csvFile.getFileName().toString().endsWith(GZIP_ENDING)) in = new GZIPInputStream(in);
+    return new BufferedCsvReader(
+        new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 65536));
+  }
+
+  /**
+   * Reads an individual time series from a csv file. The columns of the value fields are looked up
+   * by their field names either in camel case or in snake case.
+   *
+   * @param reader the reader of the csv file
+   * @param uuid the uuid of the time series
+   * @param valueClass the class of the values
+   * @param csvSep the csv separator
+   * @param <V> Type of the values
+   * @return the time series
+   * @throws FileException if the value class is not supported or the content is invalid
+   */
+  public static <V extends Value> IndividualTimeSeries<V> readTimeSeries(
+      CsvFileReader reader, UUID uuid, Class<V> valueClass, String csvSep) throws FileException {
+    BinaryTimeSeriesColumns<V> valueColumns =
+        BinaryTimeSeriesColumns.of(valueClass)
+            .orElseThrow(
+                () ->
+                    new FileException(
+                        "Values of class '"
+                            + valueClass.getSimpleName()
+                            + "' are not supported."));
+    if (reader.getHeadline() == null)
+      throw new FileException("The csv file of time series '" + uuid + "' is empty.");
+    String[] headline = CsvRowTokenizer.tokenize(reader.getHeadline(), csvSep);
+    int uuidIndex = indexOf(headline, "uuid", uuid);
+    int timeIndex = indexOf(headline, "time", uuid);
+    List<BinaryTimeSeriesColumns.Column<V>> columns = valueColumns.getColumns();
+    int[] valueIndices = new int[columns.size()];
+    for (int c = 0; c < valueIndices.length; c++)
+      valueIndices[c] = indexOf(headline, columns.get(c).getFieldName(), uuid);
+
+    Set<TimeBasedValue<V>> entries = new HashSet<>();
+    double[] values = new double[valueIndices.length];
+    for (Iterator<String> rows = reader.rows().iterator(); rows.hasNext(); ) {
+      String row = rows.next();
+      if (row.isEmpty()) continue;
+      String[] fields = CsvRowTokenizer.tokenize(row, csvSep);
+      try {
+        for (int c = 0; c < valueIndices.length; c++) {
+          String value = fields[valueIndices[c]];
+          values[c] = value.isEmpty() ? Double.NaN : Double.parseDouble(value);
+        }
+        entries.add(
+            new TimeBasedValue<>(
+                UUID.fromString(fields[uuidIndex]),
+                ZonedDateTime.parse(fields[timeIndex]),
+                valueColumns.build(values)));
+      } catch (IllegalArgumentException
+          | DateTimeParseException
+          | ArrayIndexOutOfBoundsException e) {
+        throw new FileException("Cannot parse row '" + row + "' of time series '" + uuid + "'.", e);
+      }
+    }
+    return new IndividualTimeSeries<>(uuid, entries);
+  }
+
+  private static int indexOf(String[] headline, String fieldName, UUID uuid)
+      throws FileException {
+    String normalizedFieldName = normalize(fieldName);
+    for (int i = 0; i < headline.length; i++) {
+      if (normalize(headline[i]).equals(normalizedFieldName)) return i;
+    }
+    throw new FileException(
+        "The csv file of time series '" + uuid + "' has no column '" + fieldName + "'.");
+  }
+
+  private static String normalize(String fieldName) {
+    return fieldName.replace("_", "").replace("\"", "").toLowerCase();
+  }
+}
@@ -6,20 +6,47 @@
 package edu.ie3.datamodel.io.connectors;
 
 import edu.ie3.datamodel.exceptions.ConnectorException;
+import edu.ie3.datamodel.exceptions.SinkException;
+import edu.ie3.datamodel.io.csv.BufferedCsvReader;
 import edu.ie3.datamodel.io.csv.BufferedCsvWriter;
+import edu.ie3.datamodel.io.csv.CsvArchive;
+import edu.ie3.datamodel.io.csv.CsvCompression;
 import edu.ie3.datamodel.io.csv.CsvFileDefinition;
+import edu.ie3.datamodel.io.csv.CsvFileReader;
 import edu.ie3.datamodel.io.csv.FileNamingStrategy;
+import edu.ie3.datamodel.io.csv.FlushPolicy;
+import edu.ie3.datamodel.io.csv.MappedCsvFileReader;
+import edu.ie3.datamodel.io.csv.ResultPartitioning;
 import edu.ie3.datamodel.models.UniqueEntity;
+import edu.ie3.datamodel.models.result.ResultEntity;
 import edu.ie3.datamodel.models.timeseries.TimeSeries;
 import edu.ie3.datamodel.models.timeseries.TimeSeriesEntry;
 import edu.ie3.datamodel.models.value.Value;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -27,23 +54,255 @@ import org.apache.logging.log4j.Logger;
  * Provides the connector (here: buffered writer) for specific files to be used by a {@link
  * edu.ie3.datamodel.io.sink.CsvFileSink}
  *
+ * <p>Files can also be read from compressed input without extracting it to disk: If the base
+ * folder is a .tar.gz archive, the files are read from its entries (see {@link CsvArchive}). If a
+ * plain .csv file does not exist within the base folder, but a gzipped .csv.gz file does, the
+ * latter is decompressed while reading.
+ *
+ * <p>Results can be split into several files per class (see {@link ResultPartitioning}). In this
+ * case, a manifest {@code result_partitions.csv} listing all written partitions is written to the
+ * base folder on shutdown. The number of simultaneously open partition files is bounded the same
+ * way as the one of time series files (see {@link ResultPartitioning#getMaxOpenFiles()}).
+ *
+ * <p>Files can be written gzip compressed as .csv.gz files (see {@link CsvCompression}). If the
+ * compression is parallel, the blocks of all files are compressed by one pool of threads owned by
+ * this connector.
+ *
+ * <p>The number of simultaneously open time series files is bounded (see {@link
+ * #DEFAULT_MAX_OPEN_TIME_SERIES_WRITERS}). If the bound is reached, the least recently used time
+ * series writer is flushed and closed. Once its time series is written again, the file is reopened
+ * in append mode without writing the head line again.
+ *
  * @version 0.1
  * @since 19.03.20
  */
 public class CsvFileConnector implements DataConnector {
   private static final Logger log = LogManager.getLogger(CsvFileConnector.class);
 
+  /* Writers are looked up concurrently by the sinks, hence concurrent maps are used. Every file is
+   * written by exactly one writer, that serializes the written lines (see BufferedCsvWriter). */
   private final Map<Class<? extends UniqueEntity>, BufferedCsvWriter> entityWriters =
-      new HashMap<>();
-  private final Map<UUID, BufferedCsvWriter> timeSeriesWriters = new HashMap<>();
+      new ConcurrentHashMap<>();
+  /* Writers of all time series written so far, of which only the open ones are held in access
+   * order. Both maps are guarded by timeSeriesWriters. */
+  private final Map<UUID, TimeSeriesWriter> timeSeriesWriters = new HashMap<>();
+  private final LinkedHashMap<UUID, TimeSeriesWriter> openTimeSeriesWriters =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final int maxOpenTimeSeriesWriters;
+  private long evictedTimeSeriesWriters;
   private final FileNamingStrategy fileNamingStrategy;
   private final String baseFolderName;
+  // the archive, the files are read from, or null, if they are read from the base folder
+  private final CsvArchive archive;
+  private final FlushPolicy flushPolicy;
+  private final int writerBufferSize;
+  private final ResultPartitioning resultPartitioning;
+  /* Partitions of all results written so far, of which only the ones with an open file are held in
+   * access order. Both maps are guarded by resultPartitions. */
+  private final Map<String, ResultPartition> resultPartitions = new HashMap<>();
+  private final LinkedHashMap<String, ResultPartition> openResultPartitions =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private long evictedResultPartitions;
+  private final CsvCompression compression;
+  // compresses the blocks of all files or null, if the compression is not parallel
+  private final ExecutorService compressionExecutor;
+
+  /** Default maximum number of simultaneously open time series files */
+  public static final int DEFAULT_MAX_OPEN_TIME_SERIES_WRITERS = 512;
 
   private static final String FILE_ENDING = ".csv";
+  private static final String PARTITION_MANIFEST_FILE_NAME = "result_partitions";
+  private static final String[] PARTITION_MANIFEST_HEAD_LINE = {
+    "fileName", "entity", "partition", "part", "rows"
+  };
+  private static final String GZIP_ENDING = ".gz";
+  private static final String[] ARCHIVE_ENDINGS = {".tar.gz", ".tgz"};
 
   public CsvFileConnector(String baseFolderName, FileNamingStrategy fileNamingStrategy) {
+    this(
+        baseFolderName,
+        fileNamingStrategy,
+        FlushPolicy.everyLine(),
+        BufferedCsvWriter.DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a new connector, that is going to read the files of the given classes. If the base
+   * folder is a .tar.gz archive, only the entries of these classes are buffered, when they are
+   * passed while seeking another entry (see {@link CsvArchive}).
+   *
+   * @param baseFolderName Base folder, where the file hierarchy should start
+   * @param fileNamingStrategy Strategy to derive the file names from
+   * @param readClasses Classes of the entities, whose files are going to be read
+   */
+  public CsvFileConnector(
+      String baseFolderName,
+      FileNamingStrategy fileNamingStrategy,
+      Collection<Class<? extends UniqueEntity>> readClasses) {
+    this(
+        baseFolderName,
+        fileNamingStrategy,
+        FlushPolicy.everyLine(),
+        BufferedCsvWriter.DEFAULT_BUFFER_SIZE,
+        ResultPartitioning.none(),
+        CsvCompression.none(),
+        DEFAULT_MAX_OPEN_TIME_SERIES_WRITERS,
+        readClasses.stream()
+            .map(fileNamingStrategy::getFileName)
+            .filter(Optional::isPresent)
+            .map(fileName -> fileName.get() + FILE_ENDING)
+            .collect(Collectors.toSet()));
+  }
+
+  /**
+   * Creates a new connector, whose writers flush according to the given policy
+   *
+   * @param baseFolderName Base folder, where the file hierarchy should start
+   * @param fileNamingStrategy Strategy to derive the file names from
+   * @param flushPolicy Determines, when the writers flush the written lines to the files
+   * @param writerBufferSize Size of the character buffer of every writer
+   */
+  public CsvFileConnector(
+      String baseFolderName,
+      FileNamingStrategy fileNamingStrategy,
+      FlushPolicy flushPolicy,
+      int writerBufferSize) {
+    this(
+        baseFolderName,
+        fileNamingStrategy,
+        flushPolicy,
+        writerBufferSize,
+        ResultPartitioning.none());
+  }
+
+  /**
+   * Creates a new connector, whose writers flush according to the given policy and that splits
+   * results into several files per class according to the given partitioning
+   *
+   * @param baseFolderName Base folder, where the file hierarchy should start
+   * @param fileNamingStrategy Strategy to derive the file names from
+   * @param flushPolicy Determines, when the writers flush the written lines to the files
+   * @param writerBufferSize Size of the character buffer of every writer
+   * @param resultPartitioning Determines, how results are split into several files
+   */
+  public CsvFileConnector(
+      String baseFolderName,
+      FileNamingStrategy fileNamingStrategy,
+      FlushPolicy flushPolicy,
+      int writerBufferSize,
+      ResultPartitioning resultPartitioning) {
+    this(
+        baseFolderName,
+        fileNamingStrategy,
+        flushPolicy,
+        writerBufferSize,
+        resultPartitioning,
+        CsvCompression.none());
+  }
+
+  /**
+   * Creates a new connector, whose writers flush according to the given policy and compress the
+   * written files according to the given compression
+   *
+   * @param baseFolderName Base folder, where the file hierarchy should start
+   * @param fileNamingStrategy Strategy to derive the file names from
+   * @param flushPolicy Determines, when the writers flush the written lines to the files
+   * @param writerBufferSize Size of the character buffer of every writer
+   * @param resultPartitioning Determines, how results are split into several files
+   * @param compression Determines, whether the written files are compressed
+   */
+  public CsvFileConnector(
+      String baseFolderName,
+      FileNamingStrategy fileNamingStrategy,
+      FlushPolicy flushPolicy,
+      int writerBufferSize,
+      ResultPartitioning resultPartitioning,
+      CsvCompression compression) {
+    this(
+        baseFolderName,
+        fileNamingStrategy,
+        flushPolicy,
+        writerBufferSize,
+        resultPartitioning,
+        compression,
+        DEFAULT_MAX_OPEN_TIME_SERIES_WRITERS);
+  }
+
+  /**
+   * Creates a new connector, whose writers flush according to the given policy and compress the
+   * written files according to the given compression, that keeps at most the given number of time
+   * series files open at once
+   *
+   * @param baseFolderName Base folder, where the file hierarchy should start
+   * @param fileNamingStrategy Strategy to derive the file names from
+   * @param flushPolicy Determines, when the writers flush the written lines to the files
+   * @param writerBufferSize Size of the character buffer of every writer
+   * @param resultPartitioning Determines, how results are split into several files
+   * @param compression Determines, whether the written files are compressed
+   * @param maxOpenTimeSeriesWriters Maximum number of simultaneously open time series files
+   */
+  public CsvFileConnector(
+      String baseFolderName,
+      FileNamingStrategy fileNamingStrategy,
+      FlushPolicy flushPolicy,
+      int writerBufferSize,
+      ResultPartitioning resultPartitioning,
+      CsvCompression compression,
+      int maxOpenTimeSeriesWriters) {
+    this(
+        baseFolderName,
+        fileNamingStrategy,
+        flushPolicy,
+        writerBufferSize,
+        resultPartitioning,
+        compression,
+        maxOpenTimeSeriesWriters,
+        Collections.emptySet());
+  }
+
+  private CsvFileConnector(
+      String baseFolderName,
+      FileNamingStrategy fileNamingStrategy,
+      FlushPolicy flushPolicy,
+      int writerBufferSize,
+      ResultPartitioning resultPartitioning,
+      CsvCompression compression,
+      int maxOpenTimeSeriesWriters,
+      Set<String> archiveEntries) {
+    if (writerBufferSize < 1)
+      throw new IllegalArgumentException(
+          "The buffer size of the writers has to be positive, but is " + writerBufferSize);
+    if (maxOpenTimeSeriesWriters < 1)
+      throw new IllegalArgumentException(
+          "The maximum number of open time series writers has to be positive, but is "
+              + maxOpenTimeSeriesWriters);
     this.baseFolderName = baseFolderName;
     this.fileNamingStrategy = fileNamingStrategy;
+    this.flushPolicy = flushPolicy;
+    this.writerBufferSize = writerBufferSize;
+    this.resultPartitioning = resultPartitioning;
+    this.compression = compression;
+    this.maxOpenTimeSeriesWriters = maxOpenTimeSeriesWriters;
+    this.compressionExecutor =
+        compression.isParallel()
+            ? Executors.newFixedThreadPool(
+                compression.getThreads(), CsvFileConnector::newCompressionThread)
+            : null;
+    this.archive =
+        isArchive(baseFolderName)
+            ? new CsvArchive(Paths.get(baseFolderName), archiveEntries)
+            : null;
+  }
+
+  private static Thread newCompressionThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "CsvFileConnector-compression");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private static boolean isArchive(String baseFolderName) {
+    return Arrays.stream(ARCHIVE_ENDINGS).anyMatch(baseFolderName::endsWith)
+        && Files.isRegularFile(Paths.get(baseFolderName));
   }
 
   public BufferedCsvWriter getOrInitWriter(
@@ -53,41 +312,216 @@ public class CsvFileConnector implements DataConnector {
     BufferedCsvWriter predefinedWriter = entityWriters.get(clz);
     if (predefinedWriter != null) return predefinedWriter;
 
-    /* If it is not available, build and register one */
+    /* If it is not available, build and register one. Building is rare, hence it is serialized to
+     * make sure, that only one writer per file is built. */
     try {
-      CsvFileDefinition fileDefinition = buildFileDefinition(clz, headerElements, csvSep);
-      BufferedCsvWriter newWriter = initWriter(baseFolderName, fileDefinition);
+      synchronized (entityWriters) {
+        BufferedCsvWriter concurrentlyBuiltWriter = entityWriters.get(clz);
+        if (concurrentlyBuiltWriter != null) return concurrentlyBuiltWriter;
+
+        CsvFileDefinition fileDefinition = buildFileDefinition(clz, headerElements, csvSep);
+        BufferedCsvWriter newWriter = initWriter(baseFolderName, fileDefinition);
 
-      entityWriters.put(clz, newWriter);
-      return newWriter;
+        entityWriters.put(clz, newWriter);
+        return newWriter;
+      }
     } catch (ConnectorException | IOException e) {
       throw new ConnectorException(
           "Can neither find suitable writer nor build the correct one in CsvFileConnector.", e);
     }
   }
 
+  /**
+   * Hands the writer of the given time series to the given action and opens it, if needed. The
+   * writer is not closed while the action is running, even if other time series are written in the
+   * meantime. As the writer may be closed afterwards, once it is the least recently used one of
+   * more than the maximum number of open time series writers, it must not be used outside of the
+   * action.
+   *
+   * @param timeSeries the time series to get the writer for
+   * @param headerElements the header elements of the time series' file
+   * @param csvSep the csv separator
+   * @param action the action writing to the writer
+   * @throws ConnectorException If the writer cannot be built
+   */
   public <T extends TimeSeries<E, V>, E extends TimeSeriesEntry<V>, V extends Value>
-      BufferedCsvWriter getOrInitWriter(T timeSeries, String[] headerElements, String csvSep)
+      void withWriter(
+          T timeSeries, String[] headerElements, String csvSep, Consumer<BufferedCsvWriter> action)
           throws ConnectorException {
-    /* Try to the the right writer */
-    BufferedCsvWriter predefinedWriter = timeSeriesWriters.get(timeSeries.getUuid());
-    if (predefinedWriter != null) return predefinedWriter;
+    TimeSeriesWriter timeSeriesWriter = acquireWriter(timeSeries, headerElements, csvSep);
+    try {
+      action.accept(timeSeriesWriter.writer);
+    } finally {
+      releaseWriter(timeSeriesWriter);
+    }
+  }
 
-    /* If it is not available, build and register one */
+  /* Opens the writer of the time series, if needed, and marks it as used */
+  private <T extends TimeSeries<E, V>, E extends TimeSeriesEntry<V>, V extends Value>
+      TimeSeriesWriter acquireWriter(T timeSeries, String[] headerElements, String csvSep)
+          throws ConnectorException {
     try {
-      CsvFileDefinition fileDefinition = buildFileDefinition(timeSeries, headerElements, csvSep);
-      BufferedCsvWriter newWriter = initWriter(baseFolderName, fileDefinition);
+      synchronized (timeSeriesWriters) {
+        TimeSeriesWriter timeSeriesWriter = timeSeriesWriters.get(timeSeries.getUuid());
+        if (timeSeriesWriter == null) {
+          timeSeriesWriter =
+              new TimeSeriesWriter(buildFileDefinition(timeSeries, headerElements, csvSep));
+          timeSeriesWriters.put(timeSeries.getUuid(), timeSeriesWriter);
+        }
 
-      timeSeriesWriters.put(timeSeries.getUuid(), newWriter);
-      return newWriter;
+        if (timeSeriesWriter.writer == null) {
+          evictTimeSeriesWriters(maxOpenTimeSeriesWriters - 1);
+          timeSeriesWriter.open();
+          openTimeSeriesWriters.put(timeSeries.getUuid(), timeSeriesWriter);
+        } else {
+          // mark as most recently used
+          openTimeSeriesWriters.get(timeSeries.getUuid());
+        }
+        timeSeriesWriter.users++;
+        return timeSeriesWriter;
+      }
     } catch (ConnectorException | IOException e) {
       throw new ConnectorException(
           "Can neither find suitable writer nor build the correct one in CsvFileConnector.", e);
     }
   }
 
+  private void releaseWriter(TimeSeriesWriter timeSeriesWriter) {
+    synchronized (timeSeriesWriters) {
+      timeSeriesWriter.users--;
+      // writers in use may have exceeded the bound
+      evictTimeSeriesWriters(maxOpenTimeSeriesWriters);
+    }
+  }
+
+  /* Closes the least recently used writers, that are not in use, until at most the given number of
+   * writers is open. Has to be called while holding the lock of timeSeriesWriters. */
+  private void evictTimeSeriesWriters(int maxOpen) {
+    Iterator<TimeSeriesWriter> leastRecentlyUsed = openTimeSeriesWriters.values().iterator();
+    while (openTimeSeriesWriters.size() > maxOpen && leastRecentlyUsed.hasNext()) {
+      TimeSeriesWriter timeSeriesWriter = leastRecentlyUsed.next();
+      if (timeSeriesWriter.users > 0) continue;
+      leastRecentlyUsed.remove();
+      timeSeriesWriter.close();
+      evictedTimeSeriesWriters++;
+    }
+  }
+
+  /** @return the number of currently open time series files */
+  public int getNumberOfOpenTimeSeriesWriters() {
+    synchronized (timeSeriesWriters) {
+      return openTimeSeriesWriters.size();
+    }
+  }
+
+  /** @return the number of time series writers, that have been closed to open other ones */
+  public long getNumberOfEvictedTimeSeriesWriters() {
+    synchronized (timeSeriesWriters) {
+      return evictedTimeSeriesWriters;
+    }
+  }
+
+  /**
+   * Writes the values of a result to the file of its partition. If results are not partitioned,
+   * this is the file of its class (see {@link #getOrInitWriter(Class, String[], String)}).
+   *
+   * @param result the result to write
+   * @param headerElements the header elements of the result's class
+   * @param row the values of the result in the order of the header elements
+   * @param csvSep the csv separator
+   * @throws ConnectorException If the writer of the partition cannot be built
+   * @throws IOException If writing has failed
+   * @throws SinkException If the values do not meet the header elements
+   */
+  public void writeResult(
+      ResultEntity result, String[] headerElements, String[] row, String csvSep)
+      throws ConnectorException, IOException, SinkException {
+    if (!resultPartitioning.isPartitioning()) {
+      getOrInitWriter(result.getClass(), headerElements, csvSep).writeRow(row);
+      return;
+    }
+
+    Class<? extends ResultEntity> resultClass = result.getClass();
+    String fileName =
+        fileNamingStrategy
+            .getFileName(resultClass)
+            .orElseThrow(
+                () ->
+                    new ConnectorException(
+                        "Cannot determine the file name for class '" + resultClass + "'."));
+    String partition = resultPartitioning.getPartition(result).orElse(null);
+    ResultPartition resultPartition = acquirePartition(resultClass, fileName, partition);
+    try {
+      resultPartition.write(headerElements, row, csvSep);
+    } finally {
+      releasePartition(resultPartition);
+    }
+  }
+
+  /* Marks the partition as open and used, so that it is not closed while it is written */
+  private ResultPartition acquirePartition(
+      Class<? extends ResultEntity> resultClass, String fileName, String partition) {
+    String key = fileName + '#' + partition;
+    synchronized (resultPartitions) {
+      ResultPartition resultPartition =
+          resultPartitions.computeIfAbsent(
+              key, k -> new ResultPartition(resultClass, fileName, partition));
+      if (openResultPartitions.get(key) == null) {
+        evictResultPartitions(resultPartitioning.getMaxOpenFiles() - 1);
+        openResultPartitions.put(key, resultPartition);
+      }
+      resultPartition.users++;
+      return resultPartition;
+    }
+  }
+
+  private void releasePartition(ResultPartition resultPartition) {
+    synchronized (resultPartitions) {
+      resultPartition.users--;
+      // partitions in use may have exceeded the bound
+      evictResultPartitions(resultPartitioning.getMaxOpenFiles());
+    }
+  }
+
+  private void evictResultPartitions(int maxOpen) {
+    Iterator<ResultPartition> leastRecentlyUsed = openResultPartitions.values().iterator();
+    while (openResultPartitions.size() > maxOpen && leastRecentlyUsed.hasNext()) {
+      ResultPartition resultPartition = leastRecentlyUsed.next();
+      if (resultPartition.users > 0) continue;
+      leastRecentlyUsed.remove();
+      resultPartition.suspend();
+      evictedResultPartitions++;
+    }
+  }
+
+  /** @return the number of result partitions, whose current file is open */
+  public int getNumberOfOpenResultPartitions() {
+    synchronized (resultPartitions) {
+      return openResultPartitions.size();
+    }
+  }
+
+  /** @return the number of times a result partition's file has been closed to respect the bound */
+  public long getNumberOfEvictedResultPartitions() {
+    synchronized (resultPartitions) {
+      return evictedResultPartitions;
+    }
+  }
+
+  /** @return the partitioning of result files */
+  public ResultPartitioning getResultPartitioning() {
+    return resultPartitioning;
+  }
+
+  /** @return the compression of written files */
+  public CsvCompression getCompression() {
+    return compression;
+  }
+
   /**
-   * Initializes a writer with the given base folder and file definition
+   * Initializes a writer with the given base folder and file definition. If files are compressed,
+   * the compression's ending is appended to the file path. Appending to an existing compressed
+   * file adds another gzip member, which is read as part of the same file.
    *
    * @param baseFolder Base folder, where the file hierarchy should start
    * @param fileDefinition Definition of the files shape
@@ -103,17 +537,41 @@ public class CsvFileConnector implements DataConnector {
           "Base path dir '" + baseFolder + "' already exists and is a file!");
     if (!basePathDir.exists()) basePathDir.mkdirs();
 
-    String fullPathToFile = baseFolder + File.separator + fileDefinition.getFilePath();
+    String fullPathToFile =
+        baseFolder + File.separator + fileDefinition.getFilePath() + compression.getFileEnding();
 
     File pathFile = new File(fullPathToFile);
-    if (!pathFile.exists()) {
-      return new BufferedCsvWriter(baseFolder, fileDefinition, true, false);
-    }
-    log.warn(
-        "File '{}.csv' already exist. Will append new content WITHOUT new header! Full path: {}",
-        fileDefinition.getFileName(),
-        pathFile.getAbsolutePath());
-    return new BufferedCsvWriter(baseFolder, fileDefinition, false, true);
+    boolean append = pathFile.exists();
+    if (append)
+      log.warn(
+          "File '{}' already exist. Will append new content WITHOUT new header! Full path: {}",
+          pathFile.getName(),
+          pathFile.getAbsolutePath());
+    return openWriter(baseFolder, fileDefinition, append);
+  }
+
+  /**
+   * Opens a writer with the given base folder and file definition, that writes the head line, if
+   * it does not append to the file
+   *
+   * @param baseFolder Base folder, where the file hierarchy should start
+   * @param fileDefinition Definition of the files shape
+   * @param append true, if the file is appended to
+   * @return an initialized buffered writer
+   * @throws IOException If the writer cannot be initialized correctly
+   */
+  private BufferedCsvWriter openWriter(
+      String baseFolder, CsvFileDefinition fileDefinition, boolean append) throws IOException {
+    if (!compression.isCompressing())
+      return new BufferedCsvWriter(
+          baseFolder, fileDefinition, !append, append, flushPolicy, writerBufferSize);
+
+    String fullPathToFile =
+        baseFolder + File.separator + fileDefinition.getFilePath() + compression.getFileEnding();
+    OutputStream compressedOut =
+        compression.compress(new FileOutputStream(fullPathToFile, append), compressionExecutor);
+    return new BufferedCsvWriter(
+        compressedOut, fileDefinition, !append, flushPolicy, writerBufferSize);
   }
 
   /**
@@ -123,31 +581,10 @@ public class CsvFileConnector implements DataConnector {
    * @param clz the class of the entity that should be read
    * @return the reader that contains information about the file to be read in
    * @throws FileNotFoundException If the matching file cannot be found
+   * @throws IOException If the file or the archive it is placed in cannot be read
    */
-  public BufferedReader initReader(Class<? extends UniqueEntity> clz) throws FileNotFoundException {
-
-    BufferedReader newReader;
-
-    String fileName = null;
-    try {
-      fileName =
-          fileNamingStrategy
-              .getFileName(clz)
-              .orElseThrow(
-                  () ->
-                      new ConnectorException(
-                          "Cannot find a naming strategy for class '"
-                              + clz.getSimpleName()
-                              + "'."));
-    } catch (ConnectorException e) {
-      log.error(
-          "Cannot get reader for entity '{}' as no file naming strategy for this file exists. Exception:{}",
-          clz::getSimpleName,
-          () -> e);
-    }
-    newReader = initReader(fileName);
-
-    return newReader;
+  public BufferedReader initReader(Class<? extends UniqueEntity> clz) throws IOException {
+    return initReader(getFileName(clz));
   }
 
   /**
@@ -157,14 +594,131 @@ public class CsvFileConnector implements DataConnector {
    * @param fileName the name of the file that should be read
    * @return the reader that contains information about the file to be read in
    * @throws FileNotFoundException if no file with the provided file name can be found
+   * @throws IOException if the file or the archive it is placed in cannot be read
+   */
+  public BufferedReader initReader(String fileName) throws IOException {
+    InputStream inputStream;
+    if (archive != null) inputStream = archive.openEntry(fileName + FILE_ENDING);
+    else if (isGzipped(fileName))
+      inputStream =
+          new GzipCompressorInputStream(
+              new BufferedInputStream(Files.newInputStream(gzipPath(fileName))), true);
+    else
+      inputStream = new FileInputStream(baseFolderName + File.separator + fileName + FILE_ENDING);
+
+    return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 16384);
+  }
+
+  /**
+   * Initializes a reader for the headline and rows of the file corresponding to the provided
+   * class. Plain files are read memory mapped (see {@link #initMappedReader(Class)}), compressed
+   * files and entries of archives sequentially.
+   *
+   * @param clz the class of the entity that should be read
+   * @return the reader that provides the headline and rows of the file
+   * @throws IOException if the file cannot be opened or read
+   */
+  public CsvFileReader initCsvReader(Class<? extends UniqueEntity> clz) throws IOException {
+    return initCsvReader(getFileName(clz));
+  }
+
+  /**
+   * Initializes a reader for the headline and rows of the given file name. Use {@link
+   * CsvFileConnector#initCsvReader(Class)} for files that actually correspond to concrete
+   * entities.
+   *
+   * @param fileName the name of the file that should be read
+   * @return the reader that provides the headline and rows of the file
+   * @throws IOException if the file cannot be opened or read
+   */
+  public CsvFileReader initCsvReader(String fileName) throws IOException {
+    if (archive != null || isGzipped(fileName))
+      return new BufferedCsvReader(initReader(fileName));
+    return initMappedReader(fileName);
+  }
+
+  /**
+   * Initializes a memory mapped reader for the file corresponding to the provided class, whose
+   * rows can be decoded in parallel. See {@link MappedCsvFileReader} for details.
+   *
+   * @param clz the class of the entity that should be read
+   * @return the reader that provides the headline and rows of the file
+   * @throws IOException if the file cannot be opened or read
+   */
+  public MappedCsvFileReader initMappedReader(Class<? extends UniqueEntity> clz)
+      throws IOException {
+    return initMappedReader(getFileName(clz));
+  }
+
+  /**
+   * Initializes a memory mapped reader for the given file name. Use {@link
+   * CsvFileConnector#initMappedReader(Class)} for files that actually correspond to concrete
+   * entities.
+   *
+   * @param fileName the name of the file that should be read
+   * @return the reader that provides the headline and rows of the file
+   * @throws IOException if the file cannot be opened or read
+   */
+  public MappedCsvFileReader initMappedReader(String fileName) throws IOException {
+    return new MappedCsvFileReader(Paths.get(baseFolderName, fileName + FILE_ENDING));
+  }
+
+  /**
+   * Determines the path of the file corresponding to the provided class based on the {@link
+   * FileNamingStrategy} of this {@link CsvFileConnector} instance. The file does not need to exist.
+   *
+   * @param clz the class of the entity
+   * @return an optional holding the path of the file or an empty optional, if the naming strategy
+   *     does not know the class
+   */
+  public Optional<Path> getFilePath(Class<? extends UniqueEntity> clz) {
+    return fileNamingStrategy
+        .getFileName(clz)
+        .map(
+            fileName -> {
+              if (archive != null) return archive.getArchivePath();
+              if (isGzipped(fileName)) return gzipPath(fileName);
+              return Paths.get(baseFolderName, fileName + FILE_ENDING);
+            });
+  }
+
+  /**
+   * Checks, whether the given file is only available gzipped, i.e. the plain .csv file does not
+   * exist, but the .csv.gz file does
+   *
+   * @param fileName the name of the file (without ending)
+   * @return true, if the gzipped file has to be read
+   */
+  private boolean isGzipped(String fileName) {
+    return !Files.exists(Paths.get(baseFolderName, fileName + FILE_ENDING))
+        && Files.exists(gzipPath(fileName));
+  }
+
+  private Path gzipPath(String fileName) {
+    return Paths.get(baseFolderName, fileName + FILE_ENDING + GZIP_ENDING);
+  }
+
+  /**
+   * Determines the file name for the provided class from the file naming strategy
+   *
+   * @param clz the class of the entity
+   * @return the file name (without ending) or null, if the naming strategy does not know the class
    */
-  public BufferedReader initReader(String fileName) throws FileNotFoundException {
-    BufferedReader newReader;
-    File filePath = new File(baseFolderName + File.separator + fileName + FILE_ENDING);
-    newReader =
-        new BufferedReader(
-            new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8), 16384);
-    return newReader;
+  private String getFileName(Class<? extends UniqueEntity> clz) {
+    try {
+      return fileNamingStrategy
+          .getFileName(clz)
+          .orElseThrow(
+              () ->
+                  new ConnectorException(
+                      "Cannot find a naming strategy for class '" + clz.getSimpleName() + "'."));
+    } catch (ConnectorException e) {
+      log.error(
+          "Cannot get reader for entity '{}' as no file naming strategy for this file exists. Exception:{}",
+          clz::getSimpleName,
+          () -> e);
+    }
+    return null;
   }
 
   /**
@@ -213,8 +767,18 @@ public class CsvFileConnector implements DataConnector {
 
   @Override
   public void shutdown() {
-    Stream.of(entityWriters.values(), timeSeriesWriters.values())
-        .flatMap(Collection::stream)
+    synchronized (resultPartitions) {
+      resultPartitions.values().forEach(ResultPartition::close);
+      openResultPartitions.clear();
+      if (!resultPartitions.isEmpty()) writePartitionManifest();
+    }
+
+    synchronized (timeSeriesWriters) {
+      openTimeSeriesWriters.values().forEach(TimeSeriesWriter::close);
+      openTimeSeriesWriters.clear();
+    }
+    entityWriters
+        .values()
         .forEach(
             bufferedWriter -> {
               try {
@@ -223,5 +787,173 @@ public class CsvFileConnector implements DataConnector {
                 log.error("Error during CsvFileConnector shutdown process.", e);
               }
             });
+    if (compressionExecutor != null) {
+      compressionExecutor.shutdown();
+      try {
+        if (!compressionExecutor.awaitTermination(1, TimeUnit.MINUTES))
+          log.warn("The compression threads did not terminate during shutdown.");
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.error("Interrupted while waiting for the compression threads to terminate.", e);
+      }
+    }
+    if (archive != null) {
+      try {
+        archive.close();
+      } catch (IOException e) {
+        log.error("Error during CsvFileConnector shutdown process.", e);
+      }
+    }
+  }
+
+  /** Writes the manifest of all written result partitions, sorted by their file path */
+  private void writePartitionManifest() {
+    List<String[]> partitionFiles = new ArrayList<>();
+    resultPartitions.values().forEach(partition -> partitionFiles.addAll(partition.toManifest()));
+    partitionFiles.sort(Comparator.comparing(partitionFile -> partitionFile[0]));
+
+    CsvFileDefinition manifestDefinition =
+        new CsvFileDefinition(PARTITION_MANIFEST_FILE_NAME, PARTITION_MANIFEST_HEAD_LINE, ",");
+    try (BufferedCsvWriter manifestWriter =
+        new BufferedCsvWriter(baseFolderName, manifestDefinition, true, false)) {
+      for (String[] partitionFile : partitionFiles) manifestWriter.writeRow(partitionFile);
+    } catch (IOException | SinkException e) {
+      log.error("Cannot write the manifest of the result partitions.", e);
+    }
+  }
+
+  /** The writer of one time series' file, that is closed, if it is not used recently */
+  private final class TimeSeriesWriter {
+    private final CsvFileDefinition fileDefinition;
+    // the open writer or null, if the file is not opened yet or closed
+    private BufferedCsvWriter writer;
+    private boolean isWritten;
+    // number of threads currently writing, guarded by timeSeriesWriters
+    private int users;
+
+    private TimeSeriesWriter(CsvFileDefinition fileDefinition) {
+      this.fileDefinition = fileDefinition;
+    }
+
+    /* The file is initialized on first use and transparently appended to afterwards */
+    private void open() throws ConnectorException, IOException {
+      writer =
+          isWritten
+              ? openWriter(baseFolderName, fileDefinition, true)
+              : initWriter(baseFolderName, fileDefinition);
+      isWritten = true;
+    }
+
+    private void close() {
+      if (writer == null) return;
+      try {
+        writer.close();
+      } catch (IOException e) {
+        log.error(
+            "Error during closing the writer of time series file '{}'.",
+            fileDefinition.getFilePath(),
+            e);
+      }
+      writer = null;
+    }
+  }
+
+  /**
+   * The files of one partition of a result class, of which only the latest one is open. It is
+   * closed, if the partition is not written recently, and transparently appended to afterwards.
+   */
+  private final class ResultPartition {
+    private final Class<? extends ResultEntity> resultClass;
+    private final String fileName;
+    private final String partition;
+    // file paths of all written files and rows of all completed files in the order of their parts
+    private final List<String> filePaths = new ArrayList<>();
+    private final List<Long> rows = new ArrayList<>();
+    // the definition of the latest file or null, if it has been completed by rotation or shutdown
+    private CsvFileDefinition fileDefinition;
+    // the open writer of the latest file or null, if it is not opened yet or closed
+    private BufferedCsvWriter writer;
+    private long rowsOfFile;
+    // characters written to the latest file by writers, that have been closed already
+    private long charactersOfClosedWriters;
+    // number of threads currently writing, guarded by resultPartitions
+    private int users;
+
+    private ResultPartition(
+        Class<? extends ResultEntity> resultClass, String fileName, String partition) {
+      this.resultClass = resultClass;
+      this.fileName = fileName;
+      this.partition = partition;
+    }
+
+    private synchronized void write(String[] headerElements, String[] row, String csvSep)
+        throws ConnectorException, IOException, SinkException {
+      if (fileDefinition != null
+          && resultPartitioning.isRotating()
+          && getCharactersOfFile() >= resultPartitioning.getMaxFileSize()) {
+        close();
+      }
+      if (fileDefinition == null) {
+        fileDefinition =
+            new CsvFileDefinition(
+                resultPartitioning.getFileName(fileName, partition, filePaths.size()),
+                headerElements,
+                csvSep);
+        writer = initWriter(baseFolderName, fileDefinition);
+        filePaths.add(fileDefinition.getFilePath() + compression.getFileEnding());
+        rowsOfFile = 0;
+        charactersOfClosedWriters = 0;
+      } else if (writer == null) {
+        writer = openWriter(baseFolderName, fileDefinition, true);
+      }
+
+      writer.writeRow(row);
+      rowsOfFile++;
+    }
+
+    private long getCharactersOfFile() {
+      return charactersOfClosedWriters
+          + (writer == null ? 0 : writer.getNumberOfWrittenCharacters());
+    }
+
+    private synchronized List<String[]> toManifest() {
+      List<String[]> manifest = new ArrayList<>(filePaths.size());
+      for (int part = 0; part < filePaths.size(); part++) {
+        manifest.add(
+            new String[] {
+              filePaths.get(part),
+              resultClass.getSimpleName(),
+              partition == null ? "" : partition,
+              Integer.toString(part),
+              Long.toString(part < rows.size() ? rows.get(part) : rowsOfFile)
+            });
+      }
+      return manifest;
+    }
+
+    /* Closes the writer of the latest file, which is reopened in append mode on the next write */
+    private synchronized void suspend() {
+      if (writer == null) return;
+      charactersOfClosedWriters += writer.getNumberOfWrittenCharacters();
+      closeWriter();
+    }
+
+    /* Completes the latest file, so that the next write starts a new part */
+    private synchronized void close() {
+      if (fileDefinition == null) return;
+      rows.add(rowsOfFile);
+      closeWriter();
+      fileDefinition = null;
+    }
+
+    private void closeWriter() {
+      if (writer == null) return;
+      try {
+        writer.close();
+      } catch (IOException e) {
+        log.error("Error during closing the writer of result partition '{}'.", partition, e);
+      }
+      writer = null;
+    }
   }
 }
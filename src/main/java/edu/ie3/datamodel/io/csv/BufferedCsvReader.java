@@ -0,0 +1,107 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reader for csv files, that can only be read sequentially, e.g. compressed files or entries of an
+ * archive. The rows are read lazily from the underlying {@link BufferedReader} and can only be
+ * consumed once. Lines are joined, as long as a quoted field is not closed.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class BufferedCsvReader implements CsvFileReader {
+
+  private final BufferedReader reader;
+  private final String headline;
+
+  /**
+   * Creates a reader and reads the headline from the given reader
+   *
+   * @param reader the reader providing the content of the csv file, that has not been consumed yet
+   * @throws IOException if the headline cannot be read
+   */
+  public BufferedCsvReader(BufferedReader reader) throws IOException {
+    this.reader = reader;
+    this.headline = readRow();
+  }
+
+  @Override
+  public String getHeadline() {
+    return headline;
+  }
+
+  @Override
+  public Stream<String> rows() {
+    Iterator<String> rowIterator =
+        new Iterator<String>() {
+          private String nextRow;
+
+          @Override
+          public boolean hasNext() {
+            if (nextRow != null) return true;
+            try {
+              nextRow = readRow();
+            } catch (IOException e) {
+              throw new UncheckedIOException("Cannot read row of csv file.", e);
+            }
+            return nextRow != null;
+          }
+
+          @Override
+          public String next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            String row = nextRow;
+            nextRow = null;
+            return row;
+          }
+        };
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(
+            rowIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
+  }
+
+  /**
+   * Reads the next row, which spans several lines, if line breaks are enclosed by quotes
+   *
+   * @return the next row or null, if the end of the file has been reached
+   * @throws IOException if reading fails
+   */
+  private String readRow() throws IOException {
+    String line = reader.readLine();
+    if (line == null || !hasOpenQuote(line)) return line;
+
+    StringBuilder row = new StringBuilder(line);
+    String nextLine;
+    while (hasOpenQuote(row) && (nextLine = reader.readLine()) != null)
+      row.append('\n').append(nextLine);
+    return row.toString();
+  }
+
+  private static boolean hasOpenQuote(CharSequence row) {
+    boolean inQuotes = false;
+    for (int idx = 0; idx < row.length(); idx++) {
+      if (row.charAt(idx) == '"') inQuotes = !inQuotes;
+    }
+    return inQuotes;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
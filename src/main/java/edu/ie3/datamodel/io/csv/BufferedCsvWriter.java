@@ -15,13 +15,28 @@ import java.util.Objects;
 
 /**
  * This class extends the {@link BufferedWriter} and adds information about the file shape of the
- * csv file
+ * csv file. When the written lines are flushed to the file, is determined by a {@link
+ * FlushPolicy}.
+ *
+ * <p>The writer may be shared by several threads. Every line is written atomically while holding
+ * the lock of this writer, hence lines of different threads never interleave. As there is one
+ * writer per file, threads writing to different files do not block each other.
  */
 public class BufferedCsvWriter extends BufferedWriter {
+  /** Default size of the character buffer, which is the default of {@link BufferedWriter} */
+  public static final int DEFAULT_BUFFER_SIZE = 8192;
+
   /** Information on the shape of the file */
   private final CsvFileDefinition fileDefinition;
+
+  private final FlushPolicy flushPolicy;
+  private long linesSinceFlush;
+  private long charactersSinceFlush;
+  private long writtenCharacters;
+  private long lastFlushNanos;
+
   /**
-   * Build a new CsvBufferedWriter
+   * Build a new CsvBufferedWriter, that flushes after every line
    *
    * @param baseFolder Base folder, from where the file hierarchy should start
    * @param fileDefinition The foreseen shape of the file
@@ -33,12 +48,66 @@ public class BufferedCsvWriter extends BufferedWriter {
   public BufferedCsvWriter(
       String baseFolder, CsvFileDefinition fileDefinition, boolean writeHeader, boolean append)
       throws IOException {
-    super(
-        new OutputStreamWriter(
-            new FileOutputStream(
-                baseFolder + File.separator + fileDefinition.getFilePath(), append),
-            StandardCharsets.UTF_8));
+    this(
+        baseFolder,
+        fileDefinition,
+        writeHeader,
+        append,
+        FlushPolicy.everyLine(),
+        DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Build a new CsvBufferedWriter
+   *
+   * @param baseFolder Base folder, from where the file hierarchy should start
+   * @param fileDefinition The foreseen shape of the file
+   * @param writeHeader Toggles, if the head line is written or not
+   * @param append true to append to an existing file, false to overwrite an existing file (if any),
+   *     if no file exists, a new one will be created in both cases
+   * @param flushPolicy Determines, when the written lines are flushed to the file
+   * @param bufferSize Size of the character buffer
+   * @throws IOException If the FileOutputStream cannot be established.
+   */
+  public BufferedCsvWriter(
+      String baseFolder,
+      CsvFileDefinition fileDefinition,
+      boolean writeHeader,
+      boolean append,
+      FlushPolicy flushPolicy,
+      int bufferSize)
+      throws IOException {
+    this(
+        new FileOutputStream(baseFolder + File.separator + fileDefinition.getFilePath(), append),
+        fileDefinition,
+        writeHeader,
+        flushPolicy,
+        bufferSize);
+  }
+
+  /**
+   * Build a new CsvBufferedWriter, that writes to the given stream, e.g. a compressing stream to a
+   * file. The stream is closed together with the writer. If the stream compresses, flushing hands
+   * the lines over to the compression, which may hold them back until its block is complete.
+   *
+   * @param out Stream to write the UTF-8 encoded lines to
+   * @param fileDefinition The foreseen shape of the file
+   * @param writeHeader Toggles, if the head line is written or not
+   * @param flushPolicy Determines, when the written lines are flushed to the stream
+   * @param bufferSize Size of the character buffer
+   * @throws IOException If the head line cannot be written
+   */
+  public BufferedCsvWriter(
+      OutputStream out,
+      CsvFileDefinition fileDefinition,
+      boolean writeHeader,
+      FlushPolicy flushPolicy,
+      int bufferSize)
+      throws IOException {
+    super(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
     this.fileDefinition = fileDefinition;
+    this.flushPolicy = flushPolicy;
+    this.lastFlushNanos = flushPolicy.isTimed() ? System.nanoTime() : 0;
     if (writeHeader) writeFileHeader(fileDefinition.headLineElements);
   }
 
@@ -63,6 +132,24 @@ public class BufferedCsvWriter extends BufferedWriter {
     writeOneLine(entries);
   }
 
+  /**
+   * Persists the provided values of an entity without validating them against the head line
+   * element by element. The values have to be given in the order of the head line elements, the
+   * writer has been created with, which is validated once, when the writer is built for a file.
+   *
+   * @param row the values of the entity in the order of the head line elements
+   * @throws IOException If writing has failed
+   * @throws SinkException If the number of values does not meet the pre-defined head line
+   */
+  public void writeRow(String[] row) throws IOException, SinkException {
+    if (row.length != fileDefinition.headLineElements.length)
+      throw new SinkException(
+          "The provided data does not meet the pre-defined head line elements '"
+              + String.join(",", fileDefinition.headLineElements)
+              + "'.");
+    writeOneLine(row);
+  }
+
   /**
    * Writes the file header
    *
@@ -80,16 +167,57 @@ public class BufferedCsvWriter extends BufferedWriter {
    * @throws IOException If writing is not possible
    */
   protected final void writeOneLine(String[] entries) throws IOException {
+    synchronized (lock) {
+      appendLine(entries);
+    }
+  }
+
+  /* Has to be called while holding the lock */
+  private void appendLine(String[] entries) throws IOException {
+    long characters = 0;
     for (int i = 0; i < entries.length; i++) {
       String attribute = entries[i];
       super.append(attribute);
+      characters += attribute == null ? 4 : attribute.length();
       if (i + 1 < entries.length) {
         super.append(fileDefinition.csvSep);
+        characters += fileDefinition.csvSep.length();
       } else {
         super.append("\n");
+        characters++;
       }
     }
-    flush();
+    linesSinceFlush++;
+    charactersSinceFlush += characters;
+    writtenCharacters += characters;
+
+    long nanosSinceFlush = flushPolicy.isTimed() ? System.nanoTime() - lastFlushNanos : 0;
+    if (flushPolicy.isDue(linesSinceFlush, charactersSinceFlush, nanosSinceFlush)) flush();
+  }
+
+  @Override
+  public void flush() throws IOException {
+    synchronized (lock) {
+      super.flush();
+      linesSinceFlush = 0;
+      charactersSinceFlush = 0;
+      if (flushPolicy.isTimed()) lastFlushNanos = System.nanoTime();
+    }
+  }
+
+  /**
+   * @return the number of characters, that have been written by this writer including the head
+   *     line, which equals the number of bytes for ASCII content
+   */
+  public long getNumberOfWrittenCharacters() {
+    synchronized (lock) {
+      return writtenCharacters;
+    }
+  }
+
+  /** @return the policy, that determines when the written lines are flushed */
+  public FlushPolicy getFlushPolicy() {
+    return flushPolicy;
   }
 
   @Override
@@ -122,6 +250,11 @@ public class BufferedCsvWriter extends BufferedWriter {
 
   @Override
   public String toString() {
-    return "BufferedCsvWriter{" + "fileDefinition=" + fileDefinition + '}';
+    return "BufferedCsvWriter{"
+        + "fileDefinition="
+        + fileDefinition
+        + ", flushPolicy="
+        + flushPolicy
+        + '}';
   }
 }
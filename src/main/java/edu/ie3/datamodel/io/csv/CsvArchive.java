@@ -0,0 +1,389 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Provides the csv files of a .tar.gz archive without extracting it to disk. As a compressed
+ * tarball can only be read sequentially, the archive is read in passes from its beginning to its
+ * end. If an entry is requested, the current pass is continued until the entry is found and the
+ * entry is streamed directly out of the archive. All other entries passed on the way are skipped
+ * without being copied, except for the wanted entries declared on construction, that have not been
+ * handed out yet. Those are buffered, so that the later requests for them do not require another
+ * pass. Hence, as long as every wanted entry is requested only once, the archive is decompressed
+ * only once and no random seeks are needed. If an entry is requested, that has already been passed
+ * without being buffered, a new pass is started, that ends at the requested entry.
+ *
+ * <p>Buffered entries are held in memory as long as the total size of all buffered entries does
+ * not exceed the read ahead budget. Bigger entries are spilled to temporary files, that are
+ * deleted as soon as the entry's stream is closed. If another entry is requested, while the stream
+ * of a streamed entry is still open, the rest of the streamed entry is buffered the same way.
+ *
+ * <p>The entries are matched by their path relative to the root of the archive or relative to a
+ * folder within the archive, e.g. the entry {@code grid/input/node_input.csv} is found by {@code
+ * node_input.csv} as well as by {@code input/node_input.csv}.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CsvArchive implements Closeable {
+
+  /** Default number of bytes of buffered entries, that are held in memory */
+  public static final long DEFAULT_READ_AHEAD_BUDGET = 16L * 1024 * 1024;
+
+  private static final String CSV_ENDING = ".csv";
+  private static final String SEPARATOR = "/";
+  // maximum size of an array, that is supported by all virtual machines
+  private static final long MAX_READ_AHEAD_BUDGET = Integer.MAX_VALUE - 8L;
+
+  private final Path archivePath;
+  private final long readAheadBudget;
+  // normalized names of the entries, that are buffered, if they are passed before being requested
+  private final Set<String> wantedEntries;
+  // normalized names of the entries, that have already been handed out
+  private final Set<String> handedOutEntries = new HashSet<>();
+  // wanted entries, that have been buffered in the current pass, but not yet been requested
+  private final Map<String, BufferedEntry> readAheadEntries = new HashMap<>();
+  // number of bytes of buffered entries in memory, whose streams have not been closed yet
+  private long bytesInMemory = 0;
+  // the stream of the current pass or null, if there is no active pass
+  private TarArchiveInputStream tarStream;
+  // the entry, that is currently streamed out of the current pass, or null
+  private EntryInputStream activeEntry;
+
+  /**
+   * Creates a new instance for the given archive, that does not buffer any entry. Every request
+   * for an entry, that has already been passed, starts a new pass. The archive is not opened until
+   * the first entry is requested.
+   *
+   * @param archivePath path of the .tar.gz archive
+   */
+  public CsvArchive(Path archivePath) {
+    this(archivePath, Collections.emptySet());
+  }
+
+  /**
+   * Creates a new instance for the given archive with the {@link #DEFAULT_READ_AHEAD_BUDGET}. The
+   * archive is not opened until the first entry is requested.
+   *
+   * @param archivePath path of the .tar.gz archive
+   * @param wantedEntries paths of the entries, that are going to be requested, relative to the root
+   *     of the archive or a folder within it
+   */
+  public CsvArchive(Path archivePath, Collection<String> wantedEntries) {
+    this(archivePath, wantedEntries, DEFAULT_READ_AHEAD_BUDGET);
+  }
+
+  /**
+   * Creates a new instance for the given archive. The archive is not opened until the first entry
+   * is requested.
+   *
+   * @param archivePath path of the .tar.gz archive
+   * @param wantedEntries paths of the entries, that are going to be requested, relative to the root
+   *     of the archive or a folder within it
+   * @param readAheadBudget maximum number of bytes of buffered entries, that are held in memory
+   */
+  public CsvArchive(Path archivePath, Collection<String> wantedEntries, long readAheadBudget) {
+    if (readAheadBudget < 0 || readAheadBudget > MAX_READ_AHEAD_BUDGET)
+      throw new IllegalArgumentException(
+          "The read ahead budget has to be between 0 and "
+              + MAX_READ_AHEAD_BUDGET
+              + ", but is "
+              + readAheadBudget);
+    this.archivePath = archivePath;
+    this.readAheadBudget = readAheadBudget;
+    this.wantedEntries =
+        wantedEntries.stream().map(CsvArchive::normalize).collect(Collectors.toSet());
+  }
+
+  /** @return the path of the archive */
+  public Path getArchivePath() {
+    return archivePath;
+  }
+
+  /**
+   * Opens the requested entry of the archive. The returned stream should be closed, as soon as it
+   * is not needed anymore, to release the resources of the entry.
+   *
+   * @param entryName path of the requested entry relative to the root of the archive or a folder
+   *     within it
+   * @return a stream of the uncompressed content of the entry
+   * @throws FileNotFoundException if the archive does not contain the requested entry
+   * @throws IOException if the archive cannot be read
+   */
+  public synchronized InputStream openEntry(String entryName) throws IOException {
+    String normalizedName = normalize(entryName);
+
+    /* the entry might have been read ahead before */
+    Iterator<Map.Entry<String, BufferedEntry>> readAhead = readAheadEntries.entrySet().iterator();
+    while (readAhead.hasNext()) {
+      Map.Entry<String, BufferedEntry> entry = readAhead.next();
+      if (matches(entry.getKey(), normalizedName)) {
+        readAhead.remove();
+        handedOutEntries.add(entry.getKey());
+        return entry.getValue().open();
+      }
+    }
+
+    /* continue the current pass and start a new one, if the entry has not been found */
+    boolean isFreshPass = tarStream == null;
+    while (true) {
+      if (tarStream == null) tarStream = openArchive();
+      ArchiveEntry entry;
+      try {
+        /* the current pass can only be continued, if the previous entry is not streamed anymore */
+        if (activeEntry != null) activeEntry.detach();
+        entry = readUntil(normalizedName);
+      } catch (IOException e) {
+        /* the position within the archive is unknown, hence the next request starts a new pass */
+        closeTarStream();
+        throw e;
+      }
+      if (entry != null) {
+        handedOutEntries.add(normalize(entry.getName()));
+        activeEntry = new EntryInputStream(entry.getSize());
+        return activeEntry;
+      }
+
+      closeTarStream();
+      if (isFreshPass)
+        throw new FileNotFoundException(
+            "Cannot find entry '" + entryName + "' in archive '" + archivePath + "'.");
+      isFreshPass = true;
+    }
+  }
+
+  private TarArchiveInputStream openArchive() throws IOException {
+    return new TarArchiveInputStream(
+        new GzipCompressorInputStream(
+            new BufferedInputStream(Files.newInputStream(archivePath)), true));
+  }
+
+  /**
+   * Reads the entries of the current pass until the requested entry is found. Wanted entries, that
+   * are passed on the way and have not been handed out yet, are buffered. All other entries are
+   * skipped without being copied.
+   *
+   * @param normalizedName the normalized name of the requested entry
+   * @return the requested entry, whose content is read next from the current pass, or null, if the
+   *     end of the archive is reached
+   * @throws IOException if the archive cannot be read
+   */
+  private ArchiveEntry readUntil(String normalizedName) throws IOException {
+    ArchiveEntry entry;
+    while ((entry = tarStream.getNextEntry()) != null) {
+      if (entry.isDirectory()) continue;
+
+      String name = normalize(entry.getName());
+      if (matches(name, normalizedName)) return entry;
+      if (isWanted(name) && !handedOutEntries.contains(name) && !readAheadEntries.containsKey(name))
+        readAheadEntries.put(name, buffer(tarStream, entry.getSize()));
+    }
+    return null;
+  }
+
+  /**
+   * Buffers the next bytes of the given stream in memory, if they fit into the remaining read ahead
+   * budget, or in a temporary file otherwise
+   *
+   * @param in the stream to read from
+   * @param size the number of bytes to buffer
+   * @return the buffered bytes
+   * @throws IOException if the stream cannot be read or the temporary file cannot be written
+   */
+  private BufferedEntry buffer(InputStream in, long size) throws IOException {
+    if (size <= readAheadBudget - bytesInMemory) {
+      byte[] content = IOUtils.toByteArray(in, size);
+      bytesInMemory += size;
+      return new BufferedEntry(content, null);
+    }
+
+    Path file = Files.createTempFile("psdm_archive_entry", CSV_ENDING);
+    file.toFile().deleteOnExit();
+    try (OutputStream out = Files.newOutputStream(file)) {
+      if (IOUtils.copyLarge(in, out, 0, size) != size)
+        throw new EOFException(
+            "Unexpected end of an entry of archive '" + archivePath + "' while buffering it.");
+    } catch (IOException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+    return new BufferedEntry(null, file);
+  }
+
+  private synchronized void release(long bytes) {
+    bytesInMemory -= bytes;
+  }
+
+  private static String normalize(String entryName) {
+    String normalized = entryName.replace(File.separator, SEPARATOR).replace("\\", SEPARATOR);
+    while (normalized.startsWith("." + SEPARATOR)) normalized = normalized.substring(2);
+    while (normalized.startsWith(SEPARATOR)) normalized = normalized.substring(1);
+    return normalized;
+  }
+
+  private boolean isWanted(String archiveEntryName) {
+    return wantedEntries.stream().anyMatch(wanted -> matches(archiveEntryName, wanted));
+  }
+
+  private static boolean matches(String archiveEntryName, String requestedName) {
+    return archiveEntryName.equals(requestedName)
+        || archiveEntryName.endsWith(SEPARATOR + requestedName);
+  }
+
+  private void closeTarStream() throws IOException {
+    if (activeEntry != null) {
+      activeEntry.abort();
+      activeEntry = null;
+    }
+    if (tarStream == null) return;
+    try {
+      tarStream.close();
+    } finally {
+      tarStream = null;
+    }
+  }
+
+  /**
+   * Closes the current pass and discards all entries, that have been read ahead. Streams of
+   * buffered entries, that have already been handed out, stay readable.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    try {
+      for (BufferedEntry entry : readAheadEntries.values()) entry.discard();
+    } finally {
+      readAheadEntries.clear();
+      closeTarStream();
+    }
+  }
+
+  /** Content of an entry, that is held either in memory or in a temporary file */
+  private final class BufferedEntry {
+    private final byte[] content;
+    private final Path file;
+
+    private BufferedEntry(byte[] content, Path file) {
+      this.content = content;
+      this.file = file;
+    }
+
+    /** @return a stream of the content, that releases the content, when it is closed */
+    private InputStream open() throws IOException {
+      if (content != null)
+        return new FilterInputStream(new ByteArrayInputStream(content)) {
+          private boolean released = false;
+
+          @Override
+          public void close() {
+            if (released) return;
+            released = true;
+            release(content.length);
+          }
+        };
+      return new FilterInputStream(Files.newInputStream(file)) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            Files.deleteIfExists(file);
+          }
+        }
+      };
+    }
+
+    private void discard() throws IOException {
+      if (content != null) release(content.length);
+      else Files.deleteIfExists(file);
+    }
+  }
+
+  /**
+   * Stream of the entry, that is read from the current pass. It is detached from the pass, by
+   * buffering its remaining content, as soon as the pass is continued.
+   */
+  private final class EntryInputStream extends InputStream {
+    private long remaining;
+    // the buffered remaining content after detaching or null, as long as it is read from the pass
+    private InputStream detached;
+    private boolean aborted = false;
+    private boolean closed = false;
+
+    private EntryInputStream(long size) {
+      this.remaining = size;
+    }
+
+    @Override
+    public int read() throws IOException {
+      synchronized (CsvArchive.this) {
+        ensureReadable();
+        if (detached != null) return detached.read();
+        if (remaining <= 0) return -1;
+        int value = tarStream.read();
+        if (value >= 0) remaining--;
+        return value;
+      }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      synchronized (CsvArchive.this) {
+        ensureReadable();
+        if (detached != null) return detached.read(b, off, len);
+        if (len == 0) return 0;
+        if (remaining <= 0) return -1;
+        int read = tarStream.read(b, off, (int) Math.min(len, remaining));
+        if (read > 0) remaining -= read;
+        return read;
+      }
+    }
+
+    private void ensureReadable() throws IOException {
+      if (closed) throw new IOException("The entry stream has already been closed.");
+      if (aborted)
+        throw new IOException(
+            "The entry cannot be read anymore, as the archive '" + archivePath + "' was closed.");
+    }
+
+    /** Buffers the remaining content, so that the pass can be continued */
+    private void detach() throws IOException {
+      detached = buffer(tarStream, remaining).open();
+      remaining = 0;
+      activeEntry = null;
+    }
+
+    private void abort() {
+      aborted = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      synchronized (CsvArchive.this) {
+        if (closed) return;
+        closed = true;
+        /* the remaining content of the entry is skipped, when the pass is continued */
+        if (activeEntry == this) activeEntry = null;
+        if (detached != null) detached.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Determines, whether csv files are written uncompressed or as gzip compressed {@code .csv.gz}
+ * files. Gzip compressed files are either compressed by the writing thread or in blocks by several
+ * threads (see {@link ParallelGzipOutputStream}). In both cases, every file is one valid gzip
+ * stream, that can be read by the csv sources.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public final class CsvCompression {
+
+  private static final String GZIP_ENDING = ".gz";
+  private static final int GZIP_BUFFER_SIZE = 8192;
+
+  private static final CsvCompression NONE = new CsvCompression(0, 0);
+  private static final CsvCompression GZIP = new CsvCompression(1, 0);
+
+  // number of compressing threads or 0, if files are not compressed
+  private final int threads;
+  private final int blockSize;
+
+  private CsvCompression(int threads, int blockSize) {
+    this.threads = threads;
+    this.blockSize = blockSize;
+  }
+
+  /** @return no compression (default) */
+  public static CsvCompression none() {
+    return NONE;
+  }
+
+  /** @return gzip compression by the writing thread */
+  public static CsvCompression gzip() {
+    return GZIP;
+  }
+
+  /**
+   * @param threads the number of threads, that compress the blocks of all files
+   * @return gzip compression of blocks of 128 KiB by the given number of threads
+   */
+  public static CsvCompression parallelGzip(int threads) {
+    return parallelGzip(threads, ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * @param threads the number of threads, that compress the blocks of all files
+   * @param blockSize the size of the uncompressed blocks, at least 32 KiB
+   * @return gzip compression of blocks of the given size by the given number of threads
+   */
+  public static CsvCompression parallelGzip(int threads, int blockSize) {
+    if (threads < 1)
+      throw new IllegalArgumentException(
+          "The number of compressing threads has to be positive, but is " + threads);
+    if (blockSize < ParallelGzipOutputStream.MIN_BLOCK_SIZE)
+      throw new IllegalArgumentException(
+          "The block size has to be at least "
+              + ParallelGzipOutputStream.MIN_BLOCK_SIZE
+              + " bytes, but is "
+              + blockSize);
+    return threads == 1 ? GZIP : new CsvCompression(threads, blockSize);
+  }
+
+  /** @return true, if files are compressed */
+  public boolean isCompressing() {
+    return threads > 0;
+  }
+
+  /** @return true, if files are compressed by more than one thread */
+  public boolean isParallel() {
+    return threads > 1;
+  }
+
+  /** @return the number of threads, that compress the files, or 0, if they are not compressed */
+  public int getThreads() {
+    return threads;
+  }
+
+  /** @return the ending, that is appended to the csv file ending */
+  public String getFileEnding() {
+    return isCompressing() ? GZIP_ENDING : "";
+  }
+
+  /**
+   * Wraps the given stream, so that the written data is compressed
+   *
+   * @param out the stream to the file
+   * @param executor the executor, that compresses the blocks, if the compression is parallel
+   * @return the compressing stream or the given one, if the data is not compressed
+   * @throws IOException if the compressing stream cannot be initialized
+   */
+  public OutputStream compress(OutputStream out, Executor executor) throws IOException {
+    if (!isCompressing()) return out;
+    if (!isParallel()) return new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+    return new ParallelGzipOutputStream(
+        out, executor, threads, blockSize, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  @Override
+  public String toString() {
+    return "CsvCompression{" + "threads=" + threads + ", blockSize=" + blockSize + '}';
+  }
+}
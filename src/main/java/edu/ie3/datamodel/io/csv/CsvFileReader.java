@@ -0,0 +1,32 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.io.Closeable;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * Reader for the headline and the rows of a csv file. Line breaks within quoted fields never end a
+ * row.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public interface CsvFileReader extends Closeable {
+
+  /** @return the first row of the file without line break or null, if the file is empty */
+  String getHeadline();
+
+  /**
+   * Returns all rows of the file except the headline. Depending on the implementation, the rows
+   * can only be consumed once.
+   *
+   * @return a stream of all rows (without line breaks) except the headline
+   * @throws UncheckedIOException if the rows cannot be read
+   */
+  Stream<String> rows();
+}
@@ -0,0 +1,131 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import edu.ie3.util.StringUtils;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single pass, character level tokenizer for RFC 4180 formatted csv rows. A row is split at every
+ * occurrence of the separator, that is followed by an even number of double quotes until the end
+ * of the row (which is equivalent to "not being inside of a quoted field" for well formed rows).
+ * Afterwards, every field is trimmed, quotes at start and end are removed and escaped double quotes
+ * ({@code ""}) are replaced by single ones.
+ *
+ * <p>The result is the same as splitting with the regular expression {@code csvSep +
+ * "(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)"}, but in linear time with respect to the row length, as the
+ * number of quotes is counted only once instead of re-scanning the remainder of the row at every
+ * separator. Fields without any quotes, which are the vast majority, are returned as plain
+ * substrings without further allocation.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CsvRowTokenizer {
+
+  private static final char QUOTE = '"';
+
+  private CsvRowTokenizer() {
+    throw new IllegalStateException("Utility classes cannot be instantiated");
+  }
+
+  /**
+   * Splits the given csv row into its field values
+   *
+   * @param csvRow the csv row string
+   * @param csvSep separator of the csv file (taken literally)
+   * @return an array with the csv field values as strings
+   */
+  public static String[] tokenize(String csvRow, String csvSep) {
+    if (csvSep.isEmpty())
+      throw new IllegalArgumentException("The csv separator must not be empty.");
+
+    final int length = csvRow.length();
+    final int sepLength = csvSep.length();
+    final char firstSepChar = csvSep.charAt(0);
+
+    /* A separator is a field boundary, if the number of quotes after it is even. Hence, the number
+     * of quotes in front of it has to have the same parity as the total number of quotes */
+    final int totalQuoteParity = countQuotes(csvRow) & 1;
+
+    List<String> fields = new ArrayList<>(16);
+    int quotesSeen = 0;
+    int fieldStart = 0;
+    int fieldQuotes = 0;
+    int pos = 0;
+    while (pos < length) {
+      char c = csvRow.charAt(pos);
+      if (c == firstSepChar
+          && (quotesSeen & 1) == totalQuoteParity
+          && (sepLength == 1 || csvRow.startsWith(csvSep, pos))) {
+        fields.add(field(csvRow, fieldStart, pos, fieldQuotes > 0));
+        pos += sepLength;
+        fieldStart = pos;
+        fieldQuotes = 0;
+      } else {
+        if (c == QUOTE) {
+          quotesSeen++;
+          fieldQuotes++;
+        }
+        pos++;
+      }
+    }
+    fields.add(field(csvRow, fieldStart, length, fieldQuotes > 0));
+
+    return fields.toArray(new String[0]);
+  }
+
+  /**
+   * Extracts a single field value from the row
+   *
+   * @param csvRow the csv row string
+   * @param start index of the first character of the field (inclusive)
+   * @param end index of the last character of the field (exclusive)
+   * @param containsQuotes whether the field contains double quotes or not
+   * @return the trimmed field value without enclosing and escaping quotes
+   */
+  private static String field(String csvRow, int start, int end, boolean containsQuotes) {
+    /* trim (equivalent to String#trim) */
+    while (start < end && csvRow.charAt(start) <= ' ') start++;
+    while (end > start && csvRow.charAt(end - 1) <= ' ') end--;
+
+    String trimmed = csvRow.substring(start, end);
+    if (!containsQuotes) return trimmed;
+
+    return unescapeQuotes(StringUtils.unquoteStartEnd(trimmed)).trim();
+  }
+
+  /**
+   * Replaces every two consecutive double quotes by a single one (from left to right), which is
+   * equivalent to {@code input.replaceAll("\"{2}", "\"")}
+   *
+   * @param input the string to unescape
+   * @return the input string with unescaped quotes
+   */
+  private static String unescapeQuotes(String input) {
+    int idx = input.indexOf("\"\"");
+    if (idx < 0) return input;
+
+    StringBuilder sb = new StringBuilder(input.length());
+    int last = 0;
+    while (idx >= 0) {
+      sb.append(input, last, idx + 1);
+      last = idx + 2;
+      idx = input.indexOf("\"\"", last);
+    }
+    sb.append(input, last, input.length());
+    return sb.toString();
+  }
+
+  private static int countQuotes(String csvRow) {
+    int quotes = 0;
+    for (int i = 0; i < csvRow.length(); i++) {
+      if (csvRow.charAt(i) == QUOTE) quotes++;
+    }
+    return quotes;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.time.Duration;
+
+/**
+ * Determines, when a {@link BufferedCsvWriter} flushes the written lines to the underlying file.
+ * Flushing after every line makes the written lines immediately visible to other readers, but
+ * results in one write operation per line. All other policies trade this visibility for
+ * throughput. Regardless of the policy, all lines are flushed when the writer is closed.
+ *
+ * <p>Please note, that the policies are only evaluated, when a line is written. Hence, the
+ * interval policy does not flush a writer, that is not written to anymore, until it is closed.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public final class FlushPolicy {
+
+  private enum Trigger {
+    EVERY_LINE,
+    LINES,
+    CHARACTERS,
+    INTERVAL,
+    ON_CLOSE
+  }
+
+  private static final FlushPolicy EVERY_LINE = new FlushPolicy(Trigger.EVERY_LINE, 1);
+  private static final FlushPolicy ON_CLOSE = new FlushPolicy(Trigger.ON_CLOSE, 0);
+
+  private final Trigger trigger;
+  private final long threshold;
+
+  private FlushPolicy(Trigger trigger, long threshold) {
+    this.trigger = trigger;
+    this.threshold = threshold;
+  }
+
+  /** @return a policy, that flushes after every line (default) */
+  public static FlushPolicy everyLine() {
+    return EVERY_LINE;
+  }
+
+  /**
+   * @param lines the number of lines
+   * @return a policy, that flushes after the given number of lines
+   */
+  public static FlushPolicy everyLines(int lines) {
+    if (lines < 1)
+      throw new IllegalArgumentException(
+          "The number of lines between flushes has to be positive, but is " + lines);
+    return lines == 1 ? EVERY_LINE : new FlushPolicy(Trigger.LINES, lines);
+  }
+
+  /**
+   * @param characters the number of characters, which equals the number of bytes for ASCII content
+   * @return a policy, that flushes after the line, that exceeds the given number of characters
+   */
+  public static FlushPolicy everyCharacters(long characters) {
+    if (characters < 1)
+      throw new IllegalArgumentException(
+          "The number of characters between flushes has to be positive, but is " + characters);
+    return new FlushPolicy(Trigger.CHARACTERS, characters);
+  }
+
+  /**
+   * @param interval the interval between flushes
+   * @return a policy, that flushes after the first line written, once the interval has passed
+   */
+  public static FlushPolicy interval(Duration interval) {
+    if (interval.isNegative() || interval.isZero())
+      throw new IllegalArgumentException(
+          "The interval between flushes has to be positive, but is " + interval);
+    return new FlushPolicy(Trigger.INTERVAL, interval.toNanos());
+  }
+
+  /** @return a policy, that only flushes when the writer is closed or its buffer is full */
+  public static FlushPolicy onClose() {
+    return ON_CLOSE;
+  }
+
+  /**
+   * Checks, whether a flush is due after a line has been written
+   *
+   * @param lines number of lines written since the last flush
+   * @param characters number of characters written since the last flush
+   * @param nanosSinceFlush nanoseconds passed since the last flush
+   * @return true, if the writer shall be flushed
+   */
+  boolean isDue(long lines, long characters, long nanosSinceFlush) {
+    switch (trigger) {
+      case EVERY_LINE:
+        return true;
+      case LINES:
+        return lines >= threshold;
+      case CHARACTERS:
+        return characters >= threshold;
+      case INTERVAL:
+        return nanosSinceFlush >= threshold;
+      default:
+        return false;
+    }
+  }
+
+  /** @return true, if the time since the last flush is needed to evaluate this policy */
+  boolean isTimed() {
+    return trigger == Trigger.INTERVAL;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    FlushPolicy that = (FlushPolicy) o;
+    return threshold == that.threshold && trigger == that.trigger;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * trigger.hashCode() + Long.hashCode(threshold);
+  }
+
+  @Override
+  public String toString() {
+    return "FlushPolicy{" + "trigger=" + trigger + ", threshold=" + threshold + '}';
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Reader for csv files, that maps the file into memory by {@link FileChannel#map} and provides its
+ * rows as a stream, that can be processed in parallel efficiently. To do so, the file is split
+ * into chunks of roughly {@link #DEFAULT_CHUNK_SIZE} bytes, that always end at the end of a row.
+ * The split is quote-aware, hence line breaks within quoted fields never end a row. As double
+ * quotes and line breaks are plain ASCII characters, that never occur within multi-byte sequences
+ * of UTF-8, the boundaries can be determined on the raw bytes by a single sequential scan. The
+ * chunks themselves are decoded and split into rows in parallel.
+ *
+ * <p>In contrast to {@link java.io.BufferedReader#readLine()}, only {@code \n} and {@code \r\n}
+ * are considered to be line breaks.
+ *
+ * <p>Every mapping is released as soon as it has been read, so that the file is not locked and no
+ * address space is occupied until the mappings are garbage collected. Small regions of less than
+ * {@link #MIN_MAPPED_SIZE} bytes are read into the heap instead, as mapping them does not pay off.
+ * If the virtual machine does not allow to release mappings, the file is not mapped at all, but
+ * read into the heap window by window.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class MappedCsvFileReader implements CsvFileReader {
+
+  /** Default size of the chunks in bytes, that are decoded in parallel */
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+
+  /** Minimum size of a region in bytes, that is mapped instead of being read into the heap */
+  public static final int MIN_MAPPED_SIZE = 1 << 16;
+
+  // size of the windows in bytes, that are mapped while scanning for chunk boundaries
+  private static final long SCAN_WINDOW_SIZE = 1L << 28;
+  // size of the windows in bytes, that are read into the heap while scanning, if mapping is off
+  private static final long HEAP_SCAN_WINDOW_SIZE = 1L << 20;
+
+  // releases a mapping or null, if the virtual machine does not allow to release mappings
+  private static final Unmapper UNMAPPER = lookUpUnmapper();
+
+  private static final byte QUOTE = '"';
+  private static final byte LINE_FEED = '\n';
+  private static final char CARRIAGE_RETURN = '\r';
+
+  private final FileChannel channel;
+  private final String headline;
+  // start offsets of all chunks followed by the end offset of the last chunk
+  private final long[] chunkOffsets;
+
+  /**
+   * Opens and scans the given file with chunks of {@link #DEFAULT_CHUNK_SIZE} bytes
+   *
+   * @param filePath path of the csv file
+   * @throws IOException if the file cannot be opened or read
+   */
+  public MappedCsvFileReader(Path filePath) throws IOException {
+    this(filePath, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Opens and scans the given file
+   *
+   * @param filePath path of the csv file
+   * @param chunkSize the minimum size of the chunks in bytes (besides the last one), that are
+   *     decoded in parallel
+   * @throws IOException if the file cannot be opened or read
+   */
+  public MappedCsvFileReader(Path filePath, int chunkSize) throws IOException {
+    if (chunkSize <= 0)
+      throw new IllegalArgumentException("The chunk size has to be positive, but is " + chunkSize);
+
+    this.channel = FileChannel.open(filePath, StandardOpenOption.READ);
+    try {
+      long size = channel.size();
+      List<Long> rowBoundaries = scanChunkBoundaries(size, chunkSize);
+
+      if (size == 0) {
+        this.headline = null;
+        this.chunkOffsets = new long[] {0L};
+      } else {
+        long headlineEnd = rowBoundaries.isEmpty() ? size : rowBoundaries.get(0);
+        this.headline = stripLineBreak(decode(0, headlineEnd));
+
+        List<Long> offsets = new ArrayList<>(rowBoundaries);
+        if (offsets.isEmpty() || offsets.get(offsets.size() - 1) != size) offsets.add(size);
+        this.chunkOffsets = offsets.stream().mapToLong(Long::longValue).toArray();
+      }
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Scans the file sequentially for the ends of rows, that are not within quoted fields. The end of
+   * the first row (the headline) and afterwards every row end, that is at least the chunk size
+   * behind the last chunk boundary, is returned.
+   *
+   * @param size size of the file in bytes
+   * @param chunkSize minimum size of a chunk
+   * @return offsets directly behind the line feed of the selected rows
+   * @throws IOException if the file cannot be mapped
+   */
+  private List<Long> scanChunkBoundaries(long size, int chunkSize) throws IOException {
+    List<Long> boundaries = new ArrayList<>();
+    boolean inQuotes = false;
+    long nextBoundary = 0;
+
+    long scanWindowSize = UNMAPPER == null ? HEAP_SCAN_WINDOW_SIZE : SCAN_WINDOW_SIZE;
+    for (long windowStart = 0; windowStart < size; windowStart += scanWindowSize) {
+      int windowSize = (int) Math.min(scanWindowSize, size - windowStart);
+      ByteBuffer window = read(windowStart, windowSize);
+      try {
+        for (int idx = 0; idx < windowSize; idx++) {
+          byte b = window.get(idx);
+          if (b == QUOTE) inQuotes = !inQuotes;
+          else if (b == LINE_FEED && !inQuotes && windowStart + idx + 1 >= nextBoundary) {
+            long rowEnd = windowStart + idx + 1;
+            boundaries.add(rowEnd);
+            nextBoundary = rowEnd + chunkSize;
+          }
+        }
+      } finally {
+        release(window);
+      }
+    }
+    return boundaries;
+  }
+
+  @Override
+  public String getHeadline() {
+    return headline;
+  }
+
+  /** @return the number of chunks the rows (without headline) are split into */
+  public int getNumberOfChunks() {
+    return chunkOffsets.length - 1;
+  }
+
+  /**
+   * Returns all rows of the file except the headline. The returned stream is sequential and
+   * ordered, but splits well, if it is turned into a parallel stream.
+   *
+   * @return a stream of all rows (without line breaks) except the headline
+   * @throws UncheckedIOException if a chunk cannot be read
+   */
+  @Override
+  public Stream<String> rows() {
+    return IntStream.range(0, getNumberOfChunks()).mapToObj(this::chunkRows).flatMap(List::stream);
+  }
+
+  /**
+   * Decodes the given chunk and splits it into rows. Line feeds within quoted fields are kept.
+   *
+   * @param chunk index of the chunk
+   * @return the rows of the chunk without line breaks
+   */
+  private List<String> chunkRows(int chunk) {
+    String content;
+    try {
+      content = decode(chunkOffsets[chunk], chunkOffsets[chunk + 1]);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read chunk " + chunk + " of csv file.", e);
+    }
+
+    List<String> rows = new ArrayList<>();
+    boolean inQuotes = false;
+    int rowStart = 0;
+    for (int idx = 0; idx < content.length(); idx++) {
+      char c = content.charAt(idx);
+      if (c == QUOTE) inQuotes = !inQuotes;
+      else if (c == LINE_FEED && !inQuotes) {
+        rows.add(stripLineBreak(content.substring(rowStart, idx)));
+        rowStart = idx + 1;
+      }
+    }
+    // last row of the file without terminating line break
+    if (rowStart < content.length()) rows.add(stripLineBreak(content.substring(rowStart)));
+    return rows;
+  }
+
+  private String decode(long start, long end) throws IOException {
+    ByteBuffer buffer = read(start, (int) (end - start));
+    try {
+      return StandardCharsets.UTF_8.decode(buffer).toString();
+    } finally {
+      release(buffer);
+    }
+  }
+
+  /**
+   * Provides the given region of the file either mapped or read into the heap. The returned buffer
+   * has to be passed to {@link #release(ByteBuffer)} after usage and must not be used afterwards.
+   *
+   * @param position offset of the region within the file
+   * @param length length of the region in bytes
+   * @return a buffer with the content of the region
+   * @throws IOException if the file cannot be mapped or read
+   */
+  private ByteBuffer read(long position, int length) throws IOException {
+    if (UNMAPPER != null && length >= MIN_MAPPED_SIZE)
+      return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0)
+        throw new EOFException("The csv file has been truncated while reading it.");
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  /* Releases the mapping of the given buffer, if it is a mapped one */
+  private static void release(ByteBuffer buffer) {
+    if (UNMAPPER == null || !(buffer instanceof MappedByteBuffer)) return;
+    try {
+      UNMAPPER.unmap(buffer);
+    } catch (ReflectiveOperationException e) {
+      /* the mapping is released, once the buffer is garbage collected */
+    }
+  }
+
+  /**
+   * Looks up the internal API to release mappings, which is sun.misc.Unsafe#invokeCleaner since
+   * Java 9 and the cleaner of sun.nio.ch.DirectBuffer in Java 8.
+   *
+   * @return a function releasing mappings or null, if neither API is accessible
+   */
+  private static Unmapper lookUpUnmapper() {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      Object unsafe = theUnsafe.get(null);
+      return buffer -> invokeCleaner.invoke(unsafe, buffer);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      /* not available before Java 9 */
+    }
+    try {
+      Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+      Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+      return buffer -> clean.invoke(cleaner.invoke(buffer));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  @FunctionalInterface
+  private interface Unmapper {
+    void unmap(ByteBuffer buffer) throws ReflectiveOperationException;
+  }
+
+  private static String stripLineBreak(String row) {
+    int end = row.length();
+    if (end > 0 && row.charAt(end - 1) == LINE_FEED) end--;
+    if (end > 0 && row.charAt(end - 1) == CARRIAGE_RETURN) end--;
+    return end == row.length() ? row : row.substring(0, end);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
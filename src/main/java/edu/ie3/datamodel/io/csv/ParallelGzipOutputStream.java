@@ -0,0 +1,214 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Output stream, that writes one gzip stream (RFC 1952) and compresses independent blocks of the
+ * written data in parallel (similar to pigz). Every block is deflated by its own {@link Deflater}
+ * using the last 32 KiB of the preceding data as dictionary and ends on a byte boundary (sync
+ * flush), so that the compressed blocks can simply be concatenated to one deflate stream. Hence,
+ * the written file can be read by every gzip decompressor.
+ *
+ * <p>Compressed blocks are written in order by the thread writing to this stream. The number of
+ * blocks, that are compressed at once, is bounded, so that the writing thread waits for the
+ * compression, if it is faster than the compression. Flushing this stream only writes the blocks,
+ * that are already compressed, as compressing incomplete blocks would spoil the compression.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class ParallelGzipOutputStream extends FilterOutputStream {
+
+  /** Default size of the uncompressed blocks, that are compressed independently */
+  public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+  /** Minimum size of the uncompressed blocks, which is the size of the deflate window */
+  public static final int MIN_BLOCK_SIZE = 32 * 1024;
+
+  private static final int DICTIONARY_SIZE = MIN_BLOCK_SIZE;
+  private static final byte[] GZIP_HEADER = {
+    (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+  };
+
+  private final Executor executor;
+  private final int blockSize;
+  private final int maxPendingBlocks;
+  private final int compressionLevel;
+  private final Deque<CompletableFuture<byte[]>> pendingBlocks = new ArrayDeque<>();
+  // checksum and size of the uncompressed data for the gzip trailer
+  private final CRC32 crc = new CRC32();
+  private long uncompressedSize;
+
+  private byte[] block;
+  private int blockLength;
+  private byte[] dictionary;
+  private boolean isClosed;
+
+  /**
+   * Creates a new stream and writes the gzip header
+   *
+   * @param out the stream to write the gzip stream to
+   * @param executor executor, that compresses the blocks
+   * @param parallelism the maximum number of blocks, that are compressed at once
+   * @param blockSize the size of the uncompressed blocks, at least 32 KiB
+   * @param compressionLevel the compression level of the {@link Deflater}
+   * @throws IOException if the header cannot be written
+   */
+  public ParallelGzipOutputStream(
+      OutputStream out, Executor executor, int parallelism, int blockSize, int compressionLevel)
+      throws IOException {
+    super(out);
+    if (parallelism < 1)
+      throw new IllegalArgumentException(
+          "The number of blocks compressed at once has to be positive, but is " + parallelism);
+    if (blockSize < MIN_BLOCK_SIZE)
+      throw new IllegalArgumentException(
+          "The block size has to be at least " + MIN_BLOCK_SIZE + " bytes, but is " + blockSize);
+    this.executor = executor;
+    this.blockSize = blockSize;
+    this.maxPendingBlocks = parallelism;
+    this.compressionLevel = compressionLevel;
+    this.block = new byte[blockSize];
+    out.write(GZIP_HEADER);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureOpen();
+    block[blockLength++] = (byte) b;
+    if (blockLength == blockSize) submitBlock(false);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    ensureOpen();
+    while (len > 0) {
+      int copied = Math.min(len, blockSize - blockLength);
+      System.arraycopy(b, off, block, blockLength, copied);
+      blockLength += copied;
+      off += copied;
+      len -= copied;
+      if (blockLength == blockSize) submitBlock(false);
+    }
+  }
+
+  /* Hands the current block over to the executor and waits for the oldest block, if needed */
+  private void submitBlock(boolean isLast) throws IOException {
+    byte[] input = block;
+    int length = blockLength;
+    byte[] blockDictionary = dictionary;
+    crc.update(input, 0, length);
+    uncompressedSize += length;
+    dictionary = nextDictionary(blockDictionary, input, length);
+
+    pendingBlocks.add(
+        CompletableFuture.supplyAsync(
+            () -> deflate(input, length, blockDictionary, isLast, compressionLevel), executor));
+    block = isLast ? null : new byte[blockSize];
+    blockLength = 0;
+
+    while (pendingBlocks.size() > maxPendingBlocks) writeOldestBlock();
+  }
+
+  /* The last 32 KiB of the preceding data, which are referenced by the following block */
+  private static byte[] nextDictionary(byte[] dictionary, byte[] input, int length) {
+    if (length >= DICTIONARY_SIZE)
+      return Arrays.copyOfRange(input, length - DICTIONARY_SIZE, length);
+    byte[] preceding = dictionary == null ? new byte[0] : dictionary;
+    int fromPreceding = Math.min(preceding.length, DICTIONARY_SIZE - length);
+    byte[] next = new byte[fromPreceding + length];
+    System.arraycopy(preceding, preceding.length - fromPreceding, next, 0, fromPreceding);
+    System.arraycopy(input, 0, next, fromPreceding, length);
+    return next;
+  }
+
+  private static byte[] deflate(
+      byte[] input, int length, byte[] dictionary, boolean isLast, int compressionLevel) {
+    Deflater deflater = new Deflater(compressionLevel, true);
+    try {
+      if (dictionary != null && dictionary.length > 0) deflater.setDictionary(dictionary);
+      deflater.setInput(input, 0, length);
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 4 + 64);
+      byte[] buffer = new byte[Math.max(length / 4, 1024)];
+      if (isLast) {
+        deflater.finish();
+        while (!deflater.finished()) {
+          compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+      } else {
+        int deflated;
+        do {
+          deflated = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+          compressed.write(buffer, 0, deflated);
+        } while (deflated == buffer.length);
+      }
+      return compressed.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void writeOldestBlock() throws IOException {
+    CompletableFuture<byte[]> oldest = pendingBlocks.poll();
+    if (oldest == null) return;
+    try {
+      out.write(oldest.join());
+    } catch (CompletionException e) {
+      throw new IOException("Cannot compress a block of the gzip stream.", e.getCause());
+    }
+  }
+
+  /** Writes all blocks, that are compressed already, and flushes the underlying stream */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    while (!pendingBlocks.isEmpty() && pendingBlocks.peek().isDone()) writeOldestBlock();
+    out.flush();
+  }
+
+  /** Compresses the remaining data, writes the gzip trailer and closes the underlying stream */
+  @Override
+  public void close() throws IOException {
+    if (isClosed) return;
+    isClosed = true;
+    try {
+      submitBlock(true);
+      while (!pendingBlocks.isEmpty()) writeOldestBlock();
+      writeTrailer();
+      out.flush();
+    } finally {
+      out.close();
+    }
+  }
+
+  private void writeTrailer() throws IOException {
+    writeIntLittleEndian(crc.getValue());
+    writeIntLittleEndian(uncompressedSize);
+  }
+
+  private void writeIntLittleEndian(long value) throws IOException {
+    out.write((int) value & 0xff);
+    out.write((int) (value >>> 8) & 0xff);
+    out.write((int) (value >>> 16) & 0xff);
+    out.write((int) (value >>> 24) & 0xff);
+  }
+
+  private void ensureOpen() throws IOException {
+    if (isClosed) throw new IOException("The stream is closed.");
+  }
+}
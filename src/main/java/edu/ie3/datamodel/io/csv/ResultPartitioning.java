@@ -0,0 +1,193 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.csv;
+
+import edu.ie3.datamodel.models.result.ResultEntity;
+import java.time.ZonedDateTime;
+import java.time.temporal.IsoFields;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Determines, how the results of one entity class are split into several files. Results can be
+ * partitioned by the day or week of their timestamp or by the subnet of their input model.
+ * Additionally, the files can be rotated, once they exceed a given size. The partition and the
+ * part of the rotation are appended to the file name of the {@link FileNamingStrategy}, e.g.
+ *
+ * <ul>
+ *   <li>{@code pv_res_2020-01-30} for results of a day,
+ *   <li>{@code pv_res_2020-W05} for results of an ISO week,
+ *   <li>{@code pv_res_subnet_1} for results of a subnet and
+ *   <li>{@code pv_res_2020-01-30_part_0}, {@code pv_res_2020-01-30_part_1}, ... for rotated files.
+ * </ul>
+ *
+ * <p>Days and weeks are determined in the time zone of the results' timestamps.
+ *
+ * <p>The number of simultaneously open partition files is bounded (see {@link
+ * #DEFAULT_MAX_OPEN_FILES}). If the bound is reached, the least recently written partition file is
+ * closed and reopened in append mode without head line, once results of its partition are written
+ * again.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public final class ResultPartitioning {
+
+  /** Default maximum number of simultaneously open partition files */
+  public static final int DEFAULT_MAX_OPEN_FILES = 16;
+
+  private static final String SUBNET_PREFIX = "subnet_";
+  private static final String UNKNOWN_SUBNET = SUBNET_PREFIX + "unknown";
+
+  private static final ResultPartitioning NONE =
+      new ResultPartitioning("none", null, 0, DEFAULT_MAX_OPEN_FILES);
+
+  private final String description;
+  // derives the partition from a result or null, if results are not partitioned
+  private final Function<ResultEntity, String> partitioner;
+  // maximum number of characters per file or 0, if files are not rotated
+  private final long maxFileSize;
+  private final int maxOpenFiles;
+
+  private ResultPartitioning(
+      String description,
+      Function<ResultEntity, String> partitioner,
+      long maxFileSize,
+      int maxOpenFiles) {
+    this.description = description;
+    this.partitioner = partitioner;
+    this.maxFileSize = maxFileSize;
+    this.maxOpenFiles = maxOpenFiles;
+  }
+
+  /** @return a partitioning, that writes all results of one class to one file (default) */
+  public static ResultPartitioning none() {
+    return NONE;
+  }
+
+  /** @return a partitioning, that writes the results of every day to a separate file */
+  public static ResultPartitioning byDay() {
+    return new ResultPartitioning(
+        "byDay",
+        result -> result.getTimestamp().toLocalDate().toString(),
+        0,
+        DEFAULT_MAX_OPEN_FILES);
+  }
+
+  /** @return a partitioning, that writes the results of every ISO week to a separate file */
+  public static ResultPartitioning byWeek() {
+    return new ResultPartitioning(
+        "byWeek", ResultPartitioning::isoWeek, 0, DEFAULT_MAX_OPEN_FILES);
+  }
+
+  /**
+   * @param subnetOfInputModel mapping from the uuid of an input model to the subnet, it belongs to
+   * @return a partitioning, that writes the results of every subnet to a separate file. Results of
+   *     input models without subnet are written to the partition {@code subnet_unknown}.
+   */
+  public static ResultPartitioning bySubnet(Map<UUID, Integer> subnetOfInputModel) {
+    Map<UUID, String> partitions = new HashMap<>();
+    subnetOfInputModel.forEach((uuid, subnet) -> partitions.put(uuid, SUBNET_PREFIX + subnet));
+    Map<UUID, String> immutablePartitions = Collections.unmodifiableMap(partitions);
+    return new ResultPartitioning(
+        "bySubnet",
+        result -> immutablePartitions.getOrDefault(result.getInputModel(), UNKNOWN_SUBNET),
+        0,
+        DEFAULT_MAX_OPEN_FILES);
+  }
+
+  /**
+   * @param maxFileSize the number of characters, after which a file is rotated, which equals the
+   *     number of bytes for ASCII content
+   * @return a partitioning, that additionally rotates the files of every partition, once they
+   *     exceed the given size
+   */
+  public ResultPartitioning withMaxFileSize(long maxFileSize) {
+    if (maxFileSize < 1)
+      throw new IllegalArgumentException(
+          "The maximum file size has to be positive, but is " + maxFileSize);
+    return new ResultPartitioning(description, partitioner, maxFileSize, maxOpenFiles);
+  }
+
+  /**
+   * @param maxOpenFiles the maximum number of simultaneously open partition files
+   * @return a partitioning, that keeps at most the given number of partition files open
+   */
+  public ResultPartitioning withMaxOpenFiles(int maxOpenFiles) {
+    if (maxOpenFiles < 1)
+      throw new IllegalArgumentException(
+          "The maximum number of open files has to be positive, but is " + maxOpenFiles);
+    return new ResultPartitioning(description, partitioner, maxFileSize, maxOpenFiles);
+  }
+
+  private static String isoWeek(ResultEntity result) {
+    ZonedDateTime timestamp = result.getTimestamp();
+    return String.format(
+        "%04d-W%02d",
+        timestamp.get(IsoFields.WEEK_BASED_YEAR), timestamp.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+  }
+
+  /** @return true, if results are written to more than one file per class */
+  public boolean isPartitioning() {
+    return partitioner != null || isRotating();
+  }
+
+  /** @return true, if files are rotated, once they exceed the maximum file size */
+  public boolean isRotating() {
+    return maxFileSize > 0;
+  }
+
+  /** @return the number of characters, after which a file is rotated or 0, if it is not rotated */
+  public long getMaxFileSize() {
+    return maxFileSize;
+  }
+
+  /** @return the maximum number of simultaneously open partition files */
+  public int getMaxOpenFiles() {
+    return maxOpenFiles;
+  }
+
+  /**
+   * @param result the result to write
+   * @return the partition of the result or an empty optional, if results are not partitioned by
+   *     their content
+   */
+  public Optional<String> getPartition(ResultEntity result) {
+    return partitioner == null ? Optional.empty() : Optional.of(partitioner.apply(result));
+  }
+
+  /**
+   * Builds the file name of a partition
+   *
+   * @param fileName the file name of the results' class according to the {@link
+   *     FileNamingStrategy}
+   * @param partition the partition or null, if results are not partitioned by their content
+   * @param part the part of the rotated partition, ignored if files are not rotated
+   * @return the file name of the partition
+   */
+  public String getFileName(String fileName, String partition, int part) {
+    StringBuilder partitionFileName = new StringBuilder(fileName);
+    if (partition != null) partitionFileName.append('_').append(partition);
+    if (isRotating()) partitionFileName.append("_part_").append(part);
+    return partitionFileName.toString();
+  }
+
+  @Override
+  public String toString() {
+    return "ResultPartitioning{"
+        + "partitioning="
+        + description
+        + ", maxFileSize="
+        + maxFileSize
+        + ", maxOpenFiles="
+        + maxOpenFiles
+        + '}';
+  }
+}
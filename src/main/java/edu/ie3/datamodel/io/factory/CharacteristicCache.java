@@ -0,0 +1,93 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.factory;
+
+import edu.ie3.datamodel.exceptions.ParsingException;
+import edu.ie3.datamodel.models.input.system.characteristic.CharacteristicInput;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe cache of parsed characteristics by their class and string representation. Almost all
+ * participants and lines of a grid share a few characteristics, e.g. {@code
+ * cosPhiFixed:{(0.00,1.00)}}, hence every distinct characteristic is parsed only once and the
+ * immutable instance is shared by all entities. Characteristics, that cannot be parsed, are never
+ * cached, so that the {@link ParsingException} is thrown for every occurrence.
+ *
+ * <p>The number of cached characteristics is bounded. Once the bound is reached, further
+ * characteristics are parsed, but not cached anymore.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CharacteristicCache {
+
+  // maximum number of characteristics cached by the default cache
+  private static final int DEFAULT_MAX_CHARACTERISTICS = 1024;
+  private static final CharacteristicCache defaultCache =
+      new CharacteristicCache(DEFAULT_MAX_CHARACTERISTICS);
+
+  private final int maxCharacteristics;
+  private final Map<Class<?>, Map<String, CharacteristicInput<?, ?>>> characteristics =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new cache
+   *
+   * @param maxCharacteristics the maximum number of cached characteristics
+   */
+  public CharacteristicCache(int maxCharacteristics) {
+    if (maxCharacteristics < 0)
+      throw new IllegalArgumentException(
+          "The maximum number of cached characteristics must not be negative, but is "
+              + maxCharacteristics);
+    this.maxCharacteristics = maxCharacteristics;
+  }
+
+  /** @return the cache, that is shared by all entity factories */
+  public static CharacteristicCache getDefault() {
+    return defaultCache;
+  }
+
+  /**
+   * Returns the cached characteristic of the given class and string representation or parses it
+   *
+   * @param characteristicClass the class of the characteristic, that the parser returns
+   * @param input the string representation of the characteristic
+   * @param parser parses the string representation, if it is not cached yet
+   * @param <C> type of the characteristic
+   * @return the characteristic
+   * @throws ParsingException if the characteristic cannot be parsed
+   */
+  public <C extends CharacteristicInput<?, ?>> C get(
+      Class<C> characteristicClass, String input, CharacteristicParser<C> parser)
+      throws ParsingException {
+    Map<String, CharacteristicInput<?, ?>> cached =
+        characteristics.computeIfAbsent(characteristicClass, key -> new ConcurrentHashMap<>());
+    CharacteristicInput<?, ?> characteristic = cached.get(input);
+    if (characteristic != null) return characteristicClass.cast(characteristic);
+
+    C parsed = parser.parse(input);
+    if (getNumberOfCachedCharacteristics() >= maxCharacteristics) return parsed;
+    CharacteristicInput<?, ?> previous = cached.putIfAbsent(input, parsed);
+    return previous != null ? characteristicClass.cast(previous) : parsed;
+  }
+
+  /** @return the number of cached characteristics of all classes */
+  public int getNumberOfCachedCharacteristics() {
+    return characteristics.values().stream().mapToInt(Map::size).sum();
+  }
+
+  /**
+   * Parses the string representation of a characteristic
+   *
+   * @param <C> type of the characteristic
+   */
+  @FunctionalInterface
+  public interface CharacteristicParser<C extends CharacteristicInput<?, ?>> {
+    C parse(String input) throws ParsingException;
+  }
+}
@@ -8,9 +8,7 @@ package edu.ie3.datamodel.io.factory;
 import static edu.ie3.util.quantities.PowerSystemUnits.KILOVOLT;
 
 import edu.ie3.datamodel.exceptions.FactoryException;
-import edu.ie3.datamodel.exceptions.VoltageLevelException;
 import edu.ie3.datamodel.models.UniqueEntity;
-import edu.ie3.datamodel.models.voltagelevels.GermanVoltageLevelUtils;
 import edu.ie3.datamodel.models.voltagelevels.VoltageLevel;
 import java.util.*;
 import javax.measure.Quantity;
@@ -20,9 +18,6 @@ import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.geojson.GeoJsonReader;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import tech.units.indriya.ComparableQuantity;
 import tech.units.indriya.quantity.Quantities;
 
@@ -33,8 +28,14 @@ import tech.units.indriya.quantity.Quantities;
  * @since 28.01.20
  */
 public abstract class EntityData {
-  private static final Logger logger = LoggerFactory.getLogger(EntityData.class);
-  private static final GeoJsonReader geoJsonReader = new GeoJsonReader();
+  // maximum number of quantities per unit, that are shared by all entity data
+  private static final int MAX_CACHED_QUANTITIES_PER_UNIT = 4096;
+  private static final QuantityCache quantityCache =
+      new QuantityCache(MAX_CACHED_QUANTITIES_PER_UNIT);
+  // maximum number of combinations of voltage level id and rated voltage, that are remembered
+  private static final int MAX_RESOLVED_VOLTAGE_LEVELS = 1024;
+  private static final VoltageLevelResolver voltageLevelResolver =
+      new VoltageLevelResolver(MAX_RESOLVED_VOLTAGE_LEVELS);
 
   private final Map<String, String> fieldsToAttributes;
   private final Class<? extends UniqueEntity> entityClass;
@@ -47,11 +48,17 @@ public abstract class EntityData {
    */
   public EntityData(
       Map<String, String> fieldsToAttributes, Class<? extends UniqueEntity> entityClass) {
-    // this does the magic: case-insensitive get/set calls on keys
-    TreeMap<String, String> insensitiveFieldsToAttributes =
-        new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-    insensitiveFieldsToAttributes.putAll(fieldsToAttributes);
-    this.fieldsToAttributes = insensitiveFieldsToAttributes;
+    if (fieldsToAttributes instanceof IndexedFieldsToAttributes) {
+      // already case-insensitive, the copy only takes over the removed fields
+      this.fieldsToAttributes =
+          new IndexedFieldsToAttributes((IndexedFieldsToAttributes) fieldsToAttributes);
+    } else {
+      // this does the magic: case-insensitive get/set calls on keys
+      TreeMap<String, String> insensitiveFieldsToAttributes =
+          new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+      insensitiveFieldsToAttributes.putAll(fieldsToAttributes);
+      this.fieldsToAttributes = insensitiveFieldsToAttributes;
+    }
     this.entityClass = entityClass;
   }
 
@@ -77,10 +84,12 @@ public abstract class EntityData {
    * @return field value
    */
   public String getField(String field) {
-    if (!fieldsToAttributes.containsKey(field))
+    final String value = fieldsToAttributes.get(field);
+    // a second look up is only needed to distinguish missing fields from null values
+    if (value == null && !fieldsToAttributes.containsKey(field))
       throw new FactoryException(String.format("Field \"%s\" not found in EntityData", field));
 
-    return fieldsToAttributes.get(field);
+    return value;
   }
 
   /**
@@ -104,11 +113,12 @@ public abstract class EntityData {
    */
   public boolean getBoolean(String field) {
     final String value = getField(field);
+    final String trimmed = value == null ? "" : value.trim();
 
-    if (value == null || value.trim().isEmpty())
+    if (trimmed.isEmpty())
       throw new FactoryException(String.format("Field \"%s\" is null or empty", field));
 
-    return value.trim().equals("1") || value.trim().equalsIgnoreCase("true");
+    return trimmed.equals("1") || trimmed.equalsIgnoreCase("true");
   }
 
   /**
@@ -119,13 +129,14 @@ public abstract class EntityData {
    * @return int value
    */
   public int getInt(String field) {
+    final String value = getField(field);
     try {
-      return Integer.parseInt(getField(field));
+      return Integer.parseInt(value);
     } catch (NumberFormatException nfe) {
       throw new FactoryException(
           String.format(
               "Exception while trying to parse field \"%s\" with supposed int value \"%s\"",
-              field, getField(field)),
+              field, value),
           nfe);
     }
   }
@@ -138,13 +149,17 @@ public abstract class EntityData {
    * @return double value
    */
   public double getDouble(String field) {
+    return parseDouble(field, getField(field));
+  }
+
+  private static double parseDouble(String field, String value) {
     try {
-      return Double.parseDouble(getField(field));
+      return ValueParsers.parseDouble(value);
     } catch (NumberFormatException nfe) {
       throw new FactoryException(
           String.format(
               "Exception while trying to parse field \"%s\" with supposed double value \"%s\"",
-              field, getField(field)),
+              field, value),
           nfe);
     }
   }
@@ -157,20 +172,22 @@ public abstract class EntityData {
    * @return UUID
    */
   public UUID getUUID(String field) {
+    final String value = getField(field);
     try {
-      return UUID.fromString(getField(field));
+      return ValueParsers.parseUuid(value);
     } catch (IllegalArgumentException iae) {
       throw new FactoryException(
           String.format(
               "Exception while trying to parse UUID of field \"%s\" with value \"%s\"",
-              field, getField(field)),
+              field, value),
           iae);
     }
   }
 
   /**
-   * Parses and returns a geometry from field value of given field name. Throws {@link
-   * FactoryException} if field does not exist or parsing fails.
+   * Parses and returns a geometry from field value of given field name by the default {@link
+   * GeoJsonParser}. If enabled, the geometry is interned by the default {@link FlyweightRegistry}.
+   * Throws {@link FactoryException} if field does not exist or parsing fails.
    *
    * @param field field name
    * @return Geometry if field value is not empty, empty Optional otherwise
@@ -179,7 +196,9 @@ public abstract class EntityData {
     String value = getField(field);
     try {
       if (value.trim().isEmpty()) return Optional.empty();
-      else return Optional.of(geoJsonReader.read(value));
+      else
+        return Optional.of(
+            FlyweightRegistry.getDefault().intern(GeoJsonParser.getDefault().parse(value)));
     } catch (ParseException pe) {
       throw new FactoryException(
           String.format(
@@ -240,37 +259,16 @@ public abstract class EntityData {
       final String voltLvlId = getField(voltLvlField);
       final ComparableQuantity<ElectricPotential> vRated = getQuantity(ratedVoltField, KILOVOLT);
 
-      return parseToGermanVoltLvlOrIndividual(voltLvlId, vRated);
+      return voltageLevelResolver.resolve(voltLvlId, vRated);
     } catch (IllegalArgumentException iae) {
       throw new FactoryException("VoltageLevel could not be parsed", iae);
     }
   }
 
-  /**
-   * Parses the given voltage level information to German voltage level or builds an individual one,
-   * if no suitable one can be found.
-   *
-   * @param voltLvlId Identifier of the voltage level
-   * @param vRated Foreseen rated voltage
-   * @return A suitable German {@link edu.ie3.datamodel.models.voltagelevels.CommonVoltageLevel} or
-   *     an individual one
-   */
-  private VoltageLevel parseToGermanVoltLvlOrIndividual(
-      String voltLvlId, ComparableQuantity<ElectricPotential> vRated) {
-    try {
-      return GermanVoltageLevelUtils.parse(voltLvlId, vRated);
-    } catch (VoltageLevelException e) {
-      logger.warn(
-          "Cannot parse ({}, {}) to common German voltage level. Build an individual one.",
-          voltLvlId,
-          vRated);
-      return new VoltageLevel(voltLvlId, vRated);
-    }
-  }
-
   /**
    * Parses and returns a Quantity from field value of given field name. Throws {@link
-   * FactoryException} if field does not exist or parsing fails.
+   * FactoryException} if field does not exist or parsing fails. Quantities are immutable, hence
+   * frequent values are shared by all entity data.
    *
    * @param field field name
    * @param unit unit of Quantity
@@ -278,7 +276,9 @@ public abstract class EntityData {
    * @return Quantity of given field with given unit
    */
   public <Q extends Quantity<Q>> ComparableQuantity<Q> getQuantity(String field, Unit<Q> unit) {
-    return Quantities.getQuantity(getDouble(field), unit);
+    final String value = getField(field);
+    if (value == null) return Quantities.getQuantity(parseDouble(field, null), unit);
+    return quantityCache.get(value, unit, stringValue -> parseDouble(field, stringValue));
   }
 
   public Class<? extends UniqueEntity> getEntityClass() {
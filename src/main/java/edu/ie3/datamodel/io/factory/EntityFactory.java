@@ -11,6 +11,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
@@ -28,6 +29,10 @@ public abstract class EntityFactory<T extends UniqueEntity, D extends EntityData
 
   protected final List<Class<? extends T>> classes;
 
+  /* entity class -> key signatures of already validated data */
+  private final Map<Class<? extends UniqueEntity>, Set<Object>> validatedSignatures =
+      new ConcurrentHashMap<>();
+
   /**
    * Constructor for an EntityFactory for given classes
    *
@@ -47,10 +52,7 @@ public abstract class EntityFactory<T extends UniqueEntity, D extends EntityData
   public Optional<T> getEntity(D data) {
     isValidClass(data.getEntityClass());
 
-    // magic: case-insensitive get/set calls on set strings
-    final List<Set<String>> allFields = getFields(data);
-
-    validateParameters(data, allFields.stream().toArray((IntFunction<Set<String>[]>) Set[]::new));
+    validateFields(data);
 
     try {
       // build the model
@@ -66,6 +68,41 @@ public abstract class EntityFactory<T extends UniqueEntity, D extends EntityData
     return Optional.empty();
   }
 
+  /**
+   * Validates the fields of the given data against the field sets of the factory. All rows of a
+   * file share the same header, hence the result of a successful validation is remembered for the
+   * key signature of the data (see {@link IndexedFieldsToAttributes#getKeySignature()}) and all
+   * further data with the same signature and entity class is accepted without building and
+   * comparing the field sets again. Invalid data is never remembered.
+   *
+   * @param data EntityData (or subclass) containing the data
+   * @throws FactoryException if the fields of the data are invalid
+   */
+  private void validateFields(D data) {
+    Map<String, String> fieldsToValues = data.getFieldsToValues();
+    if (!(fieldsToValues instanceof IndexedFieldsToAttributes)) {
+      validateAllFields(data);
+      return;
+    }
+
+    Object signature = ((IndexedFieldsToAttributes) fieldsToValues).getKeySignature();
+    Set<Object> validated =
+        validatedSignatures.computeIfAbsent(
+            data.getEntityClass(), entityClass -> ConcurrentHashMap.newKeySet());
+    if (!validated.contains(signature)) {
+      validateAllFields(data);
+      validated.add(signature);
+    }
+  }
+
+  private void validateAllFields(D data) {
+    // magic: case-insensitive get/set calls on set strings
+    final List<Set<String>> allFields = getFields(data);
+
+    validateParameters(
+        data, allFields.stream().toArray((IntFunction<Set<String>[]>) Set[]::new));
+  }
+
   private void isValidClass(Class<? extends UniqueEntity> entityClass) {
     if (!classes.contains(entityClass))
       throw new FactoryException(
@@ -0,0 +1,105 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.factory;
+
+import java.util.*;
+
+/**
+ * Schema of the fields of a data source (e.g. the headline of a csv file), that is resolved only
+ * once per source and shared by all {@link IndexedFieldsToAttributes} of this source. It maps the
+ * field names case-insensitively to their column index.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class FieldSchema {
+
+  private final String[] fieldNames;
+  // this does the magic: case-insensitive look up of field names
+  private final TreeMap<String, Integer> fieldIndices =
+      new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+  // column indices in case-insensitive order of their field names
+  private final int[] sortedIndices;
+  // the schema is used as (part of a) hash key for every row, hence the hash code is cached
+  private final int hashCode;
+
+  /**
+   * Creates a new field schema
+   *
+   * @param fieldNames the field names in the order of the columns
+   */
+  public FieldSchema(String... fieldNames) {
+    this.fieldNames = fieldNames.clone();
+    for (int idx = 0; idx < fieldNames.length; idx++)
+      fieldIndices.putIfAbsent(fieldNames[idx], idx);
+    this.sortedIndices = fieldIndices.values().stream().mapToInt(Integer::intValue).toArray();
+    this.hashCode = Arrays.hashCode(this.fieldNames);
+  }
+
+  /** @return the number of columns */
+  public int size() {
+    return fieldNames.length;
+  }
+
+  /**
+   * @return true, if all field names are unique (case-insensitive), false otherwise. Rows cannot be
+   *     mapped to a schema with ambiguous field names.
+   */
+  public boolean hasUniqueFieldNames() {
+    return fieldIndices.size() == fieldNames.length;
+  }
+
+  /**
+   * Returns the column index of the given field name (case-insensitive)
+   *
+   * @param fieldName the field name to look up
+   * @return the column index or -1, if the field is not part of the schema
+   */
+  public int indexOf(Object fieldName) {
+    if (!(fieldName instanceof String)) return -1;
+    Integer idx = fieldIndices.get(fieldName);
+    return idx == null ? -1 : idx;
+  }
+
+  /**
+   * @param idx column index
+   * @return the field name of the given column
+   */
+  public String getFieldName(int idx) {
+    return fieldNames[idx];
+  }
+
+  /** @return the field names in the order of the columns */
+  public String[] getFieldNames() {
+    return fieldNames.clone();
+  }
+
+  /**
+   * @return the column indices in case-insensitive order of the field names, which is the
+   *     iteration order of a case-insensitive {@link TreeMap}
+   */
+  int[] getSortedIndices() {
+    return sortedIndices;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    FieldSchema that = (FieldSchema) o;
+    return Arrays.equals(fieldNames, that.fieldNames);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return "FieldSchema{" + "fieldNames=" + Arrays.toString(fieldNames) + '}';
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.factory;
+
+import edu.ie3.datamodel.models.OperationTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Opt-in registry, that canonicalizes equal immutable value objects of entities, so that all
+ * entities of a loaded grid share one instance instead of holding equal copies. The registry is
+ * disabled by default and is enabled by setting an enabled registry as default (see {@link
+ * #setDefault(FlyweightRegistry)}) before loading the grid. The entity factories then intern the
+ * operation times and geometries of all entities they build.
+ *
+ * <p>Voltage levels, frequent quantities and characteristics are always shared by the factories
+ * (see {@link VoltageLevelResolver}, {@link QuantityCache} and {@link CharacteristicCache}), hence
+ * they are not interned again.
+ *
+ * <p>The registry keeps track of the deduplicated instances and estimates the heap saved by them
+ * (see {@link #getBytesSaved()}). The estimates assume a 64 bit virtual machine with compressed
+ * object pointers and only count the objects, that are exclusively owned by the deduplicated
+ * instance. Interned objects are held until the registry is cleared or garbage collected.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class FlyweightRegistry {
+
+  /* estimated sizes of the exclusively owned objects in bytes */
+  // OperationTime: object header, two references and a boolean
+  private static final long OPERATION_TIME_BYTES = 24;
+  // ZonedDateTime with LocalDateTime, LocalDate and LocalTime, the zone is shared
+  private static final long ZONED_DATE_TIME_BYTES = 96;
+  // Geometry with its CoordinateArraySequence and the header of the coordinate array
+  private static final long GEOMETRY_BYTES = 72;
+  // one Coordinate (three doubles) plus its reference within the coordinate array
+  private static final long COORDINATE_BYTES = 44;
+
+  private static final FlyweightRegistry DISABLED = new FlyweightRegistry(false);
+  private static volatile FlyweightRegistry defaultRegistry = DISABLED;
+
+  private final boolean isEnabled;
+  private final Map<OperationTime, OperationTime> operationTimes = new ConcurrentHashMap<>();
+  private final Map<GeometryKey, Geometry> geometries = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> deduplicatedInstances = new ConcurrentHashMap<>();
+  private final LongAdder bytesSaved = new LongAdder();
+
+  /** Creates a new, enabled registry */
+  public FlyweightRegistry() {
+    this(true);
+  }
+
+  private FlyweightRegistry(boolean isEnabled) {
+    this.isEnabled = isEnabled;
+  }
+
+  /** @return a registry, that does not intern anything */
+  public static FlyweightRegistry disabled() {
+    return DISABLED;
+  }
+
+  /** @return the registry, that is used by the entity factories, disabled by default */
+  public static FlyweightRegistry getDefault() {
+    return defaultRegistry;
+  }
+
+  /**
+   * Sets the registry, that is used by the entity factories from now on
+   *
+   * @param registry the registry to use, e.g. a new registry to enable interning or {@link
+   *     #disabled()} to disable it
+   */
+  public static void setDefault(FlyweightRegistry registry) {
+    defaultRegistry = Objects.requireNonNull(registry);
+  }
+
+  /** @return true, if the registry interns objects */
+  public boolean isEnabled() {
+    return isEnabled;
+  }
+
+  /**
+   * Returns the canonical instance of the given operation time
+   *
+   * @param operationTime the operation time to intern
+   * @return an equal operation time, that is shared by all entities, or the given one, if the
+   *     registry is disabled
+   */
+  public OperationTime intern(OperationTime operationTime) {
+    if (!isEnabled || operationTime == null) return operationTime;
+    OperationTime canonical = operationTimes.putIfAbsent(operationTime, operationTime);
+    if (canonical == null) return operationTime;
+
+    long dates =
+        (operationTime.getStartDate().isPresent() ? 1 : 0)
+            + (operationTime.getEndDate().isPresent() ? 1 : 0);
+    recordDeduplication(
+        OperationTime.class.getSimpleName(), OPERATION_TIME_BYTES + dates * ZONED_DATE_TIME_BYTES);
+    return canonical;
+  }
+
+  /**
+   * Returns the canonical instance of the given geometry. Geometries are considered equal, if they
+   * are of the same type, share the same SRID and consist of the same coordinates (including the
+   * z ordinate). Interned geometries must not be altered.
+   *
+   * @param geometry the geometry to intern
+   * @param <G> type of the geometry
+   * @return an equal geometry, that is shared by all entities, or the given one, if the registry is
+   *     disabled
+   */
+  @SuppressWarnings("unchecked")
+  public <G extends Geometry> G intern(G geometry) {
+    if (!isEnabled || geometry == null) return geometry;
+    Geometry canonical = geometries.putIfAbsent(new GeometryKey(geometry), geometry);
+    if (canonical == null) return geometry;
+
+    recordDeduplication(
+        geometry.getGeometryType(), GEOMETRY_BYTES + geometry.getNumPoints() * COORDINATE_BYTES);
+    return (G) canonical;
+  }
+
+  private void recordDeduplication(String type, long bytes) {
+    deduplicatedInstances.computeIfAbsent(type, key -> new LongAdder()).increment();
+    bytesSaved.add(bytes);
+  }
+
+  /** @return the number of instances, that have been replaced by a canonical instance */
+  public long getNumberOfDeduplicatedInstances() {
+    return deduplicatedInstances.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  /** @return the number of deduplicated instances per type */
+  public Map<String, Long> getDeduplicatedInstancesPerType() {
+    Map<String, Long> perType = new TreeMap<>();
+    deduplicatedInstances.forEach((type, count) -> perType.put(type, count.sum()));
+    return perType;
+  }
+
+  /** @return the estimated number of bytes, that have been saved by deduplication */
+  public long getBytesSaved() {
+    return bytesSaved.sum();
+  }
+
+  /** Removes all interned objects and resets the statistics */
+  public void clear() {
+    operationTimes.clear();
+    geometries.clear();
+    deduplicatedInstances.clear();
+    bytesSaved.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "FlyweightRegistry{"
+        + "isEnabled="
+        + isEnabled
+        + ", deduplicatedInstances="
+        + getDeduplicatedInstancesPerType()
+        + ", bytesSaved="
+        + getBytesSaved()
+        + '}';
+  }
+
+  /** Key of a geometry, that considers the SRID and the z ordinates of the coordinates as well */
+  private static final class GeometryKey {
+    private final Geometry geometry;
+    private final int hashCode;
+
+    private GeometryKey(Geometry geometry) {
+      this.geometry = geometry;
+      this.hashCode = 31 * geometry.hashCode() + geometry.getSRID();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Geometry other = ((GeometryKey) o).geometry;
+      if (geometry.getSRID() != other.getSRID() || !geometry.equalsExact(other)) return false;
+
+      Coordinate[] coordinates = geometry.getCoordinates();
+      Coordinate[] otherCoordinates = other.getCoordinates();
+      for (int idx = 0; idx < coordinates.length; idx++) {
+        if (!coordinates[idx].equals3D(otherCoordinates[idx])) return false;
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -0,0 +1,297 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.factory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
+
+/**
+ * Thread-safe parser for GeoJSON geometries. Points and line strings, which make up almost all
+ * geometries of a grid, are built directly from the coordinate text. All other geometries, as well
+ * as GeoJSON, that uses features not covered by the fast path (e.g. escaped strings or bounding
+ * boxes), are handed over to a {@link GeoJsonReader}, of which every thread holds its own instance.
+ * The results are equal to the ones of a {@link GeoJsonReader}, including the SRID, that is taken
+ * from the "crs" member or defaults to 4326 (WGS 84).
+ *
+ * <p>Optionally, the parsed geometries are interned, i.e. identical GeoJSON strings result in the
+ * very same geometry instance, as lots of nodes and participants share the same coordinates.
+ * Interned geometries must not be altered. The number of interned geometries is bounded, once the
+ * bound is reached, further geometries are parsed, but not interned anymore.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class GeoJsonParser {
+
+  /** SRID, that is used, if the GeoJSON does not contain a "crs" member (WGS 84) */
+  public static final int DEFAULT_SRID = 4326;
+
+  private static final String POINT = "Point";
+  private static final String LINE_STRING = "LineString";
+  private static final String EPSG_PREFIX = "EPSG:";
+
+  private static final ThreadLocal<GeoJsonReader> fallbackReader =
+      ThreadLocal.withInitial(GeoJsonReader::new);
+  private static final ConcurrentHashMap<Integer, GeometryFactory> geometryFactories =
+      new ConcurrentHashMap<>();
+
+  private static volatile GeoJsonParser defaultParser = new GeoJsonParser(0);
+
+  private final int maxInternedGeometries;
+  private final ConcurrentHashMap<String, Geometry> internedGeometries;
+
+  /**
+   * Creates a new parser
+   *
+   * @param maxInternedGeometries the maximum number of interned geometries, 0 disables interning
+   */
+  public GeoJsonParser(int maxInternedGeometries) {
+    if (maxInternedGeometries < 0)
+      throw new IllegalArgumentException(
+          "The maximum number of interned geometries must not be negative, but is "
+              + maxInternedGeometries);
+    this.maxInternedGeometries = maxInternedGeometries;
+    this.internedGeometries = maxInternedGeometries > 0 ? new ConcurrentHashMap<>() : null;
+  }
+
+  /** @return the parser, that is used to parse the geometries of entity data */
+  public static GeoJsonParser getDefault() {
+    return defaultParser;
+  }
+
+  /**
+   * Sets the parser, that is used to parse the geometries of entity data, e.g. to enable
+   * interning
+   *
+   * @param parser the parser to use from now on
+   */
+  public static void setDefault(GeoJsonParser parser) {
+    defaultParser = parser;
+  }
+
+  /**
+   * Parses the given GeoJSON geometry
+   *
+   * @param geoJson the GeoJSON representation of the geometry
+   * @return the geometry
+   * @throws ParseException if the GeoJSON cannot be parsed
+   */
+  public Geometry parse(String geoJson) throws ParseException {
+    if (internedGeometries == null) return parseUninterned(geoJson);
+
+    Geometry interned = internedGeometries.get(geoJson);
+    if (interned != null) return interned;
+
+    Geometry geometry = parseUninterned(geoJson);
+    if (internedGeometries.size() >= maxInternedGeometries) return geometry;
+    Geometry previous = internedGeometries.putIfAbsent(geoJson, geometry);
+    return previous != null ? previous : geometry;
+  }
+
+  /** @return the number of interned geometries */
+  public int getNumberOfInternedGeometries() {
+    return internedGeometries == null ? 0 : internedGeometries.size();
+  }
+
+  private Geometry parseUninterned(String geoJson) throws ParseException {
+    Geometry geometry = new FastPath(geoJson).parse();
+    return geometry != null ? geometry : fallbackReader.get().read(geoJson);
+  }
+
+  private static GeometryFactory geometryFactory(int srid) {
+    return geometryFactories.computeIfAbsent(
+        srid, key -> new GeometryFactory(new PrecisionModel(), key));
+  }
+
+  /**
+   * Single use parser for GeoJSON points and line strings. Every method returns null or false, if
+   * the input is not covered by the fast path, which does not imply, that it is invalid GeoJSON.
+   */
+  private static final class FastPath {
+    private final String json;
+    private int pos;
+
+    private FastPath(String json) {
+      this.json = json;
+    }
+
+    private Geometry parse() {
+      String type = null;
+      List<Coordinate> coordinates = null;
+      boolean isNested = false;
+      int srid = DEFAULT_SRID;
+
+      if (!consume('{')) return null;
+      do {
+        String key = readString();
+        if (key == null || !consume(':')) return null;
+        switch (key) {
+          case "type":
+            type = readString();
+            if (type == null) return null;
+            break;
+          case "coordinates":
+            isNested = peek('[', 1);
+            coordinates = isNested ? readPositions() : readPosition();
+            if (coordinates == null) return null;
+            break;
+          case "crs":
+            srid = readCrs();
+            if (srid < 0) return null;
+            break;
+          default:
+            return null;
+        }
+      } while (consume(','));
+      if (!consume('}') || !isAtEnd() || type == null || coordinates == null) return null;
+
+      GeometryFactory geometryFactory = geometryFactory(srid);
+      if (type.equals(POINT) && !isNested) return geometryFactory.createPoint(coordinates.get(0));
+      if (type.equals(LINE_STRING) && isNested && coordinates.size() >= 2)
+        return geometryFactory.createLineString(coordinates.toArray(new Coordinate[0]));
+      return null;
+    }
+
+    /** Reads a list of positions, e.g. [[7.4, 51.4],[7.5, 51.5]] */
+    private List<Coordinate> readPositions() {
+      if (!consume('[')) return null;
+      List<Coordinate> coordinates = new ArrayList<>();
+      do {
+        List<Coordinate> position = readPosition();
+        if (position == null) return null;
+        coordinates.add(position.get(0));
+      } while (consume(','));
+      return consume(']') ? coordinates : null;
+    }
+
+    /** Reads a single position, e.g. [7.4, 51.4], as a singleton list */
+    private List<Coordinate> readPosition() {
+      if (!consume('[')) return null;
+      double[] ordinates = new double[3];
+      int dimension = 0;
+      do {
+        if (dimension == ordinates.length) return null;
+        double ordinate = readNumber();
+        if (Double.isNaN(ordinate)) return null;
+        ordinates[dimension++] = ordinate;
+      } while (consume(','));
+      if (!consume(']') || dimension < 2) return null;
+
+      List<Coordinate> position = new ArrayList<>(1);
+      position.add(
+          dimension == 2
+              ? new Coordinate(ordinates[0], ordinates[1])
+              : new Coordinate(ordinates[0], ordinates[1], ordinates[2]));
+      return position;
+    }
+
+    /**
+     * Reads a named crs, e.g. {"type":"name","properties":{"name":"EPSG:4326"}}
+     *
+     * @return the srid or -1, if the crs is not covered
+     */
+    private int readCrs() {
+      int srid = -1;
+      if (!consume('{')) return -1;
+      do {
+        String key = readString();
+        if (key == null || !consume(':')) return -1;
+        if (key.equals("type")) {
+          if (readString() == null) return -1;
+        } else if (key.equals("properties")) {
+          srid = readCrsProperties();
+          if (srid < 0) return -1;
+        } else return -1;
+      } while (consume(','));
+      return consume('}') ? srid : -1;
+    }
+
+    private int readCrsProperties() {
+      if (!consume('{')) return -1;
+      String key = readString();
+      if (!"name".equals(key) || !consume(':')) return -1;
+      String name = readString();
+      if (name == null || !name.startsWith(EPSG_PREFIX) || !consume('}')) return -1;
+
+      String code = name.substring(EPSG_PREFIX.length());
+      if (code.isEmpty() || code.length() > 9) return -1;
+      for (int idx = 0; idx < code.length(); idx++) {
+        if (!Character.isDigit(code.charAt(idx))) return -1;
+      }
+      return Integer.parseInt(code);
+    }
+
+    /** @return the string without quotes or null, if there is none or it contains escapes */
+    private String readString() {
+      if (!consume('"')) return null;
+      int start = pos;
+      while (pos < json.length()) {
+        char c = json.charAt(pos);
+        if (c == '\\') return null;
+        if (c == '"') return json.substring(start, pos++);
+        pos++;
+      }
+      return null;
+    }
+
+    /** @return the number or NaN, if there is none */
+    private double readNumber() {
+      skipWhitespace();
+      int start = pos;
+      while (pos < json.length() && isNumberChar(json.charAt(pos))) pos++;
+      if (start == pos || json.charAt(start) == '+') return Double.NaN;
+      try {
+        return Double.parseDouble(json.substring(start, pos));
+      } catch (NumberFormatException e) {
+        return Double.NaN;
+      }
+    }
+
+    private static boolean isNumberChar(char c) {
+      return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    /**
+     * Checks, whether the given character follows after skipping whitespace and the given number of
+     * other characters (and whitespace after each of them), without consuming anything
+     */
+    private boolean peek(char expected, int skippedCharacters) {
+      int start = pos;
+      for (int skipped = 0; skipped < skippedCharacters; skipped++) {
+        skipWhitespace();
+        pos++;
+      }
+      boolean matches = consume(expected);
+      pos = start;
+      return matches;
+    }
+
+    private boolean consume(char expected) {
+      skipWhitespace();
+      if (pos < json.length() && json.charAt(pos) == expected) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private boolean isAtEnd() {
+      skipWhitespace();
+      return pos == json.length();
+    }
+
+    private void skipWhitespace() {
+      while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) pos++;
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.factory;
+
+import java.util.*;
+
+/**
+ * Lightweight (fieldName to fieldValue) mapping of a single row, that is backed by the array of
+ * field values and a {@link FieldSchema} shared by all rows of the same source. Keys are looked up
+ * case-insensitively and entries are iterated in the same order as in a case-insensitive {@link
+ * TreeMap}, so that this map can be used wherever such a map has been used before.
+ *
+ * <p>The values cannot be changed, but fields can be removed (e.g. after they have been resolved to
+ * complex objects like nodes). Removing a field only affects this instance, the value array itself
+ * is never modified.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class IndexedFieldsToAttributes extends AbstractMap<String, String> {
+
+  private final FieldSchema schema;
+  private final String[] values;
+  // columns removed from this mapping, null as long as no column has been removed
+  private BitSet removed;
+  private int size;
+
+  /**
+   * Creates a new mapping of the given values to the fields of the schema
+   *
+   * @param schema the schema of the source
+   * @param values field values in the order of the schema's columns
+   * @throws IllegalArgumentException if the field names of the schema are not unique or the number
+   *     of values does not match the number of fields
+   */
+  public IndexedFieldsToAttributes(FieldSchema schema, String[] values) {
+    if (!schema.hasUniqueFieldNames())
+      throw new IllegalArgumentException(
+          "Cannot map values to ambiguous field names (NOT case-sensitive!): "
+              + String.join(", ", schema.getFieldNames()));
+    if (values.length != schema.size())
+      throw new IllegalArgumentException(
+          "The number of values ("
+              + values.length
+              + ") does not match the number of fields of the schema ("
+              + schema.size()
+              + ").");
+    this.schema = schema;
+    this.values = values;
+    this.size = values.length;
+  }
+
+  /**
+   * Copy constructor. The copy shares the schema and values with the given mapping, but removing
+   * fields from one does not affect the other one.
+   *
+   * @param other the mapping to copy
+   */
+  public IndexedFieldsToAttributes(IndexedFieldsToAttributes other) {
+    this.schema = other.schema;
+    this.values = other.values;
+    this.removed = other.removed == null ? null : (BitSet) other.removed.clone();
+    this.size = other.size;
+  }
+
+  public FieldSchema getSchema() {
+    return schema;
+  }
+
+  /**
+   * Returns an immutable signature of the key set of this mapping. Two signatures are equal, if
+   * the mappings share an equal schema and the same fields have been removed from them. Hence,
+   * mappings with equal signatures have equal key sets. Computing and comparing a signature is much
+   * cheaper than comparing the key sets.
+   *
+   * @return the signature of the key set
+   */
+  public Object getKeySignature() {
+    return new KeySignature(
+        schema, removed == null || removed.isEmpty() ? null : (BitSet) removed.clone());
+  }
+
+  private int presentIndexOf(Object key) {
+    int idx = schema.indexOf(key);
+    return idx < 0 || isRemoved(idx) ? -1 : idx;
+  }
+
+  private boolean isRemoved(int idx) {
+    return removed != null && removed.get(idx);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return presentIndexOf(key) >= 0;
+  }
+
+  @Override
+  public String get(Object key) {
+    int idx = presentIndexOf(key);
+    return idx < 0 ? null : values[idx];
+  }
+
+  @Override
+  public String remove(Object key) {
+    int idx = presentIndexOf(key);
+    if (idx < 0) return null;
+    removeIdx(idx);
+    return values[idx];
+  }
+
+  private void removeIdx(int idx) {
+    if (removed == null) removed = new BitSet(values.length);
+    removed.set(idx);
+    size--;
+  }
+
+  @Override
+  public Set<String> keySet() {
+    return new AbstractSet<String>() {
+      @Override
+      public Iterator<String> iterator() {
+        Iterator<Entry<String, String>> entryIterator = entrySet().iterator();
+        return new Iterator<String>() {
+          @Override
+          public boolean hasNext() {
+            return entryIterator.hasNext();
+          }
+
+          @Override
+          public String next() {
+            return entryIterator.next().getKey();
+          }
+
+          @Override
+          public void remove() {
+            entryIterator.remove();
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean contains(Object key) {
+        return containsKey(key);
+      }
+
+      @Override
+      public boolean remove(Object key) {
+        int idx = presentIndexOf(key);
+        if (idx < 0) return false;
+        removeIdx(idx);
+        return true;
+      }
+    };
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    return new AbstractSet<Entry<String, String>>() {
+      @Override
+      public Iterator<Entry<String, String>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  /** Iterates the present entries in case-insensitive order of their field names */
+  private class EntryIterator implements Iterator<Entry<String, String>> {
+    private final int[] sortedIndices = schema.getSortedIndices();
+    private int next = advance(0);
+    private int last = -1;
+
+    private int advance(int from) {
+      int pos = from;
+      while (pos < sortedIndices.length && isRemoved(sortedIndices[pos])) pos++;
+      return pos;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < sortedIndices.length;
+    }
+
+    @Override
+    public Entry<String, String> next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      last = sortedIndices[next];
+      next = advance(next + 1);
+      return new SimpleImmutableEntry<>(schema.getFieldName(last), values[last]);
+    }
+
+    @Override
+    public void remove() {
+      if (last < 0 || isRemoved(last)) throw new IllegalStateException();
+      removeIdx(last);
+    }
+  }
+
+  private static final class KeySignature {
+    private final FieldSchema schema;
+    // null, if no field has been removed
+    private final BitSet removed;
+
+    private KeySignature(FieldSchema schema, BitSet removed) {
+      this.schema = schema;
+      this.removed = removed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      KeySignature that = (KeySignature) o;
+      return schema.equals(that.schema) && Objects.equals(removed, that.removed);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * schema.hashCode() + Objects.hashCode(removed);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.factory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import tech.units.indriya.ComparableQuantity;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * Bounded cache of immutable quantities by their string value and unit. Lots of fields of input
+ * files share the same values (e.g. rated powers, voltages or zero values), so that these values
+ * are parsed and wrapped only once. Once the bound of a unit is reached, further values are still
+ * created, but not cached anymore.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+class QuantityCache {
+
+  private final int maxValuesPerUnit;
+  private final Map<Unit<?>, Map<String, ComparableQuantity<?>>> quantities =
+      new ConcurrentHashMap<>();
+
+  /** @param maxValuesPerUnit the maximum number of cached values per unit */
+  QuantityCache(int maxValuesPerUnit) {
+    this.maxValuesPerUnit = maxValuesPerUnit;
+  }
+
+  /**
+   * Returns the cached quantity for the given value and unit or creates it
+   *
+   * @param value the string representation of the value
+   * @param unit the unit of the quantity
+   * @param parser parses the value, if it is not cached yet, and is expected to throw, if the value
+   *     is invalid
+   * @param <Q> unit type parameter
+   * @return the quantity
+   */
+  @SuppressWarnings("unchecked")
+  <Q extends Quantity<Q>> ComparableQuantity<Q> get(
+      String value, Unit<Q> unit, ToDoubleFunction<String> parser) {
+    Map<String, ComparableQuantity<?>> values =
+        quantities.computeIfAbsent(unit, key -> new ConcurrentHashMap<>());
+    ComparableQuantity<Q> cached = (ComparableQuantity<Q>) values.get(value);
+    if (cached != null) return cached;
+
+    ComparableQuantity<Q> quantity = Quantities.getQuantity(parser.applyAsDouble(value), unit);
+    if (values.size() < maxValuesPerUnit) values.putIfAbsent(value, quantity);
+    return quantity;
+  }
+}
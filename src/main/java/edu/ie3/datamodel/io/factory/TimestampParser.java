@@ -0,0 +1,160 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.factory;
+
+import edu.ie3.util.TimeUtil;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+
+/**
+ * Thread-safe parser for timestamps of time series and result files. In these files, the same
+ * timestamp is repeated for every coordinate or asset of a time step, hence the parser remembers
+ * the recently parsed timestamps and returns the very same {@link ZonedDateTime} instance for
+ * repeated strings.
+ *
+ * <p>Timestamps, that follow one of the patterns {@link #DEFAULT_PATTERN} or {@link
+ * #ISO_UTC_PATTERN} (without fraction of seconds), are read from their fixed positions. All other
+ * timestamps and patterns are handed over to {@link TimeUtil}, so that the results and exceptions
+ * are exactly the same as the ones of {@link TimeUtil#toZonedDateTime(String)}.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class TimestampParser {
+
+  /** Pattern of {@link TimeUtil#withDefaults}, e.g. "2020-03-25 15:11:31" */
+  public static final String DEFAULT_PATTERN = "yyyy-MM-dd HH:mm:ss";
+  /** Pattern of ISO 8601 timestamps in UTC, e.g. "2020-03-25T15:11:31Z" */
+  public static final String ISO_UTC_PATTERN = "yyyy-MM-dd'T'HH:mm:ss[.S[S][S]]'Z'";
+
+  // number of recently parsed timestamps, that are remembered (power of two)
+  private static final int RECENT_TIMESTAMPS = 16;
+  private static final int DATE_TIME_LENGTH = "yyyy-MM-dd HH:mm:ss".length();
+
+  private static final TimestampParser defaultParser =
+      new TimestampParser(ZoneId.of("UTC"), Locale.GERMANY, DEFAULT_PATTERN);
+
+  private final TimeUtil timeUtil;
+  private final ZoneId zoneId;
+  // separator between date and time on the fast path or 0, if the pattern is not covered
+  private final char dateTimeSeparator;
+  private final boolean hasZuluSuffix;
+  /* Direct mapped by the hash code of the timestamp. The entries are immutable, hence racy reads
+   * and writes are safe and at worst lead to a timestamp being parsed once more. */
+  private final ParsedTimestamp[] recentTimestamps = new ParsedTimestamp[RECENT_TIMESTAMPS];
+
+  /**
+   * Creates a new parser
+   *
+   * @param zoneId the time zone of the timestamps
+   * @param locale the locale of the timestamps
+   * @param pattern the pattern of the timestamps as accepted by {@link TimeUtil}
+   */
+  public TimestampParser(ZoneId zoneId, Locale locale, String pattern) {
+    this.timeUtil = new TimeUtil(zoneId, locale, pattern);
+    this.zoneId = zoneId;
+    if (DEFAULT_PATTERN.equals(pattern)) {
+      this.dateTimeSeparator = ' ';
+      this.hasZuluSuffix = false;
+    } else if (ISO_UTC_PATTERN.equals(pattern)) {
+      this.dateTimeSeparator = 'T';
+      this.hasZuluSuffix = true;
+    } else {
+      this.dateTimeSeparator = 0;
+      this.hasZuluSuffix = false;
+    }
+  }
+
+  /** @return the parser for timestamps of {@link TimeUtil#withDefaults}, that is shared by all */
+  public static TimestampParser getDefault() {
+    return defaultParser;
+  }
+
+  /**
+   * Parses the given timestamp
+   *
+   * @param timestamp the string representation of the timestamp
+   * @return the timestamp, which might be the same instance as for a preceding equal string
+   * @throws java.time.format.DateTimeParseException if the timestamp cannot be parsed
+   */
+  public ZonedDateTime parse(String timestamp) {
+    if (timestamp == null) return timeUtil.toZonedDateTime(null);
+
+    int slot = spread(timestamp.hashCode()) & (RECENT_TIMESTAMPS - 1);
+    ParsedTimestamp recent = recentTimestamps[slot];
+    if (recent != null && recent.timestamp.equals(timestamp)) return recent.zonedDateTime;
+
+    ZonedDateTime parsed = parseFixedPositions(timestamp);
+    if (parsed == null) parsed = timeUtil.toZonedDateTime(timestamp);
+    recentTimestamps[slot] = new ParsedTimestamp(timestamp, parsed);
+    return parsed;
+  }
+
+  private static int spread(int hashCode) {
+    return hashCode ^ (hashCode >>> 16);
+  }
+
+  /** @return the timestamp or null, if it is not covered by the fast path */
+  private ZonedDateTime parseFixedPositions(String timestamp) {
+    int expectedLength = DATE_TIME_LENGTH + (hasZuluSuffix ? 1 : 0);
+    if (dateTimeSeparator == 0
+        || timestamp.length() != expectedLength
+        || timestamp.charAt(4) != '-'
+        || timestamp.charAt(7) != '-'
+        || timestamp.charAt(10) != dateTimeSeparator
+        || timestamp.charAt(13) != ':'
+        || timestamp.charAt(16) != ':'
+        || (hasZuluSuffix && timestamp.charAt(DATE_TIME_LENGTH) != 'Z'))
+      return null;
+
+    int year = digits(timestamp, 0, 4);
+    int month = digits(timestamp, 5, 7);
+    int day = digits(timestamp, 8, 10);
+    int hour = digits(timestamp, 11, 13);
+    int minute = digits(timestamp, 14, 16);
+    int second = digits(timestamp, 17, 19);
+
+    /* everything unusual (e.g. 24:00:00 or days beyond the end of month) is left to the formatter,
+     * as it may be resolved leniently */
+    if (year < 1
+        || month < 1
+        || month > 12
+        || day < 1
+        || (day > 28 && day > YearMonth.of(year, month).lengthOfMonth())
+        || hour < 0
+        || hour > 23
+        || minute < 0
+        || minute > 59
+        || second < 0
+        || second > 59)
+      return null;
+
+    return ZonedDateTime.of(year, month, day, hour, minute, second, 0, zoneId);
+  }
+
+  /** @return the value of the ASCII digits or -1, if there is another character */
+  private static int digits(String value, int from, int to) {
+    int result = 0;
+    for (int idx = from; idx < to; idx++) {
+      char c = value.charAt(idx);
+      if (c < '0' || c > '9') return -1;
+      result = result * 10 + (c - '0');
+    }
+    return result;
+  }
+
+  private static final class ParsedTimestamp {
+    private final String timestamp;
+    private final ZonedDateTime zonedDateTime;
+
+    private ParsedTimestamp(String timestamp, ZonedDateTime zonedDateTime) {
+      this.timestamp = timestamp;
+      this.zonedDateTime = zonedDateTime;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.factory;
+
+import java.util.UUID;
+
+/**
+ * Parsers for field values, that are called for almost every field of every row and hence have a
+ * fast path for the canonical representation of their values. Values, that are not covered by the
+ * fast path, are handed over to the JDK parsers. Therefore, the results and the exceptions are
+ * exactly the same as the ones of {@link UUID#fromString(String)} and {@link
+ * Double#parseDouble(String)}.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public final class ValueParsers {
+
+  private static final int UUID_LENGTH = 36;
+  // a double represents every integer up to 2^53 exactly
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+  // the maximum number of digits, that surely fits into a long
+  private static final int MAX_DIGITS = 18;
+  // every power of ten up to 10^22 is exactly representable as double
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private ValueParsers() {
+    throw new IllegalStateException("Utility classes cannot be instantiated");
+  }
+
+  /**
+   * Parses a UUID. Canonical representations (8-4-4-4-12 hexadecimal digits) are parsed without
+   * creating intermediate objects.
+   *
+   * @param value the string representation of the UUID
+   * @return the UUID
+   * @throws IllegalArgumentException if the value does not represent a UUID
+   * @throws NullPointerException if the value is null
+   */
+  public static UUID parseUuid(String value) {
+    if (value != null
+        && value.length() == UUID_LENGTH
+        && value.charAt(8) == '-'
+        && value.charAt(13) == '-'
+        && value.charAt(18) == '-'
+        && value.charAt(23) == '-') {
+      long timeLow = parseHex(value, 0, 8);
+      long timeMid = parseHex(value, 9, 13);
+      long timeHigh = parseHex(value, 14, 18);
+      long clockSeq = parseHex(value, 19, 23);
+      long node = parseHex(value, 24, 36);
+      if ((timeLow | timeMid | timeHigh | clockSeq | node) >= 0)
+        return new UUID(timeLow << 32 | timeMid << 16 | timeHigh, clockSeq << 48 | node);
+    }
+    return UUID.fromString(value);
+  }
+
+  /** @return the value of the hexadecimal digits or -1, if there is a non hexadecimal character */
+  private static long parseHex(String value, int from, int to) {
+    long result = 0;
+    for (int idx = from; idx < to; idx++) {
+      int digit = Character.digit(value.charAt(idx), 16);
+      if (digit < 0) return -1;
+      result = result << 4 | digit;
+    }
+    return result;
+  }
+
+  /**
+   * Parses a double. Plain decimal numbers (e.g. "-12.345"), whose digits fit into the mantissa of
+   * a double, are computed directly, as they can be rounded correctly by a single division. All
+   * other representations (exponents, whitespace, special values, long numbers) are parsed by
+   * {@link Double#parseDouble(String)}.
+   *
+   * @param value the string representation of the double
+   * @return the double value
+   * @throws NumberFormatException if the value does not represent a double
+   * @throws NullPointerException if the value is null
+   */
+  public static double parseDouble(String value) {
+    if (value != null) {
+      double result = parsePlainDecimal(value);
+      if (!Double.isNaN(result)) return result;
+    }
+    return Double.parseDouble(value);
+  }
+
+  /** @return the value of a plain decimal number or NaN, if the value is not covered */
+  private static double parsePlainDecimal(String value) {
+    int length = value.length();
+    int idx = 0;
+    boolean isNegative = false;
+    if (idx < length && (value.charAt(idx) == '-' || value.charAt(idx) == '+')) {
+      isNegative = value.charAt(idx) == '-';
+      idx++;
+    }
+
+    long mantissa = 0;
+    int digits = 0;
+    int fractionDigits = 0;
+    boolean isFraction = false;
+    for (; idx < length; idx++) {
+      char c = value.charAt(idx);
+      if (c >= '0' && c <= '9') {
+        if (++digits > MAX_DIGITS) return Double.NaN;
+        mantissa = mantissa * 10 + (c - '0');
+        if (isFraction) fractionDigits++;
+      } else if (c == '.' && !isFraction) {
+        isFraction = true;
+      } else return Double.NaN;
+    }
+    if (digits == 0 || mantissa > MAX_EXACT_MANTISSA || fractionDigits >= POWERS_OF_TEN.length)
+      return Double.NaN;
+
+    double result = mantissa / POWERS_OF_TEN[fractionDigits];
+    return isNegative ? -result : result;
+  }
+}
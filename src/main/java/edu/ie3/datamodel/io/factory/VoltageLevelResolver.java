@@ -0,0 +1,113 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.factory;
+
+import edu.ie3.datamodel.exceptions.VoltageLevelException;
+import edu.ie3.datamodel.models.voltagelevels.GermanVoltageLevelUtils;
+import edu.ie3.datamodel.models.voltagelevels.VoltageLevel;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.measure.quantity.ElectricPotential;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.units.indriya.ComparableQuantity;
+
+/**
+ * Thread-safe resolver of voltage levels, that remembers the voltage level of every combination of
+ * id and rated voltage. Hence, all nodes sharing the same voltage level information also share the
+ * same {@link VoltageLevel} instance and the common German voltage levels are searched only once
+ * per combination. Combinations, that are not covered by a common German voltage level, are
+ * resolved to an individual voltage level, which is logged only once.
+ *
+ * <p>The number of remembered combinations is bounded. Once the bound is reached, further
+ * combinations are resolved (and logged) every time.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class VoltageLevelResolver {
+  private static final Logger logger = LoggerFactory.getLogger(VoltageLevelResolver.class);
+
+  private final int maxResolvedVoltageLevels;
+  private final Map<Key, VoltageLevel> resolvedVoltageLevels = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new resolver
+   *
+   * @param maxResolvedVoltageLevels the maximum number of remembered combinations of id and rated
+   *     voltage
+   */
+  public VoltageLevelResolver(int maxResolvedVoltageLevels) {
+    if (maxResolvedVoltageLevels < 0)
+      throw new IllegalArgumentException(
+          "The maximum number of resolved voltage levels must not be negative, but is "
+              + maxResolvedVoltageLevels);
+    this.maxResolvedVoltageLevels = maxResolvedVoltageLevels;
+  }
+
+  /**
+   * Resolves the given voltage level information to a German voltage level or an individual one,
+   * if no suitable one can be found.
+   *
+   * @param id Identifier of the voltage level
+   * @param vRated Foreseen rated voltage
+   * @return A suitable German {@link edu.ie3.datamodel.models.voltagelevels.CommonVoltageLevel} or
+   *     an individual one
+   */
+  public VoltageLevel resolve(String id, ComparableQuantity<ElectricPotential> vRated) {
+    Key key = new Key(id, vRated);
+    VoltageLevel resolved = resolvedVoltageLevels.get(key);
+    if (resolved != null) return resolved;
+    if (resolvedVoltageLevels.size() >= maxResolvedVoltageLevels)
+      return parseToGermanVoltLvlOrIndividual(id, vRated);
+
+    // applied at most once per key, hence every unknown voltage level is logged only once
+    return resolvedVoltageLevels.computeIfAbsent(
+        key, k -> parseToGermanVoltLvlOrIndividual(id, vRated));
+  }
+
+  /** @return the number of remembered combinations of id and rated voltage */
+  public int getNumberOfResolvedVoltageLevels() {
+    return resolvedVoltageLevels.size();
+  }
+
+  private static VoltageLevel parseToGermanVoltLvlOrIndividual(
+      String id, ComparableQuantity<ElectricPotential> vRated) {
+    try {
+      return GermanVoltageLevelUtils.parse(id, vRated);
+    } catch (VoltageLevelException e) {
+      logger.warn(
+          "Cannot parse ({}, {}) to common German voltage level. Build an individual one.",
+          id,
+          vRated);
+      return new VoltageLevel(id, vRated);
+    }
+  }
+
+  private static final class Key {
+    private final String id;
+    private final ComparableQuantity<ElectricPotential> vRated;
+
+    private Key(String id, ComparableQuantity<ElectricPotential> vRated) {
+      this.id = id;
+      this.vRated = vRated;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Key key = (Key) o;
+      return Objects.equals(id, key.id) && Objects.equals(vRated, key.vRated);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, vRated);
+    }
+  }
+}
@@ -6,6 +6,7 @@
 package edu.ie3.datamodel.io.factory.input;
 
 import edu.ie3.datamodel.io.factory.EntityFactory;
+import edu.ie3.datamodel.io.factory.FlyweightRegistry;
 import edu.ie3.datamodel.models.OperationTime;
 import edu.ie3.datamodel.models.input.AssetInput;
 import edu.ie3.datamodel.models.input.OperatorInput;
@@ -92,7 +93,8 @@ public abstract class AssetInputEntityFactory<T extends AssetInput, D extends As
 
   /**
    * Creates an {@link OperationTime} from the entity data from attributes OPERATES_FROM and
-   * OPERATES_UNTIL. Both or one of these can be empty or non-existing.
+   * OPERATES_UNTIL. Both or one of these can be empty or non-existing. If enabled, the operation
+   * time is interned by the default {@link FlyweightRegistry}.
    *
    * @param data entity data to take the dates from
    * @return Operation time object
@@ -105,6 +107,6 @@ public abstract class AssetInputEntityFactory<T extends AssetInput, D extends As
     if (from != null && !from.trim().isEmpty()) builder.withStart(ZonedDateTime.parse(from));
     if (until != null && !until.trim().isEmpty()) builder.withEnd(ZonedDateTime.parse(until));
 
-    return builder.build();
+    return FlyweightRegistry.getDefault().intern(builder.build());
   }
 }
@@ -7,6 +7,7 @@ package edu.ie3.datamodel.io.factory.input;
 
 import edu.ie3.datamodel.exceptions.FactoryException;
 import edu.ie3.datamodel.exceptions.ParsingException;
+import edu.ie3.datamodel.io.factory.CharacteristicCache;
 import edu.ie3.datamodel.models.OperationTime;
 import edu.ie3.datamodel.models.StandardUnits;
 import edu.ie3.datamodel.models.input.NodeInput;
@@ -54,7 +55,11 @@ public class LineInputFactory
     try {
       olmCharacteristic =
           data.containsKey(OLM_CHARACTERISTIC) && !data.getField(OLM_CHARACTERISTIC).isEmpty()
-              ? new OlmCharacteristicInput(data.getField(OLM_CHARACTERISTIC))
+              ? CharacteristicCache.getDefault()
+                  .get(
+                      OlmCharacteristicInput.class,
+                      data.getField(OLM_CHARACTERISTIC),
+                      OlmCharacteristicInput::new)
               : OlmCharacteristicInput.CONSTANT_CHARACTERISTIC;
     } catch (ParsingException e) {
       throw new FactoryException(
@@ -7,6 +7,7 @@ package edu.ie3.datamodel.io.factory.input.participant;
 
 import edu.ie3.datamodel.exceptions.FactoryException;
 import edu.ie3.datamodel.exceptions.ParsingException;
+import edu.ie3.datamodel.io.factory.CharacteristicCache;
 import edu.ie3.datamodel.io.factory.input.AssetInputEntityFactory;
 import edu.ie3.datamodel.io.factory.input.NodeAssetInputEntityData;
 import edu.ie3.datamodel.models.OperationTime;
@@ -50,7 +51,12 @@ abstract class SystemParticipantInputEntityFactory<
     NodeInput node = data.getNode();
     ReactivePowerCharacteristic qCharacteristics;
     try {
-      qCharacteristics = ReactivePowerCharacteristic.parse(data.getField(Q_CHARACTERISTICS));
+      qCharacteristics =
+          CharacteristicCache.getDefault()
+              .get(
+                  ReactivePowerCharacteristic.class,
+                  data.getField(Q_CHARACTERISTICS),
+                  ReactivePowerCharacteristic::parse);
     } catch (ParsingException e) {
       throw new FactoryException(
           "Cannot parse the following reactive power characteristic: '"
@@ -7,13 +7,13 @@ package edu.ie3.datamodel.io.factory.result;
 
 import edu.ie3.datamodel.exceptions.FactoryException;
 import edu.ie3.datamodel.io.factory.SimpleEntityData;
+import edu.ie3.datamodel.io.factory.TimestampParser;
 import edu.ie3.datamodel.models.StandardUnits;
 import edu.ie3.datamodel.models.UniqueEntity;
 import edu.ie3.datamodel.models.result.connector.ConnectorResult;
 import edu.ie3.datamodel.models.result.connector.LineResult;
 import edu.ie3.datamodel.models.result.connector.Transformer2WResult;
 import edu.ie3.datamodel.models.result.connector.Transformer3WResult;
-import edu.ie3.util.TimeUtil;
 import tech.units.indriya.ComparableQuantity;
 
 import javax.measure.quantity.Angle;
@@ -30,7 +30,7 @@ public class ConnectorResultFactory extends ResultEntityFactory<ConnectorResult>
   private static final String ICMAG = "icmag";
   private static final String ICANG = "icang";
   private static final String TAPPOS = "tappos";
-  private final TimeUtil timeUtil = TimeUtil.withDefaults;
+  private final TimestampParser timestampParser = TimestampParser.getDefault();
 
 
   public ConnectorResultFactory() {
@@ -59,7 +59,7 @@ public class ConnectorResultFactory extends ResultEntityFactory<ConnectorResult>
   @Override
   protected ConnectorResult buildModel(SimpleEntityData data) {
     final Class<? extends UniqueEntity> entityClass = data.getEntityClass();
-    ZonedDateTime timestamp = timeUtil.toZonedDateTime(data.getField(TIMESTAMP));
+    ZonedDateTime timestamp = timestampParser.parse(data.getField(TIMESTAMP));
     UUID inputModel = data.getUUID(INPUT_MODEL);
     ComparableQuantity<ElectricCurrent> iAMag =
         data.getQuantity(IAMAG, StandardUnits.ELECTRIC_CURRENT_MAGNITUDE);
@@ -6,9 +6,9 @@
 package edu.ie3.datamodel.io.factory.result;
 
 import edu.ie3.datamodel.io.factory.SimpleEntityData;
+import edu.ie3.datamodel.io.factory.TimestampParser;
 import edu.ie3.datamodel.models.StandardUnits;
 import edu.ie3.datamodel.models.result.NodeResult;
-import edu.ie3.util.TimeUtil;
 import tech.units.indriya.ComparableQuantity;
 
 import javax.measure.quantity.Angle;
@@ -20,7 +20,7 @@ public class NodeResultFactory extends ResultEntityFactory<NodeResult> {
   private static final String VMAG = "vmag";
   private static final String VANG = "vang";
 
-  private final TimeUtil timeUtil = TimeUtil.withDefaults;
+  private final TimestampParser timestampParser = TimestampParser.getDefault();
 
   public NodeResultFactory() {
     super(NodeResult.class);
@@ -36,7 +36,7 @@ public class NodeResultFactory extends ResultEntityFactory<NodeResult> {
 
   @Override
   protected NodeResult buildModel(SimpleEntityData data) {
-    ZonedDateTime zdtTimestamp = timeUtil.toZonedDateTime(data.getField(TIMESTAMP));
+    ZonedDateTime zdtTimestamp = timestampParser.parse(data.getField(TIMESTAMP));
     UUID inputModelUuid = data.getUUID(INPUT_MODEL);
     ComparableQuantity<Dimensionless> vMagValue =
         data.getQuantity(VMAG, StandardUnits.VOLTAGE_MAGNITUDE);
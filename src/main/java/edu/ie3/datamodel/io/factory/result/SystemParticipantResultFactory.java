@@ -7,10 +7,10 @@ package edu.ie3.datamodel.io.factory.result;
 
 import edu.ie3.datamodel.exceptions.FactoryException;
 import edu.ie3.datamodel.io.factory.SimpleEntityData;
+import edu.ie3.datamodel.io.factory.TimestampParser;
 import edu.ie3.datamodel.models.StandardUnits;
 import edu.ie3.datamodel.models.UniqueEntity;
 import edu.ie3.datamodel.models.result.system.*;
-import edu.ie3.util.TimeUtil;
 import tech.units.indriya.ComparableQuantity;
 
 import javax.measure.quantity.Dimensionless;
@@ -31,7 +31,7 @@ public class SystemParticipantResultFactory extends ResultEntityFactory<SystemPa
   private static final String SOC = "soc";
   private static final String Q_DOT = "qdot";
 
-  private final TimeUtil timeUtil = TimeUtil.withDefaults;
+  private final TimestampParser timestampParser = TimestampParser.getDefault();
 
   public SystemParticipantResultFactory() {
     super(
@@ -71,7 +71,7 @@ public class SystemParticipantResultFactory extends ResultEntityFactory<SystemPa
   protected SystemParticipantResult buildModel(SimpleEntityData data) {
     Class<? extends UniqueEntity> entityClass = data.getEntityClass();
 
-    ZonedDateTime zdtTimestamp = timeUtil.toZonedDateTime(data.getField(TIMESTAMP));
+    ZonedDateTime zdtTimestamp = timestampParser.parse(data.getField(TIMESTAMP));
     UUID inputModelUuid = data.getUUID(INPUT_MODEL);
     ComparableQuantity<Power> p = data.getQuantity(POWER, StandardUnits.ACTIVE_POWER_RESULT);
     ComparableQuantity<Power> q =
@@ -7,12 +7,12 @@ package edu.ie3.datamodel.io.factory.result;
 
 import edu.ie3.datamodel.exceptions.FactoryException;
 import edu.ie3.datamodel.io.factory.SimpleEntityData;
+import edu.ie3.datamodel.io.factory.TimestampParser;
 import edu.ie3.datamodel.models.StandardUnits;
 import edu.ie3.datamodel.models.UniqueEntity;
 import edu.ie3.datamodel.models.result.thermal.CylindricalStorageResult;
 import edu.ie3.datamodel.models.result.thermal.ThermalHouseResult;
 import edu.ie3.datamodel.models.result.thermal.ThermalUnitResult;
-import edu.ie3.util.TimeUtil;
 import java.time.ZonedDateTime;
 import java.util.*;
 import javax.measure.quantity.Dimensionless;
@@ -27,7 +27,7 @@ public class ThermalResultFactory extends ResultEntityFactory<ThermalUnitResult>
   private static final String ENERGY = "energy";
   private static final String FILL_LEVEL = "fillLevel";
 
-  private final TimeUtil timeUtil = TimeUtil.withDefaults;
+  private final TimestampParser timestampParser = TimestampParser.getDefault();
 
   public ThermalResultFactory() {
     super(ThermalHouseResult.class, CylindricalStorageResult.class);
@@ -51,7 +51,7 @@ public class ThermalResultFactory extends ResultEntityFactory<ThermalUnitResult>
   protected ThermalUnitResult buildModel(SimpleEntityData data) {
     Class<? extends UniqueEntity> clazz = data.getEntityClass();
 
-    ZonedDateTime zdtTimestamp = timeUtil.toZonedDateTime(data.getField(TIMESTAMP));
+    ZonedDateTime zdtTimestamp = timestampParser.parse(data.getField(TIMESTAMP));
     UUID inputModelUuid = data.getUUID(INPUT_MODEL);
     ComparableQuantity<Power> qDotQuantity = data.getQuantity(Q_DOT, StandardUnits.HEAT_DEMAND);
     Optional<UUID> uuidOpt =
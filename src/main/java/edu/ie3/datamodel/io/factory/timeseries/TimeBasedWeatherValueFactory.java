@@ -6,10 +6,10 @@
 package edu.ie3.datamodel.io.factory.timeseries;
 
 import edu.ie3.datamodel.io.factory.EntityFactory;
+import edu.ie3.datamodel.io.factory.TimestampParser;
 import edu.ie3.datamodel.models.StandardUnits;
 import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue;
 import edu.ie3.datamodel.models.value.WeatherValue;
-import edu.ie3.util.TimeUtil;
 import edu.ie3.util.quantities.interfaces.Irradiation;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -32,15 +32,15 @@ public class TimeBasedWeatherValueFactory
   private static final String WIND_DIRECTION = "wind_direction";
   private static final String WIND_VELOCITY = "wind_velocity";
 
-  private final TimeUtil timeUtil;
+  private final TimestampParser timestampParser;
 
   public TimeBasedWeatherValueFactory() {
-    this("yyyy-MM-dd'T'HH:mm:ss[.S[S][S]]'Z'");
+    this(TimestampParser.ISO_UTC_PATTERN);
   }
 
   public TimeBasedWeatherValueFactory(String timestampPattern) {
     super(TimeBasedValue.class);
-    timeUtil = new TimeUtil(ZoneId.of("UTC"), Locale.GERMANY, timestampPattern);
+    timestampParser = new TimestampParser(ZoneId.of("UTC"), Locale.GERMANY, timestampPattern);
   }
 
   @Override
@@ -61,7 +61,7 @@ public class TimeBasedWeatherValueFactory
   protected TimeBasedValue<WeatherValue> buildModel(TimeBasedWeatherValueData data) {
     Point coordinate = data.getCoordinate();
     UUID uuid = data.getUUID(UUID);
-    ZonedDateTime time = timeUtil.toZonedDateTime(data.getField(TIME));
+    ZonedDateTime time = timestampParser.parse(data.getField(TIME));
     ComparableQuantity<Irradiation> directIrradiation =
         data.getQuantity(DIRECT_IRRADIATION, StandardUnits.IRRADIATION);
     ComparableQuantity<Irradiation> diffuseIrradiation =
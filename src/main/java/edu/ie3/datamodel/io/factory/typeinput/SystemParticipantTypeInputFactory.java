@@ -7,6 +7,7 @@ package edu.ie3.datamodel.io.factory.typeinput;
 
 import edu.ie3.datamodel.exceptions.FactoryException;
 import edu.ie3.datamodel.exceptions.ParsingException;
+import edu.ie3.datamodel.io.factory.CharacteristicCache;
 import edu.ie3.datamodel.io.factory.SimpleEntityData;
 import edu.ie3.datamodel.models.StandardUnits;
 import edu.ie3.datamodel.models.input.system.characteristic.WecCharacteristicInput;
@@ -193,7 +194,12 @@ public class SystemParticipantTypeInputFactory
 
     WecCharacteristicInput cpCharacteristic;
     try {
-      cpCharacteristic = new WecCharacteristicInput(data.getField(CP_CHARACTERISTIC));
+      cpCharacteristic =
+          CharacteristicCache.getDefault()
+              .get(
+                  WecCharacteristicInput.class,
+                  data.getField(CP_CHARACTERISTIC),
+                  WecCharacteristicInput::new);
     } catch (ParsingException e) {
       throw new FactoryException(
           "Cannot parse the following Betz characteristic: '"
@@ -8,7 +8,6 @@ package edu.ie3.datamodel.io.processor;
 import edu.ie3.datamodel.exceptions.EntityProcessorException;
 import edu.ie3.datamodel.models.StandardUnits;
 import edu.ie3.datamodel.models.UniqueEntity;
-import java.lang.reflect.Method;
 import java.util.*;
 import javax.measure.Quantity;
 import javax.measure.quantity.Energy;
@@ -28,7 +27,9 @@ public abstract class EntityProcessor<T extends UniqueEntity> extends Processor<
 
   public static final Logger log = LogManager.getLogger(EntityProcessor.class);
   protected final String[] headerElements;
-  private final SortedMap<String, Method> fieldNameToMethod;
+  private final Map<String, FieldSerializer> fieldNameToSerializer;
+  // serializers in the order of the header elements
+  private final FieldSerializer[] serializers;
 
   private static final String NODE_INTERNAL = "nodeInternal";
 
@@ -39,9 +40,12 @@ public abstract class EntityProcessor<T extends UniqueEntity> extends Processor<
    */
   public EntityProcessor(Class<? extends T> registeredClass) {
     super(registeredClass);
-    this.fieldNameToMethod =
-        mapFieldNameToGetter(registeredClass, Collections.singleton(NODE_INTERNAL));
-    this.headerElements = fieldNameToMethod.keySet().toArray(new String[0]);
+    this.fieldNameToSerializer =
+        Collections.unmodifiableMap(
+            compileFieldSerializers(
+                mapFieldNameToGetter(registeredClass, Collections.singleton(NODE_INTERNAL))));
+    this.headerElements = fieldNameToSerializer.keySet().toArray(new String[0]);
+    this.serializers = fieldNameToSerializer.values().toArray(new FieldSerializer[0]);
   }
 
   /**
@@ -52,6 +56,37 @@ public abstract class EntityProcessor<T extends UniqueEntity> extends Processor<
    *     during processing
    */
   public Optional<LinkedHashMap<String, String>> handleEntity(T entity) {
+    checkRegisteredClass(entity);
+
+    try {
+      return Optional.of(processObject(entity, fieldNameToSerializer));
+    } catch (EntityProcessorException e) {
+      logger.error("Cannot process the entity{}.", entity, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Handles an entity without building a map of field name to value. The values are equal to the
+   * ones of {@link #handleEntity(UniqueEntity)}, but are returned in the order of the header
+   * elements (see {@link #getHeaderElements()}).
+   *
+   * @param entity the entity that should be 'de-serialized' into its field values
+   * @return an optional array of the field values in the order of the header elements or an empty
+   *     optional if an error occurred during processing
+   */
+  public Optional<String[]> handleEntityRow(T entity) {
+    checkRegisteredClass(entity);
+
+    try {
+      return Optional.of(processObjectToRow(entity, serializers));
+    } catch (EntityProcessorException e) {
+      logger.error("Cannot process the entity{}.", entity, e);
+      return Optional.empty();
+    }
+  }
+
+  private void checkRegisteredClass(T entity) {
     if (!registeredClass.equals(entity.getClass()))
       throw new EntityProcessorException(
           "Cannot process "
@@ -61,13 +96,6 @@ public abstract class EntityProcessor<T extends UniqueEntity> extends Processor<
               + ".class or create a new processor for "
               + entity.getClass().getSimpleName()
               + ".class!");
-
-    try {
-      return Optional.of(processObject(entity, fieldNameToMethod));
-    } catch (EntityProcessorException e) {
-      logger.error("Cannot process the entity{}.", entity, e);
-      return Optional.empty();
-    }
   }
 
   @Override
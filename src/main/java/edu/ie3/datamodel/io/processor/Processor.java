@@ -17,10 +17,15 @@ import edu.ie3.datamodel.models.input.connector.SwitchInput;
 import edu.ie3.datamodel.models.input.system.characteristic.CharacteristicInput;
 import edu.ie3.datamodel.models.voltagelevels.VoltageLevel;
 import java.beans.Introspector;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.measure.Quantity;
 import org.locationtech.jts.geom.Geometry;
@@ -162,32 +167,128 @@ public abstract class Processor<T> {
   }
 
   /**
-   * Processes the object to a map from field name to value as String representation
+   * Serializer of one field of an object, that has been compiled for the field's getter once. It
+   * neither invokes the getter reflectively nor dispatches on the getter's return type.
+   */
+  @FunctionalInterface
+  protected interface FieldSerializer {
+    /**
+     * Serializes the field of the given object
+     *
+     * @param object The object to get the field value from
+     * @return A String representation of the field value or an empty String, if it is null
+     */
+    String serialize(Object object);
+  }
+
+  /**
+   * Compiles the serializers of all given fields
    *
-   * @param object The object to process
    * @param fieldNameToGetter Mapping from field name to getter
-   * @return Mapping from field name to value as String representation
+   * @return Mapping from field name to serializer in the order of the given mapping
    */
-  protected LinkedHashMap<String, String> processObject(
-      Object object, Map<String, Method> fieldNameToGetter) {
+  protected LinkedHashMap<String, FieldSerializer> compileFieldSerializers(
+      Map<String, Method> fieldNameToGetter) {
+    LinkedHashMap<String, FieldSerializer> fieldNameToSerializer = new LinkedHashMap<>();
+    for (Map.Entry<String, Method> entry : fieldNameToGetter.entrySet()) {
+      fieldNameToSerializer.put(
+          entry.getKey(), compileFieldSerializer(entry.getValue(), entry.getKey()));
+    }
+    return fieldNameToSerializer;
+  }
+
+  /**
+   * Compiles the serializer of a single field. The getter is bound to a generated lambda and the
+   * handling of its return type is resolved here, so that both are not repeated per object. The
+   * results are equal to the ones of {@link #processMethodResult(Object, Method, String)}.
+   *
+   * @param getter The getter of the field
+   * @param fieldName Name of the foreseen field
+   * @return The serializer of the field
+   */
+  protected FieldSerializer compileFieldSerializer(Method getter, String fieldName) {
+    Function<Object, Object> accessor = compileAccessor(getter);
+    Function<Object, String> valueSerializer = compileValueSerializer(getter, fieldName);
+    return object -> {
+      Object methodReturnObject = accessor.apply(object);
+      return methodReturnObject == null ? "" : valueSerializer.apply(methodReturnObject);
+    };
+  }
+
+  /**
+   * Binds the getter to a lambda generated by the {@link LambdaMetafactory}, which can be inlined
+   * like a direct call. If this is not possible, e.g. as the getter is not accessible from here,
+   * the getter is invoked reflectively.
+   *
+   * @param getter The getter to bind
+   * @return A function applying the getter
+   */
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> compileAccessor(Method getter) {
+    Function<Object, Object> getterFunction;
     try {
-      LinkedHashMap<String, String> resultMap = new LinkedHashMap<>();
-      for (Map.Entry<String, Method> entry : fieldNameToGetter.entrySet()) {
-        String fieldName = entry.getKey();
-        Method getter = entry.getValue();
-        Optional<Object> methodReturnObjectOpt = Optional.ofNullable(getter.invoke(object));
-
-        if (methodReturnObjectOpt.isPresent()) {
-          resultMap.put(
-              fieldName, processMethodResult(methodReturnObjectOpt.get(), getter, fieldName));
-        } else {
-          resultMap.put(fieldName, "");
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      MethodHandle getterHandle = lookup.unreflect(getter);
+      getterFunction =
+          (Function<Object, Object>)
+              LambdaMetafactory.metafactory(
+                      lookup,
+                      "apply",
+                      MethodType.methodType(Function.class),
+                      MethodType.methodType(Object.class, Object.class),
+                      getterHandle,
+                      getterHandle.type().wrap())
+                  .getTarget()
+                  .invokeExact();
+    } catch (Throwable e) {
+      logger.debug("Cannot compile getter '{}'. It is invoked reflectively.", getter, e);
+      return object -> {
+        try {
+          return getter.invoke(object);
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+          throw new EntityProcessorException("Processing of object " + object + "failed.", ex);
         }
+      };
+    }
+    return object -> {
+      try {
+        return getterFunction.apply(object);
+      } catch (RuntimeException e) {
+        throw new EntityProcessorException("Processing of object " + object + "failed.", e);
       }
-      return resultMap;
-    } catch (IllegalAccessException | InvocationTargetException e) {
-      throw new EntityProcessorException("Processing of object " + object + "failed.", e);
+    };
+  }
+
+  /**
+   * Processes the object to a map from field name to value as String representation
+   *
+   * @param object The object to process
+   * @param fieldNameToSerializer Mapping from field name to compiled serializer
+   * @return Mapping from field name to value as String representation
+   */
+  protected LinkedHashMap<String, String> processObject(
+      Object object, Map<String, FieldSerializer> fieldNameToSerializer) {
+    LinkedHashMap<String, String> resultMap = new LinkedHashMap<>();
+    for (Map.Entry<String, FieldSerializer> entry : fieldNameToSerializer.entrySet()) {
+      resultMap.put(entry.getKey(), entry.getValue().serialize(object));
     }
+    return resultMap;
+  }
+
+  /**
+   * Processes the object to an array of the String representations of its values. The values are
+   * in the order of the given serializers, which avoids building a map per object.
+   *
+   * @param object The object to process
+   * @param serializers Compiled serializers of the fields in the foreseen order
+   * @return String representations of the values in the order of the serializers
+   */
+  protected String[] processObjectToRow(Object object, FieldSerializer[] serializers) {
+    String[] row = new String[serializers.length];
+    for (int idx = 0; idx < serializers.length; idx++) {
+      row[idx] = serializers[idx].serialize(object);
+    }
+    return row;
   }
 
   /**
@@ -199,9 +300,18 @@ public abstract class Processor<T> {
    * @return A String representation of the result
    */
   protected String processMethodResult(Object methodReturnObject, Method method, String fieldName) {
+    return compileValueSerializer(method, fieldName).apply(methodReturnObject);
+  }
 
-    StringBuilder resultStringBuilder = new StringBuilder();
-
+  /**
+   * Resolves, how the non-null return objects of the given method are processed to String by
+   * taking care of different conventions.
+   *
+   * @param method The method, that is invoked
+   * @param fieldName Name of the foreseen field
+   * @return A function processing the return objects of the method to String
+   */
+  private Function<Object, String> compileValueSerializer(Method method, String fieldName) {
     switch (method.getReturnType().getSimpleName()) {
         // primitives (Boolean, Character, Byte, Short, Integer, Long, Float, Double, String,
       case "UUID":
@@ -211,17 +321,15 @@ public abstract class Processor<T> {
       case "String":
       case "DayOfWeek":
       case "ChargingPointType":
-        resultStringBuilder.append(methodReturnObject.toString());
-        break;
+        return Object::toString;
       case "Quantity":
       case "ComparableQuantity":
-        resultStringBuilder.append(handleQuantity((Quantity<?>) methodReturnObject, fieldName));
-        break;
+        return methodReturnObject -> handleQuantity((Quantity<?>) methodReturnObject, fieldName);
       case "Optional":
         // only quantity optionals are expected here!
         // if optional and present, unpack value and call this method again, if not present return
         // an empty string as by convention null == missing value == "" when persisting data
-        resultStringBuilder.append(
+        return methodReturnObject ->
             ((Optional<?>) methodReturnObject)
                 .map(
                     o -> {
@@ -234,26 +342,20 @@ public abstract class Processor<T> {
                                 + ".class instance wrapped into Optional is currently not supported by entity processors!");
                       }
                     })
-                .orElse(""));
-        break;
+                .orElse("");
       case "ZonedDateTime":
-        resultStringBuilder.append(processZonedDateTime((ZonedDateTime) methodReturnObject));
-        break;
+        return methodReturnObject -> processZonedDateTime((ZonedDateTime) methodReturnObject);
       case "OperationTime":
-        resultStringBuilder.append(
-            processOperationTime((OperationTime) methodReturnObject, fieldName));
-        break;
+        return methodReturnObject ->
+            processOperationTime((OperationTime) methodReturnObject, fieldName);
       case "VoltageLevel":
-        resultStringBuilder.append(
-            processVoltageLevel((VoltageLevel) methodReturnObject, fieldName));
-        break;
+        return methodReturnObject ->
+            processVoltageLevel((VoltageLevel) methodReturnObject, fieldName);
       case "Point":
       case "LineString":
-        resultStringBuilder.append(geoJsonWriter.write((Geometry) methodReturnObject));
-        break;
+        return methodReturnObject -> geoJsonWriter.write((Geometry) methodReturnObject);
       case "StandardLoadProfile":
-        resultStringBuilder.append(((StandardLoadProfile) methodReturnObject).getKey());
-        break;
+        return methodReturnObject -> ((StandardLoadProfile) methodReturnObject).getKey();
       case "AssetTypeInput":
       case "BmTypeInput":
       case "ChpTypeInput":
@@ -270,14 +372,12 @@ public abstract class Processor<T> {
       case "Transformer2WTypeInput":
       case "Transformer3WTypeInput":
       case "WecTypeInput":
-        resultStringBuilder.append(((UniqueEntity) methodReturnObject).getUuid());
-        break;
+        return methodReturnObject -> ((UniqueEntity) methodReturnObject).getUuid().toString();
       case "OperatorInput":
-        resultStringBuilder.append(
+        return methodReturnObject ->
             ((OperatorInput) methodReturnObject).getId().equalsIgnoreCase("NO_OPERATOR_ASSIGNED")
                 ? ""
-                : ((OperatorInput) methodReturnObject).getUuid());
-        break;
+                : ((OperatorInput) methodReturnObject).getUuid().toString();
       case "EvCharacteristicInput":
       case "OlmCharacteristicInput":
       case "WecCharacteristicInput":
@@ -286,22 +386,22 @@ public abstract class Processor<T> {
       case "QV":
       case "ReactivePowerCharacteristic":
       case "CharacteristicInput":
-        resultStringBuilder.append(((CharacteristicInput<?, ?>) methodReturnObject).deSerialize());
-        break;
+        return methodReturnObject -> ((CharacteristicInput<?, ?>) methodReturnObject).deSerialize();
       default:
-        throw new EntityProcessorException(
-            "Unable to process value for attribute/field '"
-                + fieldName
-                + "' and method return type '"
-                + method.getReturnType().getSimpleName()
-                + "' for method with name '"
-                + method.getName()
-                + "' in in entity model "
-                + getRegisteredClass().getSimpleName()
-                + ".class.");
+        // fields, that are always null, are processed to "" nevertheless, hence fail lazily
+        return methodReturnObject -> {
+          throw new EntityProcessorException(
+              "Unable to process value for attribute/field '"
+                  + fieldName
+                  + "' and method return type '"
+                  + method.getReturnType().getSimpleName()
+                  + "' for method with name '"
+                  + method.getName()
+                  + "' in in entity model "
+                  + getRegisteredClass().getSimpleName()
+                  + ".class.");
+        };
     }
-
-    return resultStringBuilder.toString();
   }
 
   /**
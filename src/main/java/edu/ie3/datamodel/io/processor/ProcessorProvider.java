@@ -80,6 +80,25 @@ public class ProcessorProvider {
     }
   }
 
+  /**
+   * Handles the given entity without building a map of field name to value. The values are in the
+   * order of the header elements of the entity's class (see {@link #getHeaderElements(Class)}).
+   *
+   * @param entity the entity that should be 'de-serialized' into its field values
+   * @param <T> the type of the entity
+   * @return an optional array of the field values in the order of the header elements or an empty
+   *     optional if an error occurred during processing
+   */
+  public <T extends UniqueEntity> Optional<String[]> handleEntityRow(T entity) {
+    try {
+      EntityProcessor<? extends UniqueEntity> processor = getEntityProcessor(entity.getClass());
+      return castProcessor(processor).handleEntityRow(entity);
+    } catch (ProcessorProviderException e) {
+      log.error("Exception occurred during entity handling.", e);
+      return Optional.empty();
+    }
+  }
+
   /**
    * Get the correct entity processor
    *
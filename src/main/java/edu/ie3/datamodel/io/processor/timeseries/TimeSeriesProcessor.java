@@ -66,6 +66,10 @@ public class TimeSeriesProcessor<
    */
   private final SortedMap<String, FieldSourceToMethod> fieldToSource;
 
+  /** Compiled serializers of the fields per source, where to find the information */
+  private final Map<FieldSourceToMethod.FieldSource, Map<String, FieldSerializer>>
+      sourceToSerializers;
+
   private final String[] flattenedHeaderElements;
 
   public TimeSeriesProcessor(Class<T> timeSeriesClass, Class<E> entryClass, Class<V> valueClass) {
@@ -88,6 +92,9 @@ public class TimeSeriesProcessor<
 
     /* Register, where to get which information from */
     this.fieldToSource = buildFieldToSource(timeSeriesClass, entryClass, valueClass);
+    this.sourceToSerializers = new EnumMap<>(FieldSourceToMethod.FieldSource.class);
+    for (FieldSourceToMethod.FieldSource source : FieldSourceToMethod.FieldSource.values())
+      sourceToSerializers.put(source, compileFieldSerializers(extractFieldToMethod(source)));
 
     /* Collect all header elements */
     this.flattenedHeaderElements = fieldToSource.keySet().toArray(new String[0]);
@@ -180,6 +187,12 @@ public class TimeSeriesProcessor<
         "Don't invoke this simple method, but TimeSeriesProcessor#handleTimeSeries(TimeSeries).");
   }
 
+  @Override
+  public Optional<String[]> handleEntityRow(TimeSeries entity) {
+    throw new UnsupportedOperationException(
+        "Don't invoke this simple method, but TimeSeriesProcessor#handleTimeSeries(TimeSeries).");
+  }
+
   /**
    * Handles the time series by processing each entry and collecting the results
    *
@@ -220,29 +233,28 @@ public class TimeSeriesProcessor<
    */
   private Map<String, String> handleEntry(T timeSeries, E entry) {
     /* Handle the information in the time series */
-    Map<String, Method> timeSeriesFieldToMethod = extractFieldToMethod(TIMESERIES);
     LinkedHashMap<String, String> timeSeriesResults =
-        processObject(timeSeries, timeSeriesFieldToMethod);
+        processObject(timeSeries, sourceToSerializers.get(TIMESERIES));
 
     /* Handle the information in the entry */
-    Map<String, Method> entryFieldToMethod = extractFieldToMethod(ENTRY);
-    LinkedHashMap<String, String> entryResults = processObject(entry, entryFieldToMethod);
+    LinkedHashMap<String, String> entryResults =
+        processObject(entry, sourceToSerializers.get(ENTRY));
 
     /* Handle the information in the value */
-    Map<String, Method> valueFieldToMethod = extractFieldToMethod(VALUE);
-    LinkedHashMap<String, String> valueResult = processObject(entry.getValue(), valueFieldToMethod);
+    LinkedHashMap<String, String> valueResult =
+        processObject(entry.getValue(), sourceToSerializers.get(VALUE));
     /* Treat WeatherValues specially, as they are nested ones */
     if (entry.getValue() instanceof WeatherValue) {
       WeatherValue weatherValue = (WeatherValue) entry.getValue();
 
-      Map<String, Method> irradiationFieldToMethod = extractFieldToMethod(WEATHER_IRRADIATION);
-      valueResult.putAll(processObject(weatherValue.getIrradiation(), irradiationFieldToMethod));
-
-      Map<String, Method> temperatureFieldToMethod = extractFieldToMethod(WEATHER_TEMPERATURE);
-      valueResult.putAll(processObject(weatherValue.getTemperature(), temperatureFieldToMethod));
-
-      Map<String, Method> windFieldToMethod = extractFieldToMethod(WEATHER_WIND);
-      valueResult.putAll(processObject(weatherValue.getWind(), windFieldToMethod));
+      valueResult.putAll(
+          processObject(
+              weatherValue.getIrradiation(), sourceToSerializers.get(WEATHER_IRRADIATION)));
+      valueResult.putAll(
+          processObject(
+              weatherValue.getTemperature(), sourceToSerializers.get(WEATHER_TEMPERATURE)));
+      valueResult.putAll(
+          processObject(weatherValue.getWind(), sourceToSerializers.get(WEATHER_WIND)));
     }
 
     /* Join all information and sort them */
@@ -0,0 +1,303 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.sink;
+
+import edu.ie3.datamodel.models.UniqueEntity;
+import edu.ie3.datamodel.models.timeseries.TimeSeries;
+import edu.ie3.datamodel.models.timeseries.TimeSeriesEntry;
+import edu.ie3.datamodel.models.value.Value;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Output data sink, that decouples the caller from the latency of another output data sink (e.g.
+ * {@link CsvFileSink} or {@link InfluxDbSink}). Entities are put into a bounded queue and handed
+ * over to the wrapped sink in batches by a background thread. A batch is handed over, as soon as
+ * it is full or the linger time since its first entity has passed.
+ *
+ * <p>If the queue is full, the caller is either blocked until there is space again or the entity
+ * is rejected with an {@link IllegalStateException}, depending on the {@link BackpressurePolicy}.
+ * Exceptions of the wrapped sink are logged and counted, as they cannot be reported to the caller
+ * anymore. {@link #shutdown()} waits for all callers, that are currently persisting, and hands over
+ * all queued entities before shutting down the wrapped sink.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class AsyncOutputDataSink implements OutputDataSink {
+  private static final Logger log = LogManager.getLogger(AsyncOutputDataSink.class);
+
+  /** Determines, what happens, if an entity is persisted while the queue is full */
+  public enum BackpressurePolicy {
+    /** Block the caller until there is space in the queue */
+    BLOCK,
+    /** Reject the entity by throwing an {@link IllegalStateException} */
+    FAIL
+  }
+
+  private static final int DEFAULT_CAPACITY = 10000;
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+  private static final Duration DEFAULT_LINGER = Duration.ofMillis(100);
+  // time, after which the drain thread checks for a shutdown, if there is nothing to drain
+  private static final long IDLE_POLL_MILLIS = 50;
+
+  private final OutputDataSink sink;
+  private final BlockingQueue<UniqueEntity> queue;
+  private final int capacity;
+  private final int batchSize;
+  private final long lingerNanos;
+  private final BackpressurePolicy backpressurePolicy;
+  private final Thread drainThread;
+  /* Held by callers while enqueueing and exclusively by the shutdown, so that no entity is enqueued
+   * after the drain thread has noticed the shutdown */
+  private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+  private volatile boolean isShutdown = false;
+
+  private final AtomicInteger maxQueueDepth = new AtomicInteger();
+  private final LongAdder persistedEntities = new LongAdder();
+  private final LongAdder rejectedEntities = new LongAdder();
+  private final LongAdder failedBatches = new LongAdder();
+
+  /**
+   * Creates a new asynchronous sink with a capacity of 10000 entities and batches of up to 1000
+   * entities, that linger at most 100 ms. Callers are blocked, if the queue is full.
+   *
+   * @param sink the sink to hand over the entities to
+   */
+  public AsyncOutputDataSink(OutputDataSink sink) {
+    this(sink, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_LINGER, BackpressurePolicy.BLOCK);
+  }
+
+  /**
+   * Creates a new asynchronous sink
+   *
+   * @param sink the sink to hand over the entities to
+   * @param capacity the maximum number of queued entities
+   * @param batchSize the maximum number of entities handed over at once
+   * @param linger the maximum time to wait for further entities of a batch
+   * @param backpressurePolicy determines, what happens if the queue is full
+   */
+  public AsyncOutputDataSink(
+      OutputDataSink sink,
+      int capacity,
+      int batchSize,
+      Duration linger,
+      BackpressurePolicy backpressurePolicy) {
+    if (capacity < 1)
+      throw new IllegalArgumentException(
+          "The capacity of the queue has to be positive, but is " + capacity);
+    if (batchSize < 1)
+      throw new IllegalArgumentException("The batch size has to be positive, but is " + batchSize);
+    if (linger.isNegative())
+      throw new IllegalArgumentException("The linger time must not be negative, but is " + linger);
+
+    this.sink = sink;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.lingerNanos = linger.toNanos();
+    this.backpressurePolicy = backpressurePolicy;
+    this.drainThread =
+        new Thread(this::drain, "AsyncOutputDataSink-" + sink.getClass().getSimpleName());
+    this.drainThread.setDaemon(true);
+    this.drainThread.start();
+  }
+
+  @Override
+  public <C extends UniqueEntity> void persist(C entity) {
+    enqueue(entity);
+  }
+
+  @Override
+  public <C extends UniqueEntity> void persistAll(Collection<C> entities) {
+    for (C entity : entities) enqueue(entity);
+  }
+
+  @Override
+  public <E extends TimeSeriesEntry<V>, V extends Value> void persistTimeSeries(
+      TimeSeries<E, V> timeSeries) {
+    enqueue(timeSeries);
+  }
+
+  private void enqueue(UniqueEntity entity) {
+    shutdownLock.readLock().lock();
+    try {
+      if (isShutdown)
+        throw new IllegalStateException(
+            "Cannot persist entities after the sink has been shut down.");
+
+      if (backpressurePolicy == BackpressurePolicy.FAIL) {
+        if (!queue.offer(entity)) {
+          rejectedEntities.increment();
+          throw new IllegalStateException(
+              "Cannot persist entity '"
+                  + entity.getUuid()
+                  + "', as the queue is full ("
+                  + capacity
+                  + " entities).");
+        }
+      } else {
+        put(entity);
+      }
+      maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+    } finally {
+      shutdownLock.readLock().unlock();
+    }
+  }
+
+  /* Waits for space in the queue, as long as the drain thread is able to make some */
+  private void put(UniqueEntity entity) {
+    try {
+      while (!queue.offer(entity, IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+        if (!drainThread.isAlive()) {
+          rejectedEntities.increment();
+          throw new IllegalStateException(
+              "Cannot persist entity '"
+                  + entity.getUuid()
+                  + "', as the drain thread has terminated unexpectedly.");
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      rejectedEntities.increment();
+      throw new IllegalStateException(
+          "Interrupted while waiting to persist entity '" + entity.getUuid() + "'.", e);
+    }
+  }
+
+  /* Runs in the drain thread until the sink is shut down and the queue is empty */
+  private void drain() {
+    List<UniqueEntity> batch = new ArrayList<>(batchSize);
+    while (!isShutdown || !queue.isEmpty()) {
+      try {
+        UniqueEntity first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) continue;
+        batch.add(first);
+        fillBatch(batch);
+        handOver(batch);
+      } catch (InterruptedException e) {
+        /* The drain thread is owned by this sink, which never interrupts it. Hence, stop only
+         * when the sink is shut down and all entities are handed over. */
+        log.warn("The drain thread has been interrupted. Continue draining.");
+        handOver(batch);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void fillBatch(List<UniqueEntity> batch) throws InterruptedException {
+    long deadline = System.nanoTime() + lingerNanos;
+    while (batch.size() < batchSize) {
+      if (queue.drainTo(batch, batchSize - batch.size()) > 0) continue;
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0 || isShutdown) return;
+      UniqueEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) return;
+      batch.add(next);
+    }
+  }
+
+  private void handOver(List<UniqueEntity> batch) {
+    List<UniqueEntity> entities = new ArrayList<>(batch.size());
+    for (UniqueEntity entity : batch) {
+      if (entity instanceof TimeSeries) {
+        handOverEntities(entities);
+        handOverTimeSeries((TimeSeries<?, ?>) entity);
+      } else {
+        entities.add(entity);
+      }
+    }
+    handOverEntities(entities);
+  }
+
+  /* Hands over the collected entities, so that their order relative to time series is kept */
+  private void handOverEntities(List<UniqueEntity> entities) {
+    if (entities.isEmpty()) return;
+    try {
+      sink.persistAll(entities);
+      persistedEntities.add(entities.size());
+    } catch (RuntimeException e) {
+      failedBatches.increment();
+      log.error("Cannot persist a batch of {} entities.", entities.size(), e);
+    }
+    entities.clear();
+  }
+
+  private <E extends TimeSeriesEntry<V>, V extends Value> void handOverTimeSeries(
+      TimeSeries<E, V> timeSeries) {
+    try {
+      sink.persistTimeSeries(timeSeries);
+      persistedEntities.increment();
+    } catch (RuntimeException e) {
+      failedBatches.increment();
+      log.error("Cannot persist time series '{}'.", timeSeries.getUuid(), e);
+    }
+  }
+
+  /**
+   * Waits for all callers, that are currently persisting, hands over all queued entities to the
+   * wrapped sink and shuts it down afterwards. Entities persisted after calling this method are
+   * rejected.
+   */
+  @Override
+  public void shutdown() {
+    shutdownLock.writeLock().lock();
+    try {
+      isShutdown = true;
+    } finally {
+      shutdownLock.writeLock().unlock();
+    }
+    try {
+      drainThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.error("Interrupted while waiting for the remaining entities to be persisted.", e);
+    }
+    sink.shutdown();
+  }
+
+  /** @return the number of entities, that are currently queued */
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  /** @return the maximum number of entities, that have been queued at once */
+  public int getMaxQueueDepth() {
+    return maxQueueDepth.get();
+  }
+
+  /** @return the maximum number of queued entities */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /** @return the number of entities and time series handed over to the wrapped sink */
+  public long getNumberOfPersistedEntities() {
+    return persistedEntities.sum();
+  }
+
+  /** @return the number of entities, that have been rejected because of a full queue */
+  public long getNumberOfRejectedEntities() {
+    return rejectedEntities.sum();
+  }
+
+  /** @return the number of batches and time series, the wrapped sink failed to persist */
+  public long getNumberOfFailedBatches() {
+    return failedBatches.sum();
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.sink;
+
+import edu.ie3.datamodel.exceptions.FileException;
+import edu.ie3.datamodel.exceptions.SinkException;
+import edu.ie3.datamodel.io.binary.BinaryTimeSeriesWriter;
+import edu.ie3.datamodel.io.csv.FileNamingStrategy;
+import edu.ie3.datamodel.models.UniqueEntity;
+import edu.ie3.datamodel.models.timeseries.TimeSeries;
+import edu.ie3.datamodel.models.timeseries.TimeSeriesEntry;
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
+import edu.ie3.datamodel.models.value.Value;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Sink, that writes individual time series in the compact binary format of the {@link
+ * BinaryTimeSeriesWriter} instead of csv. Every time series is written to its own file, named by
+ * the {@link FileNamingStrategy} with the ending {@link BinaryTimeSeriesWriter#FILE_ENDING}. As
+ * every file is written at once, time series may be persisted by several threads at once. Other
+ * entities are not supported and logged as errors.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class BinaryTimeSeriesSink implements OutputDataSink {
+  private static final Logger log = LogManager.getLogger(BinaryTimeSeriesSink.class);
+
+  private final Path baseFolder;
+  private final FileNamingStrategy fileNamingStrategy;
+
+  public BinaryTimeSeriesSink(String baseFolderPath) {
+    this(baseFolderPath, new FileNamingStrategy());
+  }
+
+  /**
+   * Create an instance of a binary time series sink
+   *
+   * @param baseFolderPath the base folder path where the files should be put into
+   * @param fileNamingStrategy the file naming strategy that should be used
+   */
+  public BinaryTimeSeriesSink(String baseFolderPath, FileNamingStrategy fileNamingStrategy) {
+    this.baseFolder = Paths.get(baseFolderPath);
+    this.fileNamingStrategy = fileNamingStrategy;
+  }
+
+  @Override
+  public void shutdown() {
+    // every file is closed after writing its time series, hence nothing to do here
+  }
+
+  @Override
+  public <C extends UniqueEntity> void persist(C entity) {
+    if (entity instanceof TimeSeries) {
+      persistTimeSeries((TimeSeries<?, ?>) entity);
+    } else {
+      log.error(
+          "I don't know how to handle an entity of class {}", entity.getClass().getSimpleName());
+    }
+  }
+
+  @Override
+  public <C extends UniqueEntity> void persistAll(Collection<C> entities) {
+    for (C entity : entities) persist(entity);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E extends TimeSeriesEntry<V>, V extends Value> void persistTimeSeries(
+      TimeSeries<E, V> timeSeries) {
+    try {
+      if (!(timeSeries instanceof IndividualTimeSeries))
+        throw new SinkException(
+            "Only individual time series can be written in the binary format, but '"
+                + timeSeries.getUuid()
+                + "' is a "
+                + timeSeries.getClass().getSimpleName()
+                + ".");
+      String fileName =
+          fileNamingStrategy
+              .getFileName(timeSeries)
+              .orElseThrow(
+                  () ->
+                      new SinkException(
+                          "Cannot determine the file name for time series '"
+                              + timeSeries.getUuid()
+                              + "'."));
+      BinaryTimeSeriesWriter.write(
+          (IndividualTimeSeries<V>) timeSeries,
+          baseFolder.resolve(fileName + BinaryTimeSeriesWriter.FILE_ENDING));
+    } catch (SinkException | FileException | IOException e) {
+      log.error("Cannot persist time series '{}'.", timeSeries.getUuid(), e);
+    }
+  }
+}
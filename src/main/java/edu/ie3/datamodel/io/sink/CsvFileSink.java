@@ -12,6 +12,7 @@ import edu.ie3.datamodel.exceptions.SinkException;
 import edu.ie3.datamodel.io.connectors.CsvFileConnector;
 import edu.ie3.datamodel.io.csv.BufferedCsvWriter;
 import edu.ie3.datamodel.io.csv.FileNamingStrategy;
+import edu.ie3.datamodel.io.csv.FlushPolicy;
 import edu.ie3.datamodel.io.extractor.Extractor;
 import edu.ie3.datamodel.io.extractor.NestedEntity;
 import edu.ie3.datamodel.io.processor.ProcessorProvider;
@@ -46,6 +47,9 @@ import org.apache.logging.log4j.Logger;
  * contrast, when using {@link #persistJointGrid(JointGridContainer)}, all nested entities get
  * extracted first and then dumped individually without any duplicate lines.
  *
+ * <p>The sink is thread-safe: Entities may be persisted by several threads at once. Lines written
+ * to the same file never interleave, while lines of different files are written in parallel.
+ *
  * @version 0.1
  * @since 19.03.20
  */
@@ -105,9 +109,66 @@ public class CsvFileSink implements InputDataSink, OutputDataSink {
       FileNamingStrategy fileNamingStrategy,
       boolean initFiles,
       String csvSep) {
+    this(
+        baseFolderPath,
+        processorProvider,
+        fileNamingStrategy,
+        initFiles,
+        csvSep,
+        FlushPolicy.everyLine(),
+        BufferedCsvWriter.DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Create an instance of a csv file sink, whose writers flush the written lines according to the
+   * given policy. Flushing less often than after every line increases the throughput, but written
+   * lines may only be visible to other readers after {@link #shutdown()}.
+   *
+   * @param baseFolderPath the base folder path where the files should be put into
+   * @param processorProvider the processor provided that should be used for entity de-serialization
+   * @param fileNamingStrategy the file naming strategy that should be used
+   * @param initFiles true if the files should be created during initialization (might create files,
+   *     that only consist of a headline, because no data will be written into them), false
+   *     otherwise
+   * @param csvSep the csv file separator that should be use
+   * @param flushPolicy determines, when the written lines are flushed to the files
+   * @param writerBufferSize the size of the character buffer of every writer
+   */
+  public CsvFileSink(
+      String baseFolderPath,
+      ProcessorProvider processorProvider,
+      FileNamingStrategy fileNamingStrategy,
+      boolean initFiles,
+      String csvSep,
+      FlushPolicy flushPolicy,
+      int writerBufferSize) {
+    this(
+        new CsvFileConnector(baseFolderPath, fileNamingStrategy, flushPolicy, writerBufferSize),
+        processorProvider,
+        initFiles,
+        csvSep);
+  }
+
+  /**
+   * Create an instance of a csv file sink, that writes via the given connector. This allows for
+   * configuring the writing, e.g. splitting results into several files per class (see {@link
+   * edu.ie3.datamodel.io.csv.ResultPartitioning}).
+   *
+   * @param connector the connector to the files, that is shut down with this sink
+   * @param processorProvider the processor provided that should be used for entity de-serialization
+   * @param initFiles true if the files should be created during initialization (might create files,
+   *     that only consist of a headline, because no data will be written into them), false
+   *     otherwise. Files of partitioned results are never created in advance.
+   * @param csvSep the csv file separator that should be use
+   */
+  public CsvFileSink(
+      CsvFileConnector connector,
+      ProcessorProvider processorProvider,
+      boolean initFiles,
+      String csvSep) {
     this.csvSep = csvSep;
     this.processorProvider = processorProvider;
-    this.connector = new CsvFileConnector(baseFolderPath, fileNamingStrategy);
+    this.connector = connector;
 
     if (initFiles) initFiles(processorProvider, connector);
   }
@@ -283,20 +344,25 @@ public class CsvFileSink implements InputDataSink, OutputDataSink {
                               + "]"));
 
       String[] headerElements = csvHeaderElements(processorProvider.getHeaderElements(key));
-      BufferedCsvWriter writer = connector.getOrInitWriter(timeSeries, headerElements, csvSep);
-      entityFieldData.forEach(
-          data -> {
-            try {
-              writer.write(csvEntityFieldData(data));
-            } catch (IOException e) {
-              log.error(
-                  "Cannot write the following entity data: '{}'. Exception: {}",
-                  () -> data,
-                  () -> e);
-            } catch (SinkException e) {
-              log.error("Exception occurred during processing the provided data fields: ", e);
-            }
-          });
+      connector.withWriter(
+          timeSeries,
+          headerElements,
+          csvSep,
+          writer ->
+              entityFieldData.forEach(
+                  data -> {
+                    try {
+                      writer.write(csvEntityFieldData(data));
+                    } catch (IOException e) {
+                      log.error(
+                          "Cannot write the following entity data: '{}'. Exception: {}",
+                          () -> data,
+                          () -> e);
+                    } catch (SinkException e) {
+                      log.error(
+                          "Exception occurred during processing the provided data fields: ", e);
+                    }
+                  }));
     } catch (ProcessorProviderException e) {
       log.error(
           "Exception occurred during receiving of header elements. Cannot write this element.", e);
@@ -309,17 +375,19 @@ public class CsvFileSink implements InputDataSink, OutputDataSink {
 
   /**
    * Writes a entity into the corresponding CSV file. Does <b>not</b> include any nested entities.
-   * The header names for the fields will be determined by the given {@link ProcessorProvider}.
+   * The header names for the fields will be determined by the given {@link ProcessorProvider}. The
+   * entity's values are handed over to the writer in the order of the header names, hence no map of
+   * field name to value is built.
    *
    * @param entity the entity to write
    * @param <C> bounded to be all unique entities
    */
   private <C extends UniqueEntity> void write(C entity) {
-    LinkedHashMap<String, String> entityFieldData;
+    String[] entityRow;
     try {
-      entityFieldData =
+      entityRow =
           processorProvider
-              .handleEntity(entity)
+              .handleEntityRow(entity)
               .orElseThrow(
                   () ->
                       new SinkException(
@@ -332,9 +400,13 @@ public class CsvFileSink implements InputDataSink, OutputDataSink {
                               + "]"));
 
       String[] headerElements = processorProvider.getHeaderElements(entity.getClass());
-      BufferedCsvWriter writer =
-          connector.getOrInitWriter(entity.getClass(), headerElements, csvSep);
-      writer.write(entityFieldData);
+      if (entity instanceof ResultEntity) {
+        connector.writeResult((ResultEntity) entity, headerElements, csvRow(entityRow), csvSep);
+      } else {
+        BufferedCsvWriter writer =
+            connector.getOrInitWriter(entity.getClass(), headerElements, csvSep);
+        writer.writeRow(csvRow(entityRow));
+      }
     } catch (ProcessorProviderException e) {
       log.error(
           "Exception occurred during receiving of header elements. Cannot write this element.", e);
@@ -361,8 +433,9 @@ public class CsvFileSink implements InputDataSink, OutputDataSink {
    */
   private void initFiles(
       final ProcessorProvider processorProvider, final CsvFileConnector connector) {
-    processorProvider
-        .getRegisteredClasses()
+    boolean isPartitioningResults = connector.getResultPartitioning().isPartitioning();
+    processorProvider.getRegisteredClasses().stream()
+        .filter(clz -> !(isPartitioningResults && ResultEntity.class.isAssignableFrom(clz)))
         .forEach(
             clz -> {
               try {
@@ -397,6 +470,20 @@ public class CsvFileSink implements InputDataSink, OutputDataSink {
         .toArray(String[]::new);
   }
 
+  /**
+   * Transforms the provided values of an entity to valid csv formatted strings (according to csv
+   * specification RFC 4180) in place
+   *
+   * @param row the values of an entity
+   * @return the same array with valid csv formatted strings
+   */
+  private String[] csvRow(String[] row) {
+    for (int idx = 0; idx < row.length; idx++) {
+      row[idx] = StringUtils.csvString(row[idx], csvSep);
+    }
+    return row;
+  }
+
   /**
    * Transforms a provided map of string to string to valid csv formatted strings (according to csv
    * specification RFC 4180)
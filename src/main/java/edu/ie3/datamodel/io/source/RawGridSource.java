@@ -18,6 +18,7 @@ import edu.ie3.datamodel.models.input.connector.type.Transformer3WTypeInput;
 import edu.ie3.datamodel.models.input.container.RawGridElements;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Interface that provides the capability to build entities that are hold by a {@link
@@ -257,4 +258,87 @@ public interface RawGridSource extends DataSource {
    * @return a set of object and uuid unique {@link MeasurementUnitInput} entities
    */
   Set<MeasurementUnitInput> getMeasurementUnits(Set<NodeInput> nodes, Set<OperatorInput> operators);
+
+  /**
+   * Streaming variant of {@link #getNodes(Set)}. In contrast to the set returning method, the
+   * entities are built lazily while the returned stream is consumed, which allows the processing of
+   * large data with bounded memory. Uniqueness of the UUIDs is still ensured, but only the first
+   * occurrence of a duplicated UUID is provided.
+   *
+   * <p>The returned stream might be backed by an open resource and has to be closed after usage,
+   * e.g. by using a try-with-resources statement.
+   *
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @return a stream of uuid unique {@link NodeInput} entities
+   */
+  Stream<NodeInput> streamNodes(Set<OperatorInput> operators);
+
+  /**
+   * Streaming variant of {@link #getLines(Set, Set, Set)}. See {@link #streamNodes(Set)} for
+   * details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param lineTypeInputs a set of object and uuid unique {@link LineTypeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @return a stream of uuid unique {@link LineInput} entities
+   */
+  Stream<LineInput> streamLines(
+      Set<NodeInput> nodes, Set<LineTypeInput> lineTypeInputs, Set<OperatorInput> operators);
+
+  /**
+   * Streaming variant of {@link #get2WTransformers(Set, Set, Set)}. See {@link #streamNodes(Set)}
+   * for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param transformer2WTypes a set of object and uuid unique {@link Transformer2WTypeInput}
+   *     entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @return a stream of uuid unique {@link Transformer2WInput} entities
+   */
+  Stream<Transformer2WInput> stream2WTransformers(
+      Set<NodeInput> nodes,
+      Set<Transformer2WTypeInput> transformer2WTypes,
+      Set<OperatorInput> operators);
+
+  /**
+   * Streaming variant of {@link #get3WTransformers(Set, Set, Set)}. See {@link #streamNodes(Set)}
+   * for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param transformer3WTypeInputs a set of object and uuid unique {@link Transformer3WTypeInput}
+   *     entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @return a stream of uuid unique {@link Transformer3WInput} entities
+   */
+  Stream<Transformer3WInput> stream3WTransformers(
+      Set<NodeInput> nodes,
+      Set<Transformer3WTypeInput> transformer3WTypeInputs,
+      Set<OperatorInput> operators);
+
+  /**
+   * Streaming variant of {@link #getSwitches(Set, Set)}. See {@link #streamNodes(Set)} for details
+   * on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @return a stream of uuid unique {@link SwitchInput} entities
+   */
+  Stream<SwitchInput> streamSwitches(Set<NodeInput> nodes, Set<OperatorInput> operators);
+
+  /**
+   * Streaming variant of {@link #getMeasurementUnits(Set, Set)}. See {@link #streamNodes(Set)} for
+   * details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @return a stream of uuid unique {@link MeasurementUnitInput} entities
+   */
+  Stream<MeasurementUnitInput> streamMeasurementUnits(
+      Set<NodeInput> nodes, Set<OperatorInput> operators);
 }
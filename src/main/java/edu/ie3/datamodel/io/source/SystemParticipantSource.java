@@ -14,6 +14,7 @@ import edu.ie3.datamodel.models.input.thermal.ThermalBusInput;
 import edu.ie3.datamodel.models.input.thermal.ThermalStorageInput;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Interface that provides the capability to build entities of type {@link SystemParticipantInput}
@@ -390,4 +391,141 @@ public interface SystemParticipantSource extends DataSource {
       Set<OperatorInput> operators,
       Set<HpTypeInput> types,
       Set<ThermalBusInput> thermalBuses);
+
+  /**
+   * Streaming variant of {@link #getFixedFeedIns(Set, Set)}. In contrast to the set returning
+   * method, the entities are built lazily while the returned stream is consumed, which allows the
+   * processing of large data with bounded memory. Uniqueness of the UUIDs is still ensured, but
+   * only the first occurrence of a duplicated UUID is provided.
+   *
+   * <p>The returned stream might be backed by an open resource and has to be closed after usage,
+   * e.g. by using a try-with-resources statement.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @return a stream of uuid unique {@link FixedFeedInInput} entities
+   */
+  Stream<FixedFeedInInput> streamFixedFeedIns(Set<NodeInput> nodes, Set<OperatorInput> operators);
+
+  /**
+   * Streaming variant of {@link #getPvPlants(Set, Set)}. See {@link #streamFixedFeedIns(Set, Set)}
+   * for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @return a stream of uuid unique {@link PvInput} entities
+   */
+  Stream<PvInput> streamPvPlants(Set<NodeInput> nodes, Set<OperatorInput> operators);
+
+  /**
+   * Streaming variant of {@link #getLoads(Set, Set)}. See {@link #streamFixedFeedIns(Set, Set)}
+   * for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @return a stream of uuid unique {@link LoadInput} entities
+   */
+  Stream<LoadInput> streamLoads(Set<NodeInput> nodes, Set<OperatorInput> operators);
+
+  /**
+   * Streaming variant of {@link #getEvCS(Set, Set)}. See {@link #streamFixedFeedIns(Set, Set)}
+   * for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @return a stream of uuid unique {@link EvcsInput} entities
+   */
+  Stream<EvcsInput> streamEvCS(Set<NodeInput> nodes, Set<OperatorInput> operators);
+
+  /**
+   * Streaming variant of {@link #getBmPlants(Set, Set, Set)}. See {@link #streamFixedFeedIns(Set,
+   * Set)} for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @param types a set of object and uuid unique {@link BmTypeInput} entities
+   * @return a stream of uuid unique {@link BmInput} entities
+   */
+  Stream<BmInput> streamBmPlants(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<BmTypeInput> types);
+
+  /**
+   * Streaming variant of {@link #getStorages(Set, Set, Set)}. See {@link #streamFixedFeedIns(Set,
+   * Set)} for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @param types a set of object and uuid unique {@link StorageTypeInput} entities
+   * @return a stream of uuid unique {@link StorageInput} entities
+   */
+  Stream<StorageInput> streamStorages(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<StorageTypeInput> types);
+
+  /**
+   * Streaming variant of {@link #getWecPlants(Set, Set, Set)}. See {@link #streamFixedFeedIns(Set,
+   * Set)} for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @param types a set of object and uuid unique {@link WecTypeInput} entities
+   * @return a stream of uuid unique {@link WecInput} entities
+   */
+  Stream<WecInput> streamWecPlants(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<WecTypeInput> types);
+
+  /**
+   * Streaming variant of {@link #getEvs(Set, Set, Set)}. See {@link #streamFixedFeedIns(Set,
+   * Set)} for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @param types a set of object and uuid unique {@link EvTypeInput} entities
+   * @return a stream of uuid unique {@link EvInput} entities
+   */
+  Stream<EvInput> streamEvs(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<EvTypeInput> types);
+
+  /**
+   * Streaming variant of {@link #getChpPlants(Set, Set, Set, Set, Set)}. See {@link
+   * #streamFixedFeedIns(Set, Set)} for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @param types a set of object and uuid unique {@link ChpTypeInput} entities
+   * @param thermalBuses a set of object and uuid unique {@link ThermalBusInput} entities
+   * @param thermalStorages a set of object and uuid unique {@link ThermalStorageInput} entities
+   * @return a stream of uuid unique {@link ChpInput} entities
+   */
+  Stream<ChpInput> streamChpPlants(
+      Set<NodeInput> nodes,
+      Set<OperatorInput> operators,
+      Set<ChpTypeInput> types,
+      Set<ThermalBusInput> thermalBuses,
+      Set<ThermalStorageInput> thermalStorages);
+
+  /**
+   * Streaming variant of {@link #getHeatPumps(Set, Set, Set, Set)}. See {@link
+   * #streamFixedFeedIns(Set, Set)} for details on the streaming behaviour.
+   *
+   * @param nodes a set of object and uuid unique {@link NodeInput} entities
+   * @param operators a set of object and uuid unique {@link OperatorInput} that should be used for
+   *     the returning instances
+   * @param types a set of object and uuid unique {@link HpTypeInput} entities
+   * @param thermalBuses a set of object and uuid unique {@link ThermalBusInput} entities
+   * @return a stream of uuid unique {@link HpInput} entities
+   */
+  Stream<HpInput> streamHeatPumps(
+      Set<NodeInput> nodes,
+      Set<OperatorInput> operators,
+      Set<HpTypeInput> types,
+      Set<ThermalBusInput> thermalBuses);
 }
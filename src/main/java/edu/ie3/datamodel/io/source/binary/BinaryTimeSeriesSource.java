@@ -0,0 +1,127 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.binary;
+
+import edu.ie3.datamodel.exceptions.FileException;
+import edu.ie3.datamodel.io.binary.BinaryTimeSeriesReader;
+import edu.ie3.datamodel.io.binary.BinaryTimeSeriesWriter;
+import edu.ie3.datamodel.io.csv.FileNamingStrategy;
+import edu.ie3.datamodel.io.source.DataSource;
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries;
+import edu.ie3.datamodel.models.value.Value;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Source, that provides individual time series from files written by the {@link
+ * edu.ie3.datamodel.io.sink.BinaryTimeSeriesSink}. The folder (including sub folders) is scanned
+ * once for files, whose names match the individual time series pattern of the {@link
+ * FileNamingStrategy}. The time series themselves are read on request.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class BinaryTimeSeriesSource implements DataSource {
+  private static final Logger log = LogManager.getLogger(BinaryTimeSeriesSource.class);
+
+  private final Map<UUID, Path> timeSeriesFiles;
+
+  public BinaryTimeSeriesSource(String folderPath) {
+    this(folderPath, new FileNamingStrategy());
+  }
+
+  /**
+   * Creates a new source and scans the given folder for binary time series files
+   *
+   * @param folderPath the folder, that holds the binary time series files
+   * @param fileNamingStrategy the naming strategy of the files
+   */
+  public BinaryTimeSeriesSource(String folderPath, FileNamingStrategy fileNamingStrategy) {
+    this.timeSeriesFiles =
+        Collections.unmodifiableMap(scanFolder(Paths.get(folderPath), fileNamingStrategy));
+  }
+
+  private static Map<UUID, Path> scanFolder(Path folder, FileNamingStrategy fileNamingStrategy) {
+    Map<UUID, Path> files = new HashMap<>();
+    try (Stream<Path> paths = Files.walk(folder)) {
+      paths
+          .filter(Files::isRegularFile)
+          .filter(path -> path.toString().endsWith(BinaryTimeSeriesWriter.FILE_ENDING))
+          .forEach(
+              path -> {
+                try {
+                  FileNamingStrategy.FileNameMetaInformation metaInformation =
+                      fileNamingStrategy.extractTimeSeriesMetaInformation(path);
+                  if (metaInformation
+                      instanceof FileNamingStrategy.IndividualTimeSeriesMetaInformation)
+                    files.put(
+                        ((FileNamingStrategy.IndividualTimeSeriesMetaInformation) metaInformation)
+                            .getUuid(),
+                        path);
+                } catch (IllegalArgumentException e) {
+                  log.debug("Skipping file '{}', as it is no individual time series.", path);
+                }
+              });
+    } catch (IOException e) {
+      log.error("Cannot scan folder '{}' for binary time series.", folder, e);
+    }
+    return files;
+  }
+
+  /** @return the uuids of all available time series */
+  public Set<UUID> getTimeSeriesUuids() {
+    return timeSeriesFiles.keySet();
+  }
+
+  /**
+   * Reads the time series with the given uuid
+   *
+   * @param uuid the uuid of the time series
+   * @return the time series or an empty optional, if it is not available or cannot be read
+   */
+  public Optional<IndividualTimeSeries<? extends Value>> getTimeSeries(UUID uuid) {
+    Path file = timeSeriesFiles.get(uuid);
+    if (file == null) return Optional.empty();
+    try {
+      return Optional.of(BinaryTimeSeriesReader.read(file));
+    } catch (FileException | IOException e) {
+      log.error("Cannot read time series '{}' from file '{}'.", uuid, file, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Reads the time series with the given uuid and value class
+   *
+   * @param uuid the uuid of the time series
+   * @param valueClass the class of the time series' values
+   * @param <V> Type of the values
+   * @return the time series or an empty optional, if it is not available, cannot be read or holds
+   *     values of another class
+   */
+  public <V extends Value> Optional<IndividualTimeSeries<V>> getTimeSeries(
+      UUID uuid, Class<V> valueClass) {
+    Path file = timeSeriesFiles.get(uuid);
+    if (file == null) return Optional.empty();
+    try {
+      return Optional.of(BinaryTimeSeriesReader.read(file, valueClass));
+    } catch (FileException | IOException e) {
+      log.error("Cannot read time series '{}' from file '{}'.", uuid, file, e);
+      return Optional.empty();
+    }
+  }
+}
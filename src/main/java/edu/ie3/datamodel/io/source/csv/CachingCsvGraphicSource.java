@@ -0,0 +1,93 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.io.source.GraphicSource;
+import edu.ie3.datamodel.io.source.RawGridSource;
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.connector.LineInput;
+import edu.ie3.datamodel.models.input.container.GraphicElements;
+import edu.ie3.datamodel.models.input.graphics.LineGraphicInput;
+import edu.ie3.datamodel.models.input.graphics.NodeGraphicInput;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Opt-in caching decorator for a {@link GraphicSource} reading from .csv files. The entity sets
+ * returned by the getters without arguments are kept in memory and are only read again, if the
+ * corresponding file or one of the entity sets they depend on (taken from the provided {@link
+ * RawGridSource}) has been changed (see {@link CsvEntityCache}). The returned sets are
+ * unmodifiable.
+ *
+ * <p>Getters with arguments and {@link #getGraphicElements()} are passed to the delegate without
+ * caching, as their results depend on the arguments or on entities, that could not be built,
+ * respectively.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CachingCsvGraphicSource implements GraphicSource {
+
+  private final GraphicSource delegate;
+  private final RawGridSource rawGridSource;
+  private final CsvEntityCache cache;
+
+  /**
+   * Creates a new caching graphic source
+   *
+   * @param delegate the source to read the graphic elements with
+   * @param rawGridSource the source of nodes and lines, preferably a {@link
+   *     CachingCsvRawGridSource} sharing the same cache
+   * @param cache the cache for the files, the delegate reads
+   */
+  public CachingCsvGraphicSource(
+      GraphicSource delegate, RawGridSource rawGridSource, CsvEntityCache cache) {
+    this.delegate = delegate;
+    this.rawGridSource = rawGridSource;
+    this.cache = cache;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<GraphicElements> getGraphicElements() {
+    return delegate.getGraphicElements();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<NodeGraphicInput> getNodeGraphicInput() {
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    return cache.get(
+        "GraphicSource#getNodeGraphicInput",
+        NodeGraphicInput.class,
+        () -> Collections.unmodifiableSet(delegate.getNodeGraphicInput(nodes)),
+        nodes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<NodeGraphicInput> getNodeGraphicInput(Set<NodeInput> nodes) {
+    return delegate.getNodeGraphicInput(nodes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<LineGraphicInput> getLineGraphicInput() {
+    Set<LineInput> lines = rawGridSource.getLines();
+    return cache.get(
+        "GraphicSource#getLineGraphicInput",
+        LineGraphicInput.class,
+        () -> Collections.unmodifiableSet(delegate.getLineGraphicInput(lines)),
+        lines);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<LineGraphicInput> getLineGraphicInput(Set<LineInput> lines) {
+    return delegate.getLineGraphicInput(lines);
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.io.source.RawGridSource;
+import edu.ie3.datamodel.io.source.TypeSource;
+import edu.ie3.datamodel.models.input.MeasurementUnitInput;
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.OperatorInput;
+import edu.ie3.datamodel.models.input.connector.LineInput;
+import edu.ie3.datamodel.models.input.connector.SwitchInput;
+import edu.ie3.datamodel.models.input.connector.Transformer2WInput;
+import edu.ie3.datamodel.models.input.connector.Transformer3WInput;
+import edu.ie3.datamodel.models.input.connector.type.LineTypeInput;
+import edu.ie3.datamodel.models.input.connector.type.Transformer2WTypeInput;
+import edu.ie3.datamodel.models.input.connector.type.Transformer3WTypeInput;
+import edu.ie3.datamodel.models.input.container.RawGridElements;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Opt-in caching decorator for a {@link RawGridSource} reading from .csv files. The entity sets
+ * returned by the getters without arguments are kept in memory and are only read again, if the
+ * corresponding file or one of the entity sets they depend on (taken from the provided {@link
+ * TypeSource} and this source) has been changed (see {@link CsvEntityCache}). The returned sets are
+ * unmodifiable.
+ *
+ * <p>Getters with arguments, the stream methods and {@link #getGridData()} are passed to the
+ * delegate without caching, as their results depend on the arguments or on entities, that could
+ * not be built, respectively.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CachingCsvRawGridSource implements RawGridSource {
+
+  private final RawGridSource delegate;
+  private final TypeSource typeSource;
+  private final CsvEntityCache cache;
+
+  /**
+   * Creates a new caching raw grid source
+   *
+   * @param delegate the source to read the raw grid elements with
+   * @param typeSource the source of operators and types, preferably a {@link CachingCsvTypeSource}
+   *     sharing the same cache
+   * @param cache the cache for the files, the delegate reads
+   */
+  public CachingCsvRawGridSource(
+      RawGridSource delegate, TypeSource typeSource, CsvEntityCache cache) {
+    this.delegate = delegate;
+    this.typeSource = typeSource;
+    this.cache = cache;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<RawGridElements> getGridData() {
+    return delegate.getGridData();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<NodeInput> getNodes() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    return cache.get(
+        "RawGridSource#getNodes",
+        NodeInput.class,
+        () -> Collections.unmodifiableSet(delegate.getNodes(operators)),
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<NodeInput> getNodes(Set<OperatorInput> operators) {
+    return delegate.getNodes(operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<LineInput> getLines() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = getNodes();
+    Set<LineTypeInput> lineTypes = typeSource.getLineTypes();
+    return cache.get(
+        "RawGridSource#getLines",
+        LineInput.class,
+        () -> Collections.unmodifiableSet(delegate.getLines(nodes, lineTypes, operators)),
+        nodes,
+        lineTypes,
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<LineInput> getLines(
+      Set<NodeInput> nodes, Set<LineTypeInput> lineTypeInputs, Set<OperatorInput> operators) {
+    return delegate.getLines(nodes, lineTypeInputs, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Transformer2WInput> get2WTransformers() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = getNodes();
+    Set<Transformer2WTypeInput> types = typeSource.getTransformer2WTypes();
+    return cache.get(
+        "RawGridSource#get2WTransformers",
+        Transformer2WInput.class,
+        () -> Collections.unmodifiableSet(delegate.get2WTransformers(nodes, types, operators)),
+        nodes,
+        types,
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Transformer2WInput> get2WTransformers(
+      Set<NodeInput> nodes,
+      Set<Transformer2WTypeInput> transformer2WTypes,
+      Set<OperatorInput> operators) {
+    return delegate.get2WTransformers(nodes, transformer2WTypes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Transformer3WInput> get3WTransformers() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = getNodes();
+    Set<Transformer3WTypeInput> types = typeSource.getTransformer3WTypes();
+    return cache.get(
+        "RawGridSource#get3WTransformers",
+        Transformer3WInput.class,
+        () -> Collections.unmodifiableSet(delegate.get3WTransformers(nodes, types, operators)),
+        nodes,
+        types,
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Transformer3WInput> get3WTransformers(
+      Set<NodeInput> nodes,
+      Set<Transformer3WTypeInput> transformer3WTypeInputs,
+      Set<OperatorInput> operators) {
+    return delegate.get3WTransformers(nodes, transformer3WTypeInputs, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<SwitchInput> getSwitches() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = getNodes();
+    return cache.get(
+        "RawGridSource#getSwitches",
+        SwitchInput.class,
+        () -> Collections.unmodifiableSet(delegate.getSwitches(nodes, operators)),
+        nodes,
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<SwitchInput> getSwitches(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.getSwitches(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<MeasurementUnitInput> getMeasurementUnits() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = getNodes();
+    return cache.get(
+        "RawGridSource#getMeasurementUnits",
+        MeasurementUnitInput.class,
+        () -> Collections.unmodifiableSet(delegate.getMeasurementUnits(nodes, operators)),
+        nodes,
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<MeasurementUnitInput> getMeasurementUnits(
+      Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.getMeasurementUnits(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<NodeInput> streamNodes(Set<OperatorInput> operators) {
+    return delegate.streamNodes(operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<LineInput> streamLines(
+      Set<NodeInput> nodes, Set<LineTypeInput> lineTypeInputs, Set<OperatorInput> operators) {
+    return delegate.streamLines(nodes, lineTypeInputs, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<Transformer2WInput> stream2WTransformers(
+      Set<NodeInput> nodes,
+      Set<Transformer2WTypeInput> transformer2WTypes,
+      Set<OperatorInput> operators) {
+    return delegate.stream2WTransformers(nodes, transformer2WTypes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<Transformer3WInput> stream3WTransformers(
+      Set<NodeInput> nodes,
+      Set<Transformer3WTypeInput> transformer3WTypeInputs,
+      Set<OperatorInput> operators) {
+    return delegate.stream3WTransformers(nodes, transformer3WTypeInputs, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<SwitchInput> streamSwitches(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.streamSwitches(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<MeasurementUnitInput> streamMeasurementUnits(
+      Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.streamMeasurementUnits(nodes, operators);
+  }
+}
@@ -0,0 +1,373 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.io.source.RawGridSource;
+import edu.ie3.datamodel.io.source.SystemParticipantSource;
+import edu.ie3.datamodel.io.source.ThermalSource;
+import edu.ie3.datamodel.io.source.TypeSource;
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.OperatorInput;
+import edu.ie3.datamodel.models.input.container.SystemParticipants;
+import edu.ie3.datamodel.models.input.system.*;
+import edu.ie3.datamodel.models.input.system.type.*;
+import edu.ie3.datamodel.models.input.thermal.ThermalBusInput;
+import edu.ie3.datamodel.models.input.thermal.ThermalStorageInput;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Opt-in caching decorator for a {@link SystemParticipantSource} reading from .csv files. The
+ * entity sets returned by the getters without arguments are kept in memory and are only read
+ * again, if the corresponding file or one of the entity sets they depend on (taken from the
+ * provided {@link TypeSource}, {@link RawGridSource} and {@link ThermalSource}) has been changed
+ * (see {@link CsvEntityCache}). The returned sets are unmodifiable.
+ *
+ * <p>Getters with arguments, the stream methods and {@link #getSystemParticipants()} are passed to
+ * the delegate without caching, as their results depend on the arguments or on entities, that
+ * could not be built, respectively.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CachingCsvSystemParticipantSource implements SystemParticipantSource {
+
+  private final SystemParticipantSource delegate;
+  private final TypeSource typeSource;
+  private final RawGridSource rawGridSource;
+  private final ThermalSource thermalSource;
+  private final CsvEntityCache cache;
+
+  /**
+   * Creates a new caching system participant source. The dependency sources should preferably be
+   * caching sources sharing the same cache.
+   *
+   * @param delegate the source to read the system participants with
+   * @param typeSource the source of operators and types
+   * @param rawGridSource the source of nodes
+   * @param thermalSource the source of thermal units
+   * @param cache the cache for the files, the delegate reads
+   */
+  public CachingCsvSystemParticipantSource(
+      SystemParticipantSource delegate,
+      TypeSource typeSource,
+      RawGridSource rawGridSource,
+      ThermalSource thermalSource,
+      CsvEntityCache cache) {
+    this.delegate = delegate;
+    this.typeSource = typeSource;
+    this.rawGridSource = rawGridSource;
+    this.thermalSource = thermalSource;
+    this.cache = cache;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<SystemParticipants> getSystemParticipants() {
+    return delegate.getSystemParticipants();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<FixedFeedInInput> getFixedFeedIns() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    return cache.get(
+        "SystemParticipantSource#getFixedFeedIns",
+        FixedFeedInInput.class,
+        () -> Collections.unmodifiableSet(delegate.getFixedFeedIns(nodes, operators)),
+        nodes,
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<FixedFeedInInput> getFixedFeedIns(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.getFixedFeedIns(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<PvInput> getPvPlants() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    return cache.get(
+        "SystemParticipantSource#getPvPlants",
+        PvInput.class,
+        () -> Collections.unmodifiableSet(delegate.getPvPlants(nodes, operators)),
+        nodes,
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<PvInput> getPvPlants(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.getPvPlants(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<LoadInput> getLoads() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    return cache.get(
+        "SystemParticipantSource#getLoads",
+        LoadInput.class,
+        () -> Collections.unmodifiableSet(delegate.getLoads(nodes, operators)),
+        nodes,
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<LoadInput> getLoads(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.getLoads(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<EvcsInput> getEvCS() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    return cache.get(
+        "SystemParticipantSource#getEvCS",
+        EvcsInput.class,
+        () -> Collections.unmodifiableSet(delegate.getEvCS(nodes, operators)),
+        nodes,
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<EvcsInput> getEvCS(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.getEvCS(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<BmInput> getBmPlants() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    Set<BmTypeInput> types = typeSource.getBmTypes();
+    return cache.get(
+        "SystemParticipantSource#getBmPlants",
+        BmInput.class,
+        () -> Collections.unmodifiableSet(delegate.getBmPlants(nodes, operators, types)),
+        nodes,
+        operators,
+        types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<BmInput> getBmPlants(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<BmTypeInput> types) {
+    return delegate.getBmPlants(nodes, operators, types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<StorageInput> getStorages() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    Set<StorageTypeInput> types = typeSource.getStorageTypes();
+    return cache.get(
+        "SystemParticipantSource#getStorages",
+        StorageInput.class,
+        () -> Collections.unmodifiableSet(delegate.getStorages(nodes, operators, types)),
+        nodes,
+        operators,
+        types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<StorageInput> getStorages(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<StorageTypeInput> types) {
+    return delegate.getStorages(nodes, operators, types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<WecInput> getWecPlants() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    Set<WecTypeInput> types = typeSource.getWecTypes();
+    return cache.get(
+        "SystemParticipantSource#getWecPlants",
+        WecInput.class,
+        () -> Collections.unmodifiableSet(delegate.getWecPlants(nodes, operators, types)),
+        nodes,
+        operators,
+        types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<WecInput> getWecPlants(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<WecTypeInput> types) {
+    return delegate.getWecPlants(nodes, operators, types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<EvInput> getEvs() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    Set<EvTypeInput> types = typeSource.getEvTypes();
+    return cache.get(
+        "SystemParticipantSource#getEvs",
+        EvInput.class,
+        () -> Collections.unmodifiableSet(delegate.getEvs(nodes, operators, types)),
+        nodes,
+        operators,
+        types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<EvInput> getEvs(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<EvTypeInput> types) {
+    return delegate.getEvs(nodes, operators, types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<ChpInput> getChpPlants() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    Set<ChpTypeInput> types = typeSource.getChpTypes();
+    Set<ThermalBusInput> thermalBuses = thermalSource.getThermalBuses();
+    Set<ThermalStorageInput> thermalStorages = thermalSource.getThermalStorages();
+    return cache.get(
+        "SystemParticipantSource#getChpPlants",
+        ChpInput.class,
+        () ->
+            Collections.unmodifiableSet(
+                delegate.getChpPlants(nodes, operators, types, thermalBuses, thermalStorages)),
+        nodes,
+        operators,
+        types,
+        thermalBuses,
+        thermalStorages);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<ChpInput> getChpPlants(
+      Set<NodeInput> nodes,
+      Set<OperatorInput> operators,
+      Set<ChpTypeInput> types,
+      Set<ThermalBusInput> thermalBuses,
+      Set<ThermalStorageInput> thermalStorages) {
+    return delegate.getChpPlants(nodes, operators, types, thermalBuses, thermalStorages);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<HpInput> getHeatPumps() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    Set<HpTypeInput> types = typeSource.getHpTypes();
+    Set<ThermalBusInput> thermalBuses = thermalSource.getThermalBuses();
+    return cache.get(
+        "SystemParticipantSource#getHeatPumps",
+        HpInput.class,
+        () ->
+            Collections.unmodifiableSet(
+                delegate.getHeatPumps(nodes, operators, types, thermalBuses)),
+        nodes,
+        operators,
+        types,
+        thermalBuses);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<HpInput> getHeatPumps(
+      Set<NodeInput> nodes,
+      Set<OperatorInput> operators,
+      Set<HpTypeInput> types,
+      Set<ThermalBusInput> thermalBuses) {
+    return delegate.getHeatPumps(nodes, operators, types, thermalBuses);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<FixedFeedInInput> streamFixedFeedIns(
+      Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.streamFixedFeedIns(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<PvInput> streamPvPlants(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.streamPvPlants(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<LoadInput> streamLoads(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.streamLoads(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<EvcsInput> streamEvCS(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    return delegate.streamEvCS(nodes, operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<BmInput> streamBmPlants(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<BmTypeInput> types) {
+    return delegate.streamBmPlants(nodes, operators, types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<StorageInput> streamStorages(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<StorageTypeInput> types) {
+    return delegate.streamStorages(nodes, operators, types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<WecInput> streamWecPlants(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<WecTypeInput> types) {
+    return delegate.streamWecPlants(nodes, operators, types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<EvInput> streamEvs(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<EvTypeInput> types) {
+    return delegate.streamEvs(nodes, operators, types);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<ChpInput> streamChpPlants(
+      Set<NodeInput> nodes,
+      Set<OperatorInput> operators,
+      Set<ChpTypeInput> types,
+      Set<ThermalBusInput> thermalBuses,
+      Set<ThermalStorageInput> thermalStorages) {
+    return delegate.streamChpPlants(nodes, operators, types, thermalBuses, thermalStorages);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<HpInput> streamHeatPumps(
+      Set<NodeInput> nodes,
+      Set<OperatorInput> operators,
+      Set<HpTypeInput> types,
+      Set<ThermalBusInput> thermalBuses) {
+    return delegate.streamHeatPumps(nodes, operators, types, thermalBuses);
+  }
+}
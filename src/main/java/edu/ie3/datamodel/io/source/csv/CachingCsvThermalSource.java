@@ -0,0 +1,124 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.io.source.ThermalSource;
+import edu.ie3.datamodel.io.source.TypeSource;
+import edu.ie3.datamodel.models.input.OperatorInput;
+import edu.ie3.datamodel.models.input.thermal.CylindricalStorageInput;
+import edu.ie3.datamodel.models.input.thermal.ThermalBusInput;
+import edu.ie3.datamodel.models.input.thermal.ThermalHouseInput;
+import edu.ie3.datamodel.models.input.thermal.ThermalStorageInput;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Opt-in caching decorator for a {@link ThermalSource} reading from .csv files. The entity sets
+ * returned by the getters without arguments are kept in memory and are only read again, if the
+ * corresponding file or one of the entity sets they depend on (taken from the provided {@link
+ * TypeSource} and this source) has been changed (see {@link CsvEntityCache}). The returned sets are
+ * unmodifiable. Getters with arguments are passed to the delegate without caching.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CachingCsvThermalSource implements ThermalSource {
+
+  private final ThermalSource delegate;
+  private final TypeSource typeSource;
+  private final CsvEntityCache cache;
+
+  /**
+   * Creates a new caching thermal source
+   *
+   * @param delegate the source to read the thermal units with
+   * @param typeSource the source of operators, preferably a {@link CachingCsvTypeSource} sharing
+   *     the same cache
+   * @param cache the cache for the files, the delegate reads
+   */
+  public CachingCsvThermalSource(
+      ThermalSource delegate, TypeSource typeSource, CsvEntityCache cache) {
+    this.delegate = delegate;
+    this.typeSource = typeSource;
+    this.cache = cache;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<ThermalBusInput> getThermalBuses() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    return cache.get(
+        "ThermalSource#getThermalBuses",
+        ThermalBusInput.class,
+        () -> Collections.unmodifiableSet(delegate.getThermalBuses(operators)),
+        operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<ThermalBusInput> getThermalBuses(Set<OperatorInput> operators) {
+    return delegate.getThermalBuses(operators);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<ThermalStorageInput> getThermalStorages() {
+    Set<CylindricalStorageInput> cylindricStorages = getCylindricStorages();
+    return cache.get(
+        "ThermalSource#getThermalStorages",
+        CylindricalStorageInput.class,
+        () -> Collections.unmodifiableSet(new HashSet<>(cylindricStorages)),
+        cylindricStorages);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<ThermalStorageInput> getThermalStorages(
+      Set<OperatorInput> operators, Set<ThermalBusInput> thermalBuses) {
+    return delegate.getThermalStorages(operators, thermalBuses);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<ThermalHouseInput> getThermalHouses() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<ThermalBusInput> thermalBuses = getThermalBuses();
+    return cache.get(
+        "ThermalSource#getThermalHouses",
+        ThermalHouseInput.class,
+        () -> Collections.unmodifiableSet(delegate.getThermalHouses(operators, thermalBuses)),
+        operators,
+        thermalBuses);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<ThermalHouseInput> getThermalHouses(
+      Set<OperatorInput> operators, Set<ThermalBusInput> thermalBuses) {
+    return delegate.getThermalHouses(operators, thermalBuses);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<CylindricalStorageInput> getCylindricStorages() {
+    Set<OperatorInput> operators = typeSource.getOperators();
+    Set<ThermalBusInput> thermalBuses = getThermalBuses();
+    return cache.get(
+        "ThermalSource#getCylindricStorages",
+        CylindricalStorageInput.class,
+        () -> Collections.unmodifiableSet(delegate.getCylindricStorages(operators, thermalBuses)),
+        operators,
+        thermalBuses);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<CylindricalStorageInput> getCylindricStorages(
+      Set<OperatorInput> operators, Set<ThermalBusInput> thermalBuses) {
+    return delegate.getCylindricStorages(operators, thermalBuses);
+  }
+}
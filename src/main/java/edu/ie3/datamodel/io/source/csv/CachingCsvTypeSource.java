@@ -0,0 +1,130 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.io.source.TypeSource;
+import edu.ie3.datamodel.models.input.OperatorInput;
+import edu.ie3.datamodel.models.input.connector.type.LineTypeInput;
+import edu.ie3.datamodel.models.input.connector.type.Transformer2WTypeInput;
+import edu.ie3.datamodel.models.input.connector.type.Transformer3WTypeInput;
+import edu.ie3.datamodel.models.input.system.type.*;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Opt-in caching decorator for a {@link TypeSource} reading from .csv files. The sets of operators
+ * and types are kept in memory and are only read again, if the corresponding file has been changed
+ * (see {@link CsvEntityCache}). The returned sets are unmodifiable.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CachingCsvTypeSource implements TypeSource {
+
+  private final TypeSource delegate;
+  private final CsvEntityCache cache;
+
+  /**
+   * Creates a new caching type source
+   *
+   * @param delegate the source to read the operators and types with
+   * @param cache the cache for the files, the delegate reads
+   */
+  public CachingCsvTypeSource(TypeSource delegate, CsvEntityCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Transformer2WTypeInput> getTransformer2WTypes() {
+    return cache.get(
+        "TypeSource#getTransformer2WTypes",
+        Transformer2WTypeInput.class,
+        () -> Collections.unmodifiableSet(delegate.getTransformer2WTypes()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<OperatorInput> getOperators() {
+    return cache.get(
+        "TypeSource#getOperators",
+        OperatorInput.class,
+        () -> Collections.unmodifiableSet(delegate.getOperators()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<LineTypeInput> getLineTypes() {
+    return cache.get(
+        "TypeSource#getLineTypes",
+        LineTypeInput.class,
+        () -> Collections.unmodifiableSet(delegate.getLineTypes()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<Transformer3WTypeInput> getTransformer3WTypes() {
+    return cache.get(
+        "TypeSource#getTransformer3WTypes",
+        Transformer3WTypeInput.class,
+        () -> Collections.unmodifiableSet(delegate.getTransformer3WTypes()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<BmTypeInput> getBmTypes() {
+    return cache.get(
+        "TypeSource#getBmTypes",
+        BmTypeInput.class,
+        () -> Collections.unmodifiableSet(delegate.getBmTypes()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<ChpTypeInput> getChpTypes() {
+    return cache.get(
+        "TypeSource#getChpTypes",
+        ChpTypeInput.class,
+        () -> Collections.unmodifiableSet(delegate.getChpTypes()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<HpTypeInput> getHpTypes() {
+    return cache.get(
+        "TypeSource#getHpTypes",
+        HpTypeInput.class,
+        () -> Collections.unmodifiableSet(delegate.getHpTypes()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<StorageTypeInput> getStorageTypes() {
+    return cache.get(
+        "TypeSource#getStorageTypes",
+        StorageTypeInput.class,
+        () -> Collections.unmodifiableSet(delegate.getStorageTypes()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<WecTypeInput> getWecTypes() {
+    return cache.get(
+        "TypeSource#getWecTypes",
+        WecTypeInput.class,
+        () -> Collections.unmodifiableSet(delegate.getWecTypes()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<EvTypeInput> getEvTypes() {
+    return cache.get(
+        "TypeSource#getEvTypes",
+        EvTypeInput.class,
+        () -> Collections.unmodifiableSet(delegate.getEvTypes()));
+  }
+}
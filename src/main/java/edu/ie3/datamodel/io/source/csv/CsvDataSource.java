@@ -7,8 +7,13 @@ package edu.ie3.datamodel.io.source.csv;
 
 import edu.ie3.datamodel.exceptions.SourceException;
 import edu.ie3.datamodel.io.connectors.CsvFileConnector;
+import edu.ie3.datamodel.io.csv.CsvFileReader;
+import edu.ie3.datamodel.io.csv.CsvRowTokenizer;
 import edu.ie3.datamodel.io.csv.FileNamingStrategy;
+import edu.ie3.datamodel.io.csv.MappedCsvFileReader;
 import edu.ie3.datamodel.io.factory.EntityFactory;
+import edu.ie3.datamodel.io.factory.FieldSchema;
+import edu.ie3.datamodel.io.factory.IndexedFieldsToAttributes;
 import edu.ie3.datamodel.io.factory.input.AssetInputEntityData;
 import edu.ie3.datamodel.io.factory.input.NodeAssetInputEntityData;
 import edu.ie3.datamodel.models.UniqueEntity;
@@ -20,16 +25,21 @@ import edu.ie3.datamodel.utils.ValidationUtils;
 import edu.ie3.util.StringUtils;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -47,6 +57,7 @@ public abstract class CsvDataSource {
   // general fields
   protected final String csvSep;
   protected final CsvFileConnector connector;
+  protected final NodeFilter nodeFilter;
 
   // field names
   protected static final String OPERATOR = "operator";
@@ -56,6 +67,9 @@ public abstract class CsvDataSource {
   protected static final String TYPE = "type";
   protected static final String FIELDS_TO_VALUES_MAP = "fieldsToValuesMap";
 
+  // number of rows that are read and parsed at once in streaming mode
+  protected static final int STREAMING_CHUNK_SIZE = 4096;
+
   /**
    * @deprecated ensures downward compatibility with old csv data format. Can be removed when
    *     support for old csv format is removed. *
@@ -63,8 +77,46 @@ public abstract class CsvDataSource {
   @Deprecated private boolean notYetLoggedWarning = true;
 
   public CsvDataSource(String csvSep, String folderPath, FileNamingStrategy fileNamingStrategy) {
+    this(csvSep, folderPath, fileNamingStrategy, NodeFilter.all());
+  }
+
+  /**
+   * Creates a source, that only builds the slice of the grid selected by the given filter. See
+   * {@link NodeFilter} for details.
+   *
+   * @param csvSep the separator of the csv files
+   * @param folderPath the folder, the csv files are placed in
+   * @param fileNamingStrategy the file naming strategy of the csv files
+   * @param nodeFilter the filter selecting the nodes of the slice
+   */
+  public CsvDataSource(
+      String csvSep,
+      String folderPath,
+      FileNamingStrategy fileNamingStrategy,
+      NodeFilter nodeFilter) {
+    this(csvSep, folderPath, fileNamingStrategy, nodeFilter, Collections.emptySet());
+  }
+
+  /**
+   * Creates a source, that only builds the slice of the grid selected by the given filter and that
+   * is going to read the files of the given classes. If the folder is a .tar.gz archive, only the
+   * entries of these classes are buffered, when they are passed while seeking another entry.
+   *
+   * @param csvSep the separator of the csv files
+   * @param folderPath the folder, the csv files are placed in
+   * @param fileNamingStrategy the file naming strategy of the csv files
+   * @param nodeFilter the filter selecting the nodes of the slice
+   * @param readClasses the classes of the entities, whose files are read by this source
+   */
+  protected CsvDataSource(
+      String csvSep,
+      String folderPath,
+      FileNamingStrategy fileNamingStrategy,
+      NodeFilter nodeFilter,
+      Collection<Class<? extends UniqueEntity>> readClasses) {
     this.csvSep = csvSep;
-    this.connector = new CsvFileConnector(folderPath, fileNamingStrategy);
+    this.connector = new CsvFileConnector(folderPath, fileNamingStrategy, readClasses);
+    this.nodeFilter = nodeFilter;
   }
 
   /**
@@ -73,29 +125,45 @@ public abstract class CsvDataSource {
    * any sanity checks. Order of the headline needs to be the same as the fields in the csv row. If
    * the zipping fails, an empty map is returned and the causing error is logged.
    *
+   * <p>If several rows of the same file are processed, prefer {@link
+   * #buildFieldsToAttributes(String, FieldSchema)} with a schema that is built only once.
+   *
    * @param csvRow the csv row string that contains the data
    * @param headline the headline fields of the csv file
    * @return a map containing the mapping of (fieldName to fieldValue) or an empty map if an error
    *     occurred
    */
-  private Map<String, String> buildFieldsToAttributes(
+  protected Map<String, String> buildFieldsToAttributes(
       final String csvRow, final String[] headline) {
+    return buildFieldsToAttributes(csvRow, buildFieldSchema(headline));
+  }
 
-    TreeMap<String, String> insensitiveFieldsToAttributes =
-        new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+  /**
+   * Takes a row string of a .csv file and the field schema of the csv file headline, tries to split
+   * the csv row string and maps it to the fields of the schema. Order of the headline needs to be
+   * the same as the fields in the csv row. If the mapping fails, an empty map is returned and the
+   * causing error is logged.
+   *
+   * @param csvRow the csv row string that contains the data
+   * @param schema the field schema of the csv file headline
+   * @return a case-insensitive map containing the mapping of (fieldName to fieldValue) or an empty
+   *     map if an error occurred
+   */
+  private Map<String, String> buildFieldsToAttributes(
+      final String csvRow, final FieldSchema schema) {
 
     // todo when replacing deprecated workaround code below add final modifier before parseCsvRow as
     // well as remove
-    //  'finalFieldVals' and notYetLoggedWarning below!
+    //  notYetLoggedWarning below!
     String[] fieldVals = parseCsvRow(csvRow, csvSep);
 
     // start workaround for deprecated data model processing
-    if (fieldVals.length != headline.length) {
+    if (fieldVals.length != schema.size()) {
       // try to parse old structure
       fieldVals = oldFieldVals(csvSep, csvRow);
       // if this works log a warning to inform the user that this will not work much longer,
       // otherwise parsing will fail regularly as expected below
-      if (fieldVals.length == headline.length && notYetLoggedWarning) {
+      if (fieldVals.length == schema.size() && notYetLoggedWarning) {
         notYetLoggedWarning = false;
         log.warn(
             "You are using an outdated version of the data "
@@ -106,36 +174,39 @@ public abstract class CsvDataSource {
     // end workaround for deprecated data model processing
 
     try {
-      String[] finalFieldVals = fieldVals;
-      insensitiveFieldsToAttributes.putAll(
-          IntStream.range(0, fieldVals.length)
-              .boxed()
-              .collect(
-                  Collectors.toMap(
-                      k -> StringUtils.snakeCaseToCamelCase(headline[k]), v -> finalFieldVals[v])));
-
-      if (insensitiveFieldsToAttributes.size() != headline.length) {
-        Set<String> fieldsToAttributesKeySet = insensitiveFieldsToAttributes.keySet();
-        insensitiveFieldsToAttributes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+      if (!schema.hasUniqueFieldNames() || fieldVals.length != schema.size()) {
         throw new SourceException(
             "The size of the headline does not fit to the size of the resulting fields to attributes mapping.\nHeadline: "
-                + String.join(", ", headline)
-                + "\nResultingMap: "
-                + String.join(", ", fieldsToAttributesKeySet)
+                + String.join(", ", schema.getFieldNames())
+                + "\nNumber of fields in row: "
+                + fieldVals.length
                 + "\nCsvRow: "
                 + csvRow.trim()
                 + ".\nIs the csv separator in the file matching the separator provided in the constructor ('"
                 + csvSep
-                + "') and does the number of columns match the number of headline fields?");
+                + "'), are the headline fields unique (NOT case-sensitive!) and does the number of columns match the number of headline fields?");
       }
+      return new IndexedFieldsToAttributes(schema, fieldVals);
     } catch (Exception e) {
       log.error(
           "Cannot build fields to attributes map for row '{}' with headline '{}'.\nException: {}",
           csvRow::trim,
-          () -> String.join(",", headline),
+          () -> String.join(",", schema.getFieldNames()),
           () -> e);
     }
-    return insensitiveFieldsToAttributes;
+    return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+  }
+
+  /**
+   * Resolves the field names of the given headline once, so that all rows of a csv file can share
+   * the resulting schema
+   *
+   * @param headline the headline fields of the csv file
+   * @return the field schema with camel case field names
+   */
+  protected FieldSchema buildFieldSchema(final String[] headline) {
+    return new FieldSchema(
+        Arrays.stream(headline).map(StringUtils::snakeCaseToCamelCase).toArray(String[]::new));
   }
 
   /**
@@ -146,13 +217,7 @@ public abstract class CsvDataSource {
    * @return an array with the csv field values as strings
    */
   protected String[] parseCsvRow(String csvRow, String csvSep) {
-    return Arrays.stream(csvRow.split(csvSep + "(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", -1))
-        .map(
-            maybeStartEndQuotedString ->
-                StringUtils.unquoteStartEnd(maybeStartEndQuotedString.trim())
-                    .replaceAll("\"{2}", "\"")
-                    .trim())
-        .toArray(String[]::new);
+    return CsvRowTokenizer.tokenize(csvRow, csvSep);
   }
 
   /**
@@ -315,9 +380,31 @@ public abstract class CsvDataSource {
     return elements.filter(Optional::isPresent).map(Optional::get);
   }
 
+  /**
+   * Waits for the provided future to complete and returns its result. Exceptions, that occurred
+   * while computing the result, are rethrown directly instead of being wrapped into a {@link
+   * CompletionException}, so that callers observe the same behaviour as with a direct call.
+   *
+   * @param future the future to wait for
+   * @param <R> type of the result
+   * @return the result of the future
+   */
+  protected static <R> R joinUnwrapped(CompletableFuture<R> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      if (e.getCause() instanceof Error) throw (Error) e.getCause();
+      throw e;
+    }
+  }
+
   /**
    * Returns an {@link Optional} of the first {@link UniqueEntity} element of this collection
    * matching the provided UUID or an empty {@code Optional} if no matching entity can be found.
+   * Collections that are looked up for many rows should be passed as {@link UuidIndexedCollection}
+   * (see {@link UuidIndexedCollection#of(Collection)}), as any other collection is scanned
+   * linearly.
    *
    * @param entityUuid uuid of the entity that should be looked for
    * @param entities collection of entities that should be
@@ -327,6 +414,9 @@ public abstract class CsvDataSource {
    */
   protected <T extends UniqueEntity> Optional<T> findFirstEntityByUuid(
       String entityUuid, Collection<T> entities) {
+    if (entities instanceof UuidIndexedCollection)
+      return ((UuidIndexedCollection<T>) entities).get(entityUuid);
+
     return entities.stream()
         .parallel()
         .filter(uniqueEntity -> uniqueEntity.getUuid().toString().equalsIgnoreCase(entityUuid))
@@ -339,6 +429,10 @@ public abstract class CsvDataSource {
    * (fieldName to fieldValue) mapping where each map represents one row of the .csv file. Since the
    * returning stream is a parallel stream, the order of the elements cannot be guaranteed.
    *
+   * <p>Plain files are read by a {@link MappedCsvFileReader}, so that the rows can be decoded and
+   * parsed in parallel. Compressed files and entries of archives are read sequentially, but parsed
+   * in parallel as well.
+   *
    * @param entityClass the entity class that should be build and that is used to get the
    *     corresponding reader
    * @param connector the connector that should be used to get the reader from
@@ -347,26 +441,40 @@ public abstract class CsvDataSource {
    */
   protected Stream<Map<String, String>> buildStreamWithFieldsToAttributesMap(
       Class<? extends UniqueEntity> entityClass, CsvFileConnector connector) {
+    return buildStreamWithFieldsToAttributesMap(entityClass, connector, row -> true);
+  }
 
-    try (BufferedReader reader = connector.initReader(entityClass)) {
-      final String[] headline = parseCsvRow(reader.readLine(), csvSep);
+  /**
+   * Same as {@link #buildStreamWithFieldsToAttributesMap(Class, CsvFileConnector)}, but only keeps
+   * the rows accepted by the given filter. The filter is applied to every row as soon as it is
+   * parsed, i.e. before the rows are collected and checked for duplicates. Hence, only the accepted
+   * rows are held in memory, e.g. only the rows of the slice selected by the {@link NodeFilter}.
+   *
+   * @param entityClass the entity class that should be build and that is used to get the
+   *     corresponding reader
+   * @param connector the connector that should be used to get the reader from
+   * @param rowFilter the filter on the (fieldName to fieldValue) mapping of every row
+   * @return a parallel stream of maps, where each map represents one accepted row of the csv file
+   *     with the mapping (fieldName to fieldValue)
+   */
+  protected Stream<Map<String, String>> buildStreamWithFieldsToAttributesMap(
+      Class<? extends UniqueEntity> entityClass,
+      CsvFileConnector connector,
+      Predicate<Map<String, String>> rowFilter) {
 
-      // sanity check for headline
-      if (!Arrays.asList(headline).contains("uuid")) {
-        throw new SourceException(
-            "The first line does not contain a field named 'uuid'. Is the headline valid?\nProvided headline: "
-                + String.join(", ", headline));
-      }
+    try (CsvFileReader reader = connector.initCsvReader(entityClass)) {
+      final String[] headline = parseHeadline(reader.getHeadline());
 
       // by default try-with-resources closes the reader directly when we leave this method (which
       // is wanted to avoid a lock on the file), but this causes a closing of the stream as well.
       // As we still want to consume the data at other places, we start a new stream instead of
       // returning the original one
-      Collection<Map<String, String>> allRows = csvRowFieldValueMapping(reader, headline);
+      Collection<Map<String, String>> allRows =
+          csvRowFieldValueMapping(reader.rows(), headline, rowFilter);
 
       return distinctRowsWithLog(entityClass, allRows).parallelStream();
 
-    } catch (IOException e) {
+    } catch (IOException | UncheckedIOException e) {
       log.warn(
           "Cannot read file to build entity '{}': {}", entityClass.getSimpleName(), e.getMessage());
     } catch (SourceException e) {
@@ -377,13 +485,183 @@ public abstract class CsvDataSource {
     return Stream.empty();
   }
 
+  /**
+   * Streaming counterpart of {@link #buildStreamWithFieldsToAttributesMap(Class,
+   * CsvFileConnector)}. Instead of reading the whole file into memory before processing, the file
+   * is read lazily in chunks of {@link #STREAMING_CHUNK_SIZE} rows. The rows are split by the same
+   * {@link CsvFileReader} as in the non-streaming mode, so that line breaks within quoted fields
+   * never end a row. Each chunk is parsed in parallel, checked for duplicated UUIDs by a {@link
+   * UuidDuplicateFilter} in the order of the rows and handed over to the provided pipeline, which
+   * transforms the (fieldName to fieldValue) mappings into the desired results. Only then the next
+   * chunk is read. Hence, the memory footprint is bounded by the chunk size and whatever the
+   * consumer of the returned stream keeps.
+   *
+   * <p>As the returned stream is backed by an open file, it has to be closed after consumption,
+   * e.g. by using a try-with-resources statement. Closing the stream also logs the duplicated rows
+   * that have been filtered out. Since the rows are not held in memory, rows with a duplicated UUID
+   * but different field values cannot lead to an empty result as in the non-streaming mode. Instead
+   * only the first occurrence is processed and the conflict is logged.
+   *
+   * @param entityClass the entity class that should be build and that is used to get the
+   *     corresponding reader
+   * @param connector the connector that should be used to get the reader from
+   * @param pipeline function that transforms a stream of rows of one chunk into a stream of results
+   * @param <R> type of the results
+   * @return a sequential, lazily evaluated stream of results that has to be closed after usage
+   */
+  protected <R> Stream<R> buildChunkedStream(
+      Class<? extends UniqueEntity> entityClass,
+      CsvFileConnector connector,
+      Function<Stream<Map<String, String>>, Stream<R>> pipeline) {
+
+    CsvFileReader reader = null;
+    try {
+      reader = connector.initCsvReader(entityClass);
+      final FieldSchema schema = buildFieldSchema(parseHeadline(reader.getHeadline()));
+      final CsvFileReader chunkReader = reader;
+      final UuidDuplicateFilter uuidFilter = new UuidDuplicateFilter(entityClass);
+
+      return StreamSupport.stream(rowChunks(chunkReader.rows().iterator()), false)
+          .flatMap(
+              chunk -> {
+                List<Map<String, String>> rows =
+                    chunk
+                        .parallelStream()
+                        .map(csvRow -> buildFieldsToAttributes(csvRow, schema))
+                        .filter(map -> !map.isEmpty())
+                        .collect(Collectors.toList());
+                // the first occurrence of a uuid has to be determined in the order of the rows
+                List<Map<String, String>> distinctRows =
+                    rows.stream().filter(uuidFilter).collect(Collectors.toList());
+                return pipeline
+                    .apply(distinctRows.parallelStream())
+                    .collect(Collectors.toList())
+                    .stream();
+              })
+          .onClose(
+              () -> {
+                closeReader(entityClass, chunkReader);
+                uuidFilter.logSummary();
+              });
+    } catch (IOException | UncheckedIOException e) {
+      log.warn(
+          "Cannot read file to build entity '{}': {}", entityClass.getSimpleName(), e.getMessage());
+    } catch (SourceException e) {
+      log.error(
+          "Cannot read file to build entity '{}': {}", entityClass.getSimpleName(), e.getMessage());
+    }
+
+    if (reader != null) closeReader(entityClass, reader);
+    return Stream.empty();
+  }
+
+  /**
+   * Returns a stream of entities, that are built chunk by chunk by the provided pipeline. Entities
+   * that cannot be built are filtered out (and logged by the pipeline), equivalent to the behaviour
+   * of the set returning getters with arguments. See {@link #buildChunkedStream(Class,
+   * CsvFileConnector, Function)} for details on the streaming mode.
+   *
+   * @param entityClass the entity class that should be build
+   * @param pipeline function that transforms a stream of rows into a stream of entity optionals
+   * @param <T> type of the entity that should be build
+   * @return a lazily evaluated stream of entities that has to be closed after usage
+   */
+  protected <T extends UniqueEntity> Stream<T> streamEntities(
+      Class<? extends UniqueEntity> entityClass,
+      Function<Stream<Map<String, String>>, Stream<Optional<T>>> pipeline) {
+    return buildChunkedStream(
+        entityClass, connector, rows -> filterEmptyOptionals(pipeline.apply(rows)));
+  }
+
+  /**
+   * Parses the given row as the headline of a csv file. The headline is required to contain a field
+   * named 'uuid'.
+   *
+   * @param headlineRow the first row of the csv file or null, if the file is empty
+   * @return the headline fields of the csv file
+   * @throws SourceException if the headline is missing or invalid
+   */
+  private String[] parseHeadline(String headlineRow) throws SourceException {
+    if (headlineRow == null) throw new SourceException("The file is empty. Headline is missing!");
+    final String[] headline = parseCsvRow(headlineRow, csvSep);
+
+    // sanity check for headline
+    if (!Arrays.asList(headline).contains("uuid")) {
+      throw new SourceException(
+          "The first line does not contain a field named 'uuid'. Is the headline valid?\nProvided headline: "
+              + String.join(", ", headline));
+    }
+    return headline;
+  }
+
+  /**
+   * Provides a spliterator, that takes up to {@link #STREAMING_CHUNK_SIZE} rows from the provided
+   * rows on every advance
+   *
+   * @param rows the rows of a csv file
+   * @return a spliterator of row chunks
+   */
+  private Spliterator<List<String>> rowChunks(Iterator<String> rows) {
+    return new Spliterators.AbstractSpliterator<List<String>>(
+        Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+      @Override
+      public boolean tryAdvance(Consumer<? super List<String>> action) {
+        List<String> chunk = new ArrayList<>(STREAMING_CHUNK_SIZE);
+        while (chunk.size() < STREAMING_CHUNK_SIZE && rows.hasNext()) chunk.add(rows.next());
+        if (chunk.isEmpty()) return false;
+        action.accept(chunk);
+        return true;
+      }
+    };
+  }
+
+  private void closeReader(Class<? extends UniqueEntity> entityClass, CsvFileReader reader) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      log.warn(
+          "Cannot close reader of file for entity '{}': {}",
+          entityClass.getSimpleName(),
+          e.getMessage());
+    }
+  }
+
   protected List<Map<String, String>> csvRowFieldValueMapping(
       BufferedReader reader, String[] headline) {
-    return reader
-        .lines()
+    return csvRowFieldValueMapping(reader.lines(), headline);
+  }
+
+  /**
+   * Maps the provided csv rows in parallel to (fieldName to fieldValue) mappings based on the
+   * provided headline. Rows that cannot be mapped are logged and left out.
+   *
+   * @param csvRows the csv rows without headline
+   * @param headline the headline fields of the csv file
+   * @return a list of the mappings of all valid rows
+   */
+  protected List<Map<String, String>> csvRowFieldValueMapping(
+      Stream<String> csvRows, String[] headline) {
+    return csvRowFieldValueMapping(csvRows, headline, row -> true);
+  }
+
+  /**
+   * Maps the provided csv rows in parallel to (fieldName to fieldValue) mappings based on the
+   * provided headline and only keeps the mappings accepted by the given filter. Rows that cannot be
+   * mapped are logged and left out.
+   *
+   * @param csvRows the csv rows without headline
+   * @param headline the headline fields of the csv file
+   * @param rowFilter the filter on the mapping of every row
+   * @return a list of the mappings of all valid and accepted rows
+   */
+  protected List<Map<String, String>> csvRowFieldValueMapping(
+      Stream<String> csvRows, String[] headline, Predicate<Map<String, String>> rowFilter) {
+    final FieldSchema schema = buildFieldSchema(headline);
+    return csvRows
         .parallel()
-        .map(csvRow -> buildFieldsToAttributes(csvRow, headline))
+        .map(csvRow -> buildFieldsToAttributes(csvRow, schema))
         .filter(map -> !map.isEmpty())
+        .filter(rowFilter)
         .collect(Collectors.toList());
   }
 
@@ -482,10 +760,27 @@ public abstract class CsvDataSource {
    */
   protected <T extends AssetInput> Stream<AssetInputEntityData> assetInputEntityDataStream(
       Class<T> entityClass, Collection<OperatorInput> operators) {
-    return buildStreamWithFieldsToAttributesMap(entityClass, connector)
-        .map(
-            fieldsToAttributes ->
-                assetInputEntityDataStream(entityClass, fieldsToAttributes, operators));
+    return assetInputEntityDataStream(
+        entityClass, buildStreamWithFieldsToAttributesMap(entityClass, connector), operators);
+  }
+
+  /**
+   * Returns a stream of {@link AssetInputEntityData} built from the provided rows. See {@link
+   * #assetInputEntityDataStream(Class, Collection)} for details.
+   *
+   * @param entityClass the entity class that should be build
+   * @param rows stream of (fieldName to fieldValue) mappings, each representing one row
+   * @param operators a collection of {@link OperatorInput} entities that should be used to build
+   *     the data
+   * @param <T> type of the entity that should be build
+   * @return stream of the entity data
+   */
+  protected <T extends AssetInput> Stream<AssetInputEntityData> assetInputEntityDataStream(
+      Class<T> entityClass, Stream<Map<String, String>> rows, Collection<OperatorInput> operators) {
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return rows.map(
+        fieldsToAttributes ->
+            assetInputEntityDataStream(entityClass, fieldsToAttributes, indexedOperators));
   }
 
   protected <T extends AssetInput> AssetInputEntityData assetInputEntityDataStream(
@@ -508,6 +803,29 @@ public abstract class CsvDataSource {
     return new AssetInputEntityData(fieldsToAttributes, entityClass, operator);
   }
 
+  /**
+   * Returns a predicate on the (fieldName to fieldValue) mapping of a row, that tests, whether all
+   * entities referenced by the given fields are part of the provided collection. Fields, that are
+   * not contained in the row, are ignored. If this source is not restricted by its {@link
+   * NodeFilter}, every row is accepted, so that missing references are reported as usual.
+   *
+   * @param entities the entities, rows are allowed to refer to
+   * @param referenceFields the fields containing the uuids of the referenced entities
+   * @param <T> type of the referenced entities
+   * @return a predicate accepting all rows, that are attached to the provided entities
+   */
+  protected <T extends UniqueEntity> Predicate<Map<String, String>> isAttachedTo(
+      Collection<T> entities, String... referenceFields) {
+    if (!nodeFilter.isRestrictive()) return fieldsToAttributes -> true;
+
+    Collection<T> indexedEntities = UuidIndexedCollection.of(entities);
+    return fieldsToAttributes ->
+        Arrays.stream(referenceFields)
+            .map(fieldsToAttributes::get)
+            .filter(Objects::nonNull)
+            .allMatch(uuid -> findFirstEntityByUuid(uuid, indexedEntities).isPresent());
+  }
+
   /**
    * Returns a stream of optional {@link NodeAssetInputEntityData} that can be used to build
    * instances of several subtypes of {@link UniqueEntity} by a corresponding {@link EntityFactory}
@@ -521,9 +839,12 @@ public abstract class CsvDataSource {
    */
   protected Stream<Optional<NodeAssetInputEntityData>> nodeAssetInputEntityDataStream(
       Stream<AssetInputEntityData> assetInputEntityDataStream, Collection<NodeInput> nodes) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Predicate<Map<String, String>> isAttached = isAttachedTo(indexedNodes, NODE);
 
     return assetInputEntityDataStream
         .parallel()
+        .filter(assetInputEntityData -> isAttached.test(assetInputEntityData.getFieldsToValues()))
         .map(
             assetInputEntityData -> {
 
@@ -532,7 +853,7 @@ public abstract class CsvDataSource {
 
               // get the node of the entity
               String nodeUuid = fieldsToAttributes.get(NODE);
-              Optional<NodeInput> node = findFirstEntityByUuid(nodeUuid, nodes);
+              Optional<NodeInput> node = findFirstEntityByUuid(nodeUuid, indexedNodes);
 
               // if the node is not present we return an empty element and
               // log a warning
@@ -576,7 +897,38 @@ public abstract class CsvDataSource {
       EntityFactory<T, NodeAssetInputEntityData> factory,
       Collection<NodeInput> nodes,
       Collection<OperatorInput> operators) {
-    return nodeAssetInputEntityDataStream(assetInputEntityDataStream(entityClass, operators), nodes)
+    return nodeAssetEntityStream(
+        entityClass,
+        buildStreamWithFieldsToAttributesMap(entityClass, connector, isAttachedTo(nodes, NODE)),
+        factory,
+        nodes,
+        operators);
+  }
+
+  /**
+   * Returns a stream of optional entities that can be build by using {@link
+   * NodeAssetInputEntityData} and their corresponding factory from the provided rows. See {@link
+   * #nodeAssetEntityStream(Class, EntityFactory, Collection, Collection)} for details.
+   *
+   * @param entityClass the entity class that should be build
+   * @param rows stream of (fieldName to fieldValue) mappings, each representing one row
+   * @param factory the factory that should be used for the building process
+   * @param nodes a collection of {@link NodeInput} entities that should be used to build the
+   *     entities
+   * @param operators a collection of {@link OperatorInput} entities should be used to build the
+   *     entities
+   * @param <T> type of the entity that should be build
+   * @return stream of optionals of the entities that has been built by the factor or empty
+   *     optionals if the entity could not have been build
+   */
+  protected <T extends AssetInput> Stream<Optional<T>> nodeAssetEntityStream(
+      Class<T> entityClass,
+      Stream<Map<String, String>> rows,
+      EntityFactory<T, NodeAssetInputEntityData> factory,
+      Collection<NodeInput> nodes,
+      Collection<OperatorInput> operators) {
+    return nodeAssetInputEntityDataStream(
+            assetInputEntityDataStream(entityClass, rows, operators), nodes)
         .map(dataOpt -> dataOpt.flatMap(factory::getEntity));
   }
 }
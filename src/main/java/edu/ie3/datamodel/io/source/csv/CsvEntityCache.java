@@ -0,0 +1,179 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.io.connectors.CsvFileConnector;
+import edu.ie3.datamodel.io.csv.FileNamingStrategy;
+import edu.ie3.datamodel.models.UniqueEntity;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cache for the results of csv sources, e.g. the set of all entities of one .csv file. Every entry
+ * is valid as long as
+ *
+ * <ul>
+ *   <li>size and modification time of the file it has been read from did not change and
+ *   <li>it has been built from the very same (in the sense of identity) dependencies, e.g. the sets
+ *       of nodes and operators an entity refers to.
+ * </ul>
+ *
+ * As dependencies are themselves taken from the cache, changing e.g. the operator file invalidates
+ * the operators and thereby every entry that has been built from them.
+ *
+ * <p>Please note, that the resolution of the modification time depends on the file system. Hence,
+ * changes of a file, that neither change its size nor happen after the resolution of the
+ * modification time, might be missed.
+ *
+ * <p>A cache, that has been created for a folder, uses a connector of its own, which is shut down,
+ * when the cache is closed. A cache, that shares the connector of a source, leaves its shutdown to
+ * the source.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CsvEntityCache implements AutoCloseable {
+
+  private final CsvFileConnector connector;
+  // whether the connector has been created by and hence has to be shut down by this cache
+  private final boolean ownsConnector;
+  private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new, empty cache for the files of the given folder
+   *
+   * @param folderPath the folder, the cached files are placed in
+   * @param fileNamingStrategy the file naming strategy of the cached files
+   */
+  public CsvEntityCache(String folderPath, FileNamingStrategy fileNamingStrategy) {
+    this.connector = new CsvFileConnector(folderPath, fileNamingStrategy);
+    this.ownsConnector = true;
+  }
+
+  /**
+   * Creates a new, empty cache for the files of the given connector, e.g. the one of the cached
+   * source. The connector is not shut down, when the cache is closed.
+   *
+   * @param connector the connector to the cached files
+   */
+  public CsvEntityCache(CsvFileConnector connector) {
+    this.connector = connector;
+    this.ownsConnector = false;
+  }
+
+  /**
+   * Returns the cached value for the given key, if it is still valid, or loads, caches and returns
+   * it otherwise. The value is loaded without holding any lock, hence concurrent calls for the same
+   * key might load it more than once, but loaders are free to use the cache themselves.
+   *
+   * @param key the key of the value, unique within this cache
+   * @param entityClass the class of the entities, whose file the value is read from
+   * @param loader the loader of the value
+   * @param dependencies the dependencies the value is built from
+   * @param <R> the type of the value
+   * @return the valid value
+   */
+  @SuppressWarnings("unchecked")
+  public <R> R get(
+      String key,
+      Class<? extends UniqueEntity> entityClass,
+      Supplier<R> loader,
+      Object... dependencies) {
+    /* determine the fingerprint before loading, so that changes while loading are detected later */
+    FileFingerprint fingerprint = fingerprint(entityClass);
+    Entry entry = entries.get(key);
+    if (entry != null && entry.isValid(fingerprint, dependencies)) return (R) entry.value;
+
+    R value = loader.get();
+    entries.put(key, new Entry(fingerprint, dependencies.clone(), value));
+    return value;
+  }
+
+  /** Removes all entries from the cache */
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  /** Removes all entries from the cache and shuts down the connector, if it is an own one */
+  @Override
+  public void close() {
+    invalidateAll();
+    if (ownsConnector) connector.shutdown();
+  }
+
+  /** @return the number of cached entries (including those, that are not valid anymore) */
+  public int size() {
+    return entries.size();
+  }
+
+  private FileFingerprint fingerprint(Class<? extends UniqueEntity> entityClass) {
+    Optional<Path> filePath = connector.getFilePath(entityClass);
+    if (!filePath.isPresent()) return FileFingerprint.MISSING;
+    try {
+      BasicFileAttributes attributes =
+          Files.readAttributes(filePath.get(), BasicFileAttributes.class);
+      return new FileFingerprint(
+          attributes.size(), attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS));
+    } catch (IOException e) {
+      return FileFingerprint.MISSING;
+    }
+  }
+
+  /** Size and modification time of a file */
+  private static final class FileFingerprint {
+    /** Fingerprint of files, that do not exist or cannot be accessed */
+    private static final FileFingerprint MISSING = new FileFingerprint(-1L, -1L);
+
+    private final long size;
+    private final long lastModified;
+
+    private FileFingerprint(long size, long lastModified) {
+      this.size = size;
+      this.lastModified = lastModified;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      FileFingerprint that = (FileFingerprint) o;
+      return size == that.size && lastModified == that.lastModified;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(size, lastModified);
+    }
+  }
+
+  private static final class Entry {
+    private final FileFingerprint fingerprint;
+    private final Object[] dependencies;
+    private final Object value;
+
+    private Entry(FileFingerprint fingerprint, Object[] dependencies, Object value) {
+      this.fingerprint = fingerprint;
+      this.dependencies = dependencies;
+      this.value = value;
+    }
+
+    private boolean isValid(FileFingerprint currentFingerprint, Object[] currentDependencies) {
+      if (!fingerprint.equals(currentFingerprint)
+          || dependencies.length != currentDependencies.length) return false;
+      for (int idx = 0; idx < dependencies.length; idx++) {
+        if (dependencies[idx] != currentDependencies[idx]) return false;
+      }
+      return true;
+    }
+  }
+}
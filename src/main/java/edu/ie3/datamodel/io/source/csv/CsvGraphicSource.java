@@ -21,10 +21,14 @@ import edu.ie3.datamodel.models.input.connector.type.LineTypeInput;
 import edu.ie3.datamodel.models.input.container.GraphicElements;
 import edu.ie3.datamodel.models.input.graphics.LineGraphicInput;
 import edu.ie3.datamodel.models.input.graphics.NodeGraphicInput;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,6 +46,9 @@ public class CsvGraphicSource extends CsvDataSource implements GraphicSource {
   private final TypeSource typeSource;
   private final RawGridSource rawGridSource;
 
+  // field names
+  private static final String LINE = "line";
+
   // factories
   private final LineGraphicInputFactory lineGraphicInputFactory;
   private final NodeGraphicInputFactory nodeGraphicInputFactory;
@@ -52,7 +59,34 @@ public class CsvGraphicSource extends CsvDataSource implements GraphicSource {
       FileNamingStrategy fileNamingStrategy,
       TypeSource typeSource,
       RawGridSource rawGridSource) {
-    super(csvSep, folderPath, fileNamingStrategy);
+    this(csvSep, folderPath, fileNamingStrategy, typeSource, rawGridSource, NodeFilter.all());
+  }
+
+  /**
+   * Creates a source, that only provides the graphics of the nodes selected by the given filter and
+   * of the lines attached to them. The raw grid source is expected to be restricted by the same
+   * filter. See {@link NodeFilter} for details.
+   *
+   * @param csvSep the separator of the csv files
+   * @param folderPath the folder, the csv files are placed in
+   * @param fileNamingStrategy the file naming strategy of the csv files
+   * @param typeSource the source of the operators and types
+   * @param rawGridSource the source of the nodes and lines
+   * @param nodeFilter the filter selecting the nodes of the slice
+   */
+  public CsvGraphicSource(
+      String csvSep,
+      String folderPath,
+      FileNamingStrategy fileNamingStrategy,
+      TypeSource typeSource,
+      RawGridSource rawGridSource,
+      NodeFilter nodeFilter) {
+    super(
+        csvSep,
+        folderPath,
+        fileNamingStrategy,
+        nodeFilter,
+        Arrays.asList(NodeGraphicInput.class, LineGraphicInput.class));
     this.typeSource = typeSource;
     this.rawGridSource = rawGridSource;
 
@@ -73,33 +107,60 @@ public class CsvGraphicSource extends CsvDataSource implements GraphicSource {
     Set<NodeInput> nodes = rawGridSource.getNodes(operators);
     Set<LineInput> lines = rawGridSource.getLines(nodes, lineTypes, operators);
 
+    return joinUnwrapped(getGraphicElements(nodes, lines, Runnable::run));
+  }
+
+  /**
+   * Builds the {@link GraphicElements} based on the provided nodes and lines, that have already
+   * been read. Each of the graphic files is read exactly once by an independent task, that is run
+   * on the provided executor.
+   *
+   * @param nodes all nodes of the grid
+   * @param lines all lines of the grid
+   * @param executor the executor to read the graphic files on
+   * @return a future, that holds either the graphic elements or an empty optional, if not all
+   *     graphics could have been built
+   */
+  CompletableFuture<Optional<GraphicElements>> getGraphicElements(
+      Set<NodeInput> nodes, Set<LineInput> lines, Executor executor) {
+
     // start with the entities needed for a GraphicElements entity
     /// as we want to return a working grid, keep an eye on empty optionals
     ConcurrentHashMap<Class<? extends UniqueEntity>, LongAdder> nonBuildEntities =
         new ConcurrentHashMap<>();
 
-    Set<NodeGraphicInput> nodeGraphics =
-        buildNodeGraphicEntityData(nodes)
-            .map(dataOpt -> dataOpt.flatMap(nodeGraphicInputFactory::getEntity))
-            .filter(isPresentCollectIfNot(NodeGraphicInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-
-    Set<LineGraphicInput> lineGraphics =
-        buildLineGraphicEntityData(lines)
-            .map(dataOpt -> dataOpt.flatMap(lineGraphicInputFactory::getEntity))
-            .filter(isPresentCollectIfNot(LineGraphicInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-
-    // if we found invalid elements return an empty optional and log the problems
-    if (!nonBuildEntities.isEmpty()) {
-      nonBuildEntities.forEach(this::printInvalidElementInformation);
-      return Optional.empty();
-    }
+    CompletableFuture<Set<NodeGraphicInput>> nodeGraphics =
+        CompletableFuture.supplyAsync(
+            () ->
+                buildNodeGraphicEntityData(nodes)
+                    .map(dataOpt -> dataOpt.flatMap(nodeGraphicInputFactory::getEntity))
+                    .filter(isPresentCollectIfNot(NodeGraphicInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+
+    CompletableFuture<Set<LineGraphicInput>> lineGraphics =
+        CompletableFuture.supplyAsync(
+            () ->
+                buildLineGraphicEntityData(lines)
+                    .map(dataOpt -> dataOpt.flatMap(lineGraphicInputFactory::getEntity))
+                    .filter(isPresentCollectIfNot(LineGraphicInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+
+    return CompletableFuture.allOf(nodeGraphics, lineGraphics)
+        .thenApply(
+            finished -> {
+              // if we found invalid elements return an empty optional and log the problems
+              if (!nonBuildEntities.isEmpty()) {
+                nonBuildEntities.forEach(this::printInvalidElementInformation);
+                return Optional.empty();
+              }
 
-    // if everything is fine, return a GraphicElements instance
-    return Optional.of(new GraphicElements(nodeGraphics, lineGraphics));
+              // if everything is fine, return a GraphicElements instance
+              return Optional.of(new GraphicElements(nodeGraphics.join(), lineGraphics.join()));
+            });
   }
   /** {@inheritDoc} */
   @Override
@@ -164,12 +225,14 @@ public class CsvGraphicSource extends CsvDataSource implements GraphicSource {
    */
   private Stream<Optional<NodeGraphicInputEntityData>> buildNodeGraphicEntityData(
       Set<NodeInput> nodes) {
-    return buildStreamWithFieldsToAttributesMap(NodeGraphicInput.class, connector)
-        .map(fieldsToAttributes -> buildNodeGraphicEntityData(fieldsToAttributes, nodes));
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    return buildStreamWithFieldsToAttributesMap(
+            NodeGraphicInput.class, connector, isAttachedTo(indexedNodes, NODE))
+        .map(fieldsToAttributes -> buildNodeGraphicEntityData(fieldsToAttributes, indexedNodes));
   }
 
   private Optional<NodeGraphicInputEntityData> buildNodeGraphicEntityData(
-      Map<String, String> fieldsToAttributes, Set<NodeInput> nodes) {
+      Map<String, String> fieldsToAttributes, Collection<NodeInput> nodes) {
 
     // get the node of the entity
     String nodeUuid = fieldsToAttributes.get(NODE);
@@ -209,15 +272,17 @@ public class CsvGraphicSource extends CsvDataSource implements GraphicSource {
    */
   private Stream<Optional<LineGraphicInputEntityData>> buildLineGraphicEntityData(
       Set<LineInput> lines) {
-    return buildStreamWithFieldsToAttributesMap(LineGraphicInput.class, connector)
-        .map(fieldsToAttributes -> buildLineGraphicEntityData(fieldsToAttributes, lines));
+    Collection<LineInput> indexedLines = UuidIndexedCollection.of(lines);
+    return buildStreamWithFieldsToAttributesMap(
+            LineGraphicInput.class, connector, isAttachedTo(indexedLines, LINE))
+        .map(fieldsToAttributes -> buildLineGraphicEntityData(fieldsToAttributes, indexedLines));
   }
 
   private Optional<LineGraphicInputEntityData> buildLineGraphicEntityData(
-      Map<String, String> fieldsToAttributes, Set<LineInput> lines) {
+      Map<String, String> fieldsToAttributes, Collection<LineInput> lines) {
 
     // get the node of the entity
-    String lineUuid = fieldsToAttributes.get("line");
+    String lineUuid = fieldsToAttributes.get(LINE);
     Optional<LineInput> line = findFirstEntityByUuid(lineUuid, lines);
 
     // if the node is not present we return an empty element and
@@ -227,12 +292,12 @@ public class CsvGraphicSource extends CsvDataSource implements GraphicSource {
           LineGraphicInput.class.getSimpleName(),
           fieldsToAttributes.get("uuid"),
           "no id (graphic entities don't have one)",
-          "line: " + lineUuid);
+          LINE + ": " + lineUuid);
       return Optional.empty();
     }
 
     // remove fields that are passed as objects to constructor
-    fieldsToAttributes.keySet().remove("line");
+    fieldsToAttributes.keySet().remove(LINE);
 
     return Optional.of(new LineGraphicInputEntityData(fieldsToAttributes, line.get()));
   }
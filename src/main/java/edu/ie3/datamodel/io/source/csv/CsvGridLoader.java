@@ -0,0 +1,316 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.io.csv.FileNamingStrategy;
+import edu.ie3.datamodel.io.factory.FlyweightRegistry;
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.OperatorInput;
+import edu.ie3.datamodel.models.input.connector.type.LineTypeInput;
+import edu.ie3.datamodel.models.input.connector.type.Transformer2WTypeInput;
+import edu.ie3.datamodel.models.input.connector.type.Transformer3WTypeInput;
+import edu.ie3.datamodel.models.input.container.GraphicElements;
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import edu.ie3.datamodel.models.input.container.RawGridElements;
+import edu.ie3.datamodel.models.input.container.SystemParticipants;
+import edu.ie3.datamodel.models.input.system.type.*;
+import edu.ie3.datamodel.models.input.thermal.ThermalBusInput;
+import edu.ie3.datamodel.models.input.thermal.ThermalStorageInput;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Loads a whole grid from .csv files into a {@link JointGridContainer}. In contrast to using the
+ * container getters of the single sources (e.g. {@link CsvRawGridSource#getGridData()} and {@link
+ * CsvSystemParticipantSource#getSystemParticipants()}), which all read the operators, types and
+ * nodes they depend on on their own, every input file is read exactly once and shared between the
+ * sources. The files are read in the order of their dependencies (see {@link Stage}), all files of
+ * one stage are read concurrently.
+ *
+ * <p>The duration of every stage of the last loading process is available via {@link
+ * #getStageDurations()}.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class CsvGridLoader {
+
+  private static final Logger log = LogManager.getLogger(CsvGridLoader.class);
+
+  /** Stages of the loading process in the order of their execution */
+  public enum Stage {
+    /** Operators and all asset types, which do not depend on anything else */
+    OPERATORS_AND_TYPES,
+    /** Nodes and thermal units, which depend on operators */
+    NODES_AND_THERMAL_UNITS,
+    /** Connectors, measurement units and system participants, which depend on nodes and types */
+    ASSETS,
+    /** Graphic elements, which depend on nodes and lines */
+    GRAPHICS,
+    /** Building and validating the {@link JointGridContainer} */
+    CONTAINER
+  }
+
+  private final CsvTypeSource typeSource;
+  private final CsvRawGridSource rawGridSource;
+  private final CsvThermalSource thermalSource;
+  private final CsvSystemParticipantSource systemParticipantSource;
+  private final CsvGraphicSource graphicSource;
+  private final int parallelism;
+
+  private final EnumMap<Stage, Duration> stageDurations = new EnumMap<>(Stage.class);
+
+  /**
+   * Creates a loader for a grid, whose files are all placed within the same folder (or a hierarchy
+   * below it, depending on the file naming strategy). The files are read with as many threads as
+   * processors are available.
+   *
+   * @param csvSep the separator of the csv files
+   * @param folderPath the path to the folder holding the grid files
+   * @param fileNamingStrategy the file naming strategy of the grid files
+   */
+  public CsvGridLoader(String csvSep, String folderPath, FileNamingStrategy fileNamingStrategy) {
+    this(csvSep, folderPath, fileNamingStrategy, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a loader for a grid, whose files are all placed within the same folder (or a hierarchy
+   * below it, depending on the file naming strategy).
+   *
+   * @param csvSep the separator of the csv files
+   * @param folderPath the path to the folder holding the grid files
+   * @param fileNamingStrategy the file naming strategy of the grid files
+   * @param parallelism the maximum number of files, that are read concurrently
+   */
+  public CsvGridLoader(
+      String csvSep, String folderPath, FileNamingStrategy fileNamingStrategy, int parallelism) {
+    this(csvSep, folderPath, fileNamingStrategy, parallelism, NodeFilter.all());
+  }
+
+  /**
+   * Creates a loader for the slice of a grid selected by the given filter, whose files are all
+   * placed within the same folder (or a hierarchy below it, depending on the file naming strategy).
+   * Only the selected nodes and the entities attached to them are built, see {@link NodeFilter}
+   * for details.
+   *
+   * @param csvSep the separator of the csv files
+   * @param folderPath the path to the folder holding the grid files
+   * @param fileNamingStrategy the file naming strategy of the grid files
+   * @param parallelism the maximum number of files, that are read concurrently
+   * @param nodeFilter the filter selecting the nodes of the slice
+   */
+  public CsvGridLoader(
+      String csvSep,
+      String folderPath,
+      FileNamingStrategy fileNamingStrategy,
+      int parallelism,
+      NodeFilter nodeFilter) {
+    if (parallelism <= 0)
+      throw new IllegalArgumentException(
+          "The parallelism has to be positive, but is " + parallelism);
+    this.typeSource = new CsvTypeSource(csvSep, folderPath, fileNamingStrategy);
+    this.rawGridSource =
+        new CsvRawGridSource(csvSep, folderPath, fileNamingStrategy, typeSource, nodeFilter);
+    this.thermalSource = new CsvThermalSource(csvSep, folderPath, fileNamingStrategy, typeSource);
+    this.systemParticipantSource =
+        new CsvSystemParticipantSource(
+            csvSep,
+            folderPath,
+            fileNamingStrategy,
+            typeSource,
+            thermalSource,
+            rawGridSource,
+            nodeFilter);
+    this.graphicSource =
+        new CsvGraphicSource(
+            csvSep, folderPath, fileNamingStrategy, typeSource, rawGridSource, nodeFilter);
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Creates a loader, that reads the grid from the provided sources
+   *
+   * @param typeSource source of the operators and types
+   * @param rawGridSource source of the raw grid elements
+   * @param thermalSource source of the thermal units
+   * @param systemParticipantSource source of the system participants
+   * @param graphicSource source of the graphic elements
+   * @param parallelism the maximum number of files, that are read concurrently
+   */
+  public CsvGridLoader(
+      CsvTypeSource typeSource,
+      CsvRawGridSource rawGridSource,
+      CsvThermalSource thermalSource,
+      CsvSystemParticipantSource systemParticipantSource,
+      CsvGraphicSource graphicSource,
+      int parallelism) {
+    if (parallelism <= 0)
+      throw new IllegalArgumentException(
+          "The parallelism has to be positive, but is " + parallelism);
+    this.typeSource = typeSource;
+    this.rawGridSource = rawGridSource;
+    this.thermalSource = thermalSource;
+    this.systemParticipantSource = systemParticipantSource;
+    this.graphicSource = graphicSource;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Loads the whole grid. If any entity cannot be built (e.g. due to missing elements it depends
+   * on), the problems are logged and an empty optional is returned, which is the same behaviour as
+   * the container getters of the single sources. Exceptions thrown while validating the resulting
+   * {@link JointGridContainer} are not caught.
+   *
+   * @param gridName the name of the grid
+   * @return an optional holding the grid or an empty optional, if the grid cannot be built
+   */
+  public synchronized Optional<JointGridContainer> loadGrid(String gridName) {
+    stageDurations.clear();
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      return loadGrid(gridName, executor);
+    } finally {
+      executor.shutdownNow();
+      log.info("Stage durations of loading grid '{}': {}", gridName, stageDurations);
+      FlyweightRegistry flyweightRegistry = FlyweightRegistry.getDefault();
+      if (flyweightRegistry.isEnabled())
+        log.info("Deduplicated value objects of grid '{}': {}", gridName, flyweightRegistry);
+    }
+  }
+
+  private Optional<JointGridContainer> loadGrid(String gridName, Executor executor) {
+    /* operators and types */
+    long stageStart = System.nanoTime();
+    CompletableFuture<Set<OperatorInput>> operatorsFuture =
+        CompletableFuture.supplyAsync(typeSource::getOperators, executor);
+    CompletableFuture<Set<LineTypeInput>> lineTypes =
+        CompletableFuture.supplyAsync(typeSource::getLineTypes, executor);
+    CompletableFuture<Set<Transformer2WTypeInput>> transformer2WTypes =
+        CompletableFuture.supplyAsync(typeSource::getTransformer2WTypes, executor);
+    CompletableFuture<Set<Transformer3WTypeInput>> transformer3WTypes =
+        CompletableFuture.supplyAsync(typeSource::getTransformer3WTypes, executor);
+    CompletableFuture<Set<BmTypeInput>> bmTypes =
+        CompletableFuture.supplyAsync(typeSource::getBmTypes, executor);
+    CompletableFuture<Set<ChpTypeInput>> chpTypes =
+        CompletableFuture.supplyAsync(typeSource::getChpTypes, executor);
+    CompletableFuture<Set<EvTypeInput>> evTypes =
+        CompletableFuture.supplyAsync(typeSource::getEvTypes, executor);
+    CompletableFuture<Set<HpTypeInput>> hpTypes =
+        CompletableFuture.supplyAsync(typeSource::getHpTypes, executor);
+    CompletableFuture<Set<StorageTypeInput>> storageTypes =
+        CompletableFuture.supplyAsync(typeSource::getStorageTypes, executor);
+    CompletableFuture<Set<WecTypeInput>> wecTypes =
+        CompletableFuture.supplyAsync(typeSource::getWecTypes, executor);
+    completeStage(
+        Stage.OPERATORS_AND_TYPES,
+        stageStart,
+        operatorsFuture,
+        lineTypes,
+        transformer2WTypes,
+        transformer3WTypes,
+        bmTypes,
+        chpTypes,
+        evTypes,
+        hpTypes,
+        storageTypes,
+        wecTypes);
+    Set<OperatorInput> operators = operatorsFuture.join();
+
+    /* nodes and thermal units */
+    stageStart = System.nanoTime();
+    CompletableFuture<Set<NodeInput>> nodesFuture =
+        CompletableFuture.supplyAsync(() -> rawGridSource.getNodes(operators), executor);
+    CompletableFuture<Set<ThermalBusInput>> thermalBuses =
+        CompletableFuture.supplyAsync(() -> thermalSource.getThermalBuses(operators), executor);
+    CompletableFuture<Set<ThermalStorageInput>> thermalStorages =
+        thermalBuses.thenApplyAsync(
+            buses -> thermalSource.getThermalStorages(operators, buses), executor);
+    completeStage(
+        Stage.NODES_AND_THERMAL_UNITS, stageStart, nodesFuture, thermalBuses, thermalStorages);
+    Set<NodeInput> nodes = nodesFuture.join();
+
+    /* connectors, measurement units and system participants */
+    stageStart = System.nanoTime();
+    CompletableFuture<Optional<RawGridElements>> rawGridFuture =
+        rawGridSource.getGridData(
+            nodes,
+            operators,
+            lineTypes.join(),
+            transformer2WTypes.join(),
+            transformer3WTypes.join(),
+            executor);
+    CompletableFuture<Optional<SystemParticipants>> systemParticipantsFuture =
+        systemParticipantSource.getSystemParticipants(
+            nodes,
+            operators,
+            bmTypes.join(),
+            chpTypes.join(),
+            evTypes.join(),
+            hpTypes.join(),
+            storageTypes.join(),
+            wecTypes.join(),
+            thermalBuses.join(),
+            thermalStorages.join(),
+            executor);
+    completeStage(Stage.ASSETS, stageStart, rawGridFuture, systemParticipantsFuture);
+    Optional<RawGridElements> rawGrid = rawGridFuture.join();
+    Optional<SystemParticipants> systemParticipants = systemParticipantsFuture.join();
+    if (!rawGrid.isPresent() || !systemParticipants.isPresent()) {
+      log.error(
+          "Cannot load grid '{}', as not all raw grid elements or system participants can be built.",
+          gridName);
+      return Optional.empty();
+    }
+
+    /* graphic elements */
+    stageStart = System.nanoTime();
+    CompletableFuture<Optional<GraphicElements>> graphicsFuture =
+        graphicSource.getGraphicElements(nodes, rawGrid.get().getLines(), executor);
+    completeStage(Stage.GRAPHICS, stageStart, graphicsFuture);
+    Optional<GraphicElements> graphics = graphicsFuture.join();
+    if (!graphics.isPresent()) {
+      log.error("Cannot load grid '{}', as not all graphic elements can be built.", gridName);
+      return Optional.empty();
+    }
+
+    /* build the container */
+    stageStart = System.nanoTime();
+    JointGridContainer grid =
+        new JointGridContainer(gridName, rawGrid.get(), systemParticipants.get(), graphics.get());
+    stageDurations.put(Stage.CONTAINER, Duration.ofNanos(System.nanoTime() - stageStart));
+
+    return Optional.of(grid);
+  }
+
+  /**
+   * Waits until all tasks of the given stage are done and records the duration of the stage.
+   * Exceptions of the tasks are rethrown unwrapped.
+   *
+   * @param stage the stage
+   * @param stageStart start of the stage (see {@link System#nanoTime()})
+   * @param tasks all tasks of the stage
+   */
+  private void completeStage(Stage stage, long stageStart, CompletableFuture<?>... tasks) {
+    CsvDataSource.joinUnwrapped(CompletableFuture.allOf(tasks));
+    Duration duration = Duration.ofNanos(System.nanoTime() - stageStart);
+    stageDurations.put(stage, duration);
+    log.debug("Stage '{}' took {} ms.", stage, duration.toMillis());
+  }
+
+  /**
+   * @return the durations of the stages of the last loading process. Stages, that have not been
+   *     reached (e.g. because the grid cannot be built), are not contained.
+   */
+  public synchronized Map<Stage, Duration> getStageDurations() {
+    return Collections.unmodifiableMap(new EnumMap<>(stageDurations));
+  }
+}
@@ -7,11 +7,12 @@ package edu.ie3.datamodel.io.source.csv;
 
 import edu.ie3.datamodel.exceptions.SourceException;
 import edu.ie3.datamodel.io.connectors.CsvFileConnector;
+import edu.ie3.datamodel.io.csv.CsvFileReader;
 import edu.ie3.datamodel.io.csv.FileNamingStrategy;
 import edu.ie3.datamodel.io.source.IdCoordinateSource;
 import edu.ie3.util.geo.GeoUtils;
-import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -115,8 +116,13 @@ public class CsvIdCoordinateSource extends CsvDataSource implements IdCoordinate
     // is wanted to avoid a lock on the file), but this causes a closing of the stream as well.
     // As we still want to consume the data at other places, we start a new stream instead of
     // returning the original one
-    try (BufferedReader reader = connector.initReader(filename)) {
-      final String[] headline = parseCsvRow(reader.readLine(), csvSep);
+    try (CsvFileReader reader = connector.initCsvReader(filename)) {
+      if (reader.getHeadline() == null)
+        throw new SourceException(
+            "The coordinateId to coordinates file '"
+                + filename
+                + "' is empty. Headline is missing!");
+      final String[] headline = parseCsvRow(reader.getHeadline(), csvSep);
 
       if (!Arrays.asList(headline).containsAll(Arrays.asList("id", "lat", "lon"))) {
         throw new SourceException(
@@ -128,11 +134,11 @@ public class CsvIdCoordinateSource extends CsvDataSource implements IdCoordinate
       }
 
       Collection<Map<String, String>> allRows =
-          new HashSet<>(csvRowFieldValueMapping(reader, headline));
+          new HashSet<>(csvRowFieldValueMapping(reader.rows(), headline));
 
       return allRows.parallelStream();
 
-    } catch (IOException e) {
+    } catch (IOException | UncheckedIOException e) {
       log.warn("Cannot read file with name '{}': {}", filename, e.getMessage());
     } catch (SourceException e) {
       log.error("Cannot read file with name '{}': {}", filename, e.getMessage());
@@ -21,8 +21,11 @@ import edu.ie3.datamodel.models.input.connector.type.Transformer2WTypeInput;
 import edu.ie3.datamodel.models.input.connector.type.Transformer3WTypeInput;
 import edu.ie3.datamodel.models.input.container.RawGridElements;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,6 +49,9 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
   // general fields
   private final TypeSource typeSource;
 
+  // field names
+  private static final String NODE_C = "nodeC";
+
   // factories
   private final NodeInputFactory nodeInputFactory;
   private final LineInputFactory lineInputFactory;
@@ -59,7 +65,37 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
       String gridFolderPath,
       FileNamingStrategy fileNamingStrategy,
       TypeSource typeSource) {
-    super(csvSep, gridFolderPath, fileNamingStrategy);
+    this(csvSep, gridFolderPath, fileNamingStrategy, typeSource, NodeFilter.all());
+  }
+
+  /**
+   * Creates a source, that only provides the nodes selected by the given filter and the raw grid
+   * elements attached to them. See {@link NodeFilter} for details.
+   *
+   * @param csvSep the separator of the csv files
+   * @param gridFolderPath the folder, the csv files are placed in
+   * @param fileNamingStrategy the file naming strategy of the csv files
+   * @param typeSource the source of the operators and types
+   * @param nodeFilter the filter selecting the nodes of the slice
+   */
+  public CsvRawGridSource(
+      String csvSep,
+      String gridFolderPath,
+      FileNamingStrategy fileNamingStrategy,
+      TypeSource typeSource,
+      NodeFilter nodeFilter) {
+    super(
+        csvSep,
+        gridFolderPath,
+        fileNamingStrategy,
+        nodeFilter,
+        Arrays.asList(
+            NodeInput.class,
+            LineInput.class,
+            Transformer2WInput.class,
+            Transformer3WInput.class,
+            SwitchInput.class,
+            MeasurementUnitInput.class));
     this.typeSource = typeSource;
 
     // init factories
@@ -84,6 +120,38 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
     /* assets */
     Set<NodeInput> nodes = getNodes(operators);
 
+    return joinUnwrapped(
+        getGridData(
+            nodes,
+            operators,
+            lineTypes,
+            transformer2WTypeInputs,
+            transformer3WTypeInputs,
+            Runnable::run));
+  }
+
+  /**
+   * Builds the {@link RawGridElements} based on the provided nodes, operators and types, that have
+   * already been read. Each of the remaining entity files is read exactly once by an independent
+   * task, that is run on the provided executor.
+   *
+   * @param nodes all nodes of the grid
+   * @param operators all operators of the grid
+   * @param lineTypes all line types of the grid
+   * @param transformer2WTypeInputs all two winding transformer types of the grid
+   * @param transformer3WTypeInputs all three winding transformer types of the grid
+   * @param executor the executor to read the entity files on
+   * @return a future, that holds either the grid elements or an empty optional, if not all entities
+   *     could have been built or the grid is empty
+   */
+  CompletableFuture<Optional<RawGridElements>> getGridData(
+      Set<NodeInput> nodes,
+      Set<OperatorInput> operators,
+      Set<LineTypeInput> lineTypes,
+      Set<Transformer2WTypeInput> transformer2WTypeInputs,
+      Set<Transformer3WTypeInput> transformer3WTypeInputs,
+      Executor executor) {
+
     /* start with the entities needed for a RawGridElement as we want to return a working grid, keep an eye on empty
      * optionals which is equal to elements that have been unable to be built e.g. due to missing elements they depend
      * on
@@ -91,58 +159,79 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
     ConcurrentHashMap<Class<? extends UniqueEntity>, LongAdder> nonBuildEntities =
         new ConcurrentHashMap<>();
 
-    Set<LineInput> lineInputs =
-        typedEntityStream(LineInput.class, lineInputFactory, nodes, operators, lineTypes)
-            .filter(isPresentCollectIfNot(LineInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<Transformer2WInput> transformer2WInputs =
-        typedEntityStream(
-                Transformer2WInput.class,
-                transformer2WInputFactory,
-                nodes,
-                operators,
-                transformer2WTypeInputs)
-            .filter(isPresentCollectIfNot(Transformer2WInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<Transformer3WInput> transformer3WInputs =
-        transformer3WEntityStream(nodes, transformer3WTypeInputs, operators)
-            .filter(isPresentCollectIfNot(Transformer3WInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<SwitchInput> switches =
-        untypedConnectorInputEntityStream(SwitchInput.class, switchInputFactory, nodes, operators)
-            .filter(isPresentCollectIfNot(SwitchInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<MeasurementUnitInput> measurementUnits =
-        nodeAssetEntityStream(
-                MeasurementUnitInput.class, measurementUnitInputFactory, nodes, operators)
-            .filter(isPresentCollectIfNot(MeasurementUnitInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-
-    /* if we found non-build elements return an empty optional and log the problems */
-    if (!nonBuildEntities.isEmpty()) {
-      nonBuildEntities.forEach(this::printInvalidElementInformation);
-      return Optional.empty();
-    }
-
-    /* build the grid */
-    RawGridElements gridElements =
-        new RawGridElements(
-            nodes,
-            lineInputs,
-            transformer2WInputs,
-            transformer3WInputs,
-            switches,
-            measurementUnits);
-
-    /* return the grid if it is not empty */
-    return gridElements.allEntitiesAsList().isEmpty()
-        ? Optional.empty()
-        : Optional.of(gridElements);
+    CompletableFuture<Set<LineInput>> lineInputs =
+        CompletableFuture.supplyAsync(
+            () ->
+                typedEntityStream(LineInput.class, lineInputFactory, nodes, operators, lineTypes)
+                    .filter(isPresentCollectIfNot(LineInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<Transformer2WInput>> transformer2WInputs =
+        CompletableFuture.supplyAsync(
+            () ->
+                typedEntityStream(
+                        Transformer2WInput.class,
+                        transformer2WInputFactory,
+                        nodes,
+                        operators,
+                        transformer2WTypeInputs)
+                    .filter(isPresentCollectIfNot(Transformer2WInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<Transformer3WInput>> transformer3WInputs =
+        CompletableFuture.supplyAsync(
+            () ->
+                transformer3WEntityStream(nodes, transformer3WTypeInputs, operators)
+                    .filter(isPresentCollectIfNot(Transformer3WInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<SwitchInput>> switches =
+        CompletableFuture.supplyAsync(
+            () ->
+                untypedConnectorInputEntityStream(
+                        SwitchInput.class, switchInputFactory, nodes, operators)
+                    .filter(isPresentCollectIfNot(SwitchInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<MeasurementUnitInput>> measurementUnits =
+        CompletableFuture.supplyAsync(
+            () ->
+                nodeAssetEntityStream(
+                        MeasurementUnitInput.class, measurementUnitInputFactory, nodes, operators)
+                    .filter(isPresentCollectIfNot(MeasurementUnitInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+
+    return CompletableFuture.allOf(
+            lineInputs, transformer2WInputs, transformer3WInputs, switches, measurementUnits)
+        .thenApply(
+            finished -> {
+              /* if we found non-build elements return an empty optional and log the problems */
+              if (!nonBuildEntities.isEmpty()) {
+                nonBuildEntities.forEach(this::printInvalidElementInformation);
+                return Optional.empty();
+              }
+
+              /* build the grid */
+              RawGridElements gridElements =
+                  new RawGridElements(
+                      nodes,
+                      lineInputs.join(),
+                      transformer2WInputs.join(),
+                      transformer3WInputs.join(),
+                      switches.join(),
+                      measurementUnits.join());
+
+              /* return the grid if it is not empty */
+              return gridElements.allEntitiesAsList().isEmpty()
+                  ? Optional.empty()
+                  : Optional.of(gridElements);
+            });
   }
 
   /** {@inheritDoc} */
@@ -160,7 +249,12 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
   @Override
   public Set<NodeInput> getNodes(Set<OperatorInput> operators) {
     return filterEmptyOptionals(
-            assetInputEntityDataStream(NodeInput.class, operators).map(nodeInputFactory::getEntity))
+            assetInputEntityDataStream(
+                    NodeInput.class,
+                    buildStreamWithFieldsToAttributesMap(
+                        NodeInput.class, connector, nodeFilter::test),
+                    operators)
+                .map(nodeInputFactory::getEntity))
         .collect(Collectors.toSet());
   }
 
@@ -262,13 +356,28 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
       Set<NodeInput> nodes,
       Set<Transformer3WTypeInput> transformer3WTypeInputs,
       Set<OperatorInput> operators) {
+    return transformer3WEntityStream(
+        buildStreamWithFieldsToAttributesMap(
+            Transformer3WInput.class, connector, isAttachedTo(nodes, NODE_A, NODE_B, NODE_C)),
+        nodes,
+        transformer3WTypeInputs,
+        operators);
+  }
+
+  private Stream<Optional<Transformer3WInput>> transformer3WEntityStream(
+      Stream<Map<String, String>> rows,
+      Collection<NodeInput> nodes,
+      Collection<Transformer3WTypeInput> transformer3WTypeInputs,
+      Collection<OperatorInput> operators) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
 
     return buildTransformer3WEntityData(
             buildTypedConnectorEntityData(
                 buildUntypedConnectorInputEntityData(
-                    assetInputEntityDataStream(Transformer3WInput.class, operators), nodes),
+                    assetInputEntityDataStream(Transformer3WInput.class, rows, operators),
+                    indexedNodes),
                 transformer3WTypeInputs),
-            nodes)
+            indexedNodes)
         .map(dataOpt -> dataOpt.flatMap(transformer3WInputFactory::getEntity));
   }
 
@@ -305,9 +414,24 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
       EntityFactory<T, ConnectorInputEntityData> factory,
       Set<NodeInput> nodes,
       Set<OperatorInput> operators) {
+    return untypedConnectorInputEntityStream(
+        entityClass,
+        buildStreamWithFieldsToAttributesMap(
+            entityClass, connector, isAttachedTo(nodes, NODE_A, NODE_B)),
+        factory,
+        nodes,
+        operators);
+  }
+
+  private <T extends AssetInput> Stream<Optional<T>> untypedConnectorInputEntityStream(
+      Class<T> entityClass,
+      Stream<Map<String, String>> rows,
+      EntityFactory<T, ConnectorInputEntityData> factory,
+      Collection<NodeInput> nodes,
+      Collection<OperatorInput> operators) {
 
     return buildUntypedConnectorInputEntityData(
-            assetInputEntityDataStream(entityClass, operators), nodes)
+            assetInputEntityDataStream(entityClass, rows, operators), nodes)
         .map(dataOpt -> dataOpt.flatMap(factory::getEntity));
   }
 
@@ -339,8 +463,121 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
         .collect(Collectors.toSet());
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Stream<NodeInput> streamNodes(Set<OperatorInput> operators) {
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return streamEntities(
+        NodeInput.class,
+        rows ->
+            assetInputEntityDataStream(
+                    NodeInput.class, rows.filter(nodeFilter::test), indexedOperators)
+                .map(nodeInputFactory::getEntity));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<LineInput> streamLines(
+      Set<NodeInput> nodes, Set<LineTypeInput> lineTypeInputs, Set<OperatorInput> operators) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<LineTypeInput> indexedTypes = UuidIndexedCollection.of(lineTypeInputs);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return streamEntities(
+        LineInput.class,
+        rows ->
+            typedEntityStream(
+                LineInput.class,
+                rows,
+                lineInputFactory,
+                indexedNodes,
+                indexedOperators,
+                indexedTypes));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<Transformer2WInput> stream2WTransformers(
+      Set<NodeInput> nodes,
+      Set<Transformer2WTypeInput> transformer2WTypes,
+      Set<OperatorInput> operators) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<Transformer2WTypeInput> indexedTypes = UuidIndexedCollection.of(transformer2WTypes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return streamEntities(
+        Transformer2WInput.class,
+        rows ->
+            typedEntityStream(
+                Transformer2WInput.class,
+                rows,
+                transformer2WInputFactory,
+                indexedNodes,
+                indexedOperators,
+                indexedTypes));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<Transformer3WInput> stream3WTransformers(
+      Set<NodeInput> nodes,
+      Set<Transformer3WTypeInput> transformer3WTypeInputs,
+      Set<OperatorInput> operators) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<Transformer3WTypeInput> indexedTypes =
+        UuidIndexedCollection.of(transformer3WTypeInputs);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return streamEntities(
+        Transformer3WInput.class,
+        rows -> transformer3WEntityStream(rows, indexedNodes, indexedTypes, indexedOperators));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<SwitchInput> streamSwitches(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return streamEntities(
+        SwitchInput.class,
+        rows ->
+            untypedConnectorInputEntityStream(
+                SwitchInput.class, rows, switchInputFactory, indexedNodes, indexedOperators));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<MeasurementUnitInput> streamMeasurementUnits(
+      Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return streamEntities(
+        MeasurementUnitInput.class,
+        rows ->
+            nodeAssetEntityStream(
+                MeasurementUnitInput.class,
+                rows,
+                measurementUnitInputFactory,
+                indexedNodes,
+                indexedOperators));
+  }
+
+  private <T extends AssetInput, A extends AssetTypeInput> Stream<Optional<T>> typedEntityStream(
+      Class<T> entityClass,
+      EntityFactory<T, TypedConnectorInputEntityData<A>> factory,
+      Collection<NodeInput> nodes,
+      Collection<OperatorInput> operators,
+      Collection<A> types) {
+    return typedEntityStream(
+        entityClass,
+        buildStreamWithFieldsToAttributesMap(
+            entityClass, connector, isAttachedTo(nodes, NODE_A, NODE_B)),
+        factory,
+        nodes,
+        operators,
+        types);
+  }
+
   private <T extends AssetInput, A extends AssetTypeInput> Stream<Optional<T>> typedEntityStream(
       Class<T> entityClass,
+      Stream<Map<String, String>> rows,
       EntityFactory<T, TypedConnectorInputEntityData<A>> factory,
       Collection<NodeInput> nodes,
       Collection<OperatorInput> operators,
@@ -348,7 +585,7 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
 
     return buildTypedConnectorEntityData(
             buildUntypedConnectorInputEntityData(
-                assetInputEntityDataStream(entityClass, operators), nodes),
+                assetInputEntityDataStream(entityClass, rows, operators), nodes),
             types)
         .map(dataOpt -> dataOpt.flatMap(factory::getEntity));
   }
@@ -363,11 +600,15 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
    */
   private Stream<Optional<ConnectorInputEntityData>> buildUntypedConnectorInputEntityData(
       Stream<AssetInputEntityData> assetInputEntityDataStream, Collection<NodeInput> nodes) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Predicate<Map<String, String>> isAttached =
+        isAttachedTo(indexedNodes, NODE_A, NODE_B, NODE_C);
     return assetInputEntityDataStream
         .parallel()
+        .filter(assetInputEntityData -> isAttached.test(assetInputEntityData.getFieldsToValues()))
         .map(
             assetInputEntityData ->
-                buildUntypedConnectorInputEntityData(assetInputEntityData, nodes));
+                buildUntypedConnectorInputEntityData(assetInputEntityData, indexedNodes));
   }
 
   /**
@@ -434,12 +675,13 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
       Stream<Optional<TypedConnectorInputEntityData<T>>> buildTypedConnectorEntityData(
           Stream<Optional<ConnectorInputEntityData>> noTypeConnectorEntityDataStream,
           Collection<T> availableTypes) {
+    Collection<T> indexedTypes = UuidIndexedCollection.of(availableTypes);
     return noTypeConnectorEntityDataStream
         .parallel()
         .map(
             noTypeEntityDataOpt ->
                 noTypeEntityDataOpt.flatMap(
-                    noTypeEntityData -> findAndAddType(noTypeEntityData, availableTypes)));
+                    noTypeEntityData -> findAndAddType(noTypeEntityData, indexedTypes)));
   }
 
   /**
@@ -497,11 +739,13 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
       Stream<Optional<TypedConnectorInputEntityData<Transformer3WTypeInput>>>
           typedConnectorEntityDataStream,
       Collection<NodeInput> nodes) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
     return typedConnectorEntityDataStream
         .parallel()
         .map(
             typedEntityDataOpt ->
-                typedEntityDataOpt.flatMap(typeEntityData -> addThirdNode(typeEntityData, nodes)));
+                typedEntityDataOpt.flatMap(
+                    typeEntityData -> addThirdNode(typeEntityData, indexedNodes)));
   }
 
   /**
@@ -520,7 +764,7 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
     Map<String, String> fieldsToAttributes = typeEntityData.getFieldsToValues();
 
     // get nodeC of the transformer
-    String nodeCUuid = fieldsToAttributes.get("nodeC");
+    String nodeCUuid = fieldsToAttributes.get(NODE_C);
     Optional<NodeInput> nodeC = findFirstEntityByUuid(nodeCUuid, nodes);
 
     // if nodeC is not present we return an empty element and
@@ -530,12 +774,12 @@ public class CsvRawGridSource extends CsvDataSource implements RawGridSource {
           typeEntityData.getEntityClass().getSimpleName(),
           fieldsToAttributes.get("uuid"),
           fieldsToAttributes.get("id"),
-          "nodeC: " + nodeCUuid);
+          NODE_C + ": " + nodeCUuid);
       return Optional.empty();
     }
 
     // remove fields that are passed as objects to constructor
-    fieldsToAttributes.keySet().remove("nodeC");
+    fieldsToAttributes.keySet().remove(NODE_C);
 
     return Optional.of(
         new Transformer3WInputEntityData(
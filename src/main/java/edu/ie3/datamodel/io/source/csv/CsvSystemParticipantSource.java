@@ -22,7 +22,9 @@ import edu.ie3.datamodel.models.input.system.type.*;
 import edu.ie3.datamodel.models.input.thermal.ThermalBusInput;
 import edu.ie3.datamodel.models.input.thermal.ThermalStorageInput;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -71,7 +73,53 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
       TypeSource typeSource,
       ThermalSource thermalSource,
       RawGridSource rawGridSource) {
-    super(csvSep, participantsFolderPath, fileNamingStrategy);
+    this(
+        csvSep,
+        participantsFolderPath,
+        fileNamingStrategy,
+        typeSource,
+        thermalSource,
+        rawGridSource,
+        NodeFilter.all());
+  }
+
+  /**
+   * Creates a source, that only provides the system participants attached to the nodes selected by
+   * the given filter. The raw grid source is expected to be restricted by the same filter. See
+   * {@link NodeFilter} for details.
+   *
+   * @param csvSep the separator of the csv files
+   * @param participantsFolderPath the folder, the csv files are placed in
+   * @param fileNamingStrategy the file naming strategy of the csv files
+   * @param typeSource the source of the operators and types
+   * @param thermalSource the source of the thermal units
+   * @param rawGridSource the source of the nodes
+   * @param nodeFilter the filter selecting the nodes of the slice
+   */
+  public CsvSystemParticipantSource(
+      String csvSep,
+      String participantsFolderPath,
+      FileNamingStrategy fileNamingStrategy,
+      TypeSource typeSource,
+      ThermalSource thermalSource,
+      RawGridSource rawGridSource,
+      NodeFilter nodeFilter) {
+    super(
+        csvSep,
+        participantsFolderPath,
+        fileNamingStrategy,
+        nodeFilter,
+        Arrays.asList(
+            FixedFeedInInput.class,
+            PvInput.class,
+            LoadInput.class,
+            BmInput.class,
+            StorageInput.class,
+            WecInput.class,
+            EvInput.class,
+            ChpInput.class,
+            HpInput.class,
+            EvcsInput.class));
     this.typeSource = typeSource;
     this.rawGridSource = rawGridSource;
     this.thermalSource = thermalSource;
@@ -111,6 +159,53 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
     /// go on with the nodes
     Set<NodeInput> nodes = rawGridSource.getNodes(operators);
 
+    return joinUnwrapped(
+        getSystemParticipants(
+            nodes,
+            operators,
+            bmTypes,
+            chpTypes,
+            evTypes,
+            hpTypes,
+            storageTypes,
+            wecTypes,
+            thermalBuses,
+            thermalStorages,
+            Runnable::run));
+  }
+
+  /**
+   * Builds the {@link SystemParticipants} based on the provided nodes, operators, types and thermal
+   * units, that have already been read. Each of the participant files is read exactly once by an
+   * independent task, that is run on the provided executor.
+   *
+   * @param nodes all nodes of the grid
+   * @param operators all operators of the grid
+   * @param bmTypes all biomass plant types
+   * @param chpTypes all combined heat and power plant types
+   * @param evTypes all electric vehicle types
+   * @param hpTypes all heat pump types
+   * @param storageTypes all storage types
+   * @param wecTypes all wind energy converter types
+   * @param thermalBuses all thermal buses
+   * @param thermalStorages all thermal storages
+   * @param executor the executor to read the participant files on
+   * @return a future, that holds either the system participants or an empty optional, if not all
+   *     participants could have been built
+   */
+  CompletableFuture<Optional<SystemParticipants>> getSystemParticipants(
+      Set<NodeInput> nodes,
+      Set<OperatorInput> operators,
+      Set<BmTypeInput> bmTypes,
+      Set<ChpTypeInput> chpTypes,
+      Set<EvTypeInput> evTypes,
+      Set<HpTypeInput> hpTypes,
+      Set<StorageTypeInput> storageTypes,
+      Set<WecTypeInput> wecTypes,
+      Set<ThermalBusInput> thermalBuses,
+      Set<ThermalStorageInput> thermalStorages,
+      Executor executor) {
+
     // start with the entities needed for SystemParticipants container
     /// as we want to return a working grid, keep an eye on empty optionals which is equal to
     // elements that
@@ -118,71 +213,113 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
     ConcurrentHashMap<Class<? extends UniqueEntity>, LongAdder> nonBuildEntities =
         new ConcurrentHashMap<>();
 
-    Set<FixedFeedInInput> fixedFeedInInputs =
-        nodeAssetEntityStream(FixedFeedInInput.class, fixedFeedInInputFactory, nodes, operators)
-            .filter(isPresentCollectIfNot(FixedFeedInInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<PvInput> pvInputs =
-        nodeAssetEntityStream(PvInput.class, pvInputFactory, nodes, operators)
-            .filter(isPresentCollectIfNot(PvInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<LoadInput> loads =
-        nodeAssetEntityStream(LoadInput.class, loadInputFactory, nodes, operators)
-            .filter(isPresentCollectIfNot(LoadInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<BmInput> bmInputs =
-        typedEntityStream(BmInput.class, bmInputFactory, nodes, operators, bmTypes)
-            .filter(isPresentCollectIfNot(BmInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<StorageInput> storages =
-        typedEntityStream(StorageInput.class, storageInputFactory, nodes, operators, storageTypes)
-            .filter(isPresentCollectIfNot(StorageInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<WecInput> wecInputs =
-        typedEntityStream(WecInput.class, wecInputFactory, nodes, operators, wecTypes)
-            .filter(isPresentCollectIfNot(WecInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<EvInput> evs =
-        typedEntityStream(EvInput.class, evInputFactory, nodes, operators, evTypes)
-            .filter(isPresentCollectIfNot(EvInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<ChpInput> chpInputs =
-        chpInputStream(nodes, operators, chpTypes, thermalBuses, thermalStorages)
-            .filter(isPresentCollectIfNot(ChpInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-    Set<HpInput> hpInputs =
-        hpInputStream(nodes, operators, hpTypes, thermalBuses)
-            .filter(isPresentCollectIfNot(HpInput.class, nonBuildEntities))
-            .map(Optional::get)
-            .collect(Collectors.toSet());
-
-    // if we found invalid elements return an empty optional and log the problems
-    if (!nonBuildEntities.isEmpty()) {
-      nonBuildEntities.forEach(this::printInvalidElementInformation);
-      return Optional.empty();
-    }
+    CompletableFuture<Set<FixedFeedInInput>> fixedFeedInInputs =
+        CompletableFuture.supplyAsync(
+            () ->
+                nodeAssetEntityStream(
+                        FixedFeedInInput.class, fixedFeedInInputFactory, nodes, operators)
+                    .filter(isPresentCollectIfNot(FixedFeedInInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<PvInput>> pvInputs =
+        CompletableFuture.supplyAsync(
+            () ->
+                nodeAssetEntityStream(PvInput.class, pvInputFactory, nodes, operators)
+                    .filter(isPresentCollectIfNot(PvInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<LoadInput>> loads =
+        CompletableFuture.supplyAsync(
+            () ->
+                nodeAssetEntityStream(LoadInput.class, loadInputFactory, nodes, operators)
+                    .filter(isPresentCollectIfNot(LoadInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<BmInput>> bmInputs =
+        CompletableFuture.supplyAsync(
+            () ->
+                typedEntityStream(BmInput.class, bmInputFactory, nodes, operators, bmTypes)
+                    .filter(isPresentCollectIfNot(BmInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<StorageInput>> storages =
+        CompletableFuture.supplyAsync(
+            () ->
+                typedEntityStream(
+                        StorageInput.class, storageInputFactory, nodes, operators, storageTypes)
+                    .filter(isPresentCollectIfNot(StorageInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<WecInput>> wecInputs =
+        CompletableFuture.supplyAsync(
+            () ->
+                typedEntityStream(WecInput.class, wecInputFactory, nodes, operators, wecTypes)
+                    .filter(isPresentCollectIfNot(WecInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<EvInput>> evs =
+        CompletableFuture.supplyAsync(
+            () ->
+                typedEntityStream(EvInput.class, evInputFactory, nodes, operators, evTypes)
+                    .filter(isPresentCollectIfNot(EvInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<ChpInput>> chpInputs =
+        CompletableFuture.supplyAsync(
+            () ->
+                chpInputStream(nodes, operators, chpTypes, thermalBuses, thermalStorages)
+                    .filter(isPresentCollectIfNot(ChpInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
+    CompletableFuture<Set<HpInput>> hpInputs =
+        CompletableFuture.supplyAsync(
+            () ->
+                hpInputStream(nodes, operators, hpTypes, thermalBuses)
+                    .filter(isPresentCollectIfNot(HpInput.class, nonBuildEntities))
+                    .map(Optional::get)
+                    .collect(Collectors.toSet()),
+            executor);
 
-    // if everything is fine, return a system participants container
-    return Optional.of(
-        new SystemParticipants(
-            bmInputs,
-            chpInputs,
-            Collections.emptySet(),
-            evs,
+    return CompletableFuture.allOf(
             fixedFeedInInputs,
-            hpInputs,
-            loads,
             pvInputs,
+            loads,
+            bmInputs,
             storages,
-            wecInputs));
+            wecInputs,
+            evs,
+            chpInputs,
+            hpInputs)
+        .thenApply(
+            finished -> {
+              // if we found invalid elements return an empty optional and log the problems
+              if (!nonBuildEntities.isEmpty()) {
+                nonBuildEntities.forEach(this::printInvalidElementInformation);
+                return Optional.empty();
+              }
+
+              // if everything is fine, return a system participants container
+              return Optional.of(
+                  new SystemParticipants(
+                      bmInputs.join(),
+                      chpInputs.join(),
+                      Collections.emptySet(),
+                      evs.join(),
+                      fixedFeedInInputs.join(),
+                      hpInputs.join(),
+                      loads.join(),
+                      pvInputs.join(),
+                      storages.join(),
+                      wecInputs.join()));
+            });
   }
 
   /** {@inheritDoc} */
@@ -417,9 +554,26 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
           Set<NodeInput> nodes,
           Set<OperatorInput> operators,
           Set<A> types) {
+    return typedEntityStream(
+        entityClass,
+        buildStreamWithFieldsToAttributesMap(entityClass, connector, isAttachedTo(nodes, NODE)),
+        factory,
+        nodes,
+        operators,
+        types);
+  }
+
+  private <T extends SystemParticipantInput, A extends SystemParticipantTypeInput>
+      Stream<Optional<T>> typedEntityStream(
+          Class<T> entityClass,
+          Stream<Map<String, String>> rows,
+          EntityFactory<T, SystemParticipantTypedEntityData<A>> factory,
+          Collection<NodeInput> nodes,
+          Collection<OperatorInput> operators,
+          Collection<A> types) {
     return buildTypedEntityData(
             nodeAssetInputEntityDataStream(
-                assetInputEntityDataStream(entityClass, operators), nodes),
+                assetInputEntityDataStream(entityClass, rows, operators), nodes),
             types)
         .map(dataOpt -> dataOpt.flatMap(factory::getEntity));
   }
@@ -468,10 +622,26 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
       Set<ChpTypeInput> types,
       Set<ThermalBusInput> thermalBuses,
       Set<ThermalStorageInput> thermalStorages) {
+    return chpInputStream(
+        buildStreamWithFieldsToAttributesMap(ChpInput.class, connector, isAttachedTo(nodes, NODE)),
+        nodes,
+        operators,
+        types,
+        thermalBuses,
+        thermalStorages);
+  }
+
+  private Stream<Optional<ChpInput>> chpInputStream(
+      Stream<Map<String, String>> rows,
+      Collection<NodeInput> nodes,
+      Collection<OperatorInput> operators,
+      Collection<ChpTypeInput> types,
+      Collection<ThermalBusInput> thermalBuses,
+      Collection<ThermalStorageInput> thermalStorages) {
     return buildChpEntityData(
             buildTypedEntityData(
                 nodeAssetInputEntityDataStream(
-                    assetInputEntityDataStream(ChpInput.class, operators), nodes),
+                    assetInputEntityDataStream(ChpInput.class, rows, operators), nodes),
                 types),
             thermalStorages,
             thermalBuses)
@@ -516,15 +686,192 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
       Set<OperatorInput> operators,
       Set<HpTypeInput> types,
       Set<ThermalBusInput> thermalBuses) {
+    return hpInputStream(
+        buildStreamWithFieldsToAttributesMap(HpInput.class, connector, isAttachedTo(nodes, NODE)),
+        nodes,
+        operators,
+        types,
+        thermalBuses);
+  }
+
+  private Stream<Optional<HpInput>> hpInputStream(
+      Stream<Map<String, String>> rows,
+      Collection<NodeInput> nodes,
+      Collection<OperatorInput> operators,
+      Collection<HpTypeInput> types,
+      Collection<ThermalBusInput> thermalBuses) {
     return buildHpEntityData(
             buildTypedEntityData(
                 nodeAssetInputEntityDataStream(
-                    assetInputEntityDataStream(HpInput.class, operators), nodes),
+                    assetInputEntityDataStream(HpInput.class, rows, operators), nodes),
                 types),
             thermalBuses)
         .map(dataOpt -> dataOpt.flatMap(hpInputFactory::getEntity));
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Stream<FixedFeedInInput> streamFixedFeedIns(
+      Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return streamEntities(
+        FixedFeedInInput.class,
+        rows ->
+            nodeAssetEntityStream(
+                FixedFeedInInput.class,
+                rows,
+                fixedFeedInInputFactory,
+                indexedNodes,
+                indexedOperators));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<PvInput> streamPvPlants(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return streamEntities(
+        PvInput.class,
+        rows ->
+            nodeAssetEntityStream(
+                PvInput.class, rows, pvInputFactory, indexedNodes, indexedOperators));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<LoadInput> streamLoads(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return streamEntities(
+        LoadInput.class,
+        rows ->
+            nodeAssetEntityStream(
+                LoadInput.class, rows, loadInputFactory, indexedNodes, indexedOperators));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<EvcsInput> streamEvCS(Set<NodeInput> nodes, Set<OperatorInput> operators) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    return streamEntities(
+        EvcsInput.class,
+        rows ->
+            nodeAssetEntityStream(
+                EvcsInput.class, rows, evcsInputFactory, indexedNodes, indexedOperators));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<BmInput> streamBmPlants(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<BmTypeInput> types) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    Collection<BmTypeInput> indexedTypes = UuidIndexedCollection.of(types);
+    return streamEntities(
+        BmInput.class,
+        rows ->
+            typedEntityStream(
+                BmInput.class, rows, bmInputFactory, indexedNodes, indexedOperators, indexedTypes));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<StorageInput> streamStorages(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<StorageTypeInput> types) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    Collection<StorageTypeInput> indexedTypes = UuidIndexedCollection.of(types);
+    return streamEntities(
+        StorageInput.class,
+        rows ->
+            typedEntityStream(
+                StorageInput.class,
+                rows,
+                storageInputFactory,
+                indexedNodes,
+                indexedOperators,
+                indexedTypes));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<WecInput> streamWecPlants(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<WecTypeInput> types) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    Collection<WecTypeInput> indexedTypes = UuidIndexedCollection.of(types);
+    return streamEntities(
+        WecInput.class,
+        rows ->
+            typedEntityStream(
+                WecInput.class,
+                rows,
+                wecInputFactory,
+                indexedNodes,
+                indexedOperators,
+                indexedTypes));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<EvInput> streamEvs(
+      Set<NodeInput> nodes, Set<OperatorInput> operators, Set<EvTypeInput> types) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    Collection<EvTypeInput> indexedTypes = UuidIndexedCollection.of(types);
+    return streamEntities(
+        EvInput.class,
+        rows ->
+            typedEntityStream(
+                EvInput.class, rows, evInputFactory, indexedNodes, indexedOperators, indexedTypes));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<ChpInput> streamChpPlants(
+      Set<NodeInput> nodes,
+      Set<OperatorInput> operators,
+      Set<ChpTypeInput> types,
+      Set<ThermalBusInput> thermalBuses,
+      Set<ThermalStorageInput> thermalStorages) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    Collection<ChpTypeInput> indexedTypes = UuidIndexedCollection.of(types);
+    Collection<ThermalBusInput> indexedThermalBuses = UuidIndexedCollection.of(thermalBuses);
+    Collection<ThermalStorageInput> indexedThermalStorages =
+        UuidIndexedCollection.of(thermalStorages);
+    return streamEntities(
+        ChpInput.class,
+        rows ->
+            chpInputStream(
+                rows,
+                indexedNodes,
+                indexedOperators,
+                indexedTypes,
+                indexedThermalBuses,
+                indexedThermalStorages));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Stream<HpInput> streamHeatPumps(
+      Set<NodeInput> nodes,
+      Set<OperatorInput> operators,
+      Set<HpTypeInput> types,
+      Set<ThermalBusInput> thermalBuses) {
+    Collection<NodeInput> indexedNodes = UuidIndexedCollection.of(nodes);
+    Collection<OperatorInput> indexedOperators = UuidIndexedCollection.of(operators);
+    Collection<HpTypeInput> indexedTypes = UuidIndexedCollection.of(types);
+    Collection<ThermalBusInput> indexedThermalBuses = UuidIndexedCollection.of(thermalBuses);
+    return streamEntities(
+        HpInput.class,
+        rows ->
+            hpInputStream(
+                rows, indexedNodes, indexedOperators, indexedTypes, indexedThermalBuses));
+  }
+
   /**
    * Enriches a given stream of {@link NodeAssetInputEntityData} optionals with a type of {@link
    * SystemParticipantTypeInput} based on the provided collection of types and the fields to values
@@ -542,13 +889,14 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
       Stream<Optional<SystemParticipantTypedEntityData<T>>> buildTypedEntityData(
           Stream<Optional<NodeAssetInputEntityData>> nodeAssetEntityDataStream,
           Collection<T> types) {
+    Collection<T> indexedTypes = UuidIndexedCollection.of(types);
     return nodeAssetEntityDataStream
         .parallel()
         .map(
             nodeAssetInputEntityDataOpt ->
                 nodeAssetInputEntityDataOpt.flatMap(
                     nodeAssetInputEntityData ->
-                        buildTypedEntityData(nodeAssetInputEntityData, types)));
+                        buildTypedEntityData(nodeAssetInputEntityData, indexedTypes)));
   }
 
   private <T extends SystemParticipantTypeInput>
@@ -591,13 +939,14 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
   private Stream<Optional<HpInputEntityData>> buildHpEntityData(
       Stream<Optional<SystemParticipantTypedEntityData<HpTypeInput>>> typedEntityDataStream,
       Collection<ThermalBusInput> thermalBuses) {
+    Collection<ThermalBusInput> indexedThermalBuses = UuidIndexedCollection.of(thermalBuses);
 
     return typedEntityDataStream
         .parallel()
         .map(
             typedEntityDataOpt ->
                 typedEntityDataOpt.flatMap(
-                    typedEntityData -> buildHpEntityData(typedEntityData, thermalBuses)));
+                    typedEntityData -> buildHpEntityData(typedEntityData, indexedThermalBuses)));
   }
 
   private Optional<HpInputEntityData> buildHpEntityData(
@@ -611,11 +960,7 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
         Optional.ofNullable(fieldsToAttributes.get(THERMAL_BUS))
             .flatMap(
                 thermalBusUuid ->
-                    thermalBuses.stream()
-                        .filter(
-                            storage ->
-                                storage.getUuid().toString().equalsIgnoreCase(thermalBusUuid))
-                        .findFirst()
+                    findFirstEntityByUuid(thermalBusUuid, thermalBuses)
                         .map(
                             thermalBus -> {
 
@@ -662,6 +1007,9 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
       Stream<Optional<SystemParticipantTypedEntityData<ChpTypeInput>>> typedEntityDataStream,
       Collection<ThermalStorageInput> thermalStorages,
       Collection<ThermalBusInput> thermalBuses) {
+    Collection<ThermalStorageInput> indexedThermalStorages =
+        UuidIndexedCollection.of(thermalStorages);
+    Collection<ThermalBusInput> indexedThermalBuses = UuidIndexedCollection.of(thermalBuses);
 
     return typedEntityDataStream
         .parallel()
@@ -669,7 +1017,8 @@ public class CsvSystemParticipantSource extends CsvDataSource implements SystemP
             typedEntityDataOpt ->
                 typedEntityDataOpt.flatMap(
                     typedEntityData ->
-                        buildChpEntityData(typedEntityData, thermalStorages, thermalBuses)));
+                        buildChpEntityData(
+                            typedEntityData, indexedThermalStorages, indexedThermalBuses)));
   }
 
   private Optional<ChpInputEntityData> buildChpEntityData(
@@ -48,7 +48,13 @@ public class CsvThermalSource extends CsvDataSource implements ThermalSource {
       String thermalUnitsFolderPath,
       FileNamingStrategy fileNamingStrategy,
       TypeSource typeSource) {
-    super(csvSep, thermalUnitsFolderPath, fileNamingStrategy);
+    super(
+        csvSep,
+        thermalUnitsFolderPath,
+        fileNamingStrategy,
+        NodeFilter.all(),
+        Arrays.asList(
+            ThermalBusInput.class, CylindricalStorageInput.class, ThermalHouseInput.class));
     this.typeSource = typeSource;
 
     // init factories
@@ -104,14 +110,8 @@ public class CsvThermalSource extends CsvDataSource implements ThermalSource {
   /** {@inheritDoc} */
   @Override
   public Set<ThermalHouseInput> getThermalHouses() {
-
-    return (assetInputEntityDataStream(ThermalHouseInput.class, typeSource.getOperators())
-        .map(
-            assetInputEntityData ->
-                buildThermalUnitInputEntityData(assetInputEntityData, getThermalBuses())
-                    .map(dataOpt -> dataOpt.flatMap(thermalHouseInputFactory::getEntity)))
-        .flatMap(this::filterEmptyOptionals)
-        .collect(Collectors.toSet()));
+    Set<OperatorInput> operators = typeSource.getOperators();
+    return getThermalHouses(operators, getThermalBuses(operators));
   }
 
   /**
@@ -129,11 +129,12 @@ public class CsvThermalSource extends CsvDataSource implements ThermalSource {
   @Override
   public Set<ThermalHouseInput> getThermalHouses(
       Set<OperatorInput> operators, Set<ThermalBusInput> thermalBuses) {
+    Collection<ThermalBusInput> indexedThermalBuses = UuidIndexedCollection.of(thermalBuses);
 
     return (assetInputEntityDataStream(ThermalHouseInput.class, operators)
         .map(
             assetInputEntityData ->
-                buildThermalUnitInputEntityData(assetInputEntityData, thermalBuses)
+                buildThermalUnitInputEntityData(assetInputEntityData, indexedThermalBuses)
                     .map(dataOpt -> dataOpt.flatMap(thermalHouseInputFactory::getEntity)))
         .flatMap(this::filterEmptyOptionals)
         .collect(Collectors.toSet()));
@@ -141,14 +142,8 @@ public class CsvThermalSource extends CsvDataSource implements ThermalSource {
   /** {@inheritDoc} */
   @Override
   public Set<CylindricalStorageInput> getCylindricStorages() {
-
-    return (assetInputEntityDataStream(CylindricalStorageInput.class, typeSource.getOperators())
-        .map(
-            assetInputEntityData ->
-                buildThermalUnitInputEntityData(assetInputEntityData, getThermalBuses())
-                    .map(dataOpt -> dataOpt.flatMap(cylindricalStorageInputFactory::getEntity)))
-        .flatMap(this::filterEmptyOptionals)
-        .collect(Collectors.toSet()));
+    Set<OperatorInput> operators = typeSource.getOperators();
+    return getCylindricStorages(operators, getThermalBuses(operators));
   }
 
   /**
@@ -166,11 +161,12 @@ public class CsvThermalSource extends CsvDataSource implements ThermalSource {
   @Override
   public Set<CylindricalStorageInput> getCylindricStorages(
       Set<OperatorInput> operators, Set<ThermalBusInput> thermalBuses) {
+    Collection<ThermalBusInput> indexedThermalBuses = UuidIndexedCollection.of(thermalBuses);
 
     return (assetInputEntityDataStream(CylindricalStorageInput.class, operators)
         .map(
             assetInputEntityData ->
-                buildThermalUnitInputEntityData(assetInputEntityData, thermalBuses)
+                buildThermalUnitInputEntityData(assetInputEntityData, indexedThermalBuses)
                     .map(dataOpt -> dataOpt.flatMap(cylindricalStorageInputFactory::getEntity)))
         .flatMap(this::filterEmptyOptionals)
         .collect(Collectors.toSet()));
@@ -184,10 +180,7 @@ public class CsvThermalSource extends CsvDataSource implements ThermalSource {
 
     // get the thermal bus input for this chp unit
     String thermalBusUuid = fieldsToAttributes.get("thermalbus");
-    Optional<ThermalBusInput> thermalBus =
-        thermalBuses.stream()
-            .filter(storage -> storage.getUuid().toString().equalsIgnoreCase(thermalBusUuid))
-            .findFirst();
+    Optional<ThermalBusInput> thermalBus = findFirstEntityByUuid(thermalBusUuid, thermalBuses);
 
     // remove fields that are passed as objects to constructor
     fieldsToAttributes.keySet().removeAll(new HashSet<>(Collections.singletonList("thermalbus")));
@@ -20,6 +20,7 @@ import edu.ie3.datamodel.models.input.connector.type.LineTypeInput;
 import edu.ie3.datamodel.models.input.connector.type.Transformer2WTypeInput;
 import edu.ie3.datamodel.models.input.connector.type.Transformer3WTypeInput;
 import edu.ie3.datamodel.models.input.system.type.*;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -42,7 +43,22 @@ public class CsvTypeSource extends CsvDataSource implements TypeSource {
 
   public CsvTypeSource(
       String csvSep, String typeFolderPath, FileNamingStrategy fileNamingStrategy) {
-    super(csvSep, typeFolderPath, fileNamingStrategy);
+    super(
+        csvSep,
+        typeFolderPath,
+        fileNamingStrategy,
+        NodeFilter.all(),
+        Arrays.asList(
+            OperatorInput.class,
+            Transformer2WTypeInput.class,
+            LineTypeInput.class,
+            Transformer3WTypeInput.class,
+            BmTypeInput.class,
+            ChpTypeInput.class,
+            EvTypeInput.class,
+            HpTypeInput.class,
+            StorageTypeInput.class,
+            WecTypeInput.class));
 
     // init factories
     operatorInputFactory = new OperatorInputFactory();
@@ -0,0 +1,173 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.exceptions.VoltageLevelException;
+import edu.ie3.datamodel.io.factory.input.NodeInputFactory;
+import edu.ie3.datamodel.models.StandardUnits;
+import edu.ie3.datamodel.models.voltagelevels.CommonVoltageLevel;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.measure.quantity.ElectricPotential;
+import tech.units.indriya.ComparableQuantity;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * Selects the nodes of a slice of a grid, e.g. one subnet or one voltage level, based on the raw
+ * rows of the node input file. Csv sources, that are given a restrictive filter, only build the
+ * selected nodes and only those entities, that are completely attached to them: connectors, whose
+ * nodes are all selected, participants and measurement units at a selected node as well as the
+ * graphics of these nodes and lines. Rows of other entities are dropped before any entity is built
+ * and are not reported as invalid.
+ *
+ * <p>Please note, that the slice is cut at its boundary, i.e. a transformer connecting a selected
+ * subnet with another one is only included, if the node of the other subnet is selected as well,
+ * e.g. by {@link #or(NodeFilter)} combining the subnet with {@link #nodes(Collection)}.
+ *
+ * <p>Rows, whose fields cannot be evaluated, are selected, so that the entity factory reports the
+ * malformed row as usual.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public final class NodeFilter {
+
+  private static final String UUID_FIELD = "uuid";
+  private static final String SUBNET = "subnet";
+  private static final String OPERATOR = "operator";
+
+  private static final NodeFilter ALL = new NodeFilter(null);
+
+  /* null, if the filter selects all nodes */
+  private final Predicate<Map<String, String>> condition;
+
+  private NodeFilter(Predicate<Map<String, String>> condition) {
+    this.condition = condition;
+  }
+
+  /** @return a filter, that selects all nodes and hence does not restrict the sources at all */
+  public static NodeFilter all() {
+    return ALL;
+  }
+
+  /**
+   * @param subnets the subnets to select
+   * @return a filter, that selects all nodes within one of the given subnets
+   */
+  public static NodeFilter subnets(int... subnets) {
+    Set<Integer> selected = Arrays.stream(subnets).boxed().collect(Collectors.toSet());
+    return new NodeFilter(
+        row -> {
+          String subnet = row.get(SUBNET);
+          try {
+            return subnet == null || selected.contains(Integer.parseInt(subnet.trim()));
+          } catch (NumberFormatException e) {
+            return true;
+          }
+        });
+  }
+
+  /**
+   * @param voltageLevels the voltage levels to select
+   * @return a filter, that selects all nodes, whose voltage level id and rated voltage are covered
+   *     by one of the given voltage levels
+   */
+  public static NodeFilter voltageLevels(CommonVoltageLevel... voltageLevels) {
+    List<CommonVoltageLevel> selected = Arrays.asList(voltageLevels.clone());
+    return new NodeFilter(
+        row -> {
+          String id = row.get(NodeInputFactory.VOLT_LVL);
+          String vRatedValue = row.get(NodeInputFactory.V_RATED);
+          if (id == null || vRatedValue == null) return true;
+          ComparableQuantity<ElectricPotential> vRated;
+          try {
+            vRated =
+                Quantities.getQuantity(
+                    Double.parseDouble(vRatedValue.trim()),
+                    StandardUnits.RATED_VOLTAGE_MAGNITUDE);
+          } catch (NumberFormatException e) {
+            return true;
+          }
+          return selected.stream().anyMatch(voltageLevel -> covers(voltageLevel, id, vRated));
+        });
+  }
+
+  private static boolean covers(
+      CommonVoltageLevel voltageLevel, String id, ComparableQuantity<ElectricPotential> vRated) {
+    try {
+      return voltageLevel.covers(id, vRated);
+    } catch (VoltageLevelException e) {
+      /* id and rated voltage do not consistently describe this voltage level */
+      return false;
+    }
+  }
+
+  /**
+   * @param operators the uuids of the operators to select
+   * @return a filter, that selects all nodes operated by one of the given operators and all nodes
+   *     without an operator
+   */
+  public static NodeFilter operators(UUID... operators) {
+    Set<String> selected = uuidStrings(Arrays.asList(operators));
+    return new NodeFilter(
+        row -> {
+          String operator = row.get(OPERATOR);
+          return operator == null
+              || operator.trim().isEmpty()
+              || selected.contains(operator.trim().toLowerCase());
+        });
+  }
+
+  /**
+   * @param nodes the uuids of the nodes to select
+   * @return a filter, that selects exactly the given nodes
+   */
+  public static NodeFilter nodes(Collection<UUID> nodes) {
+    Set<String> selected = uuidStrings(nodes);
+    return new NodeFilter(
+        row -> {
+          String uuid = row.get(UUID_FIELD);
+          return uuid == null || selected.contains(uuid.trim().toLowerCase());
+        });
+  }
+
+  private static Set<String> uuidStrings(Collection<UUID> uuids) {
+    return uuids.stream().map(uuid -> uuid.toString().toLowerCase()).collect(Collectors.toSet());
+  }
+
+  /**
+   * @param other another filter
+   * @return a filter, that selects all nodes selected by this and the other filter
+   */
+  public NodeFilter and(NodeFilter other) {
+    if (!isRestrictive()) return other;
+    if (!other.isRestrictive()) return this;
+    return new NodeFilter(condition.and(other.condition));
+  }
+
+  /**
+   * @param other another filter
+   * @return a filter, that selects all nodes selected by this or the other filter
+   */
+  public NodeFilter or(NodeFilter other) {
+    if (!isRestrictive() || !other.isRestrictive()) return ALL;
+    return new NodeFilter(condition.or(other.condition));
+  }
+
+  /** @return true, if the filter might deselect nodes and hence restricts the sources */
+  public boolean isRestrictive() {
+    return condition != null;
+  }
+
+  /**
+   * @param nodeRow a (fieldName to fieldValue) mapping of one row of the node input file
+   * @return true, if the node is selected
+   */
+  public boolean test(Map<String, String> nodeRow) {
+    return condition == null || condition.test(nodeRow);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.models.UniqueEntity;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Filter for (fieldName to fieldValue) mappings of csv rows, that only lets pass the first row of
+ * every UUID. In contrast to a set of all rows, this filter does not hold the rows themselves, but
+ * only the UUID and a hash of the row content in an open addressing table (three longs per row).
+ * Thereby it is suitable to check for duplicates on files that are processed in a streaming manner.
+ *
+ * <p>Rows with a UUID that has already been seen are filtered out. If the content hash is equal to
+ * the one of the first row, the row is considered to be an exact duplicate (sanity only), otherwise
+ * the UUID is reported as conflicting, which is a violation of the UUID contract. As rows are
+ * processed in a streaming manner, the first row with a conflicting UUID may have already been
+ * passed on. Both cases are logged by {@link #logSummary()}.
+ *
+ * <p>Rows without a parsable UUID are passed through, as the factories report them anyway.
+ *
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class UuidDuplicateFilter implements Predicate<Map<String, String>> {
+
+  private static final Logger log = LogManager.getLogger(UuidDuplicateFilter.class);
+
+  private static final int SLOT_SIZE = 3;
+  private static final int INITIAL_CAPACITY = 1 << 12;
+
+  private final Class<? extends UniqueEntity> entityClass;
+
+  /* Layout per slot: most significant bits, least significant bits, (content hash << 32 | 1) */
+  private long[] table = new long[INITIAL_CAPACITY * SLOT_SIZE];
+  private int size = 0;
+
+  private final LongAdder exactDuplicates = new LongAdder();
+  private final Set<String> conflictingUuids = ConcurrentHashMap.newKeySet();
+
+  public UuidDuplicateFilter(Class<? extends UniqueEntity> entityClass) {
+    this.entityClass = entityClass;
+  }
+
+  @Override
+  public boolean test(Map<String, String> fieldsToAttributes) {
+    String uuidString = fieldsToAttributes.get("uuid");
+    UUID uuid;
+    try {
+      uuid = UUID.fromString(uuidString);
+    } catch (IllegalArgumentException | NullPointerException e) {
+      return true;
+    }
+
+    int contentHash = fieldsToAttributes.hashCode();
+    OptionalInt knownHash = putIfAbsent(uuid, contentHash);
+    if (!knownHash.isPresent()) return true;
+
+    if (knownHash.getAsInt() == contentHash) exactDuplicates.increment();
+    else conflictingUuids.add(uuidString);
+    return false;
+  }
+
+  /**
+   * Registers the content hash for the given uuid, if the uuid is not known yet.
+   *
+   * @param uuid the uuid of the row
+   * @param contentHash hash of the row's content
+   * @return an empty optional, if the uuid has not been seen before, the content hash of the
+   *     first row with this uuid otherwise
+   */
+  private synchronized OptionalInt putIfAbsent(UUID uuid, int contentHash) {
+    long msb = uuid.getMostSignificantBits();
+    long lsb = uuid.getLeastSignificantBits();
+
+    int capacity = table.length / SLOT_SIZE;
+    int slot = indexFor(msb, lsb, capacity);
+    while (table[slot * SLOT_SIZE + 2] != 0L) {
+      int offset = slot * SLOT_SIZE;
+      if (table[offset] == msb && table[offset + 1] == lsb)
+        return OptionalInt.of((int) (table[offset + 2] >>> 32));
+      slot = (slot + 1) & (capacity - 1);
+    }
+
+    int offset = slot * SLOT_SIZE;
+    table[offset] = msb;
+    table[offset + 1] = lsb;
+    table[offset + 2] = ((long) contentHash << 32) | 1L;
+
+    if (++size > capacity / 2) resize();
+    return OptionalInt.empty();
+  }
+
+  private void resize() {
+    long[] oldTable = table;
+    int newCapacity = (oldTable.length / SLOT_SIZE) << 1;
+    table = new long[newCapacity * SLOT_SIZE];
+    for (int offset = 0; offset < oldTable.length; offset += SLOT_SIZE) {
+      if (oldTable[offset + 2] == 0L) continue;
+      int slot = indexFor(oldTable[offset], oldTable[offset + 1], newCapacity);
+      while (table[slot * SLOT_SIZE + 2] != 0L) slot = (slot + 1) & (newCapacity - 1);
+      System.arraycopy(oldTable, offset, table, slot * SLOT_SIZE, SLOT_SIZE);
+    }
+  }
+
+  private static int indexFor(long msb, long lsb, int capacity) {
+    long hash = msb ^ lsb;
+    int h = (int) (hash ^ (hash >>> 32));
+    h ^= (h >>> 16);
+    return h & (capacity - 1);
+  }
+
+  /** @return the number of distinct uuids, that have been registered so far */
+  public synchronized int getNumberOfDistinctUuids() {
+    return size;
+  }
+
+  /** @return true, if at least one uuid has been found with different field values */
+  public boolean hasConflicts() {
+    return !conflictingUuids.isEmpty();
+  }
+
+  /** Logs the exact duplicates and conflicting uuids that have been filtered out so far */
+  public void logSummary() {
+    if (exactDuplicates.sum() > 0)
+      log.warn(
+          "File with '{}' entities contains {} exact duplicated rows. File cleanup is recommended!",
+          entityClass.getSimpleName(),
+          exactDuplicates.sum());
+
+    if (!conflictingUuids.isEmpty())
+      log.error(
+          "'{}' entities with duplicated UUIDs, but different field values found! Only the first occurrence has been processed. Please review the corresponding input file!\nAffected UUIDs:\n{}",
+          entityClass.getSimpleName(),
+          String.join(",\n", conflictingUuids));
+  }
+}
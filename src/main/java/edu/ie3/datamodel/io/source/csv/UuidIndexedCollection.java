@@ -0,0 +1,95 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.datamodel.io.source.csv;
+
+import edu.ie3.datamodel.models.UniqueEntity;
+import java.util.*;
+
+/**
+ * Unmodifiable snapshot of a collection of {@link UniqueEntity}s, that additionally holds an index
+ * of the entities by their UUID. It is meant to be built once per referenced collection (e.g. all
+ * nodes, types or operators) and passed wherever a collection of referenced entities is expected,
+ * so that {@link CsvDataSource#findFirstEntityByUuid(String, Collection)} resolves references in
+ * constant instead of linear time.
+ *
+ * <p>If several entities share the same UUID, the first one in iteration order of the original
+ * collection is indexed, which is the one a linear search would have found.
+ *
+ * @param <T> type of the entities
+ * @version 0.1
+ * @since 17.10.20
+ */
+public class UuidIndexedCollection<T extends UniqueEntity> extends AbstractCollection<T> {
+
+  private static final int UUID_STRING_LENGTH = 36;
+
+  private final List<T> entities;
+  private final Map<UUID, T> index;
+
+  private UuidIndexedCollection(Collection<T> entities) {
+    this.entities = Collections.unmodifiableList(new ArrayList<>(entities));
+    this.index = new HashMap<>((int) (entities.size() / 0.75f) + 1);
+    for (T entity : this.entities) index.putIfAbsent(entity.getUuid(), entity);
+  }
+
+  /**
+   * Indexes the provided entities, if they are not already indexed
+   *
+   * @param entities the entities to index
+   * @param <T> type of the entities
+   * @return the provided collection, if it is already indexed, a new indexed snapshot otherwise
+   */
+  public static <T extends UniqueEntity> UuidIndexedCollection<T> of(Collection<T> entities) {
+    if (entities instanceof UuidIndexedCollection) return (UuidIndexedCollection<T>) entities;
+    return new UuidIndexedCollection<>(entities);
+  }
+
+  /**
+   * Looks up the entity with the provided UUID
+   *
+   * @param uuid the uuid of the requested entity
+   * @return an optional containing the entity or an empty optional, if no such entity exists
+   */
+  public Optional<T> get(UUID uuid) {
+    return Optional.ofNullable(index.get(uuid));
+  }
+
+  /**
+   * Looks up the entity with the provided UUID string. Only the canonical (36 characters) string
+   * representation of a UUID is matched (NOT case-sensitive!).
+   *
+   * @param uuid string representation of the uuid of the requested entity
+   * @return an optional containing the entity or an empty optional, if the string is not a valid
+   *     uuid or no such entity exists
+   */
+  public Optional<T> get(String uuid) {
+    if (uuid == null || uuid.length() != UUID_STRING_LENGTH) return Optional.empty();
+    try {
+      UUID parsedUuid = UUID.fromString(uuid);
+      // UUID#fromString is lenient regarding the format, hence make sure that it is canonical
+      return parsedUuid.toString().equalsIgnoreCase(uuid) ? get(parsedUuid) : Optional.empty();
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof UniqueEntity)) return false;
+    T entity = index.get(((UniqueEntity) o).getUuid());
+    return entity != null && (entity.equals(o) || entities.contains(o));
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return entities.iterator();
+  }
+
+  @Override
+  public int size() {
+    return entities.size();
+  }
+}
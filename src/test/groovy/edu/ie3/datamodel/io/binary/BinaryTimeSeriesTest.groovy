@@ -0,0 +1,246 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.binary
+
+import edu.ie3.datamodel.exceptions.FileException
+import edu.ie3.datamodel.io.csv.FileNamingStrategy
+import edu.ie3.datamodel.io.processor.timeseries.TimeSeriesProcessor
+import edu.ie3.datamodel.io.sink.BinaryTimeSeriesSink
+import edu.ie3.datamodel.io.sink.CsvFileSink
+import edu.ie3.datamodel.io.source.binary.BinaryTimeSeriesSource
+import edu.ie3.datamodel.models.StandardUnits
+import edu.ie3.datamodel.models.timeseries.individual.IndividualTimeSeries
+import edu.ie3.datamodel.models.timeseries.individual.TimeBasedValue
+import edu.ie3.datamodel.models.value.EnergyPriceValue
+import edu.ie3.datamodel.models.value.HeatAndPValue
+import edu.ie3.datamodel.models.value.HeatAndSValue
+import edu.ie3.datamodel.models.value.HeatDemandValue
+import edu.ie3.datamodel.models.value.PValue
+import edu.ie3.datamodel.models.value.SValue
+import edu.ie3.test.common.TimeSeriesTestData
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Shared
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.nio.file.Paths
+
+import static edu.ie3.util.quantities.PowerSystemUnits.MEGAVAR
+import static edu.ie3.util.quantities.PowerSystemUnits.MEGAWATT
+
+class BinaryTimeSeriesTest extends Specification implements TimeSeriesTestData {
+
+	@Shared
+	String testBaseFolderPath = "test"
+
+	def cleanup() {
+		if (new File(testBaseFolderPath).exists()) {
+			FileIOUtils.deleteRecursively(testBaseFolderPath)
+		}
+	}
+
+	/* Compares the values in their standard units, as the numbers of converted quantities may be of another type */
+	static boolean isSame(IndividualTimeSeries actual, IndividualTimeSeries expected) {
+		def columns = BinaryTimeSeriesColumns.of(expected.entries.first().value.class).get()
+		def actualEntries = actual.entries.collectEntries { [(it.uuid): it] }
+		return actual.uuid == expected.uuid && actualEntries.size() == expected.entries.size() && expected.entries.every { entry ->
+			def actualEntry = actualEntries.get(entry.uuid)
+			actualEntry != null && actualEntry.time == entry.time && actualEntry.value.class == entry.value.class &&
+					(0..<columns.columns.size()).every { Double.compare(columns.get(actualEntry.value, it), columns.get(entry.value, it)) == 0 }
+		}
+	}
+
+	/* Length of a string written with DataOutput#writeUTF */
+	static int utfLength(String string) {
+		return 2 + string.getBytes(StandardCharsets.UTF_8).length
+	}
+
+	def "The binary format supports the expected value classes"() {
+		expect:
+		BinaryTimeSeriesColumns.supportedValueClasses() == [
+			EnergyPriceValue,
+			PValue,
+			SValue,
+			HeatDemandValue,
+			HeatAndPValue,
+			HeatAndSValue
+		] as Set
+	}
+
+	def "The binary columns of every supported value class equal the header elements of the time series processor"() {
+		given:
+		def headerElements = new TimeSeriesProcessor<>(IndividualTimeSeries, TimeBasedValue, valueClass).headerElements as List
+		def fieldNames = BinaryTimeSeriesColumns.of(valueClass).get().columns.collect { it.fieldName }
+
+		expect:
+		fieldNames.size() == headerElements.size() - 2
+		fieldNames as Set == (headerElements - ["uuid", "time"]) as Set
+
+		where:
+		valueClass << BinaryTimeSeriesColumns.supportedValueClasses()
+	}
+
+	def "Corrupted data is rejected with a descriptive exception instead of being decoded"() {
+		given:
+		def out = new ByteArrayOutputStream()
+		BinaryTimeSeriesWriter.write(individualPTimeSeries, out)
+		def bytes = out.toByteArray()
+		/* magic number, version, uuid, value class, zone and the column "p" in its unit */
+		def zoneId = individualPTimeSeries.entries.first().time.zone.id
+		def sizeOffset = 4 + 2 + 16 + utfLength("PValue") + utfLength(zoneId) + 2 + utfLength("p") + utfLength(StandardUnits.ACTIVE_POWER_IN.toString())
+		def entries = individualPTimeSeries.entries.size()
+
+		when: "the number of entries is beyond the supported maximum"
+		def tooLarge = bytes.clone()
+		ByteBuffer.wrap(tooLarge).putInt(sizeOffset, Integer.MAX_VALUE)
+		BinaryTimeSeriesReader.read(new ByteArrayInputStream(tooLarge))
+
+		then:
+		IOException tooLargeException = thrown()
+		tooLargeException.message.contains("states " + Integer.MAX_VALUE + " entries")
+
+		when: "the number of entries exceeds the data"
+		def truncated = bytes.clone()
+		ByteBuffer.wrap(truncated).putInt(sizeOffset, 100000000)
+		BinaryTimeSeriesReader.read(new ByteArrayInputStream(truncated))
+
+		then:
+		thrown(IOException)
+
+		when: "a timestamp difference never ends"
+		def endless = bytes.clone()
+		ByteBuffer.wrap(endless).putInt(sizeOffset, entries + 1)
+		def differencesOffset = sizeOffset + Integer.BYTES + Long.BYTES
+		def unterminated = new byte[endless.length + 11]
+		System.arraycopy(endless, 0, unterminated, 0, differencesOffset)
+		Arrays.fill(unterminated, differencesOffset, differencesOffset + 11, (byte) 0x80)
+		BinaryTimeSeriesReader.read(new ByteArrayInputStream(unterminated))
+
+		then:
+		IOException varLongException = thrown()
+		varLongException.message.contains("more than ten bytes")
+	}
+
+	def "An individual time series is read back equally after writing it in the binary format"() {
+		given:
+		def out = new ByteArrayOutputStream()
+
+		when:
+		BinaryTimeSeriesWriter.write(timeSeries, out)
+
+		then:
+		isSame(BinaryTimeSeriesReader.read(new ByteArrayInputStream(out.toByteArray())), timeSeries)
+
+		where:
+		timeSeries << [
+			individualEnergyPriceTimeSeries,
+			individualPTimeSeries,
+			individualSTimeSeries,
+			individualHeatDemandTimeSeries,
+			individualHeatAndPTimeSeries,
+			individualHeatAndSTimeSeries
+		]
+	}
+
+	def "Missing values are written as NaN and read back as missing"() {
+		given:
+		def timeSeries = new IndividualTimeSeries<>(UUID.randomUUID(), [
+			new TimeBasedValue<>(individualSTimeSeries.entries.first().time, new SValue(individualSTimeSeries.entries.first().value.p.get(), null))
+		] as Set)
+		def out = new ByteArrayOutputStream()
+
+		when:
+		BinaryTimeSeriesWriter.write(timeSeries, out)
+		def readTimeSeries = BinaryTimeSeriesReader.read(new ByteArrayInputStream(out.toByteArray()))
+
+		then:
+		isSame(readTimeSeries, timeSeries)
+		!readTimeSeries.entries.first().value.q.present
+	}
+
+	def "Values in other units than the standard units are converted, before they are written"() {
+		given:
+		def timeSeries = new IndividualTimeSeries<>(UUID.randomUUID(), [
+			new TimeBasedValue<>(individualSTimeSeries.entries.first().time, new SValue(Quantities.getQuantity(1.5d, MEGAWATT), Quantities.getQuantity(0.5d, MEGAVAR)))
+		] as Set)
+		def out = new ByteArrayOutputStream()
+
+		when:
+		BinaryTimeSeriesWriter.write(timeSeries, out)
+		def readValue = BinaryTimeSeriesReader.read(new ByteArrayInputStream(out.toByteArray()), SValue).entries.first().value
+
+		then:
+		readValue.p.get().unit == StandardUnits.ACTIVE_POWER_IN
+		readValue.p.get().value.doubleValue() == 1500d
+		readValue.q.get().unit == StandardUnits.REACTIVE_POWER_IN
+		readValue.q.get().value.doubleValue() == 500d
+	}
+
+	def "Time series with unsupported values are not written and invalid data is not read"() {
+		when:
+		BinaryTimeSeriesWriter.write(individualWeatherTimeSeries, new ByteArrayOutputStream())
+
+		then:
+		FileException writeException = thrown()
+		writeException.message.contains("WeatherValue")
+
+		when:
+		BinaryTimeSeriesReader.read(new ByteArrayInputStream("uuid,p,time".bytes))
+
+		then:
+		FileException readException = thrown()
+		readException.message == "The data is no binary time series."
+	}
+
+	def "Time series written by the binary sink are provided by the binary source"() {
+		given:
+		def sink = new BinaryTimeSeriesSink(testBaseFolderPath)
+
+		when:
+		sink.persistAll([
+			individualPTimeSeries,
+			individualHeatAndSTimeSeries
+		])
+		sink.shutdown()
+		def source = new BinaryTimeSeriesSource(testBaseFolderPath)
+
+		then:
+		new File(testBaseFolderPath + File.separator + "its_p_" + individualPTimeSeries.uuid + ".bin").exists()
+		source.timeSeriesUuids == [
+			individualPTimeSeries.uuid,
+			individualHeatAndSTimeSeries.uuid] as Set
+		isSame(source.getTimeSeries(individualPTimeSeries.uuid, PValue).get(), individualPTimeSeries)
+		isSame(source.getTimeSeries(individualHeatAndSTimeSeries.uuid).get(), individualHeatAndSTimeSeries)
+		source.getTimeSeries(individualHeatAndSTimeSeries.uuid, PValue) == Optional.empty()
+		source.getTimeSeries(UUID.randomUUID()) == Optional.empty()
+	}
+
+	def "Individual time series written by the csv sink are converted to the binary format"() {
+		given:
+		def csvFolder = testBaseFolderPath + File.separator + "csv"
+		def binaryFolder = testBaseFolderPath + File.separator + "binary"
+		def csvFileSink = new CsvFileSink(csvFolder)
+		csvFileSink.persistAll([
+			individualEnergyPriceTimeSeries,
+			individualSTimeSeries,
+			individualHeatAndPTimeSeries,
+			individualWeatherTimeSeries
+		])
+		csvFileSink.shutdown()
+
+		when:
+		def converted = CsvToBinaryTimeSeriesConverter.convertAll(Paths.get(csvFolder), Paths.get(binaryFolder), ",", new FileNamingStrategy())
+		def source = new BinaryTimeSeriesSource(binaryFolder)
+
+		then: "weather time series are not supported"
+		converted == 3
+		isSame(source.getTimeSeries(individualEnergyPriceTimeSeries.uuid).get(), individualEnergyPriceTimeSeries)
+		isSame(source.getTimeSeries(individualSTimeSeries.uuid).get(), individualSTimeSeries)
+		isSame(source.getTimeSeries(individualHeatAndPTimeSeries.uuid).get(), individualHeatAndPTimeSeries)
+	}
+}
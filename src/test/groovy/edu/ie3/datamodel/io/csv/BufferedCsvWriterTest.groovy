@@ -0,0 +1,182 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.csv
+
+import edu.ie3.datamodel.exceptions.SinkException
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+
+class BufferedCsvWriterTest extends Specification {
+
+	@Shared
+	Path tmpDirectory
+
+	@Shared
+	CsvFileDefinition fileDefinition = new CsvFileDefinition("test", ["a", "b"] as String[], ",")
+
+	def setup() {
+		tmpDirectory = Files.createTempDirectory("psdm_buffered_csv_writer")
+	}
+
+	def cleanup() {
+		FileIOUtils.deleteRecursively(tmpDirectory)
+	}
+
+	List<String> writtenLines() {
+		return Files.readAllLines(tmpDirectory.resolve(fileDefinition.filePath), StandardCharsets.UTF_8)
+	}
+
+	BufferedCsvWriter writer(FlushPolicy flushPolicy) {
+		return new BufferedCsvWriter(tmpDirectory.toString(), fileDefinition, true, false, flushPolicy, 8192)
+	}
+
+	static Map<String, String> line(int i) {
+		return ["a": "a" + i, "b": "b" + i]
+	}
+
+	def "A BufferedCsvWriter flushes after every line by default"() {
+		given:
+		def writer = new BufferedCsvWriter(tmpDirectory.toString(), fileDefinition, true, false)
+
+		when:
+		writer.write(line(1))
+
+		then:
+		writer.flushPolicy == FlushPolicy.everyLine()
+		writtenLines() == ["a,b", "a1,b1"]
+
+		cleanup:
+		writer.close()
+	}
+
+	def "A BufferedCsvWriter flushes after the given number of lines"() {
+		given:
+		def writer = writer(FlushPolicy.everyLines(3))
+
+		when:
+		writer.write(line(1))
+
+		then: "the head line and the first line are buffered"
+		writtenLines() == []
+
+		when:
+		writer.write(line(2))
+		writer.write(line(3))
+
+		then:
+		writtenLines() == ["a,b", "a1,b1", "a2,b2"]
+
+		cleanup:
+		writer.close()
+	}
+
+	def "A BufferedCsvWriter flushes after the line exceeding the given number of characters"() {
+		given:
+		def writer = writer(FlushPolicy.everyCharacters(10))
+
+		when: "writing the head line (4 characters) and one line (6 characters)"
+		writer.write(line(1))
+
+		then:
+		writtenLines() == ["a,b", "a1,b1"]
+
+		when:
+		writer.write(line(2))
+
+		then:
+		writtenLines() == ["a,b", "a1,b1"]
+
+		cleanup:
+		writer.close()
+	}
+
+	def "A BufferedCsvWriter flushes a line written after the given interval"() {
+		given:
+		def writer = writer(FlushPolicy.interval(Duration.ofMillis(50)))
+
+		when:
+		writer.write(line(1))
+
+		then:
+		writtenLines() == []
+
+		when:
+		Thread.sleep(100)
+		writer.write(line(2))
+
+		then:
+		writtenLines() == ["a,b", "a1,b1", "a2,b2"]
+
+		cleanup:
+		writer.close()
+	}
+
+	def "A BufferedCsvWriter with an on close flush policy writes all lines when being closed"() {
+		given:
+		def writer = writer(FlushPolicy.onClose())
+
+		when:
+		(1..100).each { writer.write(line(it)) }
+
+		then:
+		writtenLines() == []
+
+		when:
+		writer.close()
+
+		then:
+		writtenLines() == ["a,b"] + (1..100).collect { "a" + it + ",b" + it }
+	}
+
+	def "A BufferedCsvWriter writes rows in the order of the head line elements and refuses rows of another length"() {
+		given:
+		def writer = writer(FlushPolicy.everyLine())
+
+		when:
+		writer.writeRow(["a1", "b1"] as String[])
+
+		then:
+		writtenLines() == ["a,b", "a1,b1"]
+
+		when:
+		writer.writeRow(["a2"] as String[])
+
+		then:
+		def e = thrown(SinkException)
+		e.message == "The provided data does not meet the pre-defined head line elements 'a,b'."
+
+		cleanup:
+		writer.close()
+	}
+
+	def "A FlushPolicy refuses non-positive thresholds"() {
+		when:
+		factory.call()
+
+		then:
+		def e = thrown(IllegalArgumentException)
+		e.message == expectedMessage
+
+		where:
+		factory                                          || expectedMessage
+		{ -> FlushPolicy.everyLines(0) }                 || "The number of lines between flushes has to be positive, but is 0"
+		{ -> FlushPolicy.everyCharacters(-1) }           || "The number of characters between flushes has to be positive, but is -1"
+		{ -> FlushPolicy.interval(Duration.ZERO) }       || "The interval between flushes has to be positive, but is PT0S"
+	}
+
+	def "A FlushPolicy of one line equals the every line policy"() {
+		expect:
+		FlushPolicy.everyLines(1) == FlushPolicy.everyLine()
+		FlushPolicy.everyLines(5) == FlushPolicy.everyLines(5)
+		FlushPolicy.everyLines(5) != FlushPolicy.everyCharacters(5)
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.csv
+
+import edu.ie3.datamodel.io.TarballUtils
+import edu.ie3.datamodel.io.source.csv.CsvRawGridSource
+import edu.ie3.datamodel.io.source.csv.CsvTestDataMeta
+import edu.ie3.datamodel.io.source.csv.CsvTypeSource
+import edu.ie3.util.io.FileIOUtils
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+
+class CsvArchiveTest extends Specification implements CsvTestDataMeta {
+
+	@Shared
+	Path tmpDirectory
+
+	def setup() {
+		tmpDirectory = Files.createTempDirectory("psdm_csv_archive")
+	}
+
+	def cleanup() {
+		FileIOUtils.deleteRecursively(tmpDirectory)
+	}
+
+	Path compressGrid() {
+		Path archive = tmpDirectory.resolve("grid.tar.gz")
+		TarballUtils.compress(Paths.get(gridFolderPath), archive)
+		return archive
+	}
+
+	def "A CsvArchive provides the content of its entries independent of the order they are requested in"() {
+		given:
+		def csvArchive = new CsvArchive(compressGrid())
+
+		when:
+		def contents = entryNames.collect { csvArchive.openEntry(it).getText(StandardCharsets.UTF_8.name()) }
+
+		then:
+		contents == entryNames.collect { new String(Files.readAllBytes(Paths.get(gridFolderPath, it)), StandardCharsets.UTF_8) }
+
+		cleanup:
+		csvArchive.close()
+
+		where:
+		entryNames << [
+			[
+				"node_input.csv",
+				"line_input.csv"
+			],
+			[
+				"switch_input.csv",
+				"node_input.csv",
+				"switch_input.csv",
+				"node_input.csv"
+			]
+		]
+	}
+
+	def "A CsvArchive throws a FileNotFoundException, if the requested entry does not exist"() {
+		given:
+		def csvArchive = new CsvArchive(compressGrid())
+
+		when:
+		csvArchive.openEntry("not_existing.csv")
+
+		then:
+		FileNotFoundException ex = thrown()
+		ex.message.startsWith("Cannot find entry 'not_existing.csv' in archive")
+
+		cleanup:
+		csvArchive.close()
+	}
+
+	def "A CsvArchive streams and buffers entries larger than its read ahead budget without holding them in memory"() {
+		given:
+		def folder = Files.createDirectories(tmpDirectory.resolve("big"))
+		def contents = [
+			"small_input.csv": "uuid,id\n" + (1..10).collect { "${UUID.randomUUID()},small_$it" }.join("\n"),
+			"big_input.csv"  : "uuid,id\n" + (1..5000).collect { "${UUID.randomUUID()},big_$it" }.join("\n"),
+			"other_input.csv": "uuid,id\n" + (1..10).collect { "${UUID.randomUUID()},other_$it" }.join("\n")
+		]
+		contents.each { name, content -> Files.write(folder.resolve(name), content.getBytes(StandardCharsets.UTF_8)) }
+		Path archive = tmpDirectory.resolve("big.tar.gz")
+		TarballUtils.compress(folder, archive)
+		def csvArchive = new CsvArchive(archive, contents.keySet(), 4096)
+
+		when:
+		def streams = entryNames.collect { csvArchive.openEntry(it) }
+		def bytesInMemory = csvArchive.bytesInMemory
+		def actual = streams.collect { stream -> stream.withCloseable { it.getText(StandardCharsets.UTF_8.name()) } }
+
+		then:
+		bytesInMemory <= 4096
+		actual == entryNames.collect { contents.get(it) }
+		csvArchive.bytesInMemory == 0
+
+		cleanup:
+		csvArchive.close()
+
+		where:
+		entryNames << [
+			[
+				"big_input.csv",
+				"small_input.csv",
+				"other_input.csv"
+			],
+			[
+				"other_input.csv",
+				"small_input.csv",
+				"big_input.csv"
+			]
+		]
+	}
+
+	def "A CsvArchive only buffers the wanted entries, that are passed while seeking the requested one"() {
+		given:
+		def folder = Files.createDirectories(tmpDirectory.resolve("wanted"))
+		def contents = [
+			"first_input.csv" : "uuid,id\n" + (1..10).collect { "${UUID.randomUUID()},first_$it" }.join("\n"),
+			"second_input.csv": "uuid,id\n" + (1..10).collect { "${UUID.randomUUID()},second_$it" }.join("\n"),
+			"third_input.csv" : "uuid,id\n" + (1..10).collect { "${UUID.randomUUID()},third_$it" }.join("\n")
+		]
+		contents.each { name, content -> Files.write(folder.resolve(name), content.getBytes(StandardCharsets.UTF_8)) }
+		Path archive = tmpDirectory.resolve("wanted.tar.gz")
+		TarballUtils.compress(folder, archive)
+		def csvArchive = new CsvArchive(archive, ["first_input.csv"])
+
+		when: "all entries are passed, as a not existing entry is requested"
+		csvArchive.openEntry("not_existing.csv")
+
+		then:
+		thrown(FileNotFoundException)
+
+		when: "an entry is requested in the following pass"
+		def stream = csvArchive.openEntry(requested)
+		def readAhead = csvArchive.readAheadEntries.keySet()
+		def actual = stream.withCloseable { it.getText(StandardCharsets.UTF_8.name()) }
+
+		then:
+		actual == contents.get(requested)
+		readAhead.every { it.endsWith("first_input.csv") }
+
+		cleanup:
+		csvArchive.close()
+
+		where:
+		requested << [
+			"first_input.csv",
+			"second_input.csv",
+			"third_input.csv"
+		]
+	}
+
+	def "A CsvArchive does not buffer an entry again, that has already been handed out"() {
+		given:
+		def csvArchive = new CsvArchive(compressGrid(), ["node_input.csv", "line_input.csv"])
+
+		when:
+		def nodes = csvArchive.openEntry("node_input.csv").withCloseable { it.getText(StandardCharsets.UTF_8.name()) }
+		csvArchive.openEntry("not_existing.csv")
+
+		then:
+		thrown(FileNotFoundException)
+		csvArchive.readAheadEntries.keySet().every { it.endsWith("line_input.csv") }
+		nodes == new String(Files.readAllBytes(Paths.get(gridFolderPath, "node_input.csv")), StandardCharsets.UTF_8)
+
+		cleanup:
+		csvArchive.close()
+	}
+
+	def "Csv sources read the same entities from a .tar.gz archive as from the extracted files"() {
+		given:
+		def typeSource = new CsvTypeSource(csvSep, typeFolderPath, fileNamingStrategy)
+		def plainSource = new CsvRawGridSource(csvSep, gridFolderPath, fileNamingStrategy, typeSource)
+		def archiveSource = new CsvRawGridSource(csvSep, compressGrid().toString(), fileNamingStrategy, typeSource)
+
+		expect:
+		archiveSource.gridData.present
+		archiveSource.gridData == plainSource.gridData
+	}
+
+	def "Csv sources read gzipped files, if the plain file does not exist"() {
+		given:
+		Files.newOutputStream(tmpDirectory.resolve("node_input.csv.gz")).withCloseable { fileStream ->
+			new GzipCompressorOutputStream(fileStream).withCloseable { gzipStream ->
+				Files.copy(Paths.get(gridFolderPath, "node_input.csv"), gzipStream)
+			}
+		}
+		def typeSource = new CsvTypeSource(csvSep, typeFolderPath, fileNamingStrategy)
+		def plainSource = new CsvRawGridSource(csvSep, gridFolderPath, fileNamingStrategy, typeSource)
+		def gzipSource = new CsvRawGridSource(csvSep, tmpDirectory.toString(), fileNamingStrategy, typeSource)
+
+		when:
+		def streamedNodes = gzipSource.streamNodes(typeSource.operators).withCloseable { it.collect() }
+
+		then:
+		gzipSource.nodes == plainSource.nodes
+		streamedNodes as Set == plainSource.nodes
+	}
+}
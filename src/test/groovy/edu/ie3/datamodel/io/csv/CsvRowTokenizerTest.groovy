@@ -0,0 +1,61 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.csv
+
+import edu.ie3.datamodel.io.source.csv.CsvTestDataMeta
+import edu.ie3.util.StringUtils
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Paths
+import java.util.stream.Collectors
+
+class CsvRowTokenizerTest extends Specification implements CsvTestDataMeta {
+
+	/* Former, regular expression based implementation, serving as reference */
+	static String[] regexTokenize(String csvRow, String csvSep) {
+		return Arrays.stream(csvRow.split(csvSep + "(?=(?:[^\"]*\"[^\"]*\")*[^\"]*\$)", -1))
+				.map({ StringUtils.unquoteStartEnd(it.trim()).replaceAll("\"{2}", "\"").trim() })
+				.toArray({ new String[it] })
+	}
+
+	def "The CsvRowTokenizer splits csv rows correctly"() {
+		expect:
+		CsvRowTokenizer.tokenize(csvRow, csvSep) as List == expected
+
+		where:
+		csvSep | csvRow                                           || expected
+		","    | "a,b,c"                                          || ["a", "b", "c"]
+		","    | " a , b ,c "                                     || ["a", "b", "c"]
+		","    | "a,,c,"                                          || ["a", "", "c", ""]
+		","    | ""                                               || [""]
+		","    | "\"a,b\",c"                                      || ["a,b", "c"]
+		","    | "\"say \"\"hello\"\"\",c"                        || ["say \"hello\"", "c"]
+		";"    | "a;\"b;c\";d"                                    || ["a", "b;c", "d"]
+		"::"   | "a::\"b::c\"::d"                                 || ["a", "b::c", "d"]
+		","    | "x,\"{\"\"type\"\":\"\"Point\"\"}\",y"           || ["x", "{\"type\":\"Point\"}", "y"]
+	}
+
+	def "The CsvRowTokenizer refuses an empty separator"() {
+		when:
+		CsvRowTokenizer.tokenize("a,b", "")
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+
+	def "The CsvRowTokenizer yields the same results as the former regex split on all test grid files"() {
+		given:
+		def rows = Files.walk(Paths.get(testBaseFolderPath))
+				.filter({ it.toString().endsWith(".csv") })
+				.flatMap({ Files.readAllLines(it).stream() })
+				.collect(Collectors.toList())
+
+		expect:
+		!rows.isEmpty()
+		rows.every { CsvRowTokenizer.tokenize(it, csvSep) as List == regexTokenize(it, csvSep) as List }
+	}
+}
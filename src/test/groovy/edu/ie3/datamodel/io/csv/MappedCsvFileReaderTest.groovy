@@ -0,0 +1,147 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.csv
+
+import edu.ie3.datamodel.io.source.csv.CsvTestDataMeta
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.util.stream.Collectors
+
+class MappedCsvFileReaderTest extends Specification implements CsvTestDataMeta {
+
+	@Shared
+	Path tmpDirectory
+
+	def setup() {
+		tmpDirectory = Files.createTempDirectory("psdm_mapped_csv_reader")
+	}
+
+	def cleanup() {
+		FileIOUtils.deleteRecursively(tmpDirectory)
+	}
+
+	Path writeFile(String content) {
+		Path file = tmpDirectory.resolve("test.csv")
+		Files.write(file, content.getBytes(StandardCharsets.UTF_8))
+		return file
+	}
+
+	List<String> readRows(Path file, int chunkSize) {
+		MappedCsvFileReader reader = new MappedCsvFileReader(file, chunkSize)
+		try {
+			return reader.rows().collect(Collectors.toList())
+		} finally {
+			reader.close()
+		}
+	}
+
+	def "A MappedCsvFileReader provides headline and rows of a csv file"() {
+		given:
+		Path file = writeFile(content)
+		MappedCsvFileReader reader = new MappedCsvFileReader(file, chunkSize)
+
+		expect:
+		reader.headline == expectedHeadline
+		reader.rows().collect(Collectors.toList()) == expectedRows
+
+		cleanup:
+		reader.close()
+
+		where:
+		chunkSize | content                                  || expectedHeadline | expectedRows
+		1         | ""                                       || null             | []
+		1         | "uuid,id"                                || "uuid,id"        | []
+		1         | "uuid,id\n"                              || "uuid,id"        | []
+		1         | "uuid,id\na,b\nc,d\n"                    || "uuid,id"        | ["a,b", "c,d"]
+		1024      | "uuid,id\na,b\nc,d\n"                    || "uuid,id"        | ["a,b", "c,d"]
+		1         | "uuid,id\na,b\nc,d"                      || "uuid,id"        | ["a,b", "c,d"]
+		1         | "uuid,id\r\na,b\r\nc,d\r\n"              || "uuid,id"        | ["a,b", "c,d"]
+		1         | "uuid,id\na,\"b\nb\"\nc,d\n"             || "uuid,id"        | ["a,\"b\nb\"", "c,d"]
+		3         | "uuid,\"i\nd\"\na,\"b\n\nb\"\nc,\"\"\n"  || "uuid,\"i\nd\"" | ["a,\"b\n\nb\"", "c,\"\""]
+		1         | "uuid,id\nä,ö\nü,ß\n"                    || "uuid,id"        | ["ä,ö", "ü,ß"]
+		1         | "uuid,id\n\na,b\n"                       || "uuid,id"        | ["", "a,b"]
+	}
+
+	def "A MappedCsvFileReader splits a file into chunks of at least the given size"() {
+		given:
+		Path file = writeFile("uuid,id\n" + (1..100).collect { "row_$it,$it" }.join("\n") + "\n")
+
+		when:
+		MappedCsvFileReader reader = new MappedCsvFileReader(file, chunkSize)
+
+		then:
+		reader.numberOfChunks == expectedChunks
+
+		cleanup:
+		reader.close()
+
+		where:
+		chunkSize | expectedChunks
+		1         | 100
+		Integer.MAX_VALUE | 1
+	}
+
+	def "A MappedCsvFileReader provides the same rows as reading the file line by line, independent of chunk size and parallelism"() {
+		given:
+		Path file = Paths.get(gridFolderPath, "line_input.csv")
+		List<String> expected = Files.readAllLines(file, StandardCharsets.UTF_8).drop(1)
+
+		when:
+		MappedCsvFileReader reader = new MappedCsvFileReader(file, chunkSize)
+		List<String> sequential = reader.rows().collect(Collectors.toList())
+		List<String> parallel = reader.rows().parallel().collect(Collectors.toList())
+		reader.close()
+
+		then:
+		sequential == expected
+		parallel == expected
+
+		where:
+		chunkSize << [1, 7, 64, MappedCsvFileReader.DEFAULT_CHUNK_SIZE]
+	}
+
+	def "A MappedCsvFileReader refuses non-positive chunk sizes"() {
+		given:
+		Path file = writeFile("uuid,id\n")
+
+		when:
+		new MappedCsvFileReader(file, 0)
+
+		then:
+		IllegalArgumentException ex = thrown()
+		ex.message == "The chunk size has to be positive, but is 0"
+	}
+
+	def "A MappedCsvFileReader releases the file on close, so that it can be deleted right away"() {
+		given:
+		int rowCount = MappedCsvFileReader.MIN_MAPPED_SIZE / 8
+		String content = "uuid,id\n" + (0..<rowCount).collect { String.format("%03d,%03d\n", it % 1000, it % 1000) }.join("")
+		Path file = writeFile(content)
+
+		when:
+		List<String> rows = readRows(file, chunkSize)
+		Files.delete(file)
+
+		then:
+		rows.size() == rowCount
+		!Files.exists(file)
+
+		when: "writing a new file to the same path"
+		writeFile("uuid,id\n1,a\n")
+
+		then:
+		readRows(file, chunkSize) == ["1,a"]
+
+		where:
+		chunkSize << [64, MappedCsvFileReader.DEFAULT_CHUNK_SIZE]
+	}
+}
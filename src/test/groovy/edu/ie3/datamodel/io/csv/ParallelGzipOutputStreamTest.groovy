@@ -0,0 +1,92 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.csv
+
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.zip.Deflater
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+
+class ParallelGzipOutputStreamTest extends Specification {
+
+	@Shared
+	ExecutorService executor = Executors.newFixedThreadPool(2)
+
+	def cleanupSpec() {
+		executor.shutdown()
+	}
+
+	static byte[] csvContent(int length) {
+		def content = new StringBuilder()
+		def random = new Random(42)
+		while (content.length() < length)
+			content.append(UUID.randomUUID()).append(',').append(random.nextInt(1000)).append(",2020-01-30 17:26:44\n")
+		return content.substring(0, length).getBytes("UTF-8")
+	}
+
+	def "A ParallelGzipOutputStream writes one valid gzip stream, regardless of the number of blocks"() {
+		given:
+		def content = csvContent(length)
+		def compressed = new ByteArrayOutputStream()
+
+		when:
+		new ParallelGzipOutputStream(compressed, executor, 2, ParallelGzipOutputStream.MIN_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION).withCloseable {
+			// write in chunks, that do not align with the blocks
+			for (int offset = 0; offset < content.length; offset += 1000)
+				it.write(content, offset, Math.min(1000, content.length - offset))
+		}
+
+		then:
+		new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray())).bytes == content
+
+		where:
+		length << [
+			0,
+			1,
+			ParallelGzipOutputStream.MIN_BLOCK_SIZE,
+			ParallelGzipOutputStream.MIN_BLOCK_SIZE + 1,
+			10 * ParallelGzipOutputStream.MIN_BLOCK_SIZE + 17
+		]
+	}
+
+	def "A ParallelGzipOutputStream compresses about as good as a sequential gzip stream"() {
+		given:
+		def content = csvContent(20 * ParallelGzipOutputStream.MIN_BLOCK_SIZE)
+		def parallel = new ByteArrayOutputStream()
+		def sequential = new ByteArrayOutputStream()
+
+		when:
+		new ParallelGzipOutputStream(parallel, executor, 2, ParallelGzipOutputStream.MIN_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION).withCloseable {
+			it.write(content)
+		}
+		new GZIPOutputStream(sequential).withCloseable { it.write(content) }
+
+		then:
+		parallel.size() < sequential.size() * 1.05
+	}
+
+	def "A ParallelGzipOutputStream refuses too small blocks and writing after closing"() {
+		when:
+		new ParallelGzipOutputStream(new ByteArrayOutputStream(), executor, 2, 1024, Deflater.DEFAULT_COMPRESSION)
+
+		then:
+		IllegalArgumentException exception = thrown()
+		exception.message == "The block size has to be at least 32768 bytes, but is 1024"
+
+		when:
+		def stream = new ParallelGzipOutputStream(new ByteArrayOutputStream(), executor, 2, ParallelGzipOutputStream.MIN_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION)
+		stream.close()
+		stream.write(1)
+
+		then:
+		IOException closedException = thrown()
+		closedException.message == "The stream is closed."
+	}
+}
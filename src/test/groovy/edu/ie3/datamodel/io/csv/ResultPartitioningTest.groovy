@@ -0,0 +1,64 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.csv
+
+import edu.ie3.datamodel.models.StandardUnits
+import edu.ie3.datamodel.models.result.system.PvResult
+import edu.ie3.util.TimeUtil
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+
+class ResultPartitioningTest extends Specification {
+
+	static PvResult pvResult(String time, UUID inputModel = UUID.randomUUID()) {
+		return new PvResult(UUID.randomUUID(), TimeUtil.withDefaults.toZonedDateTime(time), inputModel,
+				Quantities.getQuantity(10, StandardUnits.ACTIVE_POWER_IN), Quantities.getQuantity(10, StandardUnits.REACTIVE_POWER_IN))
+	}
+
+	def "A ResultPartitioning determines the partition of a result correctly"() {
+		expect:
+		partitioning.getPartition(pvResult(time, inputModel)) == Optional.ofNullable(expectedPartition)
+
+		where:
+		partitioning                                                                                        | time                  | inputModel                                             || expectedPartition
+		ResultPartitioning.none()                                                                           | "2020-01-30 17:26:44" | UUID.randomUUID()                                      || null
+		ResultPartitioning.byDay()                                                                          | "2020-01-30 17:26:44" | UUID.randomUUID()                                      || "2020-01-30"
+		ResultPartitioning.byWeek()                                                                         | "2020-01-30 17:26:44" | UUID.randomUUID()                                      || "2020-W05"
+		ResultPartitioning.byWeek()                                                                         | "2021-01-01 00:00:00" | UUID.randomUUID()                                      || "2020-W53"
+		ResultPartitioning.bySubnet([(UUID.fromString("22bea5fc-2cb2-4c61-beb9-b476e0107f52")): 2])        | "2020-01-30 17:26:44" | UUID.fromString("22bea5fc-2cb2-4c61-beb9-b476e0107f52") || "subnet_2"
+		ResultPartitioning.bySubnet([(UUID.fromString("22bea5fc-2cb2-4c61-beb9-b476e0107f52")): 2])        | "2020-01-30 17:26:44" | UUID.randomUUID()                                      || "subnet_unknown"
+	}
+
+	def "A ResultPartitioning builds deterministic file names"() {
+		expect:
+		partitioning.getFileName("pv_res", partition, part) == expectedFileName
+
+		where:
+		partitioning                                      | partition    | part || expectedFileName
+		ResultPartitioning.none()                         | null         | 0    || "pv_res"
+		ResultPartitioning.byDay()                        | "2020-01-30" | 0    || "pv_res_2020-01-30"
+		ResultPartitioning.none().withMaxFileSize(1024)   | null         | 3    || "pv_res_part_3"
+		ResultPartitioning.byDay().withMaxFileSize(1024)  | "2020-01-30" | 1    || "pv_res_2020-01-30_part_1"
+	}
+
+	def "A ResultPartitioning refuses non-positive maximum file sizes"() {
+		when:
+		ResultPartitioning.byDay().withMaxFileSize(0)
+
+		then:
+		def e = thrown(IllegalArgumentException)
+		e.message == "The maximum file size has to be positive, but is 0"
+	}
+
+	def "A ResultPartitioning refuses non-positive maximum numbers of open files"() {
+		when:
+		ResultPartitioning.byDay().withMaxOpenFiles(0)
+
+		then:
+		def e = thrown(IllegalArgumentException)
+		e.message == "The maximum number of open files has to be positive, but is 0"
+	}
+}
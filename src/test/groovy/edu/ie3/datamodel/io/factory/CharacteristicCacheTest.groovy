@@ -0,0 +1,73 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.factory
+
+import edu.ie3.datamodel.exceptions.ParsingException
+import edu.ie3.datamodel.models.input.system.characteristic.CosPhiFixed
+import edu.ie3.datamodel.models.input.system.characteristic.OlmCharacteristicInput
+import edu.ie3.datamodel.models.input.system.characteristic.ReactivePowerCharacteristic
+import spock.lang.Specification
+
+class CharacteristicCacheTest extends Specification {
+
+	def "A CharacteristicCache parses every distinct characteristic only once"() {
+		given:
+		def cache = new CharacteristicCache(10)
+		def parsed = 0
+		def parser = { String input ->
+			parsed++
+			return ReactivePowerCharacteristic.parse(input)
+		} as CharacteristicCache.CharacteristicParser<ReactivePowerCharacteristic>
+
+		when:
+		def first = cache.get(ReactivePowerCharacteristic, "cosPhiFixed:{(0.00,1.00)}", parser)
+		def second = cache.get(ReactivePowerCharacteristic, "cosPhiFixed:{(0.00,1.00)}", parser)
+		def other = cache.get(ReactivePowerCharacteristic, "cosPhiFixed:{(0.00,0.95)}", parser)
+
+		then:
+		first instanceof CosPhiFixed
+		first == new CosPhiFixed("cosPhiFixed:{(0.00,1.00)}")
+		first.is(second)
+		other == new CosPhiFixed("cosPhiFixed:{(0.00,0.95)}")
+		parsed == 2
+		cache.numberOfCachedCharacteristics == 2
+	}
+
+	def "A CharacteristicCache separates characteristics of different classes"() {
+		given:
+		def cache = new CharacteristicCache(10)
+
+		when:
+		def olm = cache.get(OlmCharacteristicInput, "olm:{(0.00,1.00)}", { new OlmCharacteristicInput(it) })
+		cache.get(OlmCharacteristicInput, "olm:{(0.00,1.00)}", { new OlmCharacteristicInput(it) })
+		def cosPhi = cache.get(ReactivePowerCharacteristic, "cosPhiFixed:{(0.00,1.00)}", { ReactivePowerCharacteristic.parse(it) })
+
+		then:
+		olm == new OlmCharacteristicInput("olm:{(0.00,1.00)}")
+		cosPhi instanceof CosPhiFixed
+		cache.numberOfCachedCharacteristics == 2
+	}
+
+	def "A CharacteristicCache does not cache invalid characteristics and stops caching, once its bound is reached"() {
+		given:
+		def cache = new CharacteristicCache(1)
+
+		when:
+		cache.get(ReactivePowerCharacteristic, "invalid", { ReactivePowerCharacteristic.parse(it) })
+
+		then:
+		thrown(ParsingException)
+		cache.numberOfCachedCharacteristics == 0
+
+		when:
+		cache.get(ReactivePowerCharacteristic, "cosPhiFixed:{(0.00,1.00)}", { ReactivePowerCharacteristic.parse(it) })
+		def uncached = cache.get(ReactivePowerCharacteristic, "cosPhiFixed:{(0.00,0.95)}", { ReactivePowerCharacteristic.parse(it) })
+
+		then:
+		uncached == new CosPhiFixed("cosPhiFixed:{(0.00,0.95)}")
+		cache.numberOfCachedCharacteristics == 1
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.factory
+
+import edu.ie3.datamodel.exceptions.FactoryException
+import edu.ie3.datamodel.io.factory.input.OperatorInputFactory
+import edu.ie3.datamodel.models.input.OperatorInput
+import spock.lang.Specification
+
+class EntityFactoryTest extends Specification {
+
+	static class CountingOperatorInputFactory extends OperatorInputFactory {
+		int getFieldsCalls = 0
+
+		@Override
+		protected List<Set<String>> getFields(SimpleEntityData data) {
+			getFieldsCalls++
+			return super.getFields(data)
+		}
+	}
+
+	static SimpleEntityData row(FieldSchema schema, String uuid, String id) {
+		return new SimpleEntityData(new IndexedFieldsToAttributes(schema, [uuid, id] as String[]), OperatorInput)
+	}
+
+	def "An EntityFactory validates the fields of rows sharing the same schema only once"() {
+		given:
+		def factory = new CountingOperatorInputFactory()
+		def schema = new FieldSchema("uuid", "id")
+
+		when:
+		def first = factory.getEntity(row(schema, "91ec3bcf-1777-4d38-af67-0bf7c9fa73c7", "first"))
+		def second = factory.getEntity(row(new FieldSchema("uuid", "id"), "8f9682df-0744-4b58-a122-f0dc730f6510", "second"))
+
+		then:
+		first.present
+		first.get().id == "first"
+		second.present
+		second.get().id == "second"
+		factory.getFieldsCalls == 1
+	}
+
+	def "An EntityFactory validates rows with different key sets separately"() {
+		given:
+		def factory = new CountingOperatorInputFactory()
+		def validRow = row(new FieldSchema("uuid", "id"), "91ec3bcf-1777-4d38-af67-0bf7c9fa73c7", "valid")
+		def rowWithRemovedField = row(new FieldSchema("uuid", "id"), "8f9682df-0744-4b58-a122-f0dc730f6510", "invalid")
+		rowWithRemovedField.fieldsToValues.remove("id")
+
+		when:
+		factory.getEntity(validRow)
+		factory.getEntity(rowWithRemovedField)
+
+		then:
+		thrown(FactoryException)
+		factory.getFieldsCalls == 2
+	}
+
+	def "An EntityFactory does not remember invalid rows"() {
+		given:
+		def factory = new CountingOperatorInputFactory()
+		def schema = new FieldSchema("uuid", "name")
+
+		when:
+		factory.getEntity(row(schema, "91ec3bcf-1777-4d38-af67-0bf7c9fa73c7", "first"))
+
+		then:
+		thrown(FactoryException)
+
+		when:
+		factory.getEntity(row(schema, "8f9682df-0744-4b58-a122-f0dc730f6510", "second"))
+
+		then:
+		thrown(FactoryException)
+		factory.getFieldsCalls == 2
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.factory
+
+import edu.ie3.datamodel.io.factory.input.AssetInputEntityData
+import edu.ie3.datamodel.io.factory.input.NodeInputFactory
+import edu.ie3.datamodel.models.OperationTime
+import edu.ie3.datamodel.models.input.NodeInput
+import edu.ie3.datamodel.models.input.OperatorInput
+import org.locationtech.jts.geom.Coordinate
+import org.locationtech.jts.geom.GeometryFactory
+import org.locationtech.jts.geom.PrecisionModel
+import spock.lang.Specification
+
+import java.time.ZonedDateTime
+
+class FlyweightRegistryTest extends Specification {
+
+	def geometryFactory = new GeometryFactory(new PrecisionModel(), 4326)
+
+	def cleanup() {
+		FlyweightRegistry.default = FlyweightRegistry.disabled()
+	}
+
+	def "A FlyweightRegistry returns the first of equal operation times and reports the saved bytes"() {
+		given:
+		def registry = new FlyweightRegistry()
+		def start = "2020-03-24T15:11:31Z[UTC]"
+
+		when:
+		def first = registry.intern(OperationTime.builder().withStart(ZonedDateTime.parse(start)).build())
+		def second = registry.intern(OperationTime.builder().withStart(ZonedDateTime.parse(start)).build())
+		def unlimited = registry.intern(OperationTime.notLimited())
+
+		then:
+		first.is(second)
+		first != unlimited
+		registry.numberOfDeduplicatedInstances == 1
+		registry.deduplicatedInstancesPerType == ["OperationTime": 1L]
+		registry.bytesSaved == 120
+	}
+
+	def "A FlyweightRegistry distinguishes geometries by their SRID and z ordinate"() {
+		given:
+		def registry = new FlyweightRegistry()
+		def otherSridFactory = new GeometryFactory(new PrecisionModel(), 4258)
+
+		when:
+		def first = registry.intern(geometryFactory.createPoint(new Coordinate(7.4, 51.4)))
+		def second = registry.intern(geometryFactory.createPoint(new Coordinate(7.4, 51.4)))
+		def otherSrid = registry.intern(otherSridFactory.createPoint(new Coordinate(7.4, 51.4)))
+		def otherZ = registry.intern(geometryFactory.createPoint(new Coordinate(7.4, 51.4, 10)))
+
+		then:
+		first.is(second)
+		!first.is(otherSrid)
+		!first.is(otherZ)
+		registry.deduplicatedInstancesPerType == ["Point": 1L]
+		registry.bytesSaved == 116
+	}
+
+	def "A disabled FlyweightRegistry does not intern anything"() {
+		given:
+		def registry = FlyweightRegistry.disabled()
+		def first = OperationTime.notLimited()
+
+		expect:
+		!registry.enabled
+		registry.intern(first).is(first)
+		registry.numberOfDeduplicatedInstances == 0
+	}
+
+	def "Entity factories intern operation times and geometries, if the default FlyweightRegistry is enabled"() {
+		given:
+		def registry = new FlyweightRegistry()
+		FlyweightRegistry.default = registry
+		def factory = new NodeInputFactory()
+		def fields = [
+			"uuid"         : "91ec3bcf-1777-4d38-af67-0bf7c9fa73c7",
+			"operatesfrom" : "2019-01-01T00:00:00+01:00[Europe/Berlin]",
+			"operatesuntil": "",
+			"id"           : "TestID",
+			"vtarget"      : "2",
+			"vrated"       : "3",
+			"slack"        : "true",
+			"geoposition"  : "{ \"type\": \"Point\", \"coordinates\": [7.411111, 51.492528] }",
+			"voltlvl"      : "lv",
+			"subnet"       : "7"
+		]
+		def operator = new OperatorInput(UUID.fromString("8f9682df-0744-4b58-a122-f0dc730f6510"), "TestOperator")
+
+		when:
+		def first = factory.getEntity(new AssetInputEntityData(fields, NodeInput, operator))
+		def second = factory.getEntity(new AssetInputEntityData(fields, NodeInput, operator))
+
+		then:
+		first.present
+		second.present
+		first.get().operationTime.is(second.get().operationTime)
+		first.get().geoPosition.is(second.get().geoPosition)
+		registry.deduplicatedInstancesPerType == ["OperationTime": 1L, "Point": 1L]
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.factory
+
+import org.locationtech.jts.geom.LineString
+import org.locationtech.jts.geom.Point
+import org.locationtech.jts.geom.Polygon
+import org.locationtech.jts.io.ParseException
+import org.locationtech.jts.io.geojson.GeoJsonReader
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+class GeoJsonParserTest extends Specification {
+
+	def "A GeoJsonParser parses geometries equal to the ones of a GeoJsonReader"() {
+		given:
+		def parser = new GeoJsonParser(0)
+		def expected = new GeoJsonReader().read(geoJson)
+
+		when:
+		def actual = parser.parse(geoJson)
+
+		then:
+		actual.class == expectedClass
+		actual.equalsExact(expected)
+		actual.SRID == expected.SRID
+		actual.SRID == expectedSrid
+
+		where:
+		geoJson                                                                                                                                                        || expectedClass | expectedSrid
+		"{\"type\":\"Point\",\"coordinates\":[7.411111,51.492528],\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:4326\"}}}"                                 || Point         | 4326
+		"{\"type\":\"Point\",\"coordinates\":[0.25423729,0.75409836],\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:0\"}}}"                                 || Point         | 0
+		" { \"coordinates\" : [ 7 , 51.5 , 3e2 ] , \"type\" : \"Point\" } "                                                                                            || Point         | 4326
+		"{\"type\":\"LineString\",\"coordinates\":[[7.411111,51.492528],[7.414116,51.484136]],\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:4326\"}}}"      || LineString    | 4326
+		"{\"type\":\"LineString\",\"coordinates\":[[7.4,51.4],[7.5,51.5],[7.6,51.6]]}"                                                                                  || LineString    | 4326
+		"{\"type\":\"Point\",\"coordinates\":[7.4,51.4],\"bbox\":[7.4,51.4,7.4,51.4]}"                                                                                  || Point         | 4326
+		"{\"type\":\"Polygon\",\"coordinates\":[[[7.4,51.4],[7.5,51.5],[7.6,51.4],[7.4,51.4]]]}"                                                                        || Polygon       | 4326
+	}
+
+	def "A GeoJsonParser throws a ParseException on invalid GeoJSON"() {
+		given:
+		def parser = new GeoJsonParser(0)
+
+		when:
+		parser.parse("{\"type\":\"Point\",\"coordinates\":[7.4,51.4]")
+
+		then:
+		thrown(ParseException)
+	}
+
+	def "A GeoJsonParser interns geometries up to the given bound"() {
+		given:
+		def parser = new GeoJsonParser(2)
+		def first = "{\"type\":\"Point\",\"coordinates\":[7.4,51.4]}"
+		def second = "{\"type\":\"Point\",\"coordinates\":[7.5,51.5]}"
+		def third = "{\"type\":\"Point\",\"coordinates\":[7.6,51.6]}"
+
+		when:
+		def firstResults = [
+			parser.parse(first),
+			parser.parse(first)
+		]
+		def secondResults = [
+			parser.parse(second),
+			parser.parse(second)
+		]
+		def thirdResults = [
+			parser.parse(third),
+			parser.parse(third)
+		]
+
+		then:
+		firstResults[0].is(firstResults[1])
+		secondResults[0].is(secondResults[1])
+		!thirdResults[0].is(thirdResults[1])
+		thirdResults[0] == thirdResults[1]
+		parser.numberOfInternedGeometries == 2
+	}
+
+	def "A GeoJsonParser does not intern geometries, if interning is disabled"() {
+		given:
+		def parser = new GeoJsonParser(0)
+		def geoJson = "{\"type\":\"Point\",\"coordinates\":[7.4,51.4]}"
+
+		expect:
+		!parser.parse(geoJson).is(parser.parse(geoJson))
+		parser.numberOfInternedGeometries == 0
+	}
+
+	def "A GeoJsonParser refuses a negative bound of interned geometries"() {
+		when:
+		new GeoJsonParser(-1)
+
+		then:
+		IllegalArgumentException ex = thrown()
+		ex.message == "The maximum number of interned geometries must not be negative, but is -1"
+	}
+
+	def "A GeoJsonParser can be used concurrently"() {
+		given:
+		def parser = new GeoJsonParser(0)
+		def executor = Executors.newFixedThreadPool(4)
+		def geoJsons = (0..<1000).collect {
+			it % 2 == 0 ?
+					"{\"type\":\"Point\",\"coordinates\":[7.$it,51.$it]}" :
+					"{\"type\":\"MultiPoint\",\"coordinates\":[[7.$it,51.$it],[8.$it,52.$it]]}"
+		}
+
+		when:
+		def results = executor.invokeAll(geoJsons.collect { geoJson -> { -> parser.parse(geoJson) } as Callable }).collect { it.get() }
+
+		then:
+		results == geoJsons.collect { new GeoJsonReader().read(it) }
+
+		cleanup:
+		executor.shutdown()
+	}
+}
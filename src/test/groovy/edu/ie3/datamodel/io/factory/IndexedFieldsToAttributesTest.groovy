@@ -0,0 +1,81 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.factory
+
+import spock.lang.Shared
+import spock.lang.Specification
+
+class IndexedFieldsToAttributesTest extends Specification {
+
+	@Shared
+	def schema = new FieldSchema("uuid", "operatesUntil", "id", "nodeA", "thermalBus")
+
+	def values = [
+		"4ca90220-74c2-4369-9afa-a18bf068840d",
+		"2020-03-25T15:11:31Z[UTC]",
+		"test_line",
+		"bd837a25-58f3-44ac-aa90-c6b6e3cd91b2",
+		"0d95d7f2-49fb-4d49-8636-383a5220384e"] as String[]
+
+	def "An IndexedFieldsToAttributes provides case-insensitive access to the field values"() {
+		given:
+		def fieldsToAttributes = new IndexedFieldsToAttributes(schema, values)
+
+		expect:
+		fieldsToAttributes.size() == 5
+		fieldsToAttributes.get("operatesuntil") == "2020-03-25T15:11:31Z[UTC]"
+		fieldsToAttributes.get("NODEA") == "bd837a25-58f3-44ac-aa90-c6b6e3cd91b2"
+		fieldsToAttributes.containsKey("thermalbus")
+		!fieldsToAttributes.containsKey("nodeB")
+		fieldsToAttributes.get("nodeB") == null
+	}
+
+	def "An IndexedFieldsToAttributes equals and iterates like a case-insensitive TreeMap with the same content"() {
+		given:
+		def fieldsToAttributes = new IndexedFieldsToAttributes(schema, values)
+		def treeMap = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER)
+		schema.fieldNames.eachWithIndex { String field, int idx -> treeMap.put(field, values[idx]) }
+
+		expect:
+		fieldsToAttributes == treeMap
+		treeMap == fieldsToAttributes
+		fieldsToAttributes.hashCode() == treeMap.hashCode()
+		fieldsToAttributes.keySet() as List == treeMap.keySet() as List
+		fieldsToAttributes.toString() == treeMap.toString()
+	}
+
+	def "Removing fields from an IndexedFieldsToAttributes is case-insensitive and does not affect copies"() {
+		given:
+		def fieldsToAttributes = new IndexedFieldsToAttributes(schema, values)
+		def copy = new IndexedFieldsToAttributes(fieldsToAttributes)
+
+		when:
+		fieldsToAttributes.keySet().remove("thermalbus")
+		fieldsToAttributes.keySet().removeAll(["nodeA"] as Set)
+		def removed = fieldsToAttributes.remove("ID")
+
+		then:
+		removed == "test_line"
+		fieldsToAttributes.size() == 2
+		fieldsToAttributes.keySet() == ["operatesUntil", "uuid"] as Set
+		!fieldsToAttributes.containsKey("thermalBus")
+		copy.size() == 5
+		copy.get("thermalBus") == "0d95d7f2-49fb-4d49-8636-383a5220384e"
+	}
+
+	def "An IndexedFieldsToAttributes refuses values that do not fit to the schema"() {
+		when:
+		new IndexedFieldsToAttributes(fieldSchema, fieldValues as String[])
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		fieldSchema                          | fieldValues
+		schema                               | ["a", "b"]
+		new FieldSchema("uuid", "UUID", "id") | ["a", "b", "c"]
+	}
+}
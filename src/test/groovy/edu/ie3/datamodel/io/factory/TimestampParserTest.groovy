@@ -0,0 +1,63 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.factory
+
+import edu.ie3.util.TimeUtil
+import spock.lang.Specification
+
+import java.time.ZoneId
+import java.time.format.DateTimeParseException
+
+class TimestampParserTest extends Specification {
+
+	def "A TimestampParser parses timestamps exactly like TimeUtil"() {
+		given:
+		def parser = new TimestampParser(ZoneId.of("UTC"), Locale.GERMANY, pattern)
+		def timeUtil = new TimeUtil(ZoneId.of("UTC"), Locale.GERMANY, pattern)
+
+		expect:
+		parser.parse(timestamp) == timeUtil.toZonedDateTime(timestamp)
+
+		where:
+		pattern                                | timestamp
+		TimestampParser.DEFAULT_PATTERN        | "2020-03-25 15:11:31"
+		TimestampParser.DEFAULT_PATTERN        | "2020-02-29 00:00:00"
+		TimestampParser.DEFAULT_PATTERN        | "2019-12-31 23:59:59"
+		TimestampParser.ISO_UTC_PATTERN        | "2020-03-25T15:11:31Z"
+		"dd.MM.yyyy HH:mm"                     | "25.03.2020 15:11"
+	}
+
+	def "A TimestampParser returns the same instance for repeated timestamps"() {
+		given:
+		def parser = new TimestampParser(ZoneId.of("UTC"), Locale.GERMANY, TimestampParser.DEFAULT_PATTERN)
+
+		when:
+		def first = parser.parse("2020-03-25 15:11:31")
+		def other = parser.parse("2020-03-25 15:11:32")
+		def second = parser.parse(new String("2020-03-25 15:11:31"))
+
+		then:
+		first.is(second)
+		first != other
+	}
+
+	def "A TimestampParser throws a DateTimeParseException for invalid timestamps, every time they occur"() {
+		given:
+		def parser = TimestampParser.default
+
+		when:
+		parser.parse("2020-03-25 1a:11:31")
+
+		then:
+		thrown(DateTimeParseException)
+
+		when:
+		parser.parse("2020-03-25 1a:11:31")
+
+		then:
+		thrown(DateTimeParseException)
+	}
+}
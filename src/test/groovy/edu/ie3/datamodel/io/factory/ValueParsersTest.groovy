@@ -0,0 +1,119 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.factory
+
+import edu.ie3.datamodel.exceptions.FactoryException
+import edu.ie3.datamodel.models.StandardUnits
+import edu.ie3.datamodel.models.input.OperatorInput
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+
+class ValueParsersTest extends Specification {
+
+	def "ValueParsers parse uuids exactly like UUID.fromString"() {
+		expect:
+		ValueParsers.parseUuid(value) == UUID.fromString(value)
+
+		where:
+		value << [
+			"91ec3bcf-1777-4d38-af67-0bf7c9fa73c7",
+			"91EC3BCF-1777-4D38-AF67-0BF7C9FA73C7",
+			"ffffffff-ffff-ffff-ffff-ffffffffffff",
+			"00000000-0000-0000-0000-000000000000",
+			"1-2-3-4-5"
+		]
+	}
+
+	def "ValueParsers throw the same exceptions as UUID.fromString for invalid uuids"() {
+		when:
+		ValueParsers.parseUuid(value)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		value << [
+			"",
+			"91ec3bcg-1777-4d38-af67-0bf7c9fa73c7",
+			"91ec3bcf+1777-4d38-af67-0bf7c9fa73c7",
+			"not a uuid"
+		]
+	}
+
+	def "ValueParsers parse doubles exactly like Double.parseDouble"() {
+		expect:
+		Double.doubleToRawLongBits(ValueParsers.parseDouble(value)) == Double.doubleToRawLongBits(Double.parseDouble(value))
+
+		where:
+		value << [
+			"0",
+			"-0.0",
+			"+.5",
+			"1.",
+			"0.1",
+			"0.30000000000000004",
+			"-12.345678",
+			"9007199254740993",
+			"123456789012345678901234567890",
+			"0.0000000000000000000000001",
+			"1e-3",
+			" 2.5 ",
+			"NaN",
+			"-Infinity"
+		]
+	}
+
+	def "ValueParsers throw a NumberFormatException for invalid doubles"() {
+		when:
+		ValueParsers.parseDouble(value)
+
+		then:
+		thrown(NumberFormatException)
+
+		where:
+		value << ["", ".", "-", "1.2.3", "1,5", "abc"]
+	}
+
+	def "EntityData keeps its exception semantics when parsing uuids, doubles and quantities"() {
+		given:
+		def data = new SimpleEntityData([uuid: "not a uuid", value: "1,5"], OperatorInput)
+
+		when:
+		data.getUUID("uuid")
+
+		then:
+		FactoryException uuidEx = thrown()
+		uuidEx.message == "Exception while trying to parse UUID of field \"uuid\" with value \"not a uuid\""
+
+		when:
+		data.getQuantity("value", StandardUnits.ACTIVE_POWER_IN)
+
+		then:
+		FactoryException quantityEx = thrown()
+		quantityEx.message == "Exception while trying to parse field \"value\" with supposed double value \"1,5\""
+
+		when:
+		data.getDouble("missing")
+
+		then:
+		FactoryException missingEx = thrown()
+		missingEx.message == "Field \"missing\" not found in EntityData"
+	}
+
+	def "EntityData shares equal quantities of the same unit"() {
+		given:
+		def first = new SimpleEntityData([sRated: "42.125"], OperatorInput)
+		def second = new SimpleEntityData([sRated: "42.125"], OperatorInput)
+
+		when:
+		def firstQuantity = first.getQuantity("sRated", StandardUnits.S_RATED)
+		def secondQuantity = second.getQuantity("sRated", StandardUnits.S_RATED)
+
+		then:
+		firstQuantity == Quantities.getQuantity(42.125d, StandardUnits.S_RATED)
+		firstQuantity.is(secondQuantity)
+	}
+}
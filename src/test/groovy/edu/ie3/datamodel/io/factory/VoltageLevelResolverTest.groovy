@@ -0,0 +1,64 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.factory
+
+import static edu.ie3.util.quantities.PowerSystemUnits.KILOVOLT
+
+import edu.ie3.datamodel.models.voltagelevels.GermanVoltageLevelUtils
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+
+class VoltageLevelResolverTest extends Specification {
+
+	def "A VoltageLevelResolver resolves common German voltage levels"() {
+		given:
+		def resolver = new VoltageLevelResolver(10)
+
+		expect:
+		resolver.resolve("mv", Quantities.getQuantity(20d, KILOVOLT)).is(GermanVoltageLevelUtils.MV_20KV)
+		resolver.resolve("hs", Quantities.getQuantity(110d, KILOVOLT)).is(GermanVoltageLevelUtils.HV)
+		resolver.numberOfResolvedVoltageLevels == 2
+	}
+
+	def "A VoltageLevelResolver shares the individual voltage level of equal ids and rated voltages"() {
+		given:
+		def resolver = new VoltageLevelResolver(10)
+
+		when:
+		def first = resolver.resolve("special", Quantities.getQuantity(15d, KILOVOLT))
+		def second = resolver.resolve("special", Quantities.getQuantity(15d, KILOVOLT))
+		def other = resolver.resolve("special", Quantities.getQuantity(16d, KILOVOLT))
+
+		then:
+		first.id == "special"
+		first.nominalVoltage == Quantities.getQuantity(15d, KILOVOLT)
+		first.is(second)
+		!first.is(other)
+		resolver.numberOfResolvedVoltageLevels == 2
+	}
+
+	def "A VoltageLevelResolver still resolves voltage levels, once its bound is reached"() {
+		given:
+		def resolver = new VoltageLevelResolver(1)
+
+		when:
+		resolver.resolve("special", Quantities.getQuantity(15d, KILOVOLT))
+		def unremembered = resolver.resolve("special", Quantities.getQuantity(16d, KILOVOLT))
+
+		then:
+		unremembered.nominalVoltage == Quantities.getQuantity(16d, KILOVOLT)
+		resolver.numberOfResolvedVoltageLevels == 1
+	}
+
+	def "A VoltageLevelResolver refuses a negative bound"() {
+		when:
+		new VoltageLevelResolver(-1)
+
+		then:
+		IllegalArgumentException ex = thrown()
+		ex.message == "The maximum number of resolved voltage levels must not be negative, but is -1"
+	}
+}
@@ -45,6 +45,8 @@ import edu.ie3.datamodel.models.timeseries.mapping.TimeSeriesMapping
 import edu.ie3.datamodel.models.timeseries.repetitive.LoadProfileEntry
 import edu.ie3.datamodel.models.timeseries.repetitive.LoadProfileInput
 import edu.ie3.datamodel.models.value.*
+import edu.ie3.test.common.GridTestData
+import edu.ie3.test.common.SystemParticipantTestData
 import edu.ie3.test.common.TimeSeriesTestData
 import edu.ie3.util.TimeUtil
 import spock.lang.Specification
@@ -234,6 +236,38 @@ class ProcessorProviderTest extends Specification implements TimeSeriesTestData
 		!result.present
 	}
 
+	def "A ProcessorProvider should process an entity to a row in the order of its header elements"() {
+		given:
+		ProcessorProvider provider = new ProcessorProvider()
+		def entity = entitySupplier.call()
+
+		when:
+		Optional<String[]> row = provider.handleEntityRow(entity)
+
+		then:
+		row.present
+		row.get() as List == provider.getHeaderElements(entity.getClass()).collect { provider.handleEntity(entity).get().get(it) }
+
+		where:
+		entitySupplier << [
+			{ -> GridTestData.nodeA },
+			{ -> GridTestData.lineCtoD },
+			{ -> SystemParticipantTestData.wecInput },
+			{ -> new PvResult(UUID.fromString("22bea5fc-2cb2-4c61-beb9-b476e0107f52"), TimeUtil.withDefaults.toZonedDateTime("2020-01-30 17:26:44"), UUID.fromString("22bea5fc-2cb2-4c61-beb9-b476e0107f52"), Quantities.getQuantity(10, StandardUnits.ACTIVE_POWER_IN), Quantities.getQuantity(10, StandardUnits.REACTIVE_POWER_IN)) }
+		]
+	}
+
+	def "A ProcessorProvider does not process an entity to a row, if none of its processors is able to handle it"() {
+		given:
+		ProcessorProvider provider = new ProcessorProvider([
+			new ResultEntityProcessor(PvResult)
+		], [] as Map<TimeSeriesProcessorKey, TimeSeriesProcessor<TimeSeries<TimeSeriesEntry<Value>, Value>, TimeSeriesEntry<Value>, Value>>)
+		Quantity<Power> p = Quantities.getQuantity(10, StandardUnits.ACTIVE_POWER_IN)
+
+		expect:
+		!provider.handleEntityRow(new WecResult(UUID.randomUUID(), TimeUtil.withDefaults.toZonedDateTime("2020-01-30 17:26:44"), UUID.randomUUID(), p, p)).present
+	}
+
 	def "A ProcessorProvider returns an empty Optional, if none of the assigned processors is able to handle a time series"() {
 		given:
 		TimeSeriesProcessorKey key = new TimeSeriesProcessorKey(IndividualTimeSeries, TimeBasedValue, EnergyPriceValue)
@@ -666,4 +666,59 @@ class InputEntityProcessorTest extends Specification {
 		actual.present
 		actual.get() == expected
 	}
+
+	def "The InputEntityProcessor's compiled field serializers should process an entity to a row in the order of the header elements"() {
+		given:
+		InputEntityProcessor processor = new InputEntityProcessor(entity.getClass())
+
+		when:
+		Optional<String[]> actual = processor.handleEntityRow(entity)
+
+		then:
+		processor.headerElements as Set == expected.keySet()
+		actual.present
+		actual.get() as List == processor.headerElements.collect { expected.get(it) }
+		processor.handleEntity(entity).get() == expected
+
+		where:
+		entity                                                                         || expected
+		GridTestData.nodeA.copy().operator(OperatorInput.NO_OPERATOR_ASSIGNED).build() || [
+			"uuid"         : "4ca90220-74c2-4369-9afa-a18bf068840d",
+			"geoPosition"  : "{\"type\":\"Point\",\"coordinates\":[7.411111,51.492528],\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:4326\"}}}",
+			"id"           : "node_a",
+			"operatesUntil": "2020-03-25T15:11:31Z[UTC]",
+			"operatesFrom" : "2020-03-24T15:11:31Z[UTC]",
+			"operator"     : "",
+			"slack"        : "true",
+			"subnet"       : "1",
+			"vTarget"      : "1.0",
+			"voltLvl"      : "Höchstspannung",
+			"vRated"       : "380.0"
+		]
+		GridTestData.lineCtoD                                                          || [
+			"uuid"             : "91ec3bcf-1777-4d38-af67-0bf7c9fa73c7",
+			"geoPosition"      : "{\"type\":\"LineString\",\"coordinates\":[[7.411111,51.492528],[7.414116,51.484136]],\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:4326\"}}}",
+			"id"               : "test_line_CtoD",
+			"length"           : "0.003",
+			"parallelDevices"  : "2",
+			"nodeA"            : "bd837a25-58f3-44ac-aa90-c6b6e3cd91b2",
+			"nodeB"            : "6e0980e0-10f2-4e18-862b-eb2b7c90509b",
+			"olmCharacteristic": "olm:{(0.00,1.00)}",
+			"operatesUntil"    : "2020-03-25T15:11:31Z[UTC]",
+			"operatesFrom"     : "2020-03-24T15:11:31Z[UTC]",
+			"operator"         : "f15105c4-a2de-4ab8-a621-4bc98e372d92",
+			"type"             : "3bed3eb3-9790-4874-89b5-a5434d408088"
+		]
+		SystemParticipantTestData.fixedFeedInInput                                     || [
+			"uuid"            : "717af017-cc69-406f-b452-e022d7fb516a",
+			"cosPhiRated"     : "0.95",
+			"id"              : "test_fixedFeedInInput",
+			"node"            : "4ca90220-74c2-4369-9afa-a18bf068840d",
+			"operatesUntil"   : "2020-03-25T15:11:31Z[UTC]",
+			"operatesFrom"    : "2020-03-24T15:11:31Z[UTC]",
+			"operator"        : "8f9682df-0744-4b58-a122-f0dc730f6510",
+			"qCharacteristics": "cosPhiFixed:{(0.00,0.95)}",
+			"sRated"          : "25.0"
+		]
+	}
 }
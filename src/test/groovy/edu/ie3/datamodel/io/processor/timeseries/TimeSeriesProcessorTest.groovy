@@ -15,8 +15,13 @@ import edu.ie3.datamodel.models.timeseries.repetitive.LoadProfileInput
 import edu.ie3.datamodel.models.value.*
 import edu.ie3.test.common.TimeSeriesTestData
 import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
 
 import java.lang.reflect.Method
+import java.time.ZoneId
+import java.time.ZonedDateTime
+
+import static edu.ie3.util.quantities.PowerSystemUnits.KILOWATT
 
 class TimeSeriesProcessorTest extends Specification implements TimeSeriesTestData {
 	def "A TimeSeriesProcessor is instantiated correctly"() {
@@ -201,6 +206,33 @@ class TimeSeriesProcessorTest extends Specification implements TimeSeriesTestDat
 		actual == individualSTimeSeriesProcessed
 	}
 
+	def "A TimeSeriesProcessors processes absent optional quantities to empty strings"() {
+		given:
+		TimeSeriesProcessor<IndividualTimeSeries, TimeBasedValue, SValue> processor = new TimeSeriesProcessor<>(IndividualTimeSeries, TimeBasedValue, SValue)
+		IndividualTimeSeries<SValue> timeSeries = new IndividualTimeSeries<>(
+				UUID.fromString("9e5ea8f3-0f2b-4a0b-8a0f-6e1b8e1e2ad4"),
+				[
+					new TimeBasedValue<>(
+					UUID.fromString("5a2b2f1e-7d4b-4d3c-9a0e-3f6b7c8d9e0f"),
+					ZonedDateTime.of(2020, 4, 2, 10, 0, 0, 0, ZoneId.of("UTC")),
+					new SValue(Quantities.getQuantity(5d, KILOWATT), null))
+				] as Set
+				)
+
+		when:
+		Set<Map<String, String>> actual = processor.handleTimeSeries(timeSeries)
+
+		then:
+		actual == [
+			[
+				"uuid": "5a2b2f1e-7d4b-4d3c-9a0e-3f6b7c8d9e0f",
+				"p"   : "5.0",
+				"q"   : "",
+				"time": "2020-04-02T10:00Z[UTC]"
+			]
+		] as Set
+	}
+
 	def "A TimeSeriesProcessors handles a complete time series with HeatAndSValue correctly"() {
 		given:
 		TimeSeriesProcessor<IndividualTimeSeries, TimeBasedValue, HeatAndSValue> processor = new TimeSeriesProcessor<>(IndividualTimeSeries, TimeBasedValue, HeatAndSValue)
@@ -0,0 +1,179 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.sink
+
+import edu.ie3.datamodel.models.StandardUnits
+import edu.ie3.datamodel.models.UniqueEntity
+import edu.ie3.datamodel.models.result.system.PvResult
+import edu.ie3.datamodel.models.timeseries.TimeSeries
+import edu.ie3.datamodel.models.timeseries.TimeSeriesEntry
+import edu.ie3.datamodel.models.value.Value
+import edu.ie3.test.common.TimeSeriesTestData
+import edu.ie3.util.TimeUtil
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicInteger
+
+class AsyncOutputDataSinkTest extends Specification implements TimeSeriesTestData {
+
+	static PvResult pvResult() {
+		return new PvResult(UUID.randomUUID(), TimeUtil.withDefaults.toZonedDateTime("2020-01-30 17:26:44"), UUID.randomUUID(),
+				Quantities.getQuantity(10, StandardUnits.ACTIVE_POWER_IN), Quantities.getQuantity(10, StandardUnits.REACTIVE_POWER_IN))
+	}
+
+	/** Records the handed over entities and blocks, until it is released */
+	static class RecordingSink implements OutputDataSink {
+		List<List<UniqueEntity>> batches = Collections.synchronizedList([])
+		List<UniqueEntity> persisted = Collections.synchronizedList([])
+		CountDownLatch release = new CountDownLatch(0)
+		boolean isShutdown = false
+
+		@Override
+		void shutdown() {
+			isShutdown = true
+		}
+
+		@Override
+		<C extends UniqueEntity> void persist(C entity) {
+			persistAll([entity])
+		}
+
+		@Override
+		<C extends UniqueEntity> void persistAll(Collection<C> entities) {
+			release.await()
+			batches.add(new ArrayList<>(entities))
+			persisted.addAll(entities)
+		}
+
+		@Override
+		<E extends TimeSeriesEntry<V>, V extends Value> void persistTimeSeries(TimeSeries<E, V> timeSeries) {
+			persisted.add(timeSeries)
+		}
+	}
+
+	def "An AsyncOutputDataSink hands over all entities in order and in batches before shutting down the wrapped sink"() {
+		given:
+		def recordingSink = new RecordingSink()
+		def sink = new AsyncOutputDataSink(recordingSink, 100, 10, Duration.ofMillis(10), AsyncOutputDataSink.BackpressurePolicy.BLOCK)
+		def results = (1..250).collect { pvResult() }
+
+		when:
+		sink.persistAll(results.subList(0, 100))
+		sink.persistTimeSeries(individualIntTimeSeries)
+		results.subList(100, 250).each { sink.persist(it) }
+		sink.shutdown()
+
+		then:
+		recordingSink.isShutdown
+		recordingSink.persisted == results.subList(0, 100) + [individualIntTimeSeries] + results.subList(100, 250)
+		recordingSink.batches.every { it.size() <= 10 }
+		sink.queueDepth == 0
+		sink.numberOfPersistedEntities == 251
+		sink.numberOfRejectedEntities == 0
+		sink.numberOfFailedBatches == 0
+	}
+
+	def "An AsyncOutputDataSink with a fail policy rejects entities, if the queue is full"() {
+		given:
+		def recordingSink = new RecordingSink(release: new CountDownLatch(1))
+		def sink = new AsyncOutputDataSink(recordingSink, 5, 1, Duration.ZERO, AsyncOutputDataSink.BackpressurePolicy.FAIL)
+
+		when: "the wrapped sink is blocked by the first entity and the queue is filled"
+		sink.persist(pvResult())
+		while (sink.queueDepth > 0) Thread.sleep(1)
+		(1..6).each { sink.persist(pvResult()) }
+
+		then:
+		def e = thrown(IllegalStateException)
+		e.message.endsWith("as the queue is full (5 entities).")
+		sink.queueDepth == 5
+		sink.maxQueueDepth == 5
+		sink.numberOfRejectedEntities == 1
+
+		when:
+		recordingSink.release.countDown()
+		sink.shutdown()
+
+		then:
+		recordingSink.persisted.size() == 6
+		sink.numberOfPersistedEntities == 6
+	}
+
+	def "An AsyncOutputDataSink logs and counts failing batches and continues with the next ones"() {
+		given:
+		def failingSink = new RecordingSink() {
+					@Override
+					<C extends UniqueEntity> void persistAll(Collection<C> entities) {
+						throw new IllegalStateException("Failing on purpose")
+					}
+				}
+		def sink = new AsyncOutputDataSink(failingSink, 10, 1, Duration.ZERO, AsyncOutputDataSink.BackpressurePolicy.BLOCK)
+
+		when:
+		(1..3).each { sink.persist(pvResult()) }
+		sink.shutdown()
+
+		then:
+		sink.numberOfFailedBatches == 3
+		sink.numberOfPersistedEntities == 0
+	}
+
+	def "An AsyncOutputDataSink refuses entities after it has been shut down"() {
+		given:
+		def sink = new AsyncOutputDataSink(new RecordingSink())
+		sink.shutdown()
+
+		when:
+		sink.persist(pvResult())
+
+		then:
+		def e = thrown(IllegalStateException)
+		e.message == "Cannot persist entities after the sink has been shut down."
+	}
+
+	def "An AsyncOutputDataSink hands over every accepted entity, if it is shut down while producers are persisting"() {
+		given:
+		def recordingSink = new RecordingSink()
+		def sink = new AsyncOutputDataSink(recordingSink, 10, 5, Duration.ofMillis(1), policy)
+		def accepted = new AtomicInteger()
+		def started = new CountDownLatch(4)
+		def producers = (1..4).collect {
+			Thread.start {
+				started.countDown()
+				while (true) {
+					try {
+						sink.persist(pvResult())
+						accepted.incrementAndGet()
+					} catch (IllegalStateException e) {
+						if (e.message == "Cannot persist entities after the sink has been shut down.") return
+					}
+				}
+			}
+		}
+
+		when:
+		started.await()
+		Thread.sleep(50)
+		sink.shutdown()
+		producers.each { it.join(5000) }
+
+		then:
+		producers.every { !it.alive }
+		recordingSink.isShutdown
+		recordingSink.persisted.size() == accepted.get()
+		sink.numberOfPersistedEntities == accepted.get()
+		sink.queueDepth == 0
+
+		where:
+		policy << [
+			AsyncOutputDataSink.BackpressurePolicy.BLOCK,
+			AsyncOutputDataSink.BackpressurePolicy.FAIL
+		]
+	}
+}
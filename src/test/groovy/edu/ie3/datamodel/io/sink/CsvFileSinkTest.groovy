@@ -5,7 +5,11 @@
  */
 package edu.ie3.datamodel.io.sink
 
+import edu.ie3.datamodel.io.connectors.CsvFileConnector
+import edu.ie3.datamodel.io.csv.CsvCompression
 import edu.ie3.datamodel.io.csv.FileNamingStrategy
+import edu.ie3.datamodel.io.csv.FlushPolicy
+import edu.ie3.datamodel.io.csv.ResultPartitioning
 import edu.ie3.datamodel.io.processor.ProcessorProvider
 import edu.ie3.datamodel.io.processor.input.InputEntityProcessor
 import edu.ie3.datamodel.io.processor.result.ResultEntityProcessor
@@ -50,6 +54,9 @@ import tech.units.indriya.quantity.Quantities
 
 import javax.measure.Quantity
 import javax.measure.quantity.Power
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.zip.GZIPInputStream
 
 import static edu.ie3.util.quantities.PowerSystemUnits.DEGREE_GEOM
 import static edu.ie3.util.quantities.PowerSystemUnits.KILOVOLTAMPERE
@@ -203,6 +210,153 @@ class CsvFileSinkTest extends Specification implements TimeSeriesTestData {
 		!new File(testBaseFolderPath + File.separator + "ev_res.csv").exists()
 	}
 
+	def "A valid CsvFileSink persists entities of several threads without interleaving lines"() {
+		given:
+		CsvFileSink csvFileSink = new CsvFileSink(testBaseFolderPath,
+				new ProcessorProvider([
+					new ResultEntityProcessor(PvResult),
+					new ResultEntityProcessor(WecResult)
+				], [] as Map),
+				new FileNamingStrategy(),
+				false,
+				",")
+		Quantity<Power> p = Quantities.getQuantity(10, StandardUnits.ACTIVE_POWER_IN)
+		Quantity<Power> q = Quantities.getQuantity(10, StandardUnits.REACTIVE_POWER_IN)
+		def time = TimeUtil.withDefaults.toZonedDateTime("2020-01-30 17:26:44")
+		def results = (1..2000).collect {
+			it % 2 == 0 ? new PvResult(UUID.randomUUID(), time, UUID.randomUUID(), p, q) :
+					new WecResult(UUID.randomUUID(), time, UUID.randomUUID(), p, q)
+		}
+		def executor = Executors.newFixedThreadPool(8)
+
+		when:
+		results.collect { result -> executor.submit({ csvFileSink.persist(result) } as Callable) }.each { it.get() }
+		executor.shutdown()
+		csvFileSink.shutdown()
+
+		then:
+		["pv_res.csv", "wec_res.csv"].each { fileName ->
+			def lines = new File(testBaseFolderPath + File.separator + fileName).readLines()
+			assert lines.size() == 1001
+			assert lines.toSet().size() == 1001
+			assert lines.every { it.split(",", -1).length == lines[0].split(",", -1).length }
+		}
+	}
+
+	def "A valid CsvFileSink with partitioned results writes every partition to a separate file and lists them in a manifest"() {
+		given:
+		CsvFileSink csvFileSink = new CsvFileSink(
+				new CsvFileConnector(testBaseFolderPath, new FileNamingStrategy(), FlushPolicy.everyLine(), 8192,
+				ResultPartitioning.byDay().withMaxFileSize(200)),
+				new ProcessorProvider([
+					new ResultEntityProcessor(PvResult)
+				], [] as Map),
+				true,
+				",")
+		Quantity<Power> p = Quantities.getQuantity(10, StandardUnits.ACTIVE_POWER_IN)
+		def results = ["2020-01-30 17:26:44", "2020-01-31 17:26:44"].collectMany { time ->
+			(1..3).collect {
+				new PvResult(UUID.randomUUID(), TimeUtil.withDefaults.toZonedDateTime(time), UUID.randomUUID(), p, p)
+			}
+		}
+
+		when:
+		csvFileSink.persistAll(results)
+		csvFileSink.shutdown()
+
+		then: "files are rotated after two results (head line and two rows exceed 200 characters)"
+		!new File(testBaseFolderPath + File.separator + "pv_res.csv").exists()
+		new File(testBaseFolderPath + File.separator + "pv_res_2020-01-30_part_0.csv").readLines().size() == 3
+		new File(testBaseFolderPath + File.separator + "pv_res_2020-01-30_part_1.csv").readLines().size() == 2
+		new File(testBaseFolderPath + File.separator + "pv_res_2020-01-31_part_0.csv").readLines().size() == 3
+		new File(testBaseFolderPath + File.separator + "pv_res_2020-01-31_part_1.csv").readLines().size() == 2
+		new File(testBaseFolderPath + File.separator + "result_partitions.csv").readLines() == [
+			"file_name,entity,partition,part,rows",
+			"pv_res_2020-01-30_part_0.csv,PvResult,2020-01-30,0,2",
+			"pv_res_2020-01-30_part_1.csv,PvResult,2020-01-30,1,1",
+			"pv_res_2020-01-31_part_0.csv,PvResult,2020-01-31,0,2",
+			"pv_res_2020-01-31_part_1.csv,PvResult,2020-01-31,1,1"
+		]
+	}
+
+	def "A valid CsvFileSink keeps only a bounded number of result partition files open and reopens evicted ones without head line"() {
+		given:
+		CsvFileConnector connector = new CsvFileConnector(testBaseFolderPath, new FileNamingStrategy(), FlushPolicy.everyLine(), 8192,
+				ResultPartitioning.byDay().withMaxOpenFiles(3))
+		CsvFileSink csvFileSink = new CsvFileSink(
+				connector,
+				new ProcessorProvider([
+					new ResultEntityProcessor(PvResult),
+					new ResultEntityProcessor(WecResult)
+				], [] as Map),
+				false,
+				",")
+		Quantity<Power> p = Quantities.getQuantity(10, StandardUnits.ACTIVE_POWER_IN)
+		def days = (1..9).collect { "2020-01-0" + it }
+		def resultsOfDay = { String day ->
+			def time = TimeUtil.withDefaults.toZonedDateTime(day + " 12:00:00")
+			(1..2).collectMany {
+				[
+					new PvResult(UUID.randomUUID(), time, UUID.randomUUID(), p, p),
+					new WecResult(UUID.randomUUID(), time, UUID.randomUUID(), p, p)
+				]
+			}
+		}
+		def maxOpenPartitions = 0
+
+		when: "all days are written one after another and the first day is written again"
+		(days + [days[0]]).each { day ->
+			resultsOfDay(day).each { csvFileSink.persist(it) }
+			maxOpenPartitions = Math.max(maxOpenPartitions, connector.numberOfOpenResultPartitions)
+		}
+		def evictedPartitions = connector.numberOfEvictedResultPartitions
+		csvFileSink.shutdown()
+
+		then:
+		maxOpenPartitions == 3
+		evictedPartitions == 17
+		days.each { day ->
+			["pv_res", "wec_res"].each { fileName ->
+				def lines = new File(testBaseFolderPath + File.separator + fileName + "_" + day + ".csv").readLines()
+				assert lines.size() == (day == days[0] ? 5 : 3)
+				assert lines.count { line -> line == lines[0] } == 1
+			}
+		}
+		def manifest = new File(testBaseFolderPath + File.separator + "result_partitions.csv").readLines()
+		manifest.size() == 19
+		manifest.contains("pv_res_2020-01-01.csv,PvResult,2020-01-01,0,4")
+		manifest.contains("wec_res_2020-01-09.csv,WecResult,2020-01-09,0,2")
+	}
+
+	def "A valid CsvFileSink with parallel compression writes gzip compressed files, that can be read again"() {
+		given:
+		CsvFileSink csvFileSink = new CsvFileSink(
+				new CsvFileConnector(testBaseFolderPath, new FileNamingStrategy(), FlushPolicy.onClose(), 8192,
+				ResultPartitioning.none(), CsvCompression.parallelGzip(2, 32768)),
+				new ProcessorProvider([
+					new ResultEntityProcessor(PvResult)
+				], [] as Map),
+				true,
+				",")
+		Quantity<Power> p = Quantities.getQuantity(10, StandardUnits.ACTIVE_POWER_IN)
+		def results = (1..1000).collect {
+			new PvResult(UUID.randomUUID(), TimeUtil.withDefaults.toZonedDateTime("2020-01-30 17:26:44"), UUID.randomUUID(), p, p)
+		}
+
+		when:
+		csvFileSink.persistAll(results)
+		csvFileSink.shutdown()
+
+		then:
+		!new File(testBaseFolderPath + File.separator + "pv_res.csv").exists()
+		def lines = new GZIPInputStream(new FileInputStream(testBaseFolderPath + File.separator + "pv_res.csv.gz")).withCloseable {
+			it.getText("UTF-8").readLines()
+		}
+		lines.size() == 1001
+		def uuidColumn = lines[0].split(",").toList().indexOf("uuid")
+		lines.drop(1).collect { it.split(",")[uuidColumn] } as Set == results.collect { it.uuid.toString() } as Set
+	}
+
 	def "A valid CsvFileSink should persist a time series correctly"() {
 		given:
 		TimeSeriesProcessor<IndividualTimeSeries, TimeBasedValue, EnergyPriceValue> timeSeriesProcessor = new TimeSeriesProcessor<>(IndividualTimeSeries, TimeBasedValue, EnergyPriceValue)
@@ -227,6 +381,38 @@ class CsvFileSinkTest extends Specification implements TimeSeriesTestData {
 		new File(testBaseFolderPath + File.separator + "its_c_a4bbcb77-b9d0-4b88-92be-b9a14a3e332b.csv").exists()
 	}
 
+	def "A valid CsvFileSink keeps only a bounded number of time series files open and reopens evicted ones without head line"() {
+		given:
+		TimeSeriesProcessorKey timeSeriesProcessorKey = new TimeSeriesProcessorKey(IndividualTimeSeries, TimeBasedValue, EnergyPriceValue)
+		CsvFileConnector connector = new CsvFileConnector(testBaseFolderPath, new FileNamingStrategy(), FlushPolicy.everyLine(), 8192,
+				ResultPartitioning.none(), CsvCompression.none(), 2)
+		CsvFileSink csvFileSink = new CsvFileSink(
+				connector,
+				new ProcessorProvider([], [(timeSeriesProcessorKey): new TimeSeriesProcessor<>(IndividualTimeSeries, TimeBasedValue, EnergyPriceValue)]),
+				false,
+				",")
+		def timeSeries = (1..4).collect {
+			new IndividualTimeSeries<>(UUID.randomUUID(), individualEnergyPriceTimeSeries.entries)
+		}
+
+		when:
+		2.times {
+			timeSeries.each { csvFileSink.persistTimeSeries(it) }
+		}
+		def openWriters = connector.numberOfOpenTimeSeriesWriters
+		def evictedWriters = connector.numberOfEvictedTimeSeriesWriters
+		csvFileSink.shutdown()
+
+		then:
+		openWriters == 2
+		evictedWriters == 6
+		timeSeries.each {
+			def lines = new File(testBaseFolderPath + File.separator + "its_c_" + it.uuid + ".csv").readLines()
+			assert lines.size() == 7
+			assert lines.count { line -> line == lines[0] } == 1
+		}
+	}
+
 	def "A valid CsvFileSink persists a bunch of time series correctly"() {
 		given:
 		CsvFileSink csvFileSink = new CsvFileSink(testBaseFolderPath)
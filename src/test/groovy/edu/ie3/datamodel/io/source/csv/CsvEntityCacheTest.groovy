@@ -0,0 +1,140 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.source.csv
+
+import edu.ie3.datamodel.models.input.OperatorInput
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+
+class CsvEntityCacheTest extends Specification implements CsvTestDataMeta {
+
+	@Shared
+	Path tmpDirectory
+
+	def setup() {
+		tmpDirectory = Files.createTempDirectory("psdm_csv_entity_cache")
+	}
+
+	def cleanup() {
+		FileIOUtils.deleteRecursively(tmpDirectory)
+	}
+
+	def "A CsvEntityCache returns the cached value as long as file and dependencies did not change"() {
+		given:
+		Path file = tmpDirectory.resolve("operator_input.csv")
+		Files.write(file, "uuid,id\n".bytes)
+		def cache = new CsvEntityCache(tmpDirectory.toString(), fileNamingStrategy)
+		def dependency = new Object()
+		def loads = 0
+
+		when:
+		def first = cache.get("key", OperatorInput, { ++loads }, dependency)
+		def second = cache.get("key", OperatorInput, { ++loads }, dependency)
+
+		then:
+		first == 1
+		second == 1
+		loads == 1
+		cache.size() == 1
+	}
+
+	def "A CsvEntityCache reloads the value, if the file has been changed"() {
+		given:
+		Path file = tmpDirectory.resolve("operator_input.csv")
+		Files.write(file, "uuid,id\n".bytes)
+		def cache = new CsvEntityCache(tmpDirectory.toString(), fileNamingStrategy)
+		def loads = 0
+		cache.get("key", OperatorInput, { ++loads })
+
+		when: "the size changes"
+		Files.write(file, "uuid,id\na,b\n".bytes)
+		def afterSizeChange = cache.get("key", OperatorInput, { ++loads })
+
+		and: "the modification time changes"
+		Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10000))
+		def afterTimeChange = cache.get("key", OperatorInput, { ++loads })
+
+		and: "the file is removed"
+		Files.delete(file)
+		def afterRemoval = cache.get("key", OperatorInput, { ++loads })
+
+		then:
+		afterSizeChange == 2
+		afterTimeChange == 3
+		afterRemoval == 4
+	}
+
+	def "A CsvEntityCache reloads the value, if it is built from other dependencies"() {
+		given:
+		def cache = new CsvEntityCache(tmpDirectory.toString(), fileNamingStrategy)
+		def dependency = [1, 2] as Set
+		def equalDependency = [1, 2] as Set
+		def loads = 0
+		cache.get("key", OperatorInput, { ++loads }, dependency)
+
+		when:
+		def value = cache.get("key", OperatorInput, { ++loads }, equalDependency)
+
+		then: "dependencies are compared by identity"
+		value == 2
+	}
+
+	def "A CsvEntityCache reloads all values after invalidation"() {
+		given:
+		def cache = new CsvEntityCache(tmpDirectory.toString(), fileNamingStrategy)
+		def loads = 0
+		cache.get("key", OperatorInput, { ++loads })
+
+		when:
+		cache.invalidateAll()
+		def value = cache.get("key", OperatorInput, { ++loads })
+
+		then:
+		value == 2
+	}
+
+	def "Caching csv sources provide the same entities as the plain csv sources and keep them"() {
+		given:
+		def typeSource = new CsvTypeSource(csvSep, typeFolderPath, fileNamingStrategy)
+		def rawGridSource = new CsvRawGridSource(csvSep, gridFolderPath, fileNamingStrategy, typeSource)
+		def cachingTypeSource = new CachingCsvTypeSource(typeSource, new CsvEntityCache(typeFolderPath, fileNamingStrategy))
+		def cachingRawGridSource = new CachingCsvRawGridSource(
+				new CsvRawGridSource(csvSep, gridFolderPath, fileNamingStrategy, cachingTypeSource),
+				cachingTypeSource,
+				new CsvEntityCache(gridFolderPath, fileNamingStrategy))
+
+		when:
+		def operators = cachingTypeSource.operators
+		def lines = cachingRawGridSource.lines
+
+		then:
+		operators == typeSource.operators
+		lines == rawGridSource.lines
+		cachingTypeSource.operators.is(operators)
+		cachingRawGridSource.lines.is(lines)
+		cachingRawGridSource.nodes.is(cachingRawGridSource.nodes)
+	}
+
+	def "A CsvEntityCache sharing the connector of a source leaves the connector usable after closing"() {
+		given:
+		def typeSource = new CsvTypeSource(csvSep, typeFolderPath, fileNamingStrategy)
+		def cache = new CsvEntityCache(typeSource.connector)
+		def cachingTypeSource = new CachingCsvTypeSource(typeSource, cache)
+		def operators = cachingTypeSource.operators
+
+		when:
+		cache.close()
+
+		then:
+		cache.size() == 0
+		typeSource.operators == operators
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.source.csv
+
+import edu.ie3.datamodel.io.csv.FileNamingStrategy
+import edu.ie3.datamodel.io.processor.ProcessorProvider
+import edu.ie3.datamodel.io.sink.CsvFileSink
+import edu.ie3.test.common.SampleJointGrid
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class CsvGridLoaderTest extends Specification implements CsvTestDataMeta {
+
+	@Shared
+	Path tmpDirectory
+
+	def setup() {
+		tmpDirectory = Files.createTempDirectory("psdm_csv_grid_loader")
+	}
+
+	def cleanup() {
+		FileIOUtils.deleteRecursively(tmpDirectory)
+	}
+
+	def "A CsvGridLoader loads a persisted joint grid with all its entities"() {
+		given: "a persisted joint grid"
+		def expected = SampleJointGrid.grid()
+		def sink = new CsvFileSink(tmpDirectory.toString(), new ProcessorProvider(), new FileNamingStrategy(), false, ",")
+		sink.persistJointGrid(expected)
+		sink.shutdown()
+
+		def loader = new CsvGridLoader(",", tmpDirectory.toString(), new FileNamingStrategy(), 2)
+
+		when:
+		def actual = loader.loadGrid(expected.gridName)
+
+		then:
+		actual.present
+		actual.get().gridName == expected.gridName
+		actual.get().rawGrid.allEntitiesAsList()*.uuid as Set == expected.rawGrid.allEntitiesAsList()*.uuid as Set
+		actual.get().systemParticipants.allEntitiesAsList()*.uuid as Set == expected.systemParticipants.allEntitiesAsList()*.uuid as Set
+		actual.get().graphics.allEntitiesAsList().empty
+		loader.stageDurations.keySet() == CsvGridLoader.Stage.values() as Set
+	}
+
+	def "A CsvGridLoader returns an empty optional, if the raw grid elements cannot be built"() {
+		given: "sources pointing to malformed grid data"
+		def typeSource = new CsvTypeSource(csvSep, typeFolderPath, fileNamingStrategy)
+		def rawGridSource = new CsvRawGridSource(csvSep, gridFolderPath + "_malformed", fileNamingStrategy, typeSource)
+		def thermalSource = new CsvThermalSource(csvSep, thermalFolderPath, fileNamingStrategy, typeSource)
+		def participantSource = new CsvSystemParticipantSource(csvSep, participantsFolderPath, fileNamingStrategy, typeSource, thermalSource, rawGridSource)
+		def graphicSource = new CsvGraphicSource(csvSep, graphicsFolderPath, fileNamingStrategy, typeSource, rawGridSource)
+		def loader = new CsvGridLoader(typeSource, rawGridSource, thermalSource, participantSource, graphicSource, 4)
+
+		when:
+		def actual = loader.loadGrid("malformed")
+
+		then:
+		!actual.present
+		loader.stageDurations.keySet() == [
+			CsvGridLoader.Stage.OPERATORS_AND_TYPES,
+			CsvGridLoader.Stage.NODES_AND_THERMAL_UNITS,
+			CsvGridLoader.Stage.ASSETS
+		] as Set
+	}
+
+	def "A CsvGridLoader refuses non-positive parallelism"() {
+		when:
+		new CsvGridLoader(csvSep, gridFolderPath, fileNamingStrategy, 0)
+
+		then:
+		IllegalArgumentException ex = thrown()
+		ex.message == "The parallelism has to be positive, but is 0"
+	}
+}
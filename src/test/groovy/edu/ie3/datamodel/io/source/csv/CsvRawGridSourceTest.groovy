@@ -15,10 +15,13 @@ import edu.ie3.datamodel.models.input.connector.Transformer3WInput
 import edu.ie3.datamodel.models.input.container.RawGridElements
 import edu.ie3.test.common.GridTestData
 import edu.ie3.test.common.GridTestData as rgtd
+import edu.ie3.util.io.FileIOUtils
 
 import spock.lang.Shared
 import spock.lang.Specification
 
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
 import java.util.stream.Collectors
 import java.util.stream.Stream
 
@@ -546,6 +549,76 @@ class CsvRawGridSourceTest extends Specification implements CsvTestDataMeta {
 		}
 	}
 
+	def "The CsvRawGridSource is able to stream all nodes from file"() {
+		given: "the operators"
+		def operators = [rgtd.nodeA.operator] as Set
+
+		when: "streaming all nodes from file"
+		def streamedSet = source.streamNodes(operators).withCloseable { it.collect(Collectors.toSet()) }
+
+		then: "the same nodes are provided as by the set returning getter"
+		streamedSet == source.getNodes(operators)
+	}
+
+	def "The CsvRawGridSource streams rows with line breaks within quoted fields the same way as it reads them to a set"() {
+		given: "a node file with a line break within a quoted field"
+		def folder = Files.createTempDirectory("psdm_raw_grid_source")
+		Files.write(folder.resolve("node_input.csv"), [
+			"uuid,geo_position,id,operates_from,operates_until,operator,slack,subnet,v_rated,v_target,volt_lvl",
+			"47d29df0-ba2d-4d23-8e75-c82229c5c758,,\"node\nb\",,,,false,2,110.0,1.0,Hochspannung",
+			"bd837a25-58f3-44ac-aa90-c6b6e3cd91b2,,node_c,,,,false,3,20.0,1.0,Mittelspannung"
+		].join("\n").getBytes(StandardCharsets.UTF_8))
+		def typeSource = new CsvTypeSource(csvSep, typeFolderPath, fileNamingStrategy)
+		def multiLineSource = new CsvRawGridSource(csvSep, folder.toString(), fileNamingStrategy, typeSource)
+
+		when: "streaming all nodes from file"
+		def streamedNodes = multiLineSource.streamNodes([] as Set).withCloseable { it.collect(Collectors.toList()) }
+
+		then: "the quoted line break is part of the id and the same nodes are provided as by the set returning getter"
+		streamedNodes.collect { it.id } as Set == ["node\nb", "node_c"] as Set
+		streamedNodes as Set == multiLineSource.getNodes([] as Set)
+
+		cleanup:
+		FileIOUtils.deleteRecursively(folder)
+	}
+
+	def "The CsvRawGridSource streams the first of several rows with the same uuid"() {
+		given: "a node file with conflicting rows within the same chunk"
+		def folder = Files.createTempDirectory("psdm_raw_grid_source")
+		Files.write(folder.resolve("node_input.csv"), ([
+			"uuid,geo_position,id,operates_from,operates_until,operator,slack,subnet,v_rated,v_target,volt_lvl"
+		] + (1..100).collect {
+			"bd837a25-58f3-44ac-aa90-c6b6e3cd91b2,,node_c_$it,,,,false,3,20.0,1.0,Mittelspannung"
+		}).join("\n").getBytes(StandardCharsets.UTF_8))
+		def typeSource = new CsvTypeSource(csvSep, typeFolderPath, fileNamingStrategy)
+		def duplicateSource = new CsvRawGridSource(csvSep, folder.toString(), fileNamingStrategy, typeSource)
+
+		when: "streaming the nodes several times"
+		def streamedIds = (1..10).collect {
+			duplicateSource.streamNodes([] as Set).withCloseable { it.map { node -> node.id }.collect(Collectors.toList()) }
+		}
+
+		then: "always the node of the first row is provided"
+		streamedIds.every { it == ["node_c_1"] }
+
+		cleanup:
+		FileIOUtils.deleteRecursively(folder)
+	}
+
+	def "The CsvRawGridSource is able to stream all lines from file"() {
+		given: "nodes, types and operators"
+		def operators = [rgtd.nodeA.operator] as Set
+		def nodes = source.getNodes(operators)
+		def lineTypes = [rgtd.lineTypeInputCtoD] as Set
+
+		when: "streaming all lines from file"
+		def streamedSet = source.streamLines(nodes, lineTypes, operators).withCloseable { it.collect(Collectors.toSet()) }
+
+		then: "the same lines are provided as by the set returning getter"
+		streamedSet.size() == 2
+		streamedSet == source.getLines(nodes, lineTypes, operators)
+	}
+
 	def "The CsvRawGridSource is able to load all measurement units from file"() {
 		when: "loading all measurement units from file"
 		def actualSet = source.getMeasurementUnits()
@@ -28,6 +28,8 @@ import edu.ie3.test.common.SystemParticipantTestData as sptd
 import org.apache.commons.lang3.NotImplementedException
 import spock.lang.Specification
 
+import java.util.stream.Collectors
+
 class CsvSystemParticipantSourceTest extends Specification implements CsvTestDataMeta {
 
 	def "A CsvSystemParticipantSource should provide an instance of SystemParticipants based on valid input data correctly"() {
@@ -376,4 +378,21 @@ class CsvSystemParticipantSourceTest extends Specification implements CsvTestDat
 			sptd.fixedFeedInInput.operator] as List || 0             || []
 		[]| [] as List       || 0             || []
 	}
+
+	def "A CsvSystemParticipantSource should stream data from valid pv input file equivalent to the set returning getter"() {
+		given:
+		def csvSystemParticipantSource = new CsvSystemParticipantSource(csvSep, participantsFolderPath,
+				fileNamingStrategy, Mock(CsvTypeSource), Mock(CsvThermalSource), Mock(CsvRawGridSource))
+		def nodes = [sptd.pvInput.node] as Set
+		def operators = [sptd.pvInput.operator] as Set
+
+		when:
+		def streamedSysParts = csvSystemParticipantSource.streamPvPlants(nodes, operators).withCloseable {
+			it.collect(Collectors.toSet())
+		}
+
+		then:
+		streamedSysParts == csvSystemParticipantSource.getPvPlants(nodes, operators)
+		streamedSysParts == [sptd.pvInput] as Set
+	}
 }
@@ -0,0 +1,128 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.source.csv
+
+import edu.ie3.datamodel.models.voltagelevels.GermanVoltageLevelUtils
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+
+class NodeFilterTest extends Specification implements CsvTestDataMeta {
+
+	static final UUID NODE_A = UUID.fromString("4ca90220-74c2-4369-9afa-a18bf068840d")
+	static final UUID NODE_C = UUID.fromString("bd837a25-58f3-44ac-aa90-c6b6e3cd91b2")
+	static final UUID NODE_D = UUID.fromString("6e0980e0-10f2-4e18-862b-eb2b7c90509b")
+	static final UUID OPERATOR = UUID.fromString("f15105c4-a2de-4ab8-a621-4bc98e372d92")
+
+	def "A NodeFilter selects node rows as expected"() {
+		expect:
+		filter.test(row) == expected
+
+		where:
+		filter                                                             | row                                             || expected
+		NodeFilter.all()                                                   | [subnet: "1"]                                   || true
+		NodeFilter.subnets(1, 2)                                           | [subnet: "2"]                                   || true
+		NodeFilter.subnets(1, 2)                                           | [subnet: "3"]                                   || false
+		NodeFilter.subnets(1, 2)                                           | [subnet: "not a number"]                        || true
+		NodeFilter.voltageLevels(GermanVoltageLevelUtils.MV_20KV)          | [voltLvl: "Mittelspannung", vRated: "20.0"]     || true
+		NodeFilter.voltageLevels(GermanVoltageLevelUtils.MV_20KV)          | [voltLvl: "Mittelspannung", vRated: "10.0"]     || false
+		NodeFilter.voltageLevels(GermanVoltageLevelUtils.MV_20KV)          | [voltLvl: "Niederspannung", vRated: "20.0"]     || false
+		NodeFilter.operators(OPERATOR)                                     | [operator: OPERATOR.toString().toUpperCase()]   || true
+		NodeFilter.operators(OPERATOR)                                     | [operator: NODE_A.toString()]                   || false
+		NodeFilter.operators(OPERATOR)                                     | [operator: ""]                                  || true
+		NodeFilter.operators(OPERATOR)                                     | [subnet: "1"]                                   || true
+		NodeFilter.nodes([NODE_A])                                         | [uuid: NODE_A.toString()]                       || true
+		NodeFilter.nodes([NODE_A])                                         | [uuid: NODE_C.toString()]                       || false
+		NodeFilter.subnets(1).and(NodeFilter.nodes([NODE_C]))              | [subnet: "1", uuid: NODE_C.toString()]          || true
+		NodeFilter.subnets(1).and(NodeFilter.nodes([NODE_C]))              | [subnet: "1", uuid: NODE_A.toString()]          || false
+		NodeFilter.subnets(1).or(NodeFilter.nodes([NODE_C]))               | [subnet: "3", uuid: NODE_C.toString()]          || true
+		NodeFilter.subnets(1).or(NodeFilter.nodes([NODE_C]))               | [subnet: "3", uuid: NODE_D.toString()]          || false
+	}
+
+	def "A NodeFilter is only restrictive, if it might deselect nodes"() {
+		expect:
+		!NodeFilter.all().restrictive
+		!NodeFilter.all().and(NodeFilter.all()).restrictive
+		!NodeFilter.subnets(1).or(NodeFilter.all()).restrictive
+		NodeFilter.subnets(1).restrictive
+		NodeFilter.all().and(NodeFilter.subnets(1)).restrictive
+	}
+
+	def "Csv sources restricted by a NodeFilter drop the rows of other nodes before checking them for duplicates"() {
+		given: "a node file with conflicting rows of a node, that is not selected"
+		def folder = Files.createTempDirectory("psdm_node_filter")
+		Files.write(folder.resolve("node_input.csv"), [
+			"uuid,geo_position,id,operates_from,operates_until,operator,slack,subnet,v_rated,v_target,volt_lvl",
+			"${NODE_C},,node_c,,,,false,1,20.0,1.0,Mittelspannung",
+			"${NODE_D},,node_d,,,,false,2,20.0,1.0,Mittelspannung",
+			"${NODE_D},,node_d_conflicting,,,,false,2,20.0,1.0,Mittelspannung"
+		].join("\n").getBytes(StandardCharsets.UTF_8))
+		def typeSource = new CsvTypeSource(csvSep, typeFolderPath, fileNamingStrategy)
+
+		when:
+		def selectedNodes = new CsvRawGridSource(csvSep, folder.toString(), fileNamingStrategy, typeSource, NodeFilter.subnets(1)).getNodes([] as Set)
+		def allNodes = new CsvRawGridSource(csvSep, folder.toString(), fileNamingStrategy, typeSource).getNodes([] as Set)
+
+		then: "the conflict only prevents building the nodes, if the conflicting rows are selected"
+		selectedNodes*.uuid == [NODE_C]
+		allNodes.empty
+
+		cleanup:
+		FileIOUtils.deleteRecursively(folder)
+	}
+
+	def "Csv sources restricted by a NodeFilter only build the entities attached to the selected nodes"() {
+		given:
+		def filter = NodeFilter.subnets(3, 4)
+		def typeSource = new CsvTypeSource(csvSep, typeFolderPath, fileNamingStrategy)
+		def rawGridSource = new CsvRawGridSource(csvSep, gridFolderPath, fileNamingStrategy, typeSource, filter)
+		def thermalSource = new CsvThermalSource(csvSep, thermalFolderPath, fileNamingStrategy, typeSource)
+		def participantSource = new CsvSystemParticipantSource(csvSep, participantsFolderPath, fileNamingStrategy, typeSource, thermalSource, rawGridSource, filter)
+		def graphicSource = new CsvGraphicSource(csvSep, graphicsFolderPath, fileNamingStrategy, typeSource, rawGridSource, filter)
+
+		when:
+		def rawGrid = rawGridSource.gridData
+		def loads = participantSource.loads
+		def graphics = graphicSource.graphicElements
+
+		then: "only nodes C and D and the line between them are built"
+		rawGrid.present
+		rawGrid.get().nodes*.uuid as Set == [NODE_C, NODE_D] as Set
+		rawGrid.get().lines*.id == ["test_line_CtoD"]
+		rawGrid.get().transformer2Ws.empty
+		rawGrid.get().transformer3Ws.empty
+		rawGrid.get().switches.empty
+		rawGrid.get().measurementUnits.empty
+
+		and: "participants at other nodes are dropped without failing"
+		loads.empty
+
+		and: "the graphics of the selected nodes and lines are built"
+		graphics.present
+		graphics.get().nodeGraphics*.node*.uuid as Set == [NODE_C, NODE_D] as Set
+		graphics.get().lineGraphics*.line*.id == ["test_line_CtoD"]
+	}
+
+	def "Csv sources restricted by a NodeFilter build participants at the selected nodes"() {
+		given:
+		def filter = NodeFilter.nodes([NODE_A])
+		def typeSource = new CsvTypeSource(csvSep, typeFolderPath, fileNamingStrategy)
+		def rawGridSource = new CsvRawGridSource(csvSep, gridFolderPath, fileNamingStrategy, typeSource, filter)
+		def thermalSource = new CsvThermalSource(csvSep, thermalFolderPath, fileNamingStrategy, typeSource)
+		def participantSource = new CsvSystemParticipantSource(csvSep, participantsFolderPath, fileNamingStrategy, typeSource, thermalSource, rawGridSource, filter)
+
+		when:
+		def nodes = rawGridSource.nodes
+		def loads = participantSource.loads
+
+		then:
+		nodes*.uuid == [NODE_A]
+		loads.size() == 1
+		loads.first().node.uuid == NODE_A
+	}
+}
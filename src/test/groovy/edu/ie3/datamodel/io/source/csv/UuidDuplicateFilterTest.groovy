@@ -0,0 +1,71 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.source.csv
+
+import edu.ie3.datamodel.models.input.NodeInput
+import spock.lang.Specification
+
+class UuidDuplicateFilterTest extends Specification {
+
+	def nodeInputRow = [
+		"uuid"   : "4ca90220-74c2-4369-9afa-a18bf068840d",
+		"id"     : "node_a",
+		"subnet" : "1",
+		"v_rated": "380"
+	]
+
+	def "A UuidDuplicateFilter lets pass exactly one row of exact duplicates"() {
+		given:
+		def filter = new UuidDuplicateFilter(NodeInput)
+
+		when:
+		def passed = ([nodeInputRow]* 10).findAll { filter.test(it) }
+
+		then:
+		passed.size() == 1
+		filter.numberOfDistinctUuids == 1
+		!filter.hasConflicts()
+	}
+
+	def "A UuidDuplicateFilter detects duplicated UUIDs with different field values"() {
+		given:
+		def filter = new UuidDuplicateFilter(NodeInput)
+		def otherRow = new HashMap<>(nodeInputRow)
+		otherRow.put("id", "node_b")
+
+		when:
+		def passed = [nodeInputRow, otherRow].findAll { filter.test(it) }
+
+		then:
+		passed == [nodeInputRow]
+		filter.hasConflicts()
+	}
+
+	def "A UuidDuplicateFilter keeps track of a large number of distinct UUIDs"() {
+		given:
+		def filter = new UuidDuplicateFilter(NodeInput)
+		def rows = (1..20000).collect { ["uuid": UUID.randomUUID().toString(), "id": "node_" + it] }
+
+		when:
+		def passed = (rows + rows).findAll { filter.test(it) }
+
+		then:
+		passed.size() == 20000
+		filter.numberOfDistinctUuids == 20000
+		!filter.hasConflicts()
+	}
+
+	def "A UuidDuplicateFilter lets pass rows without a parsable UUID"() {
+		given:
+		def filter = new UuidDuplicateFilter(NodeInput)
+
+		expect:
+		filter.test(["uuid": "not_a_uuid"])
+		filter.test(["uuid": "not_a_uuid"])
+		filter.test(["id": "no_uuid"])
+		filter.numberOfDistinctUuids == 0
+	}
+}
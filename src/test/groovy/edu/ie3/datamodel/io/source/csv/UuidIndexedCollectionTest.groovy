@@ -0,0 +1,79 @@
+/*
+ * © 2020. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.datamodel.io.source.csv
+
+import edu.ie3.test.common.GridTestData as gtd
+import spock.lang.Specification
+
+class UuidIndexedCollectionTest extends Specification {
+
+	def nodes = [gtd.nodeA, gtd.nodeB, gtd.nodeC] as Set
+
+	def "A UuidIndexedCollection finds entities by their uuid"() {
+		given:
+		def indexedNodes = UuidIndexedCollection.of(nodes)
+
+		expect:
+		indexedNodes.get(gtd.nodeB.uuid) == Optional.of(gtd.nodeB)
+		indexedNodes.get(gtd.nodeB.uuid.toString()) == Optional.of(gtd.nodeB)
+		indexedNodes.get(gtd.nodeB.uuid.toString().toUpperCase()) == Optional.of(gtd.nodeB)
+		indexedNodes.get(gtd.nodeD.uuid) == Optional.empty()
+	}
+
+	def "A UuidIndexedCollection does not find entities by non canonical uuid strings"() {
+		given:
+		def indexedNodes = UuidIndexedCollection.of(nodes)
+
+		expect:
+		indexedNodes.get(uuidString) == Optional.empty()
+
+		where:
+		uuidString << [
+			null,
+			"",
+			"not_a_uuid",
+			" " + gtd.nodeA.uuid.toString(),
+			"+" + gtd.nodeA.uuid.toString().substring(1)
+		]
+	}
+
+	def "A UuidIndexedCollection behaves like an unmodifiable snapshot of the original collection"() {
+		given:
+		def original = new ArrayList(nodes)
+		def indexedNodes = UuidIndexedCollection.of(original)
+
+		when:
+		original.add(gtd.nodeD)
+
+		then:
+		indexedNodes.size() == 3
+		indexedNodes.containsAll(nodes)
+		!indexedNodes.contains(gtd.nodeD)
+		UuidIndexedCollection.of(indexedNodes).is(indexedNodes)
+
+		when:
+		indexedNodes.add(gtd.nodeD)
+
+		then:
+		thrown(UnsupportedOperationException)
+	}
+
+	def "A CsvDataSource yields the same result for indexed and plain collections when looking up entities by uuid"() {
+		given:
+		def source = new CsvRawGridSource(",", "", null, null)
+
+		expect:
+		source.findFirstEntityByUuid(uuid, UuidIndexedCollection.of(nodes)) == source.findFirstEntityByUuid(uuid, nodes)
+
+		where:
+		uuid << [
+			gtd.nodeA.uuid.toString(),
+			gtd.nodeC.uuid.toString().toUpperCase(),
+			gtd.nodeD.uuid.toString(),
+			null
+		]
+	}
+}